@@ -0,0 +1,29 @@
+package com.github.houbb.junitperf.constant.enums;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+
+import org.apiguardian.api.API;
+
+/**
+ * 批均值法使用的区间指标枚举
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public enum BatchMetricEnum {
+
+    /**
+     * 吞吐量（次/秒）
+     */
+    THROUGHPUT,
+    /**
+     * 平均耗时（纳秒）
+     */
+    MEAN_LATENCY,
+    /**
+     * 99% 耗时（纳秒）
+     */
+    P99_LATENCY
+    ;
+
+}
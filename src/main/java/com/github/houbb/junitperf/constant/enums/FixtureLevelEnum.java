@@ -0,0 +1,32 @@
+package com.github.houbb.junitperf.constant.enums;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+
+import org.apiguardian.api.API;
+
+/**
+ * {@link com.github.houbb.junitperf.core.annotation.PerfSetup} 与
+ * {@link com.github.houbb.junitperf.core.annotation.PerfTeardown} 的执行时机枚举
+ * 所有时机都在计时之外执行。
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.MAINTAINED, since = VersionConstant.V2_0_0)
+public enum FixtureLevelEnum {
+
+    /**
+     * 整个测试：测试类的方法在主线程中、启动执行线程之前（之后）执行一次；
+     * 线程状态的方法在每个执行线程中、创建状态之后（线程结束之前）执行一次
+     */
+    TRIAL,
+    /**
+     * 每个执行线程的准备阶段和测量阶段，分别在阶段开始之前、结束之后执行
+     */
+    ITERATION,
+    /**
+     * 每次调用测试方法，在执行线程中、开始计时之前（结束计时之后）执行
+     */
+    INVOCATION
+    ;
+
+}
@@ -0,0 +1,43 @@
+package com.github.houbb.junitperf.constant.enums;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+
+import org.apiguardian.api.API;
+
+/**
+ * 测试方法调用方式枚举
+ * 按照调用开销从低到高排列。
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public enum InvokerTypeEnum {
+
+    /**
+     * 通过 LambdaMetafactory 生成的实现类直接调用，可以被 JIT 内联
+     */
+    LAMBDA_METAFACTORY("LambdaMetafactory"),
+    /**
+     * 通过 MethodHandle 调用
+     */
+    METHOD_HANDLE("MethodHandle"),
+    /**
+     * 通过 Method.invoke 反射调用
+     */
+    REFLECTION("Reflection")
+    ;
+
+    /**
+     * 描述
+     */
+    private String description;
+
+    InvokerTypeEnum(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+}
@@ -44,14 +44,281 @@ public @interface JunitPerfConfig {
     /**
      * 执行时间。（单位：毫秒）
      * 默认值：默认为 1min
-     * 这里的执行时间不包含准备时间。
+     * 这里的执行时间不包含准备时间、冷却时间。
+     * 测量窗口从准备结束开始，持续 duration，之后完成的调用不计入统计，吞吐量按测量窗口计算。
      * @return time in mills
      * @since 1.0.0
      */
     long duration() default 60_000L;
 
+    /**
+     * 目标到达速率（每秒到达次数）
+     * 1. 默认为 0，每个线程连续不断地执行（闭环模型）
+     * 2. 大于 0 时按照固定的速率安排到达，由 threads 个线程组成的执行池执行（开放模型）
+     * 3. 延迟从预期开始时间算起，包含排队等待的时间
+     * @return 目标到达速率
+     * @since 2.0.8
+     */
+    int targetRate() default 0;
+
+    /**
+     * 是否开启协调遗漏（coordinated omission）修正
+     * 1. 开启后会同时记录修正前、修正后的延迟统计，报告中并列展示
+     * @return 是否开启
+     * @since 2.0.8
+     */
+    boolean coordinatedOmissionCorrection() default false;
+
+    /**
+     * 单个线程期望的调用间隔（单位：毫秒）
+     * 1. 仅在开启协调遗漏修正时生效
+     * 2. 小于等于 0 时，根据实际的吞吐量推算
+     * @return 期望的调用间隔
+     * @since 2.0.8
+     */
+    float expectedInterval() default 0F;
+
+    /**
+     * 区间统计的间隔（单位：毫秒）
+     * 1. 每隔一个间隔生成一次区间统计，报告中展示吞吐量和延迟随时间的变化
+     * 2. 小于等于 0 时不生成区间统计
+     * @return 区间统计的间隔
+     * @since 2.0.8
+     */
+    long timelineInterval() default 1000L;
+
+    /**
+     * 是否统计 CPU 时间
+     * 1. 开启后统计测量期间每个执行线程的 CPU 时间，报告每次执行的 CPU 时间、线程 CPU 利用率及 CPU 时间 / 耗时
+     * 2. 线程数超过 CPU 核数时，耗时包含等待调度的时间，CPU 时间不包含
+     * 3. JVM 不支持时不统计
+     * @return 是否统计 CPU 时间
+     * @since 2.0.8
+     */
+    boolean cpuTime() default false;
+
+    /**
+     * 是否自适应准备
+     * 1. 开启后 warmUp 为准备时间的上限，吞吐量、耗时及 JIT 编译趋于稳定时提前开始测量
+     * 2. 测量时长保持 duration 不变，提前稳定时整体运行时间相应缩短
+     * 3. 报告中展示实际的准备时间
+     * @return 是否自适应准备
+     * @since 2.0.8
+     */
+    boolean adaptiveWarmUp() default false;
+
+    /**
+     * 自适应准备的窗口大小（单位：毫秒）
+     * 1. 最近 5 个窗口的吞吐量、平均耗时、99% 耗时都稳定时，视为准备结束
+     * @return 窗口大小
+     * @since 2.0.8
+     */
+    long warmUpWindow() default 200L;
+
+    /**
+     * 自适应准备的容差
+     * 1. 最近窗口中各项指标的 (最大值 - 最小值) / 平均值不超过该值，视为稳定
+     * 2. 这段时间内 JIT 编译时间占比不超过该值，视为编译趋于稳定
+     * @return 容差
+     * @since 2.0.8
+     */
+    float warmUpTolerance() default 0.1F;
+
+    /**
+     * 负载阶段
+     * 1. 为空时，threads 个线程执行 duration 的时间
+     * 2. 不为空时依次执行每个阶段，忽略 threads、duration。准备阶段使用第一个阶段开始时的线程数（至少 1 个）
+     * 3. 格式为 线程数:时长，例如 stages={"1:30000", "4:30000", "16:30000"}；
+     * 开始线程数-结束线程数:时长 表示线性变化，例如 "1-16:10000"、"16-1:5000"
+     * 4. 每个阶段单独统计，报告中分别展示
+     * @return 负载阶段
+     * @since 2.0.8
+     */
+    String[] stages() default {};
+
+    /**
+     * 是否使用虚拟线程执行
+     * 1. 适合阻塞在 IO 上的测试方法，可以支撑数十万个并发调用，threads 即为虚拟线程的数量
+     * 2. 需要 Java 21 及以上（Java 19、20 需要开启预览特性），不支持时回退到平台线程，报告中展示实际的线程类型
+     * 3. 执行线程按编号分段共享统计记录者，内存占用不随线程数增长
+     * 4. JVM 不支持虚拟线程的 CPU 时间、内存分配统计时不展示这些指标
+     * @return 是否使用虚拟线程
+     * @since 2.0.8
+     */
+    boolean virtualThreads() default false;
+
+    /**
+     * 异步调用时每个线程在途调用的上限
+     * 1. 测试方法（或 {@link #asyncMethod()} 指定的方法）返回 CompletionStage、CompletableFuture 或 Future 时视为异步调用，耗时从调用开始算到完成为止，异常完成计入错误
+     * 2. 在途调用达到上限时，等待任意一个调用完成后再发起下一次调用；大于 1 时可以测试流水线的吞吐量
+     * 3. 只返回 Future 时没有完成回调，由执行线程等待最早的调用完成，耗时包含观察的延迟
+     * @return 异步调用的在途窗口
+     * @since 2.0.8
+     */
+    int asyncWindow() default 1;
+
+    /**
+     * 异步测试方法的名称
+     * 1. JUnit5 要求测试方法返回 void，返回 CompletionStage、CompletableFuture 或 Future 的方法无法直接标注，通过名称指定
+     * 2. 指定的方法需要在测试类中声明且无参数，性能测试期间调用该方法代替当前测试方法
+     * 3. 为空时调用当前测试方法
+     * @return 异步测试方法的名称
+     * @since 2.0.8
+     */
+    String asyncMethod() default "";
+
+    /**
+     * 被测方法的名称
+     * 1. JUnit5 只执行返回 void 的测试方法，有返回值的方法无法直接标注，通过名称指定，当前测试方法只作为入口
+     * 2. 指定的方法需要在测试类中声明且无参数，性能测试期间调用该方法代替当前测试方法，返回值传入执行线程的黑洞，避免计算被 JIT 消除
+     * 3. 返回基本类型时返回值会被装箱，装箱对象计入每次调用的内存分配（bytes/op）；需要准确的内存分配时，使用 void 测试方法并注入 Blackhole 参数
+     * 4. 不支持与 asyncMethod 同时使用，返回 CompletionStage、CompletableFuture 或 Future 的方法使用 asyncMethod
+     * 5. 为空时调用当前测试方法
+     * @return 被测方法的名称
+     * @since 2.0.8
+     */
+    String targetMethod() default "";
+
+    /**
+     * 每次计时调用测试方法的次数
+     * 1. 测试方法只需要几十纳秒时，两次 System.nanoTime() 及统计更新的开销与其相当，批量调用可以分摊这部分开销
+     * 2. 每个批次只记录一个样本：耗时为批次中每次调用的平均耗时，执行次数、吞吐量按调用次数计算
+     * 3. 百分位反映的是批次平均值的分布，单次调用的尖刺会被平均掉
+     * 4. 不支持与 targetRate、asyncMethod 同时使用
+     * @return 每次计时调用测试方法的次数
+     * @since 2.0.8
+     */
+    int batchSize() default 1;
+
+    /**
+     * 是否只统计吞吐量
+     * 1. 测量阶段不再对每次调用计时，执行线程只累加自己的操作计数
+     * 2. 每隔 timelineInterval 读取一次所有线程的计数，报告区间吞吐量的平均值、标准差及 95% 置信区间
+     * 3. 没有耗时数据，设置了耗时要求时视为不满足
+     * 4. 不支持与 targetRate、asyncMethod、batchSize、stages、coordinatedOmissionCorrection 同时使用
+     * @return 是否只统计吞吐量
+     * @since 2.0.8
+     */
+    boolean throughputOnly() default false;
+
+    /**
+     * 延迟抽样：每 N 次调用计时一次
+     * 1. 其余调用只累加执行次数，不读取时钟，适合调用本身比计时、统计更快的方法
+     * 2. 默认为 1，每次调用都计时
+     * @return 每 N 次调用计时一次
+     * @since 2.0.8
+     */
+    int latencySampleEvery() default 1;
+
+    /**
+     * 延迟抽样：每次调用被计时的概率
+     * 1. 按几何分布生成下一次计时前跳过的调用次数，不需要每次调用生成随机数
+     * 2. 默认为 1，每次调用都计时；不能与 latencySampleEvery 同时使用
+     * @return 被计时的概率 (0, 1]
+     * @since 2.0.8
+     */
+    float latencySampleProbability() default 1F;
+
+    /**
+     * 固定的测量调用次数
+     * 1. 大于 0 时，总次数平均分配到各个执行线程，所有线程通过启动栅栏同时开始，最后一个线程完成时结束
+     * 2. duration 作为最长运行时间，超时后停止，执行次数以实际为准
+     * 3. 默认为 0，按照 duration 运行
+     * @return 测量调用次数
+     * @since 2.0.8
+     */
+    long invocations() default 0L;
+
+    /**
+     * 冷却时间（单位：毫秒）
+     * 1. 测量窗口结束后，执行线程继续按原有负载执行的时间，这段时间的调用不计入统计
+     * 2. 保证测量窗口末尾的调用和窗口中间一样处于满负载，而不是其它线程已经陆续停止
+     * 3. 默认为 0，测量结束后立即停止执行线程
+     * @return time in mills
+     * @since 2.0.8
+     */
+    long cooldown() default 0L;
+
+    /**
+     * 等待执行线程结束的时间上限（单位：毫秒）
+     * 1. 停止后等待所有执行线程完成当前调用并退出，超时后中断仍未结束的线程
+     * 2. 超时的线程数在报告中展示，这些线程的内存分配、CPU 时间不计入统计
+     * @return time in mills
+     * @since 2.0.8
+     */
+    long shutdownTimeout() default 10_000L;
+
+    /**
+     * 在新启动的 JVM 中执行的次数
+     * 1. 0 表示在当前 JVM 中执行；大于 0 时依次启动对应数量的 JVM，每个 JVM 独立完成准备、测量、冷却
+     * 2. 各个 JVM 的统计合并后生成报告，避免同一个 JVM 中先执行的测试对 JIT 编译结果（profile）的干扰
+     * 3. 测试类需要提供无参数构造器，JUnit 的生命周期回调（如 BeforeEach）不会在新的 JVM 中执行
+     * 4. 统计实现需要支持 {@link StatisticsCalculator#merge(StatisticsCalculator)}
+     * @return fork count
+     * @since 2.0.8
+     */
+    int fork() default 0;
+
+    /**
+     * 新启动的 JVM 的启动参数，例如 {"-Xmx512m", "-XX:+UseParallelGC"}
+     * 1. 仅在 {@link #fork()} 大于 0 时生效
+     * @return jvm args
+     * @since 2.0.8
+     */
+    String[] jvmArgs() default {};
+
+    /**
+     * 饱和点搜索的上限
+     * 1. 0 表示不搜索；大于 0 时，按照 {@link JunitPerfRequire#percentiles()} 的耗时要求，搜索满足要求的最大线程数，下限为 {@link #threads()}
+     * 2. 配置了 {@link #targetRate()} 时搜索满足要求的最大到达速率，下限为 targetRate
+     * 3. 先按倍数增加直到不满足要求，再二分查找拐点；每次探测都会重新准备 warmUp，测量 {@link #probeDuration()}
+     * 4. 搜索结束后在拐点处按照 duration 完整测量一次，报告中展示每次探测的结果及最大可持续吞吐量
+     * 5. 不支持与 stages、invocations、throughputOnly、fork 同时使用
+     * @return 线程数或到达速率的上限
+     * @since 2.0.8
+     */
+    int saturationSearch() default 0;
+
+    /**
+     * 饱和点搜索时单次探测的测量时间（单位：毫秒）
+     * @return time in mills
+     * @since 2.0.8
+     */
+    long probeDuration() default 2000L;
+
+    /**
+     * 自适应测量时长的目标精度
+     * 1. 0 表示不启用，按照 duration 固定测量；例如 0.05 表示平均耗时和 99% 耗时的 95% 置信区间半宽都不超过自身的 5%
+     * 2. 以 {@link #timelineInterval()} 的每个区间作为一批，按批均值法计算置信区间，达到精度后提前结束测量
+     * 3. 测量时间至少为 {@link #minDuration()}，最多为 duration
+     * 4. 不支持与 stages、invocations、throughputOnly、saturationSearch 同时使用
+     * @return 相对精度，取值 [0, 1)
+     * @since 2.0.8
+     */
+    float precision() default 0F;
+
+    /**
+     * 序贯检验
+     * 1. 启用后，超过 {@link #minDuration()} 后每个 {@link #timelineInterval()} 区间结束时检验一次 {@link JunitPerfRequire} 的要求
+     * 2. 任意一项要求的置信区间整体超出时提前判定不通过，所有要求的置信区间都满足时提前判定通过，并提前结束测量
+     * 3. 多次检验的误判概率按照最多检验次数修正，明显满足或者明显不满足要求时才会提前结束
+     * 4. 报告中记录提前结束的结论及原因；不支持与 stages、invocations、throughputOnly、saturationSearch、fork 同时使用
+     * @return 是否启用
+     * @since 2.0.8
+     */
+    boolean sequentialTest() default false;
+
+    /**
+     * 提前结束测量之前的最短测量时间（单位：毫秒），用于 {@link #precision()} 和 {@link #sequentialTest()}
+     * @return time in mills
+     * @since 2.0.8
+     */
+    long minDuration() default 1000L;
+
     /**
      * 存放统计信息工具
+     * 1. {@link DefaultStatisticsCalculator} 保存所有的延迟数据，结果精确，内存随调用次数增长。
+     * 2. {@link com.github.houbb.junitperf.core.statistics.impl.HistogramStatisticsCalculator} 使用固定大小的直方图，内存恒定，百分位存在有界误差。
      * @return 统计实现类
      * @since 1.0.0
      */
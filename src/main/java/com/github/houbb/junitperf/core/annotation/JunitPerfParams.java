@@ -0,0 +1,44 @@
+package com.github.houbb.junitperf.core.annotation;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import org.apiguardian.api.API;
+
+import java.lang.annotation.*;
+
+/**
+ * 参数扫描
+ * 与 {@link JunitPerfConfig} 一起使用，对线程数和参数的所有组合各执行一次测试方法。
+ * 1. 每个组合使用新的测试实例，参数值按名称注入到测试实例的同名字段中
+ * 2. 字段支持 String、基本类型及其包装类、枚举
+ * 3. 网页报告中展示吞吐量、99% 耗时随各个参数的变化
+ * @author bbhou
+ * @since 2.0.8
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.ANNOTATION_TYPE, ElementType.METHOD})
+@Documented
+@API(status = API.Status.MAINTAINED, since = VersionConstant.V2_0_0)
+public @interface JunitPerfParams {
+
+    /**
+     * 线程数的参数名称
+     */
+    String THREADS = "threads";
+
+    /**
+     * 执行时使用的线程数
+     * 1. 为空时使用 {@link JunitPerfConfig#threads()}
+     * 2. 不支持与 {@link JunitPerfConfig#stages()} 同时使用
+     * @return 线程数
+     * @since 2.0.8
+     */
+    int[] threads() default {};
+
+    /**
+     * 参数，格式为 字段名=值1,值2，例如 {"size=16,1024,65536", "mode=READ,WRITE"}
+     * @return 参数
+     * @since 2.0.8
+     */
+    String[] params() default {};
+
+}
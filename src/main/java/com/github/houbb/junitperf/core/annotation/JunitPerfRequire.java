@@ -57,4 +57,33 @@ public @interface JunitPerfRequire {
      */
     int timesPerSecond() default 0;
 
+    /**
+     * 每次执行最多分配的字节数
+     * 1. 测量期间执行线程分配的字节数 / 执行次数，如果高于这个值，则视为失败
+     * 2. 统计实现本身的分配也会计入，{@link com.github.houbb.junitperf.core.statistics.impl.HistogramStatisticsCalculator} 记录时不分配内存
+     * 3. 小于 0 时不校验
+     * @return 每次执行最多分配的字节数
+     * @since 2.0.8
+     */
+    float maxBytesPerOp() default -1F;
+
+    /**
+     * 单次 GC 停顿的最大时间
+     * 1. 测量期间最长的一次 GC 停顿如果高于这个值，则视为失败。单位：毫秒
+     * 2. 并发收集周期不属于停顿，不计入
+     * 3. 小于 0 时不校验
+     * @return 单次 GC 停顿的最大时间
+     * @since 2.0.8
+     */
+    float maxGcPause() default -1F;
+
+    /**
+     * GC 停顿时间占比的上限
+     * 1. 测量期间 GC 停顿总时间 / 测量时长 * 100，如果高于这个值，则视为失败
+     * 2. 小于 0 时不校验
+     * @return GC 停顿时间占比的上限
+     * @since 2.0.8
+     */
+    float maxGcPercentage() default -1F;
+
 }
@@ -0,0 +1,21 @@
+package com.github.houbb.junitperf.core.annotation;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import org.apiguardian.api.API;
+
+import java.lang.annotation.*;
+
+/**
+ * 线程状态
+ * 测试方法的参数类型标注了本注解时，每个执行线程创建一个独立的实例作为参数传入。
+ * 1. 需要有无参构造器，在执行线程中创建，不同线程之间不共享，避免共享测试实例导致的竞争和伪共享
+ * 2. 可以使用 {@link PerfSetup}、{@link PerfTeardown} 准备、清理状态
+ * @author bbhou
+ * @since 2.0.8
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE})
+@Documented
+@API(status = API.Status.MAINTAINED, since = VersionConstant.V2_0_0)
+public @interface PerfState {
+}
@@ -0,0 +1,30 @@
+package com.github.houbb.junitperf.core.annotation;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import com.github.houbb.junitperf.constant.enums.FixtureLevelEnum;
+import org.apiguardian.api.API;
+
+import java.lang.annotation.*;
+
+/**
+ * 性能测试的清理方法，在计时之外执行
+ * 1. 标注在测试类或者 {@link PerfState} 类的无参数实例方法上，子类的方法先执行
+ * 2. 测试类的 {@link FixtureLevelEnum#ITERATION}、{@link FixtureLevelEnum#INVOCATION} 方法在执行线程中执行，所有线程共享测试实例
+ * 3. 抛出异常时测试失败
+ * @author bbhou
+ * @since 2.0.8
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD})
+@Documented
+@API(status = API.Status.MAINTAINED, since = VersionConstant.V2_0_0)
+public @interface PerfTeardown {
+
+    /**
+     * 执行时机
+     * @return 执行时机
+     * @since 2.0.8
+     */
+    FixtureLevelEnum value() default FixtureLevelEnum.TRIAL;
+
+}
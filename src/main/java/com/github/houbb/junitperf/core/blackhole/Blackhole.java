@@ -0,0 +1,103 @@
+package com.github.houbb.junitperf.core.blackhole;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import org.apiguardian.api.API;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * 黑洞：接收计算结果，避免 JIT 把结果未被使用的计算当作死代码消除
+ *
+ * 1. {@link com.github.houbb.junitperf.core.annotation.JunitPerfConfig#targetMethod()} 指定的方法的返回值由框架自动传入，不需要手动调用
+ * 2. 测试方法中间结果（例如循环中的每次计算）可以通过参数注入本类，调用 {@link #consume(Object)} 等方法
+ * 3. 每个执行线程使用独立的实例，不是线程安全的
+ *
+ * 实现：与 volatile 字段比较或者按伪随机数判断，条件几乎不成立，但 JIT 无法证明，所以必须计算出参数的值。
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.MAINTAINED, since = VersionConstant.V2_0_0)
+public final class Blackhole {
+
+    /**
+     * 两两不相等的比较值，参数不可能同时等于两个值
+     */
+    private volatile int i1 = 1;
+    private volatile int i2 = 2;
+    private volatile long l1 = 1L;
+    private volatile long l2 = 2L;
+    private volatile double d1 = 1D;
+    private volatile double d2 = 2D;
+    private volatile boolean b1 = false;
+    private volatile boolean b2 = true;
+
+    /**
+     * 伪随机数
+     */
+    private int tlr = (int) System.nanoTime();
+
+    /**
+     * 保存引用的掩码，每保存一次，下一次保存的概率减半
+     */
+    private volatile int tlrMask = 1;
+
+    /**
+     * 偶尔保存的引用，使用弱引用不影响回收
+     */
+    private volatile WeakReference<Object> sink;
+
+    /**
+     * 接收对象
+     * @param obj 对象
+     */
+    public void consume(Object obj) {
+        int mask = this.tlrMask;
+        int next = (this.tlr = this.tlr * 1664525 + 1013904223);
+        if ((next & mask) == 0) {
+            // 测量期间几乎不会执行
+            this.sink = new WeakReference<>(obj);
+            this.tlrMask = (mask << 1) + 1;
+        }
+    }
+
+    /**
+     * 接收 int
+     * @param i 值
+     */
+    public void consume(int i) {
+        if (i == i1 & i == i2) {
+            throw new IllegalStateException("Blackhole is broken.");
+        }
+    }
+
+    /**
+     * 接收 long
+     * @param l 值
+     */
+    public void consume(long l) {
+        if (l == l1 & l == l2) {
+            throw new IllegalStateException("Blackhole is broken.");
+        }
+    }
+
+    /**
+     * 接收 double
+     * @param d 值
+     */
+    public void consume(double d) {
+        if (d == d1 & d == d2) {
+            throw new IllegalStateException("Blackhole is broken.");
+        }
+    }
+
+    /**
+     * 接收 boolean
+     * @param b 值
+     */
+    public void consume(boolean b) {
+        if (b == b1 & b == b2) {
+            throw new IllegalStateException("Blackhole is broken.");
+        }
+    }
+
+}
@@ -4,10 +4,12 @@ import com.github.houbb.heaven.util.util.DateUtil;
 import com.github.houbb.junitperf.constant.VersionConstant;
 import com.github.houbb.junitperf.core.annotation.JunitPerfConfig;
 import com.github.houbb.junitperf.core.annotation.JunitPerfRequire;
+import com.github.houbb.junitperf.core.jupiter.resolver.PerfParameterResolver;
 import com.github.houbb.junitperf.core.report.Reporter;
 import com.github.houbb.junitperf.core.statistics.StatisticsCalculator;
 import com.github.houbb.junitperf.model.evaluation.EvaluationContext;
 import com.github.houbb.junitperf.support.exception.JunitPerfRuntimeException;
+import com.github.houbb.junitperf.support.params.ParamGrid;
 import com.github.houbb.junitperf.support.statements.PerformanceEvaluationStatement;
 
 import org.apiguardian.api.API;
@@ -40,6 +42,11 @@ public class PerfConfigContext implements TestTemplateInvocationContext {
     private final        Method                                           method;
     private              JunitPerfConfig                                  perfConfig;
     private              JunitPerfRequire                                 perfRequire;
+    /**
+     * 参数扫描的组合，不扫描时为空
+     * @since 2.0.8
+     */
+    private final        Map<String, String>                              paramMap;
 
 
     /**
@@ -52,9 +59,28 @@ public class PerfConfigContext implements TestTemplateInvocationContext {
 
 
     public PerfConfigContext(ExtensionContext context) {
+        this(context, Collections.emptyMap());
+    }
+
+    /**
+     * 参数扫描中的一个组合
+     * @param context 扩展上下文
+     * @param paramMap 参数组合
+     * @since 2.0.8
+     */
+    public PerfConfigContext(ExtensionContext context, Map<String, String> paramMap) {
         this.method = context.getRequiredTestMethod();//获取需要测试的方法
         this.perfConfig = method.getAnnotation(JunitPerfConfig.class);//获取方法上的JunitPerfConfig注解
         this.perfRequire = method.getAnnotation(JunitPerfRequire.class);//获取方法上的JunitPerfRequire注解
+        this.paramMap = paramMap;
+    }
+
+    @Override
+    public String getDisplayName(int invocationIndex) {
+        if (paramMap.isEmpty()) {
+            return TestTemplateInvocationContext.super.getDisplayName(invocationIndex);
+        }
+        return paramMap.entrySet().toString();
     }
 
 
@@ -70,7 +96,7 @@ public class PerfConfigContext implements TestTemplateInvocationContext {
 
     @Override
     public List<Extension> getAdditionalExtensions() {
-        return Collections.singletonList(
+        return Arrays.asList(
                 /**
                  * 这是lambda表达式的开始，它接受两个参数：testInstance和context。
                  * 这个lambda表达式实际上是一个TestInstancePostProcessor，用于处理测试实例。
@@ -93,7 +119,14 @@ public class PerfConfigContext implements TestTemplateInvocationContext {
                     *评估相关信息内容中加载配置
                     * JunitPerfConfig：执行时使用多少线程执行/准备时间（单位：毫秒）/执行时间。（单位：毫秒）/
                     **/
-                    evaluationContext.loadConfig(perfConfig);
+                    if (paramMap.isEmpty()) {
+                        evaluationContext.loadConfig(perfConfig);
+                    } else {
+                        // 参数扫描：覆盖线程数，参数注入到测试实例
+                        evaluationContext.loadConfig(perfConfig, ParamGrid.getThreads(paramMap, perfConfig.threads()));
+                        evaluationContext.setParamMap(paramMap);
+                        ParamGrid.inject(testInstance, paramMap);
+                    }
                    /**
                     *评估相关信息内容中加载限定
                     * JunitPerfRequire 注解：
@@ -144,7 +177,9 @@ public class PerfConfigContext implements TestTemplateInvocationContext {
                     } catch (Throwable throwable) {
                         throw new JunitPerfRuntimeException(throwable);
                     }
-                }
+                },
+                // 测试方法的线程状态参数
+                new PerfParameterResolver()
         );
     }
 
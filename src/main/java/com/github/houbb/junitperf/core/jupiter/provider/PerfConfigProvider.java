@@ -1,7 +1,9 @@
 package com.github.houbb.junitperf.core.jupiter.provider;
 
 import com.github.houbb.junitperf.core.annotation.JunitPerfConfig;
+import com.github.houbb.junitperf.core.annotation.JunitPerfParams;
 import com.github.houbb.junitperf.core.jupiter.context.PerfConfigContext;
+import com.github.houbb.junitperf.support.params.ParamGrid;
 
 import org.apiguardian.api.API;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -9,6 +11,7 @@ import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
 import org.junit.jupiter.api.extension.TestTemplateInvocationContextProvider;
 import org.junit.platform.commons.support.AnnotationSupport;
 
+import java.util.Optional;
 import java.util.stream.Stream;
 
 /**
@@ -31,6 +34,12 @@ public class PerfConfigProvider implements TestTemplateInvocationContextProvider
 
 @Override//通过扩展上下文构造出一个性能测试配置上下文，并返回性能测试配置上下文
     public Stream<TestTemplateInvocationContext> provideTestTemplateInvocationContexts(ExtensionContext context) {//扩展配置信息。
+        //参数扫描：每个组合各执行一次
+        Optional<JunitPerfParams> junitPerfParams = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), JunitPerfParams.class);
+        if (junitPerfParams.isPresent()) {
+            return ParamGrid.build(junitPerfParams.get()).stream()
+                    .<TestTemplateInvocationContext>map(paramMap -> new PerfConfigContext(context, paramMap));
+        }
         return Stream.of(new PerfConfigContext(context));
     }
 }
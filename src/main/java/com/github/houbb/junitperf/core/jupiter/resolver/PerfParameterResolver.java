@@ -0,0 +1,34 @@
+package com.github.houbb.junitperf.core.jupiter.resolver;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import com.github.houbb.junitperf.support.fixture.FixturePlan;
+
+import org.apiguardian.api.API;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+/**
+ * <p> 测试方法参数的解析 </p>
+ *
+ * 性能测试结束后，JUnit 还会调用一次测试方法，此时为 {@link com.github.houbb.junitperf.core.annotation.PerfState}
+ * 类型的参数创建新的状态，并执行所有时机的准备方法；为 {@link com.github.houbb.junitperf.core.blackhole.Blackhole}
+ * 类型的参数创建新的黑洞。
+ *
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public class PerfParameterResolver implements ParameterResolver {
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return FixturePlan.isInjectable(parameterContext.getParameter().getType());
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return FixturePlan.newPreparedState(parameterContext.getParameter().getType());
+    }
+
+}
@@ -9,12 +9,19 @@ import com.github.houbb.junitperf.model.evaluation.EvaluationContext;
 import com.github.houbb.junitperf.model.evaluation.component.EvaluationConfig;
 import com.github.houbb.junitperf.model.evaluation.component.EvaluationRequire;
 import com.github.houbb.junitperf.model.evaluation.component.EvaluationResult;
+import com.github.houbb.junitperf.model.evaluation.component.EvaluationRuntime;
+import com.github.houbb.junitperf.model.evaluation.component.IntervalStatistics;
+import com.github.houbb.junitperf.model.evaluation.component.SaturationProbe;
+import com.github.houbb.junitperf.model.evaluation.component.StageStatistics;
 import org.apiguardian.api.API;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.StringJoiner;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 /**
  * 命令行报告
@@ -27,6 +34,18 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
 @API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
 public class ConsoleReporter implements Reporter {
 
+    /**
+     * 协调遗漏修正时并列展示的百分位
+     * @since 2.0.8
+     */
+    private static final int[] CORRECTED_PERCENTILES = {50, 90, 99};
+
+    /**
+     * 每 MB 的字节数
+     * @since 2.0.8
+     */
+    private static final float BYTES_PER_MB = 1024F * 1024F;
+
     @Override
     public void report(Class testClass, Collection<EvaluationContext> evaluationContextSet) {
         for (EvaluationContext context : evaluationContextSet) {
@@ -35,6 +54,7 @@ public class ConsoleReporter implements Reporter {
             EvaluationConfig evaluationConfig = context.getEvaluationConfig();
             EvaluationRequire evaluationRequire = context.getEvaluationRequire();
             EvaluationResult evaluationResult = context.getEvaluationResult();
+            EvaluationRuntime evaluationRuntime = context.getEvaluationRuntime();
 
             String throughputStatus = getStatus(evaluationResult.isTimesPerSecondAchieved());
 
@@ -43,41 +63,250 @@ public class ConsoleReporter implements Reporter {
             infoLog(context, "Invocations:  {}", statistics.getEvaluationCount());
             infoLog(context,"Success:  {}", statistics.getEvaluationCount() - statistics.getErrorCount());
             infoLog(context,"Errors:  {}", statistics.getErrorCount());
-            infoLog(context,"Thread Count:  {}", evaluationConfig.getConfigThreads());
-            infoLog(context,"Warm up:  {}ms", evaluationConfig.getConfigWarmUp());
-            infoLog(context,"Execution time:  {}ms", evaluationConfig.getConfigDuration());
-            infoLog(context,"Throughput:  {}/s (Required: {}/s) - {}",
+            if (context.getStageStatisticsList().isEmpty()) {
+                infoLog(context,"Thread Count:  {}", evaluationConfig.getConfigThreads());
+            } else {
+                infoLog(context,"Stages:  {}", context.getStageStatisticsList().size());
+            }
+            if (evaluationConfig.isConfigVirtualThreads()) {
+                infoLog(context,"Thread type:  {}{}", evaluationRuntime.getThreadType(),
+                        evaluationRuntime.isVirtualThreadsFallback() ? " (virtual threads unsupported, fallback)" : "");
+            }
+            if (evaluationRuntime.getAsyncType() != null) {
+                infoLog(context,"Async call:  {} (in-flight window: {})", evaluationRuntime.getAsyncType(),
+                        evaluationConfig.getConfigAsyncWindow());
+            }
+            if (evaluationConfig.isConfigAdaptiveWarmUp()) {
+                infoLog(context,"Warm up:  {}ms (Adaptive, cap: {}ms, {} after {} windows)",
+                        evaluationRuntime.getWarmUpMs(),
+                        evaluationConfig.getConfigWarmUp(),
+                        evaluationRuntime.isWarmUpSteady() ? "steady" : "not steady",
+                        evaluationRuntime.getWarmUpWindows());
+            } else {
+                infoLog(context,"Warm up:  {}ms", evaluationConfig.getConfigWarmUp());
+            }
+            if (evaluationRuntime.getCompilationTimeMs() >= 0) {
+                infoLog(context,"JIT compilation:  {}ms (Warm up: {}ms)",
+                        evaluationRuntime.getCompilationTimeMs(),
+                        evaluationRuntime.getWarmUpCompilationTimeMs());
+            }
+            if (evaluationConfig.getConfigInvocations() > 0) {
+                infoLog(context,"Execution time:  {}ms (fixed invocations: {}, limit: {}ms)",
+                        (float) evaluationRuntime.getMeasuredNs() / MILLISECONDS.toNanos(1),
+                        evaluationConfig.getConfigInvocations(),
+                        evaluationConfig.getConfigDuration());
+            } else if (evaluationConfig.getConfigCooldown() > 0) {
+                infoLog(context,"Execution time:  {}ms (cooldown: {}ms)",
+                        (float) evaluationRuntime.getMeasuredNs() / MILLISECONDS.toNanos(1),
+                        evaluationConfig.getConfigCooldown());
+            } else {
+                infoLog(context,"Execution time:  {}ms", (float) evaluationRuntime.getMeasuredNs() / MILLISECONDS.toNanos(1));
+            }
+            if (evaluationRuntime.getUnfinishedThreads() > 0) {
+                infoLog(context,"Unfinished threads:  {} (still running after shutdownTimeout {}ms, interrupted)",
+                        evaluationRuntime.getUnfinishedThreads(),
+                        evaluationConfig.getConfigShutdownTimeout());
+            }
+            if (evaluationRuntime.getForks() > 0) {
+                StringJoiner forkThroughput = new StringJoiner(", ");
+                for (double throughput : evaluationRuntime.getForkThroughputList()) {
+                    forkThroughput.add(String.valueOf((float) throughput));
+                }
+                infoLog(context,"Forks:  {} (Throughput per fork: {} /s)",
+                        evaluationRuntime.getForks(),
+                        forkThroughput);
+            }
+            if (!evaluationRuntime.getSaturationProbeList().isEmpty()) {
+                String dimension = evaluationConfig.getConfigTargetRate() > 0 ? "targetRate" : "threads";
+                for (SaturationProbe probe : evaluationRuntime.getSaturationProbeList()) {
+                    infoLog(context,"Saturation probe:  {}={}, {}/s, {}%%: {}ms - {}",
+                            dimension, probe.getLevel(), probe.getThroughputQps(),
+                            probe.getPercentile(), probe.getLatencyMs(), getStatus(probe.isPassed()));
+                }
+                SaturationProbe saturationPoint = evaluationRuntime.getSaturationPoint();
+                if (saturationPoint != null) {
+                    infoLog(context,"Saturation point:  {}={}, max sustainable throughput {}/s, {}%%: {}ms",
+                            dimension, saturationPoint.getLevel(), saturationPoint.getThroughputQps(),
+                            saturationPoint.getPercentile(), saturationPoint.getLatencyMs());
+                } else {
+                    infoLog(context,"Saturation point:  none, {}={} does not meet the latency requirements",
+                            dimension, evaluationRuntime.getSaturationProbeList().get(0).getLevel());
+                }
+            }
+            infoLog(context,"Throughput:  {}/s{} (Required: {}/s) - {}",
                     evaluationResult.getThroughputQps(),
+                    getPrecision(evaluationRuntime.getThroughputPrecision()),
                     evaluationRequire.getRequireTimesPerSecond(),
                     throughputStatus);
-            // 内存
-            infoLog(context,"Memory cost:  {}byte", statistics.getMemory());
-
-            infoLog(context,"Min latency:  {}ms (Required: {}ms) - {}",
-                    statistics.getMinLatency(MILLISECONDS),
-                    evaluationRequire.getRequireMin(),
-                    getStatus(evaluationResult.isMinAchieved()));
-            infoLog(context,"Max latency:  {}ms (Required: {}ms) - {}",
-                    statistics.getMaxLatency(MILLISECONDS),
-                    evaluationRequire.getRequireMax(),
-                    getStatus(evaluationResult.isMaxAchieved()));
-            infoLog(context,"Avg latency:  {}ms (Required: {}ms) - {}",
-                    statistics.getMeanLatency(MILLISECONDS),
-                    evaluationRequire.getRequireAverage(),
-                    getStatus(evaluationResult.isAverageAchieved()));
+            if (evaluationRuntime.getThroughputConfidenceHalfWidth() >= 0) {
+                double mean = evaluationRuntime.getThroughputSampleMean();
+                double halfWidth = evaluationRuntime.getThroughputConfidenceHalfWidth();
+                infoLog(context,"Throughput samples:  {} intervals, mean {}/s, stddev {}/s, 95%% CI: {}/s ~ {}/s",
+                        evaluationRuntime.getThroughputSampleList().size(),
+                        (float) mean,
+                        (float) evaluationRuntime.getThroughputSampleStdDev(),
+                        (float) (mean - halfWidth),
+                        (float) (mean + halfWidth));
+            }
+            if (evaluationConfig.getConfigPrecision() > 0) {
+                infoLog(context,"Precision:  target +/-{}%%, {} batches, avg +/-{}%%, 99%%: {}ms +/-{}%% - {}",
+                        evaluationConfig.getConfigPrecision() * 100,
+                        evaluationRuntime.getPrecisionBatches(),
+                        toPercentage(evaluationRuntime.getMeanPrecision()),
+                        statistics.getLatencyPercentile(99, MILLISECONDS),
+                        toPercentage(evaluationRuntime.getP99Precision()),
+                        evaluationRuntime.isAdaptiveStopped() ? "stopped early" : "max duration reached");
+            }
+            if (evaluationConfig.isConfigSequentialTest()) {
+                if (evaluationRuntime.isSequentialStopped()) {
+                    infoLog(context,"Sequential test:  stopped early at {}ms, {} - {}",
+                            (float) evaluationRuntime.getMeasuredNs() / MILLISECONDS.toNanos(1),
+                            getStatus(evaluationRuntime.isSequentialPassed()),
+                            evaluationRuntime.getSequentialReason());
+                } else {
+                    infoLog(context,"Sequential test:  not settled, max duration reached");
+                }
+            }
+            if (evaluationConfig.getConfigTargetRate() > 0) {
+                infoLog(context,"Target rate:  {}/s", evaluationConfig.getConfigTargetRate());
+                infoLog(context,"Arrivals:  {} (Delayed: {}, Dropped: {})",
+                        evaluationRuntime.getScheduledArrivals(),
+                        evaluationRuntime.getDelayedArrivals(),
+                        evaluationRuntime.getDroppedArrivals());
+                infoLog(context,"Max start delay:  {}ms", (float) evaluationRuntime.getMaxStartDelayNs() / MILLISECONDS.toNanos(1));
+            }
+            infoLog(context,"Invoker:  {} (Overhead: {}ns/call)",
+                    evaluationRuntime.getInvokerType(),
+                    evaluationRuntime.getInvocationOverheadNs());
+            if (evaluationConfig.getConfigBatchSize() > 1) {
+                infoLog(context,"Batch size:  {} (latency is the average per operation within each batch)",
+                        evaluationConfig.getConfigBatchSize());
+            }
+            if (evaluationRuntime.getLatencySampleCount() >= 0) {
+                long latencySampleCount = evaluationRuntime.getLatencySampleCount();
+                infoLog(context,"Latency samples:  {} of {} invocations ({}), ~{} samples beyond 99%%",
+                        latencySampleCount,
+                        statistics.getEvaluationCount(),
+                        evaluationConfig.getConfigLatencySampleEvery() > 1
+                                ? "1 in " + evaluationConfig.getConfigLatencySampleEvery()
+                                : "probability " + evaluationConfig.getConfigLatencySampleProbability(),
+                        latencySampleCount / 100);
+            }
+            // 内存分配
+            if (evaluationRuntime.getAllocatedBytes() >= 0) {
+                infoLog(context,"Allocated:  {}byte ({}MB/s)",
+                        evaluationRuntime.getAllocatedBytes(),
+                        (float) evaluationRuntime.getAllocationRateMb());
+                infoLog(context,"Bytes/op:  {} (Required: {}) - {}",
+                        (float) evaluationRuntime.getAllocatedBytesPerOp(),
+                        evaluationRequire.getRequireMaxBytesPerOp(),
+                        getStatus(evaluationResult.isBytesPerOpAchieved()));
+            }
+            // CPU 时间
+            if (evaluationRuntime.getCpuTimeNs() >= 0) {
+                infoLog(context,"CPU time:  {}ns/op (CPU/wall: {})",
+                        (float) evaluationRuntime.getCpuTimeNsPerOp(),
+                        (float) evaluationRuntime.getCpuWallRatio());
+                infoLog(context,"CPU utilization per thread:  {}%% ({}%% ~ {}%%)",
+                        (float) evaluationRuntime.getCpuUtilization(),
+                        (float) evaluationRuntime.getMinCpuUtilization(),
+                        (float) evaluationRuntime.getMaxCpuUtilization());
+            }
+            // GC
+            infoLog(context,"GC:  {} ({}ms, {}%%), warm up: {} ({}ms)",
+                    evaluationRuntime.getGcCount(),
+                    evaluationRuntime.getGcTimeMs(),
+                    (float) evaluationRuntime.getGcTimePercentage(),
+                    evaluationRuntime.getWarmUpGcCount(),
+                    evaluationRuntime.getWarmUpGcTimeMs());
+            if (evaluationRuntime.getMaxGcPauseMs() >= 0) {
+                infoLog(context,"Max GC pause:  {}ms (Required: {}ms) - {}",
+                        evaluationRuntime.getMaxGcPauseMs(),
+                        evaluationRequire.getRequireMaxGcPause(),
+                        getStatus(evaluationResult.isGcPauseAchieved()));
+            }
+            infoLog(context,"GC time:  {}%% (Required: {}%%) - {}",
+                    (float) evaluationRuntime.getGcTimePercentage(),
+                    evaluationRequire.getRequireMaxGcPercentage(),
+                    getStatus(evaluationResult.isGcPercentageAchieved()));
+            infoLog(context,"Heap used:  {}MB -> {}MB -> {}MB",
+                    toMb(evaluationRuntime.getHeapUsedBeforeWarmUp()),
+                    toMb(evaluationRuntime.getHeapUsedBeforeMeasurement()),
+                    toMb(evaluationRuntime.getHeapUsedAfterMeasurement()));
+
+            if (evaluationConfig.isConfigThroughputOnly()) {
+                infoLog(context,"Latency:  not measured (throughput only)");
+            } else {
+                infoLog(context,"Min latency:  {}ms (Required: {}ms) - {}",
+                        statistics.getMinLatency(MILLISECONDS),
+                        evaluationRequire.getRequireMin(),
+                        getStatus(evaluationResult.isMinAchieved()));
+                infoLog(context,"Max latency:  {}ms (Required: {}ms) - {}",
+                        statistics.getMaxLatency(MILLISECONDS),
+                        evaluationRequire.getRequireMax(),
+                        getStatus(evaluationResult.isMaxAchieved()));
+                infoLog(context,"Avg latency:  {}ms{} (Required: {}ms) - {}",
+                        statistics.getMeanLatency(MILLISECONDS),
+                        getPrecision(evaluationRuntime.getMeanPrecision()),
+                        evaluationRequire.getRequireAverage(),
+                        getStatus(evaluationResult.isAverageAchieved()));
+            }
+
+            StatisticsCalculator corrected = context.getCorrectedStatisticsCalculator();
+            if (corrected != null) {
+                infoLog(context,"Expected interval:  {}ms", (float) context.getExpectedIntervalNs() / MILLISECONDS.toNanos(1));
+                for (int percentile : CORRECTED_PERCENTILES) {
+                    infoLog(context,"Latency {}%%:  {}ms (Corrected: {}ms)",
+                            percentile,
+                            statistics.getLatencyPercentile(percentile, MILLISECONDS),
+                            corrected.getLatencyPercentile(percentile, MILLISECONDS));
+                }
+                infoLog(context,"Max latency:  {}ms (Corrected: {}ms)",
+                        statistics.getMaxLatency(MILLISECONDS),
+                        corrected.getMaxLatency(MILLISECONDS));
+            }
+
+            List<IntervalStatistics> intervalList = statistics.getIntervalStatisticsList();
+            if (!intervalList.isEmpty()) {
+                float minQps = Float.MAX_VALUE;
+                float maxQps = 0F;
+                long maxP99Ns = 0L;
+                for (IntervalStatistics interval : intervalList) {
+                    minQps = Math.min(minQps, interval.getThroughputQps());
+                    maxQps = Math.max(maxQps, interval.getThroughputQps());
+                    maxP99Ns = Math.max(maxP99Ns, interval.getP99LatencyNs());
+                }
+                infoLog(context,"Timeline:  {} intervals, throughput {}/s ~ {}/s, worst 99%%: {}ms",
+                        intervalList.size(), minQps, maxQps, (float) maxP99Ns / MILLISECONDS.toNanos(1));
+            }
 
             for (Map.Entry<Integer, Float> entry : evaluationRequire.getRequirePercentilesMap().entrySet()) {
                 Integer percentile = entry.getKey();
                 Float threshold = entry.getValue();
                 boolean result = evaluationResult.getIsPercentilesAchievedMap().get(percentile);
                 String percentileStatus = getStatus(result);
-                infoLog(context,"Percentile: {}%%   {}ms (Required: {}ms) - {}",
+                infoLog(context,"Percentile: {}%%   {}ms{} (Required: {}ms) - {}",
                         percentile,
                         statistics.getLatencyPercentile(percentile, MILLISECONDS),
+                        percentile == 99 ? getPrecision(evaluationRuntime.getP99Precision()) : "",
                         threshold,
                         percentileStatus);
 
             }
+            for (int i = 0; i < context.getStageStatisticsList().size(); i++) {
+                StageStatistics stage = context.getStageStatisticsList().get(i);
+                StatisticsCalculator stageStatistics = stage.getStatisticsCalculator();
+                infoLog(context,"Stage {}:  {} threads, {}ms, throughput {}/s, errors {}, avg {}ms, 50%%: {}ms, 99%%: {}ms, max {}ms",
+                        i + 1,
+                        stage.getLoadStage().getName(),
+                        NANOSECONDS.toMillis(stage.getElapsedNs()),
+                        stage.getThroughputQps(),
+                        stageStatistics.getErrorCount(),
+                        stageStatistics.getMeanLatency(MILLISECONDS),
+                        stageStatistics.getLatencyPercentile(50, MILLISECONDS),
+                        stageStatistics.getLatencyPercentile(99, MILLISECONDS),
+                        stageStatistics.getMaxLatency(MILLISECONDS));
+            }
             infoLog(context, ConsoleUtil.LINE);
         }
     }
@@ -93,7 +322,7 @@ public class ConsoleReporter implements Reporter {
                      final String format,
                      final Object... args) {
         String className = context.getTestInstance().getClass().getName();
-        String methodName = context.getMethodName();
+        String methodName = context.getDisplayName();
 
         ConsoleUtil.info(className, methodName, format, args);
     }
@@ -110,4 +339,40 @@ public class ConsoleReporter implements Reporter {
         return StatusEnum.FAILED.getStatus();
     }
 
+    /**
+     * 自适应测量时长的精度后缀
+     * @param precision 相对精度，未计算时为 -1
+     * @return 显示字符串，未计算时为空
+     * @since 2.0.8
+     */
+    private String getPrecision(final double precision) {
+        if (precision < 0) {
+            return "";
+        }
+        return " (+/-" + toPercentage(precision) + "%)";
+    }
+
+    /**
+     * 相对精度转换为百分比
+     * @param precision 相对精度，未计算时为 -1
+     * @return 百分比，未计算时为 -1
+     * @since 2.0.8
+     */
+    private float toPercentage(final double precision) {
+        if (precision < 0) {
+            return -1F;
+        }
+        return (float) (precision * 100);
+    }
+
+    /**
+     * 字节数转换为 MB
+     * @param bytes 字节数
+     * @return MB
+     * @since 2.0.8
+     */
+    private float toMb(final long bytes) {
+        return (float) bytes / BYTES_PER_MB;
+    }
+
 }
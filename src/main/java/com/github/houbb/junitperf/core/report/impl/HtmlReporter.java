@@ -5,6 +5,7 @@ import com.github.houbb.heaven.util.nio.PathUtil;
 import com.github.houbb.junitperf.constant.VersionConstant;
 import com.github.houbb.junitperf.core.report.Reporter;
 import com.github.houbb.junitperf.model.evaluation.EvaluationContext;
+import com.github.houbb.junitperf.support.builder.ParamSweepBuilder;
 import com.github.houbb.junitperf.support.i18n.I18N;
 import com.github.houbb.junitperf.util.FreemarkerUtil;
 import freemarker.template.Configuration;
@@ -54,6 +55,7 @@ public class HtmlReporter implements Reporter {
             Map<String, Object> root = new HashMap<>();
             root.put("className", testClass.getSimpleName());
             root.put("contextData", evaluationContextSet);
+            root.put("sweepList", new ParamSweepBuilder(evaluationContextSet).build());
             root.put("milliseconds", TimeUnit.MILLISECONDS);
             root.put("i18n", I18N.buildI18nVo());
             FreemarkerUtil.createFile(template, outputPath.toString(), root, true);
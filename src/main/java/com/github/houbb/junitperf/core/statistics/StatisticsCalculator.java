@@ -1,8 +1,11 @@
 package com.github.houbb.junitperf.core.statistics;
 
+import com.github.houbb.junitperf.model.evaluation.component.IntervalStatistics;
 import org.apiguardian.api.API;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -13,18 +16,76 @@ import java.util.concurrent.TimeUnit;
  * @since 1.0.0, 2018/01/11
  */
 @API(status = API.Status.INTERNAL)
-public interface StatisticsCalculator extends Serializable {
+public interface StatisticsCalculator extends StatisticsRecorder, Serializable {
 
     /**
-     * 累加延迟的时间
-     * @param executionTimeNs 执行时间(纳秒)
+     * 创建一个新的记录者，供单个执行线程使用
+     *
+     * 默认直接返回当前统计对象，所有线程共享；
+     * 实现类可以返回线程独享的记录者，避免执行线程之间的竞争。
+     * @return 记录者
+     * @since 2.0.8
      */
-    void addLatencyMeasurement(long executionTimeNs);
+    default StatisticsRecorder newRecorder() {
+        return this;
+    }
 
     /**
-     * 增加错误总次数
+     * 复制一个经过协调遗漏（coordinated omission）修正的统计
+     *
+     * 闭环执行时，一次长时间的停顿只会产生一个样本，停顿期间本应发出的请求被遗漏了。
+     * 修正会为每个超过期望间隔的样本补充缺失的样本。
+     * @param expectedIntervalNs 单个线程期望的调用间隔(纳秒)
+     * @return 修正后的统计，不支持时返回 {@code null}
+     * @since 2.0.8
      */
-    void incrementErrorCount();
+    default StatisticsCalculator copyCorrectedForCoordinatedOmission(long expectedIntervalNs) {
+        return null;
+    }
+
+    /**
+     * 合并另一个统计
+     *
+     * 用于 fork 执行，将各个 JVM 中的统计合并到当前统计中，区间统计按执行顺序追加。
+     * 默认不支持合并。
+     * @param other 同一实现的统计，需要保证已经不再写入
+     * @return 是否合并成功
+     * @since 2.0.8
+     */
+    default boolean merge(StatisticsCalculator other) {
+        return false;
+    }
+
+    /**
+     * 结束当前区间并开始下一个区间
+     *
+     * 由执行框架按照固定间隔调用，第一次调用只标记第一个区间的开始。
+     * 默认不记录区间统计。
+     * @param timestampNs 当前时间(纳秒)
+     * @since 2.0.8
+     */
+    default void markInterval(long timestampNs) {
+    }
+
+    /**
+     * 设置区间统计需要记录超过次数的耗时阈值
+     *
+     * 需要在第一次 {@link #markInterval(long)} 之前调用，结果见 {@link IntervalStatistics#getExceededCounts()}。
+     * 默认不记录。
+     * @param latencyThresholdsNs 耗时阈值(纳秒)
+     * @since 2.0.8
+     */
+    default void setLatencyThresholdsNs(long... latencyThresholdsNs) {
+    }
+
+    /**
+     * 获取区间统计
+     * @return 按时间排序的区间统计，不支持时返回空列表
+     * @since 2.0.8
+     */
+    default List<IntervalStatistics> getIntervalStatisticsList() {
+        return Collections.emptyList();
+    }
 
     /**
      * 获取错误总次数
@@ -38,11 +99,6 @@ public interface StatisticsCalculator extends Serializable {
      */
     float getErrorPercentage();
 
-    /**
-     * 增加校验的总数
-     */
-    void incrementEvaluationCount();
-
     /**
      * 获取校验的总数
      * @return long
@@ -80,6 +136,7 @@ public interface StatisticsCalculator extends Serializable {
 
     /**
      * 添加内存
+     * 2.0.8 开始为测量期间执行线程分配的总字节数
      * @param memoryKb 内存消耗
      * @since 2.0.5
      */
@@ -0,0 +1,69 @@
+package com.github.houbb.junitperf.core.statistics;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import org.apiguardian.api.API;
+
+/**
+ * 统计记录接口
+ *
+ * 1. 每一个执行线程持有自己的记录者，只由该线程写入。
+ * 2. 记录者的数据在 {@link StatisticsCalculator} 被读取时才进行合并。
+ * 3. 批量调用、抽样及只统计吞吐量时，执行次数通过 {@link #addEvaluationCount(long)} 一次性累加，
+ * 自定义的统计需要以 O(1) 的代价实现该方法，不能逐次调用 {@link #incrementEvaluationCount()}。
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public interface StatisticsRecorder {
+
+    /**
+     * 累加延迟的时间
+     * @param executionTimeNs 执行时间(纳秒)
+     */
+    void addLatencyMeasurement(long executionTimeNs);
+
+    /**
+     * 增加错误总次数
+     */
+    void incrementErrorCount();
+
+    /**
+     * 增加校验的总数
+     */
+    void incrementEvaluationCount();
+
+    /**
+     * 增加校验的总数
+     * 备注：需要以 O(1) 的代价累加，耗时与 count 无关
+     * @param count 数量
+     * @since 2.0.8
+     */
+    void addEvaluationCount(long count);
+
+    /**
+     * 记录一批操作
+     * 1. 同一批次中每次操作的耗时取平均值，所有批次的操作数量相同，只记录一个耗时样本不影响百分位
+     * 2. 执行总数按操作数量累加
+     * @param executionTimeNsPerOp 每次操作的平均执行时间(纳秒)
+     * @param operations 操作数量
+     * @since 2.0.8
+     */
+    default void addBatchMeasurement(long executionTimeNsPerOp, int operations) {
+        addEvaluationCount(operations);
+        addLatencyMeasurement(executionTimeNsPerOp);
+    }
+
+    /**
+     * 记录一次抽样计时
+     * 1. 延迟抽样时，一次计时代表上一次计时之后的所有调用（包括本次）
+     * 2. 耗时只作为一个样本记录，执行总数按代表的调用次数累加
+     * @param executionTimeNs 执行时间(纳秒)
+     * @param operations 代表的调用次数
+     * @since 2.0.8
+     */
+    default void addSampledMeasurement(long executionTimeNs, long operations) {
+        addEvaluationCount(operations);
+        addLatencyMeasurement(executionTimeNs);
+    }
+
+}
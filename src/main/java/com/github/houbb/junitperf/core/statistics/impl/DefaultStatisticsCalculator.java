@@ -2,15 +2,24 @@ package com.github.houbb.junitperf.core.statistics.impl;
 
 import com.github.houbb.junitperf.constant.VersionConstant;
 import com.github.houbb.junitperf.core.statistics.StatisticsCalculator;
+import com.github.houbb.junitperf.core.statistics.StatisticsRecorder;
+import com.github.houbb.junitperf.model.evaluation.component.IntervalStatistics;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.apache.commons.math3.stat.descriptive.SynchronizedDescriptiveStatistics;
+import com.github.houbb.junitperf.support.timeline.IntervalTimeline;
 import org.apiguardian.api.API;
 
+import java.io.Serializable;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 默认统计计算
+ *
+ * 每个执行线程通过 {@link #newRecorder()} 记录到自己的统计中，读取时才进行合并。
+ * 备注：线程独享的统计不是线程安全的，读取前需要保证执行线程已经结束。
  * @author bbhou
  * @version 1.0.0
  * @since 1.0.0, 2018/01/11
@@ -22,20 +31,34 @@ public class DefaultStatisticsCalculator implements StatisticsCalculator {
 
     //region private fields
     /**
-     * 耗时统计方式
-     * @since 1.0.0
+     * 所有的记录者
+     * @since 2.0.8
      */
-    private final DescriptiveStatistics latencyStatistics;
+    private final List<DefaultStatisticsRecorder> recorderList = new CopyOnWriteArrayList<>();
 
     /**
-     * 执行评价计数
+     * 区间统计时间线
+     * @since 2.0.8
      */
-    private final AtomicLong evaluationCount = new AtomicLong();
+    private final IntervalTimeline intervalTimeline = new IntervalTimeline();
 
     /**
-     * 错误计数
+     * 直接调用统计对象时使用的共享记录者
+     * @since 2.0.8
      */
-    private final AtomicLong errorCount = new AtomicLong();
+    private final DefaultStatisticsRecorder sharedRecorder;
+
+    /**
+     * 合并后的耗时统计
+     * @since 2.0.8
+     */
+    private DescriptiveStatistics latencyStatistics;
+
+    /**
+     * 合并时各记录者的延迟总数，用于判断是否需要重新合并
+     * @since 2.0.8
+     */
+    private long mergedTotalCount = -1;
 
     /**
      * 内存消耗
@@ -51,33 +74,109 @@ public class DefaultStatisticsCalculator implements StatisticsCalculator {
      * @since 2.0.5
      */
     public DefaultStatisticsCalculator() {
-        this(new SynchronizedDescriptiveStatistics());
+        this.sharedRecorder = new SharedStatisticsRecorder(new SynchronizedDescriptiveStatistics(),
+                intervalTimeline.newSharedRecorder());
+        this.recorderList.add(sharedRecorder);
+    }
+    //endregion
+
+    //region methods
+    @Override
+    public StatisticsRecorder newRecorder() {
+        DefaultStatisticsRecorder recorder = new DefaultStatisticsRecorder(new DescriptiveStatistics(),
+                intervalTimeline.newRecorder());
+        recorderList.add(recorder);
+        return recorder;
     }
 
     /**
-     * 私有构造器
-     * @param latencyStatistics 延迟统计
-     * @since 1.0.0
+     * 复制一个经过协调遗漏修正的统计
+     * 备注：补充的样本会全部保存，期望间隔很小而停顿很长时内存消耗较大，此时推荐使用 {@link HistogramStatisticsCalculator}。
+     * @param expectedIntervalNs 单个线程期望的调用间隔(纳秒)
+     * @return 修正后的统计
+     * @since 2.0.8
      */
-    private DefaultStatisticsCalculator(final DescriptiveStatistics latencyStatistics) {
-        this.latencyStatistics = latencyStatistics;
+    @Override
+    public StatisticsCalculator copyCorrectedForCoordinatedOmission(long expectedIntervalNs) {
+        DefaultStatisticsCalculator corrected = new DefaultStatisticsCalculator();
+        for (double value : getLatencyStatistics().getValues()) {
+            corrected.addLatencyMeasurement((long) value);
+            if (expectedIntervalNs <= 0) {
+                continue;
+            }
+            for (long missing = (long) value - expectedIntervalNs; missing >= expectedIntervalNs; missing -= expectedIntervalNs) {
+                corrected.addLatencyMeasurement(missing);
+            }
+        }
+        corrected.sharedRecorder.addEvaluationCount(getEvaluationCount());
+        corrected.sharedRecorder.addErrorCount(getErrorCount());
+        corrected.setMemory(getMemory());
+        return corrected;
+    }
+
+    @Override
+    public boolean merge(StatisticsCalculator other) {
+        if (!(other instanceof DefaultStatisticsCalculator)) {
+            return false;
+        }
+        DefaultStatisticsCalculator source = (DefaultStatisticsCalculator) other;
+        for (double value : source.getLatencyStatistics().getValues()) {
+            sharedRecorder.latencyStatistics.addValue(value);
+        }
+        sharedRecorder.addEvaluationCount(source.getEvaluationCount());
+        sharedRecorder.addErrorCount(source.getErrorCount());
+        intervalTimeline.append(source.intervalTimeline);
+        setMemory(getMemory() + source.getMemory());
+        return true;
+    }
+
+    @Override
+    public void markInterval(long timestampNs) {
+        intervalTimeline.markInterval(timestampNs);
+    }
+
+    @Override
+    public void setLatencyThresholdsNs(long... latencyThresholdsNs) {
+        intervalTimeline.setLatencyThresholdsNs(latencyThresholdsNs);
+    }
+
+    @Override
+    public List<IntervalStatistics> getIntervalStatisticsList() {
+        return intervalTimeline.getIntervalStatisticsList();
     }
-    //endregion
 
-    //region methods
     @Override
     public void addLatencyMeasurement(long executionTimeNs) {
-        latencyStatistics.addValue(executionTimeNs);
+        sharedRecorder.addLatencyMeasurement(executionTimeNs);
     }
 
     @Override
     public void incrementErrorCount() {
-        errorCount.incrementAndGet();
+        sharedRecorder.incrementErrorCount();
+    }
+
+    @Override
+    public void addEvaluationCount(long count) {
+        sharedRecorder.addEvaluationCount(count);
+    }
+
+    @Override
+    public void addBatchMeasurement(long executionTimeNsPerOp, int operations) {
+        sharedRecorder.addBatchMeasurement(executionTimeNsPerOp, operations);
+    }
+
+    @Override
+    public void addSampledMeasurement(long executionTimeNs, long operations) {
+        sharedRecorder.addSampledMeasurement(executionTimeNs, operations);
     }
 
     @Override
     public long getErrorCount() {
-        return errorCount.get();
+        long total = 0;
+        for (DefaultStatisticsRecorder recorder : recorderList) {
+            total += recorder.getErrorCount();
+        }
+        return total;
     }
 
     @Override
@@ -87,32 +186,36 @@ public class DefaultStatisticsCalculator implements StatisticsCalculator {
 
     @Override
     public void incrementEvaluationCount() {
-        evaluationCount.incrementAndGet();
+        sharedRecorder.incrementEvaluationCount();
     }
 
     @Override
     public long getEvaluationCount() {
-        return evaluationCount.get();
+        long total = 0;
+        for (DefaultStatisticsRecorder recorder : recorderList) {
+            total += recorder.getEvaluationCount();
+        }
+        return total;
     }
 
     @Override
     public float getLatencyPercentile(int percentile, TimeUnit unit) {
-        return (float) latencyStatistics.getPercentile((double)(percentile)) / unit.toNanos(1);
+        return (float) getLatencyStatistics().getPercentile((double)(percentile)) / unit.toNanos(1);
     }
 
     @Override
     public float getMaxLatency(TimeUnit unit) {
-        return (float) latencyStatistics.getMax() / unit.toNanos(1);
+        return (float) getLatencyStatistics().getMax() / unit.toNanos(1);
     }
 
     @Override
     public float getMinLatency(TimeUnit unit) {
-        return (float) latencyStatistics.getMin() / unit.toNanos(1);
+        return (float) getLatencyStatistics().getMin() / unit.toNanos(1);
     }
 
     @Override
     public float getMeanLatency(TimeUnit unit) {
-        return (float) latencyStatistics.getMean() / unit.toNanos(1);
+        return (float) getLatencyStatistics().getMean() / unit.toNanos(1);
     }
 
     @Override
@@ -124,6 +227,160 @@ public class DefaultStatisticsCalculator implements StatisticsCalculator {
     public long getMemory() {
         return this.memoryKb;
     }
+
+    /**
+     * 获取合并后的耗时统计
+     * 1. 各记录者的总数没有变化时，直接复用上一次的合并结果
+     * @return 耗时统计
+     * @since 2.0.8
+     */
+    private synchronized DescriptiveStatistics getLatencyStatistics() {
+        long totalCount = 0;
+        for (DefaultStatisticsRecorder recorder : recorderList) {
+            totalCount += recorder.latencyStatistics.getN();
+        }
+        if (latencyStatistics == null || totalCount != mergedTotalCount) {
+            DescriptiveStatistics statistics = new DescriptiveStatistics();
+            for (DefaultStatisticsRecorder recorder : recorderList) {
+                for (double value : recorder.latencyStatistics.getValues()) {
+                    statistics.addValue(value);
+                }
+            }
+            latencyStatistics = statistics;
+            mergedTotalCount = totalCount;
+        }
+        return latencyStatistics;
+    }
     //endregion
 
+    /**
+     * 默认记录者
+     * 只由创建它的执行线程写入，计数使用普通字段。
+     * @since 2.0.8
+     */
+    private static class DefaultStatisticsRecorder implements StatisticsRecorder, Serializable {
+
+        private static final long serialVersionUID = -2853166213474870186L;
+
+        /**
+         * 耗时统计方式
+         */
+        private final DescriptiveStatistics latencyStatistics;
+
+        /**
+         * 区间记录者
+         */
+        private final IntervalTimeline.IntervalRecorder intervalRecorder;
+
+        /**
+         * 执行评价计数
+         */
+        private long evaluationCount;
+
+        /**
+         * 错误计数
+         */
+        private long errorCount;
+
+        private DefaultStatisticsRecorder(DescriptiveStatistics latencyStatistics,
+                                          IntervalTimeline.IntervalRecorder intervalRecorder) {
+            this.latencyStatistics = latencyStatistics;
+            this.intervalRecorder = intervalRecorder;
+        }
+
+        @Override
+        public void addLatencyMeasurement(long executionTimeNs) {
+            latencyStatistics.addValue(executionTimeNs);
+            intervalRecorder.recordLatency(executionTimeNs);
+        }
+
+        @Override
+        public void incrementErrorCount() {
+            addErrorCount(1);
+            intervalRecorder.incrementErrorCount();
+        }
+
+        @Override
+        public void incrementEvaluationCount() {
+            addEvaluationCount(1);
+        }
+
+        @Override
+        public void addEvaluationCount(long count) {
+            evaluationCount += count;
+        }
+
+        @Override
+        public void addBatchMeasurement(long executionTimeNsPerOp, int operations) {
+            addEvaluationCount(operations);
+            latencyStatistics.addValue(executionTimeNsPerOp);
+            intervalRecorder.recordLatency(executionTimeNsPerOp, operations);
+        }
+
+        @Override
+        public void addSampledMeasurement(long executionTimeNs, long operations) {
+            addEvaluationCount(operations);
+            latencyStatistics.addValue(executionTimeNs);
+            // 区间吞吐量按代表的调用次数统计
+            intervalRecorder.recordLatency(executionTimeNs, operations);
+        }
+
+        void addErrorCount(long count) {
+            errorCount += count;
+        }
+
+        long getEvaluationCount() {
+            return evaluationCount;
+        }
+
+        long getErrorCount() {
+            return errorCount;
+        }
+    }
+
+    /**
+     * 共享记录者
+     * 直接调用统计对象、合并以及协调遗漏修正时使用，可能被多个线程同时写入，计数使用原子操作。
+     * @since 2.0.8
+     */
+    private static class SharedStatisticsRecorder extends DefaultStatisticsRecorder {
+
+        private static final long serialVersionUID = 6472913158040815279L;
+
+        /**
+         * 执行评价计数
+         */
+        private final AtomicLong evaluationCount = new AtomicLong();
+
+        /**
+         * 错误计数
+         */
+        private final AtomicLong errorCount = new AtomicLong();
+
+        private SharedStatisticsRecorder(DescriptiveStatistics latencyStatistics,
+                                         IntervalTimeline.IntervalRecorder intervalRecorder) {
+            super(latencyStatistics, intervalRecorder);
+        }
+
+        @Override
+        public void addEvaluationCount(long count) {
+            evaluationCount.addAndGet(count);
+        }
+
+        @Override
+        void addErrorCount(long count) {
+            errorCount.addAndGet(count);
+        }
+
+        @Override
+        long getEvaluationCount() {
+            return evaluationCount.get();
+        }
+
+        @Override
+        long getErrorCount() {
+            return errorCount.get();
+        }
+    }
+
 }
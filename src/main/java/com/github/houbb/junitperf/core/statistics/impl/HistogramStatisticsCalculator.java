@@ -0,0 +1,412 @@
+package com.github.houbb.junitperf.core.statistics.impl;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import com.github.houbb.junitperf.core.statistics.StatisticsCalculator;
+import com.github.houbb.junitperf.core.statistics.StatisticsRecorder;
+import com.github.houbb.junitperf.model.evaluation.component.IntervalStatistics;
+import com.github.houbb.junitperf.support.histogram.AbstractLatencyHistogram;
+import com.github.houbb.junitperf.support.histogram.LatencyHistogram;
+import com.github.houbb.junitperf.support.histogram.SingleWriterLatencyHistogram;
+import com.github.houbb.junitperf.support.timeline.IntervalTimeline;
+import org.apiguardian.api.API;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 直方图统计计算
+ *
+ * 1. 基于固定大小的 log-linear 直方图，内存占用不随运行时长增长，适合长时间、高吞吐的测试。
+ * 2. min/max/mean 为精确值；百分位的相对误差不超过 10^-significantDigits（默认 3 位有效数字，即 0.1%）。
+ * 3. 超过最大可追踪值（默认 1 小时）的延迟，百分位结果会被截断为最大可追踪值。
+ * 4. 每个执行线程记录到自己的单写者直方图中，读取时才进行合并；读取前需要保证执行线程已经结束。
+ *
+ * 如果需要调整精度，可以继承本类，在无参构造器中调用 {@link #HistogramStatisticsCalculator(int, long)}。
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public class HistogramStatisticsCalculator implements StatisticsCalculator {
+
+    private static final long serialVersionUID = -5019325498765371162L;
+
+    /**
+     * 默认有效数字位数
+     */
+    public static final int DEFAULT_SIGNIFICANT_DIGITS = 3;
+
+    /**
+     * 默认最大可追踪的延迟（纳秒）
+     */
+    public static final long DEFAULT_HIGHEST_TRACKABLE_NS = TimeUnit.HOURS.toNanos(1);
+
+    /**
+     * 有效数字位数
+     */
+    private final int significantDigits;
+
+    /**
+     * 最大可追踪的延迟（纳秒）
+     */
+    private final long highestTrackableValueNs;
+
+    /**
+     * 所有的记录者
+     */
+    private final List<HistogramStatisticsRecorder> recorderList = new CopyOnWriteArrayList<>();
+
+    /**
+     * 区间统计时间线
+     */
+    private final IntervalTimeline intervalTimeline = new IntervalTimeline();
+
+    /**
+     * 直接调用统计对象时使用的共享记录者
+     */
+    private final HistogramStatisticsRecorder sharedRecorder;
+
+    /**
+     * 合并后的直方图
+     */
+    private LatencyHistogram mergedHistogram;
+
+    /**
+     * 合并时各记录者的延迟总数，用于判断是否需要重新合并
+     */
+    private long mergedTotalCount = -1;
+
+    /**
+     * 内存消耗
+     */
+    private volatile long memoryKb;
+
+    /**
+     * 默认构造器
+     */
+    public HistogramStatisticsCalculator() {
+        this(DEFAULT_SIGNIFICANT_DIGITS, DEFAULT_HIGHEST_TRACKABLE_NS);
+    }
+
+    /**
+     * 构造器
+     * @param significantDigits 有效数字位数 [1, 5]
+     * @param highestTrackableValueNs 最大可追踪的延迟（纳秒）
+     */
+    public HistogramStatisticsCalculator(final int significantDigits,
+                                         final long highestTrackableValueNs) {
+        this.significantDigits = significantDigits;
+        this.highestTrackableValueNs = highestTrackableValueNs;
+        this.sharedRecorder = new SharedHistogramStatisticsRecorder(
+                new LatencyHistogram(highestTrackableValueNs, significantDigits),
+                intervalTimeline.newSharedRecorder());
+        this.recorderList.add(sharedRecorder);
+    }
+
+    @Override
+    public StatisticsRecorder newRecorder() {
+        HistogramStatisticsRecorder recorder = new HistogramStatisticsRecorder(
+                new SingleWriterLatencyHistogram(highestTrackableValueNs, significantDigits),
+                intervalTimeline.newRecorder());
+        recorderList.add(recorder);
+        return recorder;
+    }
+
+    @Override
+    public StatisticsCalculator copyCorrectedForCoordinatedOmission(long expectedIntervalNs) {
+        HistogramStatisticsCalculator corrected = new HistogramStatisticsCalculator(significantDigits, highestTrackableValueNs);
+        corrected.sharedRecorder.latencyHistogram.add(getMergedHistogram().copyCorrectedForCoordinatedOmission(expectedIntervalNs));
+        corrected.sharedRecorder.addEvaluationCount(getEvaluationCount());
+        corrected.sharedRecorder.addErrorCount(getErrorCount());
+        corrected.setMemory(getMemory());
+        return corrected;
+    }
+
+    @Override
+    public boolean merge(StatisticsCalculator other) {
+        if (!(other instanceof HistogramStatisticsCalculator)) {
+            return false;
+        }
+        HistogramStatisticsCalculator source = (HistogramStatisticsCalculator) other;
+        sharedRecorder.latencyHistogram.add(source.getMergedHistogram());
+        sharedRecorder.addEvaluationCount(source.getEvaluationCount());
+        sharedRecorder.addErrorCount(source.getErrorCount());
+        intervalTimeline.append(source.intervalTimeline);
+        setMemory(getMemory() + source.getMemory());
+        return true;
+    }
+
+    @Override
+    public void markInterval(long timestampNs) {
+        intervalTimeline.markInterval(timestampNs);
+    }
+
+    @Override
+    public void setLatencyThresholdsNs(long... latencyThresholdsNs) {
+        intervalTimeline.setLatencyThresholdsNs(latencyThresholdsNs);
+    }
+
+    @Override
+    public List<IntervalStatistics> getIntervalStatisticsList() {
+        return intervalTimeline.getIntervalStatisticsList();
+    }
+
+    @Override
+    public void addLatencyMeasurement(long executionTimeNs) {
+        sharedRecorder.addLatencyMeasurement(executionTimeNs);
+    }
+
+    @Override
+    public void incrementErrorCount() {
+        sharedRecorder.incrementErrorCount();
+    }
+
+    @Override
+    public void addEvaluationCount(long count) {
+        sharedRecorder.addEvaluationCount(count);
+    }
+
+    @Override
+    public void addBatchMeasurement(long executionTimeNsPerOp, int operations) {
+        sharedRecorder.addBatchMeasurement(executionTimeNsPerOp, operations);
+    }
+
+    @Override
+    public void addSampledMeasurement(long executionTimeNs, long operations) {
+        sharedRecorder.addSampledMeasurement(executionTimeNs, operations);
+    }
+
+    @Override
+    public long getErrorCount() {
+        long total = 0;
+        for (HistogramStatisticsRecorder recorder : recorderList) {
+            total += recorder.getErrorCount();
+        }
+        return total;
+    }
+
+    @Override
+    public float getErrorPercentage() {
+        return ((float)getErrorCount() / getEvaluationCount()) * 100;
+    }
+
+    @Override
+    public void incrementEvaluationCount() {
+        sharedRecorder.incrementEvaluationCount();
+    }
+
+    @Override
+    public long getEvaluationCount() {
+        long total = 0;
+        for (HistogramStatisticsRecorder recorder : recorderList) {
+            total += recorder.getEvaluationCount();
+        }
+        return total;
+    }
+
+    @Override
+    public float getLatencyPercentile(int percentile, TimeUnit unit) {
+        LatencyHistogram histogram = getMergedHistogram();
+        if (histogram.getTotalCount() == 0) {
+            return Float.NaN;
+        }
+        return (float) histogram.getValueAtPercentile(percentile) / unit.toNanos(1);
+    }
+
+    @Override
+    public float getMaxLatency(TimeUnit unit) {
+        LatencyHistogram histogram = getMergedHistogram();
+        if (histogram.getTotalCount() == 0) {
+            return Float.NaN;
+        }
+        return (float) histogram.getMaxValue() / unit.toNanos(1);
+    }
+
+    @Override
+    public float getMinLatency(TimeUnit unit) {
+        LatencyHistogram histogram = getMergedHistogram();
+        if (histogram.getTotalCount() == 0) {
+            return Float.NaN;
+        }
+        return (float) histogram.getMinValue() / unit.toNanos(1);
+    }
+
+    @Override
+    public float getMeanLatency(TimeUnit unit) {
+        LatencyHistogram histogram = getMergedHistogram();
+        if (histogram.getTotalCount() == 0) {
+            return Float.NaN;
+        }
+        return (float) histogram.getMean() / unit.toNanos(1);
+    }
+
+    @Override
+    public void setMemory(long memoryKb) {
+        this.memoryKb = memoryKb;
+    }
+
+    @Override
+    public long getMemory() {
+        return this.memoryKb;
+    }
+
+    /**
+     * 百分位的相对误差上限
+     * @return 误差上限
+     */
+    public double getRelativeErrorBound() {
+        return Math.pow(10, -significantDigits);
+    }
+
+    /**
+     * 获取合并后的直方图
+     * 1. 各记录者的总数没有变化时，直接复用上一次的合并结果
+     * @return 直方图
+     */
+    protected synchronized LatencyHistogram getMergedHistogram() {
+        long totalCount = 0;
+        for (HistogramStatisticsRecorder recorder : recorderList) {
+            totalCount += recorder.latencyHistogram.getTotalCount();
+        }
+        if (mergedHistogram == null || totalCount != mergedTotalCount) {
+            LatencyHistogram histogram = new LatencyHistogram(highestTrackableValueNs, significantDigits);
+            for (HistogramStatisticsRecorder recorder : recorderList) {
+                histogram.add(recorder.latencyHistogram);
+            }
+            mergedHistogram = histogram;
+            mergedTotalCount = totalCount;
+        }
+        return mergedHistogram;
+    }
+
+    /**
+     * 直方图记录者
+     * 只由创建它的执行线程写入，不存在竞争，直方图和计数都使用普通字段。
+     */
+    private static class HistogramStatisticsRecorder implements StatisticsRecorder, Serializable {
+
+        private static final long serialVersionUID = 1893446261536924412L;
+
+        /**
+         * 延迟直方图
+         */
+        private final AbstractLatencyHistogram latencyHistogram;
+
+        /**
+         * 区间记录者
+         */
+        private final IntervalTimeline.IntervalRecorder intervalRecorder;
+
+        /**
+         * 执行评价计数
+         */
+        private long evaluationCount;
+
+        /**
+         * 错误计数
+         */
+        private long errorCount;
+
+        private HistogramStatisticsRecorder(AbstractLatencyHistogram latencyHistogram,
+                                            IntervalTimeline.IntervalRecorder intervalRecorder) {
+            this.latencyHistogram = latencyHistogram;
+            this.intervalRecorder = intervalRecorder;
+        }
+
+        @Override
+        public void addLatencyMeasurement(long executionTimeNs) {
+            latencyHistogram.recordValue(executionTimeNs);
+            intervalRecorder.recordLatency(executionTimeNs);
+        }
+
+        @Override
+        public void incrementErrorCount() {
+            addErrorCount(1);
+            intervalRecorder.incrementErrorCount();
+        }
+
+        @Override
+        public void incrementEvaluationCount() {
+            addEvaluationCount(1);
+        }
+
+        @Override
+        public void addEvaluationCount(long count) {
+            evaluationCount += count;
+        }
+
+        @Override
+        public void addBatchMeasurement(long executionTimeNsPerOp, int operations) {
+            addEvaluationCount(operations);
+            latencyHistogram.recordValueWithCount(executionTimeNsPerOp, operations);
+            intervalRecorder.recordLatency(executionTimeNsPerOp, operations);
+        }
+
+        @Override
+        public void addSampledMeasurement(long executionTimeNs, long operations) {
+            addEvaluationCount(operations);
+            latencyHistogram.recordValue(executionTimeNs);
+            // 区间吞吐量按代表的调用次数统计
+            intervalRecorder.recordLatency(executionTimeNs, operations);
+        }
+
+        void addErrorCount(long count) {
+            errorCount += count;
+        }
+
+        long getEvaluationCount() {
+            return evaluationCount;
+        }
+
+        long getErrorCount() {
+            return errorCount;
+        }
+    }
+
+    /**
+     * 共享的直方图记录者
+     * 直接调用统计对象、合并以及协调遗漏修正时使用，可能被多个线程同时写入，直方图和计数都使用原子操作。
+     */
+    private static class SharedHistogramStatisticsRecorder extends HistogramStatisticsRecorder {
+
+        private static final long serialVersionUID = -1479342876581227150L;
+
+        /**
+         * 执行评价计数
+         */
+        private final AtomicLong evaluationCount = new AtomicLong();
+
+        /**
+         * 错误计数
+         */
+        private final AtomicLong errorCount = new AtomicLong();
+
+        private SharedHistogramStatisticsRecorder(LatencyHistogram latencyHistogram,
+                                                  IntervalTimeline.IntervalRecorder intervalRecorder) {
+            super(latencyHistogram, intervalRecorder);
+        }
+
+        @Override
+        public void addEvaluationCount(long count) {
+            evaluationCount.addAndGet(count);
+        }
+
+        @Override
+        void addErrorCount(long count) {
+            errorCount.addAndGet(count);
+        }
+
+        @Override
+        long getEvaluationCount() {
+            return evaluationCount.get();
+        }
+
+        @Override
+        long getErrorCount() {
+            return errorCount.get();
+        }
+    }
+
+}
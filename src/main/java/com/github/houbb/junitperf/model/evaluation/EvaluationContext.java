@@ -7,6 +7,8 @@ import com.github.houbb.junitperf.core.statistics.StatisticsCalculator;
 import com.github.houbb.junitperf.model.evaluation.component.EvaluationConfig;
 import com.github.houbb.junitperf.model.evaluation.component.EvaluationRequire;
 import com.github.houbb.junitperf.model.evaluation.component.EvaluationResult;
+import com.github.houbb.junitperf.model.evaluation.component.EvaluationRuntime;
+import com.github.houbb.junitperf.model.evaluation.component.StageStatistics;
 import com.github.houbb.junitperf.support.builder.EvaluationConfigBuilder;
 import com.github.houbb.junitperf.support.builder.EvaluationRequireBuilder;
 import com.github.houbb.junitperf.support.builder.EvaluationResultBuilder;
@@ -15,6 +17,9 @@ import org.apiguardian.api.API;
 
 import java.io.Serializable;
 import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 评价接口定义，用于展现最后的性能评价结果。
@@ -54,6 +59,19 @@ public class EvaluationContext implements Serializable {
      */
     private StatisticsCalculator statisticsCalculator;
 
+    /**
+     * 协调遗漏修正后的统计者
+     * 1. 未开启修正，或者统计实现不支持时为 null
+     * @since 2.0.8
+     */
+    private StatisticsCalculator correctedStatisticsCalculator;
+
+    /**
+     * 协调遗漏修正使用的期望调用间隔(纳秒)
+     * @since 2.0.8
+     */
+    private long expectedIntervalNs;
+
     /**
      * 配置
      */
@@ -69,6 +87,25 @@ public class EvaluationContext implements Serializable {
      */
     private EvaluationResult evaluationResult;
 
+    /**
+     * 运行信息
+     * 1. fork 执行时为合并后的各个 JVM 的运行信息
+     * @since 2.0.8
+     */
+    private EvaluationRuntime evaluationRuntime = new EvaluationRuntime();
+
+    /**
+     * 负载阶段的统计，不分阶段时为空
+     * @since 2.0.8
+     */
+    private List<StageStatistics> stageStatisticsList = Collections.emptyList();
+
+    /**
+     * 参数扫描的组合，不扫描时为空
+     * @since 2.0.8
+     */
+    private Map<String, String> paramMap = Collections.emptyMap();
+
 
     public EvaluationContext(final Object testInstance,
                              final Method testMethod,
@@ -87,6 +124,16 @@ public class EvaluationContext implements Serializable {
         this.evaluationConfig = new EvaluationConfigBuilder(junitPerfConfig).build();
     }
 
+    /**
+     * 加载配置，使用指定的线程数
+     * @param junitPerfConfig 配置注解
+     * @param threads 线程数
+     * @since 2.0.8
+     */
+    public synchronized void loadConfig(JunitPerfConfig junitPerfConfig, int threads) {
+        this.evaluationConfig = new EvaluationConfigBuilder(junitPerfConfig).threads(threads).build();
+    }
+
     /**
      * 加载评判标准
      * @param junitPerfRequire 评判注解
@@ -100,13 +147,34 @@ public class EvaluationContext implements Serializable {
      * 1. 必须保证统计这一步已经做完了
      */
     public void runValidation() {
-        evaluationResult = new EvaluationResultBuilder(evaluationConfig, evaluationRequire, statisticsCalculator).build();
+        evaluationResult = new EvaluationResultBuilder(evaluationConfig, evaluationRequire,
+                statisticsCalculator, evaluationRuntime).build();
     }
 
     public String getMethodName() {
         return methodName;
     }
 
+    /**
+     * 展示名称
+     * 1. 参数扫描时为 方法名[参数=值,...]，否则为方法名
+     * @return 展示名称
+     * @since 2.0.8
+     */
+    public String getDisplayName() {
+        if (paramMap.isEmpty()) {
+            return methodName;
+        }
+        StringBuilder builder = new StringBuilder(methodName).append('[');
+        for (Map.Entry<String, String> entry : paramMap.entrySet()) {
+            if (builder.charAt(builder.length() - 1) != '[') {
+                builder.append(',');
+            }
+            builder.append(entry.getKey()).append('=').append(entry.getValue());
+        }
+        return builder.append(']').toString();
+    }
+
     public String getStartTime() {
         return startTime;
     }
@@ -119,18 +187,66 @@ public class EvaluationContext implements Serializable {
         this.statisticsCalculator = statisticsCalculator;
     }
 
+    public StatisticsCalculator getCorrectedStatisticsCalculator() {
+        return correctedStatisticsCalculator;
+    }
+
+    public void setCorrectedStatisticsCalculator(StatisticsCalculator correctedStatisticsCalculator) {
+        this.correctedStatisticsCalculator = correctedStatisticsCalculator;
+    }
+
+    public long getExpectedIntervalNs() {
+        return expectedIntervalNs;
+    }
+
+    public void setExpectedIntervalNs(long expectedIntervalNs) {
+        this.expectedIntervalNs = expectedIntervalNs;
+    }
+
     public EvaluationConfig getEvaluationConfig() {
         return evaluationConfig;
     }
 
+    public void setEvaluationConfig(EvaluationConfig evaluationConfig) {
+        this.evaluationConfig = evaluationConfig;
+    }
+
     public EvaluationRequire getEvaluationRequire() {
         return evaluationRequire;
     }
 
+    public void setEvaluationRequire(EvaluationRequire evaluationRequire) {
+        this.evaluationRequire = evaluationRequire;
+    }
+
     public EvaluationResult getEvaluationResult() {
         return evaluationResult;
     }
 
+    public EvaluationRuntime getEvaluationRuntime() {
+        return evaluationRuntime;
+    }
+
+    public void setEvaluationRuntime(EvaluationRuntime evaluationRuntime) {
+        this.evaluationRuntime = evaluationRuntime;
+    }
+
+    public List<StageStatistics> getStageStatisticsList() {
+        return stageStatisticsList;
+    }
+
+    public void setStageStatisticsList(List<StageStatistics> stageStatisticsList) {
+        this.stageStatisticsList = stageStatisticsList;
+    }
+
+    public Map<String, String> getParamMap() {
+        return paramMap;
+    }
+
+    public void setParamMap(Map<String, String> paramMap) {
+        this.paramMap = paramMap;
+    }
+
     public Object getTestInstance() {
         return testInstance;
     }
@@ -156,6 +272,9 @@ public class EvaluationContext implements Serializable {
         if (startTime != null ? !startTime.equals(that.startTime) : that.startTime != null) {
             return false;
         }
+        if (!paramMap.equals(that.paramMap)) {
+            return false;
+        }
         if (statisticsCalculator != null ? !statisticsCalculator.equals(that.statisticsCalculator) : that.statisticsCalculator != null) {
             return false;
         }
@@ -172,6 +291,7 @@ public class EvaluationContext implements Serializable {
     public int hashCode() {
         int result = methodName != null ? methodName.hashCode() : 0;
         result = 31 * result + (startTime != null ? startTime.hashCode() : 0);
+        result = 31 * result + paramMap.hashCode();
         result = 31 * result + (statisticsCalculator != null ? statisticsCalculator.hashCode() : 0);
         result = 31 * result + (evaluationConfig != null ? evaluationConfig.hashCode() : 0);
         result = 31 * result + (evaluationRequire != null ? evaluationRequire.hashCode() : 0);
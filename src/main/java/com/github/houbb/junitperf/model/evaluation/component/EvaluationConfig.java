@@ -5,6 +5,9 @@ import com.github.houbb.junitperf.model.BaseModel;
 
 import org.apiguardian.api.API;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * 验证配置
  * @author bbhou
@@ -31,6 +34,168 @@ public class EvaluationConfig extends BaseModel {
      */
     private long configDuration;
 
+    /**
+     * 配置-目标到达速率
+     * @since 2.0.8
+     */
+    private int configTargetRate;
+
+    /**
+     * 配置-是否开启协调遗漏修正
+     * @since 2.0.8
+     */
+    private boolean configCoordinatedOmissionCorrection;
+
+    /**
+     * 配置-期望的调用间隔(毫秒)
+     * @since 2.0.8
+     */
+    private float configExpectedInterval;
+
+    /**
+     * 配置-区间统计的间隔
+     * @since 2.0.8
+     */
+    private long configTimelineInterval;
+
+    /**
+     * 是否统计 CPU 时间
+     * @since 2.0.8
+     */
+    private boolean configCpuTime;
+
+    /**
+     * 是否自适应准备
+     * @since 2.0.8
+     */
+    private boolean configAdaptiveWarmUp;
+
+    /**
+     * 自适应准备的窗口大小
+     * @since 2.0.8
+     */
+    private long configWarmUpWindow;
+
+    /**
+     * 自适应准备的容差
+     * @since 2.0.8
+     */
+    private float configWarmUpTolerance;
+
+    /**
+     * 负载阶段，为空时不分阶段
+     * @since 2.0.8
+     */
+    private List<LoadStage> configStageList = new ArrayList<>();
+
+    /**
+     * 是否使用虚拟线程
+     * @since 2.0.8
+     */
+    private boolean configVirtualThreads;
+
+    /**
+     * 异步调用的在途窗口
+     * @since 2.0.8
+     */
+    private int configAsyncWindow;
+
+    /**
+     * 异步测试方法的名称
+     * @since 2.0.8
+     */
+    private String configAsyncMethod;
+
+    /**
+     * 被测方法的名称
+     * @since 2.0.8
+     */
+    private String configTargetMethod;
+
+    /**
+     * 每次计时调用测试方法的次数
+     * @since 2.0.8
+     */
+    private int configBatchSize;
+
+    /**
+     * 是否只统计吞吐量
+     * @since 2.0.8
+     */
+    private boolean configThroughputOnly;
+
+    /**
+     * 每 N 次调用计时一次
+     * @since 2.0.8
+     */
+    private int configLatencySampleEvery;
+
+    /**
+     * 被计时的概率 (0, 1]
+     * @since 2.0.8
+     */
+    private float configLatencySampleProbability;
+
+    /**
+     * 测量调用次数
+     * @since 2.0.8
+     */
+    private long configInvocations;
+
+    /**
+     * 冷却时间（单位：毫秒）
+     * @since 2.0.8
+     */
+    private long configCooldown;
+
+    /**
+     * 等待执行线程结束的时间上限（单位：毫秒）
+     * @since 2.0.8
+     */
+    private long configShutdownTimeout;
+
+    /**
+     * 在新启动的 JVM 中执行的次数，0 表示在当前 JVM 中执行
+     * @since 2.0.8
+     */
+    private int configFork;
+
+    /**
+     * 新启动的 JVM 的启动参数
+     * @since 2.0.8
+     */
+    private String[] configJvmArgs;
+
+    /**
+     * 饱和点搜索的上限，0 表示不搜索
+     * @since 2.0.8
+     */
+    private int configSaturationSearch;
+
+    /**
+     * 饱和点搜索时单次探测的测量时间（单位：毫秒）
+     * @since 2.0.8
+     */
+    private long configProbeDuration;
+
+    /**
+     * 自适应测量时长的目标精度，0 表示不启用
+     * @since 2.0.8
+     */
+    private float configPrecision;
+
+    /**
+     * 提前结束测量之前的最短测量时间（单位：毫秒）
+     * @since 2.0.8
+     */
+    private long configMinDuration;
+
+    /**
+     * 是否启用序贯检验
+     * @since 2.0.8
+     */
+    private boolean configSequentialTest;
+
     public int getConfigThreads() {
         return configThreads;
     }
@@ -54,4 +219,220 @@ public class EvaluationConfig extends BaseModel {
     public void setConfigDuration(long configDuration) {
         this.configDuration = configDuration;
     }
+
+    public boolean isConfigCoordinatedOmissionCorrection() {
+        return configCoordinatedOmissionCorrection;
+    }
+
+    public void setConfigCoordinatedOmissionCorrection(boolean configCoordinatedOmissionCorrection) {
+        this.configCoordinatedOmissionCorrection = configCoordinatedOmissionCorrection;
+    }
+
+    public float getConfigExpectedInterval() {
+        return configExpectedInterval;
+    }
+
+    public void setConfigExpectedInterval(float configExpectedInterval) {
+        this.configExpectedInterval = configExpectedInterval;
+    }
+
+    public int getConfigTargetRate() {
+        return configTargetRate;
+    }
+
+    public void setConfigTargetRate(int configTargetRate) {
+        this.configTargetRate = configTargetRate;
+    }
+
+    public long getConfigTimelineInterval() {
+        return configTimelineInterval;
+    }
+
+    public void setConfigTimelineInterval(long configTimelineInterval) {
+        this.configTimelineInterval = configTimelineInterval;
+    }
+
+    public boolean isConfigCpuTime() {
+        return configCpuTime;
+    }
+
+    public void setConfigCpuTime(boolean configCpuTime) {
+        this.configCpuTime = configCpuTime;
+    }
+
+    public boolean isConfigAdaptiveWarmUp() {
+        return configAdaptiveWarmUp;
+    }
+
+    public void setConfigAdaptiveWarmUp(boolean configAdaptiveWarmUp) {
+        this.configAdaptiveWarmUp = configAdaptiveWarmUp;
+    }
+
+    public long getConfigWarmUpWindow() {
+        return configWarmUpWindow;
+    }
+
+    public void setConfigWarmUpWindow(long configWarmUpWindow) {
+        this.configWarmUpWindow = configWarmUpWindow;
+    }
+
+    public float getConfigWarmUpTolerance() {
+        return configWarmUpTolerance;
+    }
+
+    public void setConfigWarmUpTolerance(float configWarmUpTolerance) {
+        this.configWarmUpTolerance = configWarmUpTolerance;
+    }
+
+    public List<LoadStage> getConfigStageList() {
+        return configStageList;
+    }
+
+    public void setConfigStageList(List<LoadStage> configStageList) {
+        this.configStageList = configStageList;
+    }
+
+    public boolean isConfigVirtualThreads() {
+        return configVirtualThreads;
+    }
+
+    public void setConfigVirtualThreads(boolean configVirtualThreads) {
+        this.configVirtualThreads = configVirtualThreads;
+    }
+
+    public int getConfigAsyncWindow() {
+        return configAsyncWindow;
+    }
+
+    public void setConfigAsyncWindow(int configAsyncWindow) {
+        this.configAsyncWindow = configAsyncWindow;
+    }
+
+    public String getConfigAsyncMethod() {
+        return configAsyncMethod;
+    }
+
+    public void setConfigAsyncMethod(String configAsyncMethod) {
+        this.configAsyncMethod = configAsyncMethod;
+    }
+
+    public String getConfigTargetMethod() {
+        return configTargetMethod;
+    }
+
+    public void setConfigTargetMethod(String configTargetMethod) {
+        this.configTargetMethod = configTargetMethod;
+    }
+
+    public int getConfigBatchSize() {
+        return configBatchSize;
+    }
+
+    public void setConfigBatchSize(int configBatchSize) {
+        this.configBatchSize = configBatchSize;
+    }
+
+    public boolean isConfigThroughputOnly() {
+        return configThroughputOnly;
+    }
+
+    public void setConfigThroughputOnly(boolean configThroughputOnly) {
+        this.configThroughputOnly = configThroughputOnly;
+    }
+
+    public int getConfigLatencySampleEvery() {
+        return configLatencySampleEvery;
+    }
+
+    public void setConfigLatencySampleEvery(int configLatencySampleEvery) {
+        this.configLatencySampleEvery = configLatencySampleEvery;
+    }
+
+    public float getConfigLatencySampleProbability() {
+        return configLatencySampleProbability;
+    }
+
+    public void setConfigLatencySampleProbability(float configLatencySampleProbability) {
+        this.configLatencySampleProbability = configLatencySampleProbability;
+    }
+
+    public long getConfigInvocations() {
+        return configInvocations;
+    }
+
+    public void setConfigInvocations(long configInvocations) {
+        this.configInvocations = configInvocations;
+    }
+
+    public long getConfigCooldown() {
+        return configCooldown;
+    }
+
+    public void setConfigCooldown(long configCooldown) {
+        this.configCooldown = configCooldown;
+    }
+
+    public long getConfigShutdownTimeout() {
+        return configShutdownTimeout;
+    }
+
+    public void setConfigShutdownTimeout(long configShutdownTimeout) {
+        this.configShutdownTimeout = configShutdownTimeout;
+    }
+
+    public int getConfigFork() {
+        return configFork;
+    }
+
+    public void setConfigFork(int configFork) {
+        this.configFork = configFork;
+    }
+
+    public String[] getConfigJvmArgs() {
+        return configJvmArgs;
+    }
+
+    public void setConfigJvmArgs(String[] configJvmArgs) {
+        this.configJvmArgs = configJvmArgs;
+    }
+
+    public int getConfigSaturationSearch() {
+        return configSaturationSearch;
+    }
+
+    public void setConfigSaturationSearch(int configSaturationSearch) {
+        this.configSaturationSearch = configSaturationSearch;
+    }
+
+    public long getConfigProbeDuration() {
+        return configProbeDuration;
+    }
+
+    public void setConfigProbeDuration(long configProbeDuration) {
+        this.configProbeDuration = configProbeDuration;
+    }
+
+    public float getConfigPrecision() {
+        return configPrecision;
+    }
+
+    public void setConfigPrecision(float configPrecision) {
+        this.configPrecision = configPrecision;
+    }
+
+    public long getConfigMinDuration() {
+        return configMinDuration;
+    }
+
+    public void setConfigMinDuration(long configMinDuration) {
+        this.configMinDuration = configMinDuration;
+    }
+
+    public boolean isConfigSequentialTest() {
+        return configSequentialTest;
+    }
+
+    public void setConfigSequentialTest(boolean configSequentialTest) {
+        this.configSequentialTest = configSequentialTest;
+    }
 }
@@ -38,6 +38,21 @@ public class EvaluationRequire extends BaseModel {
      * 百分比测试需求
      */
     private Map<Integer, Float> requirePercentilesMap;
+    /**
+     * 每次执行最多分配的字节数
+     * @since 2.0.8
+     */
+    private float requireMaxBytesPerOp;
+    /**
+     * 单次 GC 停顿的最大时间
+     * @since 2.0.8
+     */
+    private float requireMaxGcPause;
+    /**
+     * GC 停顿时间占比的上限
+     * @since 2.0.8
+     */
+    private float requireMaxGcPercentage;
 
     public float getRequireMin() {
         return requireMin;
@@ -78,4 +93,28 @@ public class EvaluationRequire extends BaseModel {
     public void setRequirePercentilesMap(Map<Integer, Float> requirePercentilesMap) {
         this.requirePercentilesMap = requirePercentilesMap;
     }
+
+    public float getRequireMaxBytesPerOp() {
+        return requireMaxBytesPerOp;
+    }
+
+    public void setRequireMaxBytesPerOp(float requireMaxBytesPerOp) {
+        this.requireMaxBytesPerOp = requireMaxBytesPerOp;
+    }
+
+    public float getRequireMaxGcPause() {
+        return requireMaxGcPause;
+    }
+
+    public void setRequireMaxGcPause(float requireMaxGcPause) {
+        this.requireMaxGcPause = requireMaxGcPause;
+    }
+
+    public float getRequireMaxGcPercentage() {
+        return requireMaxGcPercentage;
+    }
+
+    public void setRequireMaxGcPercentage(float requireMaxGcPercentage) {
+        this.requireMaxGcPercentage = requireMaxGcPercentage;
+    }
 }
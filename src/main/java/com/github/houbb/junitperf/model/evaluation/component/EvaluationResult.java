@@ -44,6 +44,24 @@ public class EvaluationResult extends BaseModel {
      */
     private boolean isPercentilesAchieved;
 
+    /**
+     * 每次执行分配的字节数是否符合
+     * @since 2.0.8
+     */
+    private boolean isBytesPerOpAchieved;
+
+    /**
+     * 单次 GC 停顿是否符合
+     * @since 2.0.8
+     */
+    private boolean isGcPauseAchieved;
+
+    /**
+     * GC 停顿时间占比是否符合
+     * @since 2.0.8
+     */
+    private boolean isGcPercentageAchieved;
+
     /**
      * 百分比测试结果
      */
@@ -119,4 +137,27 @@ public class EvaluationResult extends BaseModel {
         this.isPercentilesAchievedMap = isPercentilesAchievedMap;
     }
 
+    public boolean isBytesPerOpAchieved() {
+        return isBytesPerOpAchieved;
+    }
+
+    public void setBytesPerOpAchieved(boolean bytesPerOpAchieved) {
+        isBytesPerOpAchieved = bytesPerOpAchieved;
+    }
+
+    public boolean isGcPauseAchieved() {
+        return isGcPauseAchieved;
+    }
+
+    public void setGcPauseAchieved(boolean gcPauseAchieved) {
+        isGcPauseAchieved = gcPauseAchieved;
+    }
+
+    public boolean isGcPercentageAchieved() {
+        return isGcPercentageAchieved;
+    }
+
+    public void setGcPercentageAchieved(boolean gcPercentageAchieved) {
+        isGcPercentageAchieved = gcPercentageAchieved;
+    }
 }
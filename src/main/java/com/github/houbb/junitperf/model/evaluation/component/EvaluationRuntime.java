@@ -0,0 +1,720 @@
+package com.github.houbb.junitperf.model.evaluation.component;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import com.github.houbb.junitperf.model.BaseModel;
+
+import org.apiguardian.api.API;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 运行信息
+ * 执行过程中实际观测到的信息，用于报告展示。
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public class EvaluationRuntime extends BaseModel {
+
+    private static final long serialVersionUID = -6716359934104528710L;
+
+    /**
+     * 计划的到达数（固定到达速率模式）
+     */
+    private long scheduledArrivals;
+
+    /**
+     * 延迟开始的到达数（固定到达速率模式）
+     */
+    private long delayedArrivals;
+
+    /**
+     * 丢弃的到达数（固定到达速率模式）
+     */
+    private long droppedArrivals;
+
+    /**
+     * 最大的开始延迟，单位：纳秒（固定到达速率模式）
+     */
+    private long maxStartDelayNs;
+
+    /**
+     * 测试方法的调用方式
+     */
+    private String invokerType;
+
+    /**
+     * 每次调用的固定开销（计时与调用本身），单位：纳秒
+     * 对亚微秒级的方法，可以从延迟中减去该值
+     */
+    private long invocationOverheadNs;
+
+    /**
+     * 测量期间执行线程分配的总字节数，不支持时为 -1
+     */
+    private long allocatedBytes = -1L;
+
+    /**
+     * 每次执行分配的字节数
+     */
+    private double allocatedBytesPerOp;
+
+    /**
+     * 分配速率，单位：MB/s
+     */
+    private double allocationRateMb;
+
+    /**
+     * 准备阶段的 GC 次数
+     */
+    private long warmUpGcCount;
+
+    /**
+     * 准备阶段的 GC 时间，单位：毫秒
+     */
+    private long warmUpGcTimeMs;
+
+    /**
+     * 测量期间的 GC 停顿次数
+     */
+    private long gcCount;
+
+    /**
+     * 测量期间的 GC 停顿总时间，单位：毫秒
+     */
+    private long gcTimeMs;
+
+    /**
+     * 测量期间的单次最大 GC 停顿，单位：毫秒，未知时为 -1
+     */
+    private long maxGcPauseMs = -1L;
+
+    /**
+     * GC 停顿占测量时长的百分比
+     */
+    private double gcTimePercentage;
+
+    /**
+     * 准备开始时的堆使用量，单位：字节
+     */
+    private long heapUsedBeforeWarmUp;
+
+    /**
+     * 测量开始时的堆使用量，单位：字节
+     */
+    private long heapUsedBeforeMeasurement;
+
+    /**
+     * 测量结束时的堆使用量，单位：字节
+     */
+    private long heapUsedAfterMeasurement;
+
+    /**
+     * 测量期间的 GC 停顿事件
+     */
+    private List<GcEvent> gcEventList = new ArrayList<>();
+
+    /**
+     * 测量期间所有执行线程的 CPU 时间，单位：纳秒，未开启或不支持时为 -1
+     */
+    private long cpuTimeNs = -1L;
+
+    /**
+     * 每次执行的 CPU 时间，单位：纳秒
+     */
+    private double cpuTimeNsPerOp;
+
+    /**
+     * 执行线程的平均 CPU 利用率，单位：%
+     */
+    private double cpuUtilization;
+
+    /**
+     * 执行线程中最低的 CPU 利用率，单位：%
+     */
+    private double minCpuUtilization;
+
+    /**
+     * 执行线程中最高的 CPU 利用率，单位：%
+     */
+    private double maxCpuUtilization;
+
+    /**
+     * 每次执行的 CPU 时间 / 平均耗时
+     */
+    private double cpuWallRatio;
+
+    /**
+     * 实际的准备时间，单位：毫秒
+     */
+    private long warmUpMs;
+
+    /**
+     * 自适应准备是否在上限之前进入稳定状态
+     */
+    private boolean warmUpSteady;
+
+    /**
+     * 自适应准备观察的窗口数量
+     */
+    private int warmUpWindows;
+
+    /**
+     * 准备阶段的 JIT 编译时间，单位：毫秒，不支持时为 -1
+     */
+    private long warmUpCompilationTimeMs = -1L;
+
+    /**
+     * 测量期间的 JIT 编译时间，单位：毫秒，不支持时为 -1
+     */
+    private long compilationTimeMs = -1L;
+
+    /**
+     * 实际的测量时长，单位：纳秒
+     */
+    private long measuredNs;
+
+    /**
+     * 执行线程的类型
+     * @since 2.0.8
+     */
+    private String threadType = "Platform";
+
+    /**
+     * 要求使用虚拟线程但 JVM 不支持，回退到平台线程
+     * @since 2.0.8
+     */
+    private boolean virtualThreadsFallback;
+
+    /**
+     * 异步调用的返回类型，同步调用时为 null
+     * @since 2.0.8
+     */
+    private String asyncType;
+
+    /**
+     * 区间吞吐量样本（次/秒），只统计吞吐量时才有
+     * @since 2.0.8
+     */
+    private List<Double> throughputSampleList = Collections.emptyList();
+
+    /**
+     * 区间吞吐量的平均值（次/秒），没有时为 -1
+     * @since 2.0.8
+     */
+    private double throughputSampleMean = -1D;
+
+    /**
+     * 区间吞吐量的标准差（次/秒），没有时为 -1
+     * @since 2.0.8
+     */
+    private double throughputSampleStdDev = -1D;
+
+    /**
+     * 区间吞吐量 95% 置信区间的半宽（次/秒），没有时为 -1
+     * @since 2.0.8
+     */
+    private double throughputConfidenceHalfWidth = -1D;
+
+    /**
+     * 延迟样本数（计时的调用次数），未开启延迟抽样时为 -1
+     * @since 2.0.8
+     */
+    private long latencySampleCount = -1L;
+
+    /**
+     * 超时后仍未结束的执行线程数
+     * @since 2.0.8
+     */
+    private int unfinishedThreads;
+
+    /**
+     * 实际完成的 fork 次数，0 表示在当前 JVM 中执行
+     * @since 2.0.8
+     */
+    private int forks;
+
+    /**
+     * 每个 fork 的吞吐量（次/秒）
+     * @since 2.0.8
+     */
+    private List<Double> forkThroughputList = Collections.emptyList();
+
+    /**
+     * 饱和点搜索的探测结果，按探测顺序
+     * @since 2.0.8
+     */
+    private List<SaturationProbe> saturationProbeList = Collections.emptyList();
+
+    /**
+     * 饱和点：满足耗时要求的最大线程数或到达速率的探测结果，没有满足要求的探测时为 null
+     * @since 2.0.8
+     */
+    private SaturationProbe saturationPoint;
+
+    /**
+     * 自适应测量时长：是否在达到目标精度后提前结束
+     * @since 2.0.8
+     */
+    private boolean adaptiveStopped;
+
+    /**
+     * 自适应测量时长：计算精度使用的批数
+     * @since 2.0.8
+     */
+    private int precisionBatches;
+
+    /**
+     * 吞吐量的相对精度（置信区间半宽 / 均值），未计算时为 -1
+     * @since 2.0.8
+     */
+    private double throughputPrecision = -1D;
+
+    /**
+     * 平均耗时的相对精度（置信区间半宽 / 均值），未计算时为 -1
+     * @since 2.0.8
+     */
+    private double meanPrecision = -1D;
+
+    /**
+     * 99% 耗时的相对精度（置信区间半宽 / 均值），未计算时为 -1
+     * @since 2.0.8
+     */
+    private double p99Precision = -1D;
+
+    /**
+     * 序贯检验：是否在结论确定后提前结束
+     * @since 2.0.8
+     */
+    private boolean sequentialStopped;
+
+    /**
+     * 序贯检验：提前结束时的结论是否为通过
+     * @since 2.0.8
+     */
+    private boolean sequentialPassed;
+
+    /**
+     * 序贯检验：提前结束的原因
+     * @since 2.0.8
+     */
+    private String sequentialReason;
+
+    public long getScheduledArrivals() {
+        return scheduledArrivals;
+    }
+
+    public void setScheduledArrivals(long scheduledArrivals) {
+        this.scheduledArrivals = scheduledArrivals;
+    }
+
+    public long getDelayedArrivals() {
+        return delayedArrivals;
+    }
+
+    public void setDelayedArrivals(long delayedArrivals) {
+        this.delayedArrivals = delayedArrivals;
+    }
+
+    public long getDroppedArrivals() {
+        return droppedArrivals;
+    }
+
+    public void setDroppedArrivals(long droppedArrivals) {
+        this.droppedArrivals = droppedArrivals;
+    }
+
+    public long getMaxStartDelayNs() {
+        return maxStartDelayNs;
+    }
+
+    public void setMaxStartDelayNs(long maxStartDelayNs) {
+        this.maxStartDelayNs = maxStartDelayNs;
+    }
+
+    public String getInvokerType() {
+        return invokerType;
+    }
+
+    public void setInvokerType(String invokerType) {
+        this.invokerType = invokerType;
+    }
+
+    public long getInvocationOverheadNs() {
+        return invocationOverheadNs;
+    }
+
+    public void setInvocationOverheadNs(long invocationOverheadNs) {
+        this.invocationOverheadNs = invocationOverheadNs;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public void setAllocatedBytes(long allocatedBytes) {
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    public double getAllocatedBytesPerOp() {
+        return allocatedBytesPerOp;
+    }
+
+    public void setAllocatedBytesPerOp(double allocatedBytesPerOp) {
+        this.allocatedBytesPerOp = allocatedBytesPerOp;
+    }
+
+    public double getAllocationRateMb() {
+        return allocationRateMb;
+    }
+
+    public void setAllocationRateMb(double allocationRateMb) {
+        this.allocationRateMb = allocationRateMb;
+    }
+
+    public long getWarmUpGcCount() {
+        return warmUpGcCount;
+    }
+
+    public void setWarmUpGcCount(long warmUpGcCount) {
+        this.warmUpGcCount = warmUpGcCount;
+    }
+
+    public long getWarmUpGcTimeMs() {
+        return warmUpGcTimeMs;
+    }
+
+    public void setWarmUpGcTimeMs(long warmUpGcTimeMs) {
+        this.warmUpGcTimeMs = warmUpGcTimeMs;
+    }
+
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    public void setGcCount(long gcCount) {
+        this.gcCount = gcCount;
+    }
+
+    public long getGcTimeMs() {
+        return gcTimeMs;
+    }
+
+    public void setGcTimeMs(long gcTimeMs) {
+        this.gcTimeMs = gcTimeMs;
+    }
+
+    public long getMaxGcPauseMs() {
+        return maxGcPauseMs;
+    }
+
+    public void setMaxGcPauseMs(long maxGcPauseMs) {
+        this.maxGcPauseMs = maxGcPauseMs;
+    }
+
+    public double getGcTimePercentage() {
+        return gcTimePercentage;
+    }
+
+    public void setGcTimePercentage(double gcTimePercentage) {
+        this.gcTimePercentage = gcTimePercentage;
+    }
+
+    public long getHeapUsedBeforeWarmUp() {
+        return heapUsedBeforeWarmUp;
+    }
+
+    public void setHeapUsedBeforeWarmUp(long heapUsedBeforeWarmUp) {
+        this.heapUsedBeforeWarmUp = heapUsedBeforeWarmUp;
+    }
+
+    public long getHeapUsedBeforeMeasurement() {
+        return heapUsedBeforeMeasurement;
+    }
+
+    public void setHeapUsedBeforeMeasurement(long heapUsedBeforeMeasurement) {
+        this.heapUsedBeforeMeasurement = heapUsedBeforeMeasurement;
+    }
+
+    public long getHeapUsedAfterMeasurement() {
+        return heapUsedAfterMeasurement;
+    }
+
+    public void setHeapUsedAfterMeasurement(long heapUsedAfterMeasurement) {
+        this.heapUsedAfterMeasurement = heapUsedAfterMeasurement;
+    }
+
+    public List<GcEvent> getGcEventList() {
+        return gcEventList;
+    }
+
+    public void setGcEventList(List<GcEvent> gcEventList) {
+        this.gcEventList = gcEventList;
+    }
+
+    public long getCpuTimeNs() {
+        return cpuTimeNs;
+    }
+
+    public void setCpuTimeNs(long cpuTimeNs) {
+        this.cpuTimeNs = cpuTimeNs;
+    }
+
+    public double getCpuTimeNsPerOp() {
+        return cpuTimeNsPerOp;
+    }
+
+    public void setCpuTimeNsPerOp(double cpuTimeNsPerOp) {
+        this.cpuTimeNsPerOp = cpuTimeNsPerOp;
+    }
+
+    public double getCpuUtilization() {
+        return cpuUtilization;
+    }
+
+    public void setCpuUtilization(double cpuUtilization) {
+        this.cpuUtilization = cpuUtilization;
+    }
+
+    public double getMinCpuUtilization() {
+        return minCpuUtilization;
+    }
+
+    public void setMinCpuUtilization(double minCpuUtilization) {
+        this.minCpuUtilization = minCpuUtilization;
+    }
+
+    public double getMaxCpuUtilization() {
+        return maxCpuUtilization;
+    }
+
+    public void setMaxCpuUtilization(double maxCpuUtilization) {
+        this.maxCpuUtilization = maxCpuUtilization;
+    }
+
+    public double getCpuWallRatio() {
+        return cpuWallRatio;
+    }
+
+    public void setCpuWallRatio(double cpuWallRatio) {
+        this.cpuWallRatio = cpuWallRatio;
+    }
+
+    public long getWarmUpMs() {
+        return warmUpMs;
+    }
+
+    public void setWarmUpMs(long warmUpMs) {
+        this.warmUpMs = warmUpMs;
+    }
+
+    public boolean isWarmUpSteady() {
+        return warmUpSteady;
+    }
+
+    public void setWarmUpSteady(boolean warmUpSteady) {
+        this.warmUpSteady = warmUpSteady;
+    }
+
+    public int getWarmUpWindows() {
+        return warmUpWindows;
+    }
+
+    public void setWarmUpWindows(int warmUpWindows) {
+        this.warmUpWindows = warmUpWindows;
+    }
+
+    public long getWarmUpCompilationTimeMs() {
+        return warmUpCompilationTimeMs;
+    }
+
+    public void setWarmUpCompilationTimeMs(long warmUpCompilationTimeMs) {
+        this.warmUpCompilationTimeMs = warmUpCompilationTimeMs;
+    }
+
+    public long getCompilationTimeMs() {
+        return compilationTimeMs;
+    }
+
+    public void setCompilationTimeMs(long compilationTimeMs) {
+        this.compilationTimeMs = compilationTimeMs;
+    }
+
+    public long getMeasuredNs() {
+        return measuredNs;
+    }
+
+    public void setMeasuredNs(long measuredNs) {
+        this.measuredNs = measuredNs;
+    }
+
+    public String getThreadType() {
+        return threadType;
+    }
+
+    public void setThreadType(String threadType) {
+        this.threadType = threadType;
+    }
+
+    public boolean isVirtualThreadsFallback() {
+        return virtualThreadsFallback;
+    }
+
+    public void setVirtualThreadsFallback(boolean virtualThreadsFallback) {
+        this.virtualThreadsFallback = virtualThreadsFallback;
+    }
+
+    public String getAsyncType() {
+        return asyncType;
+    }
+
+    public void setAsyncType(String asyncType) {
+        this.asyncType = asyncType;
+    }
+
+    public List<Double> getThroughputSampleList() {
+        return throughputSampleList;
+    }
+
+    public void setThroughputSampleList(List<Double> throughputSampleList) {
+        this.throughputSampleList = throughputSampleList;
+    }
+
+    public double getThroughputSampleMean() {
+        return throughputSampleMean;
+    }
+
+    public void setThroughputSampleMean(double throughputSampleMean) {
+        this.throughputSampleMean = throughputSampleMean;
+    }
+
+    public double getThroughputSampleStdDev() {
+        return throughputSampleStdDev;
+    }
+
+    public void setThroughputSampleStdDev(double throughputSampleStdDev) {
+        this.throughputSampleStdDev = throughputSampleStdDev;
+    }
+
+    public double getThroughputConfidenceHalfWidth() {
+        return throughputConfidenceHalfWidth;
+    }
+
+    public void setThroughputConfidenceHalfWidth(double throughputConfidenceHalfWidth) {
+        this.throughputConfidenceHalfWidth = throughputConfidenceHalfWidth;
+    }
+
+    public long getLatencySampleCount() {
+        return latencySampleCount;
+    }
+
+    public void setLatencySampleCount(long latencySampleCount) {
+        this.latencySampleCount = latencySampleCount;
+    }
+
+    public int getUnfinishedThreads() {
+        return unfinishedThreads;
+    }
+
+    public void setUnfinishedThreads(int unfinishedThreads) {
+        this.unfinishedThreads = unfinishedThreads;
+    }
+
+    public int getForks() {
+        return forks;
+    }
+
+    public void setForks(int forks) {
+        this.forks = forks;
+    }
+
+    public List<Double> getForkThroughputList() {
+        return forkThroughputList;
+    }
+
+    public void setForkThroughputList(List<Double> forkThroughputList) {
+        this.forkThroughputList = forkThroughputList;
+    }
+
+    public List<SaturationProbe> getSaturationProbeList() {
+        return saturationProbeList;
+    }
+
+    public void setSaturationProbeList(List<SaturationProbe> saturationProbeList) {
+        this.saturationProbeList = saturationProbeList;
+    }
+
+    public SaturationProbe getSaturationPoint() {
+        return saturationPoint;
+    }
+
+    public void setSaturationPoint(SaturationProbe saturationPoint) {
+        this.saturationPoint = saturationPoint;
+    }
+
+    public boolean isAdaptiveStopped() {
+        return adaptiveStopped;
+    }
+
+    public void setAdaptiveStopped(boolean adaptiveStopped) {
+        this.adaptiveStopped = adaptiveStopped;
+    }
+
+    public int getPrecisionBatches() {
+        return precisionBatches;
+    }
+
+    public void setPrecisionBatches(int precisionBatches) {
+        this.precisionBatches = precisionBatches;
+    }
+
+    public double getThroughputPrecision() {
+        return throughputPrecision;
+    }
+
+    public void setThroughputPrecision(double throughputPrecision) {
+        this.throughputPrecision = throughputPrecision;
+    }
+
+    public double getMeanPrecision() {
+        return meanPrecision;
+    }
+
+    public void setMeanPrecision(double meanPrecision) {
+        this.meanPrecision = meanPrecision;
+    }
+
+    public double getP99Precision() {
+        return p99Precision;
+    }
+
+    public void setP99Precision(double p99Precision) {
+        this.p99Precision = p99Precision;
+    }
+
+    public boolean isSequentialStopped() {
+        return sequentialStopped;
+    }
+
+    public void setSequentialStopped(boolean sequentialStopped) {
+        this.sequentialStopped = sequentialStopped;
+    }
+
+    public boolean isSequentialPassed() {
+        return sequentialPassed;
+    }
+
+    public void setSequentialPassed(boolean sequentialPassed) {
+        this.sequentialPassed = sequentialPassed;
+    }
+
+    public String getSequentialReason() {
+        return sequentialReason;
+    }
+
+    public void setSequentialReason(String sequentialReason) {
+        this.sequentialReason = sequentialReason;
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.houbb.junitperf.model.evaluation.component;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import com.github.houbb.junitperf.model.BaseModel;
+
+import org.apiguardian.api.API;
+
+/**
+ * GC 停顿事件
+ * 测量期间通过 GC 通知记录的一次停顿。
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public class GcEvent extends BaseModel {
+
+    private static final long serialVersionUID = 5164296371520835574L;
+
+    /**
+     * 开始时间，相对于测量开始，单位：纳秒
+     */
+    private long offsetNs;
+
+    /**
+     * 持续时间，单位：毫秒
+     */
+    private long durationMs;
+
+    /**
+     * 垃圾收集器名称
+     */
+    private String name;
+
+    /**
+     * 动作，例如 end of minor GC
+     */
+    private String action;
+
+    /**
+     * 原因，例如 Allocation Failure
+     */
+    private String cause;
+
+    public long getOffsetNs() {
+        return offsetNs;
+    }
+
+    public void setOffsetNs(long offsetNs) {
+        this.offsetNs = offsetNs;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(long durationMs) {
+        this.durationMs = durationMs;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public void setAction(String action) {
+        this.action = action;
+    }
+
+    public String getCause() {
+        return cause;
+    }
+
+    public void setCause(String cause) {
+        this.cause = cause;
+    }
+}
@@ -0,0 +1,173 @@
+package com.github.houbb.junitperf.model.evaluation.component;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import com.github.houbb.junitperf.model.BaseModel;
+
+import org.apiguardian.api.API;
+
+/**
+ * 区间统计
+ * 运行过程中每隔固定时间生成一次的快照，用于展示吞吐量和延迟随时间的变化。
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public class IntervalStatistics extends BaseModel {
+
+    private static final long serialVersionUID = 2389517743402716185L;
+
+    /**
+     * 区间开始时间，相对于第一个区间的开始，单位：纳秒
+     */
+    private long startOffsetNs;
+
+    /**
+     * 区间长度，单位：纳秒
+     */
+    private long durationNs;
+
+    /**
+     * 执行次数
+     */
+    private long count;
+
+    /**
+     * 错误次数
+     */
+    private long errorCount;
+
+    /**
+     * 最小延迟，单位：纳秒
+     */
+    private long minLatencyNs;
+
+    /**
+     * 最大延迟，单位：纳秒
+     */
+    private long maxLatencyNs;
+
+    /**
+     * 平均延迟，单位：纳秒
+     */
+    private double meanLatencyNs;
+
+    /**
+     * 50% 延迟，单位：纳秒
+     */
+    private long p50LatencyNs;
+
+    /**
+     * 99% 延迟，单位：纳秒
+     */
+    private long p99LatencyNs;
+
+    /**
+     * 99.9% 延迟，单位：纳秒
+     */
+    private long p999LatencyNs;
+
+    /**
+     * 超过各个耗时阈值的执行次数，与 {@link com.github.houbb.junitperf.support.timeline.IntervalTimeline#setLatencyThresholdsNs(long...)} 的顺序一致
+     * @since 2.0.8
+     */
+    private long[] exceededCounts = new long[0];
+
+    /**
+     * 区间内的吞吐量
+     * @return 每秒执行次数
+     */
+    public float getThroughputQps() {
+        if (durationNs <= 0) {
+            return 0F;
+        }
+        return (float) count * 1_000_000_000L / durationNs;
+    }
+
+    public long getStartOffsetNs() {
+        return startOffsetNs;
+    }
+
+    public void setStartOffsetNs(long startOffsetNs) {
+        this.startOffsetNs = startOffsetNs;
+    }
+
+    public long getDurationNs() {
+        return durationNs;
+    }
+
+    public void setDurationNs(long durationNs) {
+        this.durationNs = durationNs;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    public void setErrorCount(long errorCount) {
+        this.errorCount = errorCount;
+    }
+
+    public long getMinLatencyNs() {
+        return minLatencyNs;
+    }
+
+    public void setMinLatencyNs(long minLatencyNs) {
+        this.minLatencyNs = minLatencyNs;
+    }
+
+    public long getMaxLatencyNs() {
+        return maxLatencyNs;
+    }
+
+    public void setMaxLatencyNs(long maxLatencyNs) {
+        this.maxLatencyNs = maxLatencyNs;
+    }
+
+    public double getMeanLatencyNs() {
+        return meanLatencyNs;
+    }
+
+    public void setMeanLatencyNs(double meanLatencyNs) {
+        this.meanLatencyNs = meanLatencyNs;
+    }
+
+    public long getP50LatencyNs() {
+        return p50LatencyNs;
+    }
+
+    public void setP50LatencyNs(long p50LatencyNs) {
+        this.p50LatencyNs = p50LatencyNs;
+    }
+
+    public long getP99LatencyNs() {
+        return p99LatencyNs;
+    }
+
+    public void setP99LatencyNs(long p99LatencyNs) {
+        this.p99LatencyNs = p99LatencyNs;
+    }
+
+    public long getP999LatencyNs() {
+        return p999LatencyNs;
+    }
+
+    public void setP999LatencyNs(long p999LatencyNs) {
+        this.p999LatencyNs = p999LatencyNs;
+    }
+
+    public long[] getExceededCounts() {
+        return exceededCounts;
+    }
+
+    public void setExceededCounts(long[] exceededCounts) {
+        this.exceededCounts = exceededCounts;
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.houbb.junitperf.model.evaluation.component;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import com.github.houbb.junitperf.model.BaseModel;
+
+import org.apiguardian.api.API;
+
+/**
+ * 负载阶段
+ * 1. 开始、结束线程数相同时，整个阶段保持固定的线程数
+ * 2. 不同时，线程数在阶段内线性变化，每个线程数保持相同的时间
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public class LoadStage extends BaseModel {
+
+    private static final long serialVersionUID = 7034215869403359814L;
+
+    /**
+     * 开始时的线程数
+     */
+    private int startThreads;
+
+    /**
+     * 结束时的线程数
+     */
+    private int endThreads;
+
+    /**
+     * 阶段时长，单位：毫秒
+     */
+    private long durationMs;
+
+    /**
+     * 阶段描述，例如：4 或者 1-16
+     * @return 描述
+     */
+    public String getName() {
+        if (startThreads == endThreads) {
+            return String.valueOf(startThreads);
+        }
+        return startThreads + "-" + endThreads;
+    }
+
+    public int getStartThreads() {
+        return startThreads;
+    }
+
+    public void setStartThreads(int startThreads) {
+        this.startThreads = startThreads;
+    }
+
+    public int getEndThreads() {
+        return endThreads;
+    }
+
+    public void setEndThreads(int endThreads) {
+        this.endThreads = endThreads;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(long durationMs) {
+        this.durationMs = durationMs;
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.houbb.junitperf.model.evaluation.component;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import com.github.houbb.junitperf.model.BaseModel;
+
+import org.apiguardian.api.API;
+
+/**
+ * 饱和点搜索的单次探测结果
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public class SaturationProbe extends BaseModel {
+
+    private static final long serialVersionUID = 5473392150917846613L;
+
+    /**
+     * 线程数或到达速率
+     */
+    private int level;
+
+    /**
+     * 吞吐量
+     */
+    private long throughputQps;
+
+    /**
+     * 耗时要求中最大的百分比
+     */
+    private int percentile;
+
+    /**
+     * 该百分比的耗时，单位：毫秒
+     */
+    private float latencyMs;
+
+    /**
+     * 是否满足所有的耗时要求
+     */
+    private boolean passed;
+
+    public int getLevel() {
+        return level;
+    }
+
+    public void setLevel(int level) {
+        this.level = level;
+    }
+
+    public long getThroughputQps() {
+        return throughputQps;
+    }
+
+    public void setThroughputQps(long throughputQps) {
+        this.throughputQps = throughputQps;
+    }
+
+    public int getPercentile() {
+        return percentile;
+    }
+
+    public void setPercentile(int percentile) {
+        this.percentile = percentile;
+    }
+
+    public float getLatencyMs() {
+        return latencyMs;
+    }
+
+    public void setLatencyMs(float latencyMs) {
+        this.latencyMs = latencyMs;
+    }
+
+    public boolean isPassed() {
+        return passed;
+    }
+
+    public void setPassed(boolean passed) {
+        this.passed = passed;
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.github.houbb.junitperf.model.evaluation.component;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import com.github.houbb.junitperf.core.statistics.StatisticsCalculator;
+import com.github.houbb.junitperf.model.BaseModel;
+
+import org.apiguardian.api.API;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 阶段统计
+ * 负载阶段执行期间单独记录的统计，用于比较不同并发下的吞吐量和延迟。
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public class StageStatistics extends BaseModel {
+
+    private static final long serialVersionUID = -4710983517367205168L;
+
+    /**
+     * 负载阶段
+     */
+    private LoadStage loadStage;
+
+    /**
+     * 阶段内的统计
+     */
+    private StatisticsCalculator statisticsCalculator;
+
+    /**
+     * 阶段实际执行的时长，单位：纳秒
+     */
+    private long elapsedNs;
+
+    /**
+     * 吞吐量
+     * @return 每秒执行次数，阶段没有执行时返回 0
+     */
+    public float getThroughputQps() {
+        if (elapsedNs <= 0) {
+            return 0F;
+        }
+        return (float) statisticsCalculator.getEvaluationCount() / elapsedNs * TimeUnit.SECONDS.toNanos(1);
+    }
+
+    public LoadStage getLoadStage() {
+        return loadStage;
+    }
+
+    public void setLoadStage(LoadStage loadStage) {
+        this.loadStage = loadStage;
+    }
+
+    public StatisticsCalculator getStatisticsCalculator() {
+        return statisticsCalculator;
+    }
+
+    public void setStatisticsCalculator(StatisticsCalculator statisticsCalculator) {
+        this.statisticsCalculator = statisticsCalculator;
+    }
+
+    public long getElapsedNs() {
+        return elapsedNs;
+    }
+
+    public void setElapsedNs(long elapsedNs) {
+        this.elapsedNs = elapsedNs;
+    }
+}
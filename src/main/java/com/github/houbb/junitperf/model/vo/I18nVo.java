@@ -40,6 +40,366 @@ public class I18nVo {
      */
     private String memory;
 
+    /**
+     * 期望调用间隔
+     * @since 2.0.8
+     */
+    private String expected_interval;
+
+    /**
+     * 百分位
+     * @since 2.0.8
+     */
+    private String percentile;
+
+    /**
+     * 修正前
+     * @since 2.0.8
+     */
+    private String uncorrected;
+
+    /**
+     * 修正后
+     * @since 2.0.8
+     */
+    private String corrected;
+
+    /**
+     * 目标到达速率
+     * @since 2.0.8
+     */
+    private String target_rate;
+
+    /**
+     * 计划到达数
+     * @since 2.0.8
+     */
+    private String arrivals;
+
+    /**
+     * 延迟开始数
+     * @since 2.0.8
+     */
+    private String delayed_arrivals;
+
+    /**
+     * 丢弃数
+     * @since 2.0.8
+     */
+    private String dropped_arrivals;
+
+    /**
+     * 最大开始延迟
+     * @since 2.0.8
+     */
+    private String max_start_delay;
+
+    /**
+     * 调用方式
+     * @since 2.0.8
+     */
+    private String invoker;
+
+    /**
+     * 每次调用开销
+     * @since 2.0.8
+     */
+    private String invocation_overhead;
+
+    /**
+     * 时间线
+     * @since 2.0.8
+     */
+    private String timeline;
+
+    /**
+     * 经过时间
+     * @since 2.0.8
+     */
+    private String elapsed_time;
+
+    /**
+     * 错误数
+     * @since 2.0.8
+     */
+    private String errors;
+
+    /**
+     * 延迟
+     * @since 2.0.8
+     */
+    private String latency;
+
+    /**
+     * 每次执行分配的字节数
+     * @since 2.0.8
+     */
+    private String bytes_per_op;
+
+    /**
+     * 分配速率
+     * @since 2.0.8
+     */
+    private String allocation_rate;
+
+    /**
+     * GC
+     * @since 2.0.8
+     */
+    private String gc;
+
+    /**
+     * GC 停顿
+     * @since 2.0.8
+     */
+    private String gc_pause;
+
+    /**
+     * 最大 GC 停顿
+     * @since 2.0.8
+     */
+    private String max_gc_pause;
+
+    /**
+     * GC 时间占比
+     * @since 2.0.8
+     */
+    private String gc_percentage;
+
+    /**
+     * 堆使用量
+     * @since 2.0.8
+     */
+    private String heap_used;
+
+    /**
+     * CPU 时间
+     * @since 2.0.8
+     */
+    private String cpu_time;
+
+    /**
+     * CPU 时间 / 耗时
+     * @since 2.0.8
+     */
+    private String cpu_wall_ratio;
+
+    /**
+     * 线程 CPU 利用率
+     * @since 2.0.8
+     */
+    private String cpu_utilization;
+
+    /**
+     * 自适应
+     * @since 2.0.8
+     */
+    private String adaptive;
+
+    /**
+     * 已稳定
+     * @since 2.0.8
+     */
+    private String steady;
+
+    /**
+     * 达到上限
+     * @since 2.0.8
+     */
+    private String not_steady;
+
+    /**
+     * JIT 编译
+     * @since 2.0.8
+     */
+    private String jit_compilation;
+
+    /**
+     * 阶段
+     * @since 2.0.8
+     */
+    private String stage;
+
+    /**
+     * 负载阶段
+     * @since 2.0.8
+     */
+    private String stages;
+
+    /**
+     * 线程类型
+     * @since 2.0.8
+     */
+    private String thread_type;
+
+    /**
+     * 不支持虚拟线程
+     * @since 2.0.8
+     */
+    private String virtual_threads_unsupported;
+
+    /**
+     * 异步调用
+     * @since 2.0.8
+     */
+    private String async_call;
+
+    /**
+     * 在途窗口
+     * @since 2.0.8
+     */
+    private String in_flight_window;
+
+    /**
+     * 批量调用
+     * @since 2.0.8
+     */
+    private String batch_size;
+
+    /**
+     * 批量调用的耗时说明
+     * @since 2.0.8
+     */
+    private String batch_latency_note;
+
+    /**
+     * 吞吐量采样
+     * @since 2.0.8
+     */
+    private String throughput_samples;
+
+    /**
+     * 置信区间
+     * @since 2.0.8
+     */
+    private String confidence_interval;
+
+    /**
+     * 延迟未统计
+     * @since 2.0.8
+     */
+    private String latency_not_measured;
+
+    /**
+     * 延迟样本
+     * @since 2.0.8
+     */
+    private String latency_samples;
+
+    /**
+     * 每 N 次调用计时一次
+     * @since 2.0.8
+     */
+    private String sample_every;
+
+    /**
+     * 计时概率
+     * @since 2.0.8
+     */
+    private String sample_probability;
+
+    /**
+     * 99% 之外的样本数
+     * @since 2.0.8
+     */
+    private String tail_samples;
+
+    /**
+     * 固定调用次数
+     * @since 2.0.8
+     */
+    private String fixed_invocations;
+
+    /**
+     * 时间上限
+     * @since 2.0.8
+     */
+    private String time_limit;
+
+    /**
+     * 冷却时间
+     * @since 2.0.8
+     */
+    private String cooldown;
+
+    /**
+     * 超时后仍未结束的执行线程数
+     * @since 2.0.8
+     */
+    private String unfinished_threads;
+
+    /**
+     * fork 次数
+     * @since 2.0.8
+     */
+    private String forks;
+
+    /**
+     * 参数扫描
+     * @since 2.0.8
+     */
+    private String param_sweep;
+
+    /**
+     * 扩展效率
+     * @since 2.0.8
+     */
+    private String scaling_efficiency;
+
+    /**
+     * 饱和点搜索
+     * @since 2.0.8
+     */
+    private String saturation_search;
+
+    /**
+     * 饱和点
+     * @since 2.0.8
+     */
+    private String saturation_point;
+
+    /**
+     * 测量精度
+     * @since 2.0.8
+     */
+    private String precision;
+
+    /**
+     * 批数
+     * @since 2.0.8
+     */
+    private String batches;
+
+    /**
+     * 达到精度提前结束
+     * @since 2.0.8
+     */
+    private String stopped_early;
+
+    /**
+     * 达到最长测量时间
+     * @since 2.0.8
+     */
+    private String max_duration_reached;
+
+    /**
+     * 序贯检验
+     * @since 2.0.8
+     */
+    private String sequential_test;
+
+    /**
+     * 未确定结论
+     * @since 2.0.8
+     */
+    private String not_settled;
+
+    /**
+     * 结论确定提前结束
+     * @since 2.0.8
+     */
+    private String settled_early;
+
     public String getJunit_performance_report() {
         return junit_performance_report;
     }
@@ -175,4 +535,484 @@ public class I18nVo {
     public void setMemory(String memory) {
         this.memory = memory;
     }
+
+    public String getExpected_interval() {
+        return expected_interval;
+    }
+
+    public void setExpected_interval(String expected_interval) {
+        this.expected_interval = expected_interval;
+    }
+
+    public String getPercentile() {
+        return percentile;
+    }
+
+    public void setPercentile(String percentile) {
+        this.percentile = percentile;
+    }
+
+    public String getUncorrected() {
+        return uncorrected;
+    }
+
+    public void setUncorrected(String uncorrected) {
+        this.uncorrected = uncorrected;
+    }
+
+    public String getCorrected() {
+        return corrected;
+    }
+
+    public void setCorrected(String corrected) {
+        this.corrected = corrected;
+    }
+
+    public String getTarget_rate() {
+        return target_rate;
+    }
+
+    public void setTarget_rate(String target_rate) {
+        this.target_rate = target_rate;
+    }
+
+    public String getArrivals() {
+        return arrivals;
+    }
+
+    public void setArrivals(String arrivals) {
+        this.arrivals = arrivals;
+    }
+
+    public String getDelayed_arrivals() {
+        return delayed_arrivals;
+    }
+
+    public void setDelayed_arrivals(String delayed_arrivals) {
+        this.delayed_arrivals = delayed_arrivals;
+    }
+
+    public String getDropped_arrivals() {
+        return dropped_arrivals;
+    }
+
+    public void setDropped_arrivals(String dropped_arrivals) {
+        this.dropped_arrivals = dropped_arrivals;
+    }
+
+    public String getMax_start_delay() {
+        return max_start_delay;
+    }
+
+    public void setMax_start_delay(String max_start_delay) {
+        this.max_start_delay = max_start_delay;
+    }
+
+    public String getInvoker() {
+        return invoker;
+    }
+
+    public void setInvoker(String invoker) {
+        this.invoker = invoker;
+    }
+
+    public String getInvocation_overhead() {
+        return invocation_overhead;
+    }
+
+    public void setInvocation_overhead(String invocation_overhead) {
+        this.invocation_overhead = invocation_overhead;
+    }
+
+    public String getTimeline() {
+        return timeline;
+    }
+
+    public void setTimeline(String timeline) {
+        this.timeline = timeline;
+    }
+
+    public String getElapsed_time() {
+        return elapsed_time;
+    }
+
+    public void setElapsed_time(String elapsed_time) {
+        this.elapsed_time = elapsed_time;
+    }
+
+    public String getErrors() {
+        return errors;
+    }
+
+    public void setErrors(String errors) {
+        this.errors = errors;
+    }
+
+    public String getLatency() {
+        return latency;
+    }
+
+    public void setLatency(String latency) {
+        this.latency = latency;
+    }
+
+    public String getBytes_per_op() {
+        return bytes_per_op;
+    }
+
+    public void setBytes_per_op(String bytes_per_op) {
+        this.bytes_per_op = bytes_per_op;
+    }
+
+    public String getAllocation_rate() {
+        return allocation_rate;
+    }
+
+    public void setAllocation_rate(String allocation_rate) {
+        this.allocation_rate = allocation_rate;
+    }
+
+    public String getGc() {
+        return gc;
+    }
+
+    public void setGc(String gc) {
+        this.gc = gc;
+    }
+
+    public String getGc_pause() {
+        return gc_pause;
+    }
+
+    public void setGc_pause(String gc_pause) {
+        this.gc_pause = gc_pause;
+    }
+
+    public String getMax_gc_pause() {
+        return max_gc_pause;
+    }
+
+    public void setMax_gc_pause(String max_gc_pause) {
+        this.max_gc_pause = max_gc_pause;
+    }
+
+    public String getGc_percentage() {
+        return gc_percentage;
+    }
+
+    public void setGc_percentage(String gc_percentage) {
+        this.gc_percentage = gc_percentage;
+    }
+
+    public String getHeap_used() {
+        return heap_used;
+    }
+
+    public void setHeap_used(String heap_used) {
+        this.heap_used = heap_used;
+    }
+
+    public String getCpu_time() {
+        return cpu_time;
+    }
+
+    public void setCpu_time(String cpu_time) {
+        this.cpu_time = cpu_time;
+    }
+
+    public String getCpu_wall_ratio() {
+        return cpu_wall_ratio;
+    }
+
+    public void setCpu_wall_ratio(String cpu_wall_ratio) {
+        this.cpu_wall_ratio = cpu_wall_ratio;
+    }
+
+    public String getCpu_utilization() {
+        return cpu_utilization;
+    }
+
+    public void setCpu_utilization(String cpu_utilization) {
+        this.cpu_utilization = cpu_utilization;
+    }
+
+    public String getAdaptive() {
+        return adaptive;
+    }
+
+    public void setAdaptive(String adaptive) {
+        this.adaptive = adaptive;
+    }
+
+    public String getSteady() {
+        return steady;
+    }
+
+    public void setSteady(String steady) {
+        this.steady = steady;
+    }
+
+    public String getNot_steady() {
+        return not_steady;
+    }
+
+    public void setNot_steady(String not_steady) {
+        this.not_steady = not_steady;
+    }
+
+    public String getJit_compilation() {
+        return jit_compilation;
+    }
+
+    public void setJit_compilation(String jit_compilation) {
+        this.jit_compilation = jit_compilation;
+    }
+
+    public String getStage() {
+        return stage;
+    }
+
+    public void setStage(String stage) {
+        this.stage = stage;
+    }
+
+    public String getStages() {
+        return stages;
+    }
+
+    public void setStages(String stages) {
+        this.stages = stages;
+    }
+
+    public String getThread_type() {
+        return thread_type;
+    }
+
+    public void setThread_type(String thread_type) {
+        this.thread_type = thread_type;
+    }
+
+    public String getVirtual_threads_unsupported() {
+        return virtual_threads_unsupported;
+    }
+
+    public void setVirtual_threads_unsupported(String virtual_threads_unsupported) {
+        this.virtual_threads_unsupported = virtual_threads_unsupported;
+    }
+
+    public String getAsync_call() {
+        return async_call;
+    }
+
+    public void setAsync_call(String async_call) {
+        this.async_call = async_call;
+    }
+
+    public String getIn_flight_window() {
+        return in_flight_window;
+    }
+
+    public void setIn_flight_window(String in_flight_window) {
+        this.in_flight_window = in_flight_window;
+    }
+
+    public String getBatch_size() {
+        return batch_size;
+    }
+
+    public void setBatch_size(String batch_size) {
+        this.batch_size = batch_size;
+    }
+
+    public String getBatch_latency_note() {
+        return batch_latency_note;
+    }
+
+    public void setBatch_latency_note(String batch_latency_note) {
+        this.batch_latency_note = batch_latency_note;
+    }
+
+    public String getThroughput_samples() {
+        return throughput_samples;
+    }
+
+    public void setThroughput_samples(String throughput_samples) {
+        this.throughput_samples = throughput_samples;
+    }
+
+    public String getConfidence_interval() {
+        return confidence_interval;
+    }
+
+    public void setConfidence_interval(String confidence_interval) {
+        this.confidence_interval = confidence_interval;
+    }
+
+    public String getLatency_not_measured() {
+        return latency_not_measured;
+    }
+
+    public void setLatency_not_measured(String latency_not_measured) {
+        this.latency_not_measured = latency_not_measured;
+    }
+
+    public String getLatency_samples() {
+        return latency_samples;
+    }
+
+    public void setLatency_samples(String latency_samples) {
+        this.latency_samples = latency_samples;
+    }
+
+    public String getSample_every() {
+        return sample_every;
+    }
+
+    public void setSample_every(String sample_every) {
+        this.sample_every = sample_every;
+    }
+
+    public String getSample_probability() {
+        return sample_probability;
+    }
+
+    public void setSample_probability(String sample_probability) {
+        this.sample_probability = sample_probability;
+    }
+
+    public String getTail_samples() {
+        return tail_samples;
+    }
+
+    public void setTail_samples(String tail_samples) {
+        this.tail_samples = tail_samples;
+    }
+
+    public String getFixed_invocations() {
+        return fixed_invocations;
+    }
+
+    public void setFixed_invocations(String fixed_invocations) {
+        this.fixed_invocations = fixed_invocations;
+    }
+
+    public String getTime_limit() {
+        return time_limit;
+    }
+
+    public void setTime_limit(String time_limit) {
+        this.time_limit = time_limit;
+    }
+
+    public String getCooldown() {
+        return cooldown;
+    }
+
+    public void setCooldown(String cooldown) {
+        this.cooldown = cooldown;
+    }
+
+    public String getUnfinished_threads() {
+        return unfinished_threads;
+    }
+
+    public void setUnfinished_threads(String unfinished_threads) {
+        this.unfinished_threads = unfinished_threads;
+    }
+
+    public String getForks() {
+        return forks;
+    }
+
+    public void setForks(String forks) {
+        this.forks = forks;
+    }
+
+    public String getParam_sweep() {
+        return param_sweep;
+    }
+
+    public void setParam_sweep(String param_sweep) {
+        this.param_sweep = param_sweep;
+    }
+
+    public String getScaling_efficiency() {
+        return scaling_efficiency;
+    }
+
+    public void setScaling_efficiency(String scaling_efficiency) {
+        this.scaling_efficiency = scaling_efficiency;
+    }
+
+    public String getSaturation_search() {
+        return saturation_search;
+    }
+
+    public void setSaturation_search(String saturation_search) {
+        this.saturation_search = saturation_search;
+    }
+
+    public String getSaturation_point() {
+        return saturation_point;
+    }
+
+    public void setSaturation_point(String saturation_point) {
+        this.saturation_point = saturation_point;
+    }
+
+    public String getPrecision() {
+        return precision;
+    }
+
+    public void setPrecision(String precision) {
+        this.precision = precision;
+    }
+
+    public String getBatches() {
+        return batches;
+    }
+
+    public void setBatches(String batches) {
+        this.batches = batches;
+    }
+
+    public String getStopped_early() {
+        return stopped_early;
+    }
+
+    public void setStopped_early(String stopped_early) {
+        this.stopped_early = stopped_early;
+    }
+
+    public String getMax_duration_reached() {
+        return max_duration_reached;
+    }
+
+    public void setMax_duration_reached(String max_duration_reached) {
+        this.max_duration_reached = max_duration_reached;
+    }
+
+    public String getSequential_test() {
+        return sequential_test;
+    }
+
+    public void setSequential_test(String sequential_test) {
+        this.sequential_test = sequential_test;
+    }
+
+    public String getNot_settled() {
+        return not_settled;
+    }
+
+    public void setNot_settled(String not_settled) {
+        this.not_settled = not_settled;
+    }
+
+    public String getSettled_early() {
+        return settled_early;
+    }
+
+    public void setSettled_early(String settled_early) {
+        this.settled_early = settled_early;
+    }
 }
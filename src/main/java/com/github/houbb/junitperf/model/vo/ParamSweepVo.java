@@ -0,0 +1,133 @@
+package com.github.houbb.junitperf.model.vo;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+
+import org.apiguardian.api.API;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p> 参数扫描对象 </p>
+ *
+ * 同一个测试方法的吞吐量、99% 耗时随某一个参数的变化。
+ * 其余参数的每一种取值为一条曲线。
+ *
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public class ParamSweepVo {
+
+    /**
+     * 方法名称
+     */
+    private String methodName;
+
+    /**
+     * 参数名称
+     */
+    private String paramName;
+
+    /**
+     * 参数值，按声明顺序
+     */
+    private List<String> paramValueList = new ArrayList<>();
+
+    /**
+     * 曲线
+     */
+    private List<Series> seriesList = new ArrayList<>();
+
+    public String getMethodName() {
+        return methodName;
+    }
+
+    public void setMethodName(String methodName) {
+        this.methodName = methodName;
+    }
+
+    public String getParamName() {
+        return paramName;
+    }
+
+    public void setParamName(String paramName) {
+        this.paramName = paramName;
+    }
+
+    public List<String> getParamValueList() {
+        return paramValueList;
+    }
+
+    public void setParamValueList(List<String> paramValueList) {
+        this.paramValueList = paramValueList;
+    }
+
+    public List<Series> getSeriesList() {
+        return seriesList;
+    }
+
+    public void setSeriesList(List<Series> seriesList) {
+        this.seriesList = seriesList;
+    }
+
+    /**
+     * 曲线
+     * 各个列表与参数值一一对应，没有结果时为 {@code null}
+     */
+    public static class Series {
+
+        /**
+         * 其余参数的取值，没有其余参数时为空字符串
+         */
+        private String label;
+
+        /**
+         * 吞吐量（次/秒）
+         */
+        private List<Double> throughputList = new ArrayList<>();
+
+        /**
+         * 99% 耗时（毫秒）
+         */
+        private List<Double> p99List = new ArrayList<>();
+
+        /**
+         * 扩展效率：单线程吞吐量相对第一个线程数的比例，仅扫描线程数时有值
+         */
+        private List<Double> efficiencyList = new ArrayList<>();
+
+        public String getLabel() {
+            return label;
+        }
+
+        public void setLabel(String label) {
+            this.label = label;
+        }
+
+        public List<Double> getThroughputList() {
+            return throughputList;
+        }
+
+        public void setThroughputList(List<Double> throughputList) {
+            this.throughputList = throughputList;
+        }
+
+        public List<Double> getP99List() {
+            return p99List;
+        }
+
+        public void setP99List(List<Double> p99List) {
+            this.p99List = p99List;
+        }
+
+        public List<Double> getEfficiencyList() {
+            return efficiencyList;
+        }
+
+        public void setEfficiencyList(List<Double> efficiencyList) {
+            this.efficiencyList = efficiencyList;
+        }
+    }
+
+}
@@ -4,8 +4,14 @@ package com.github.houbb.junitperf.support.builder;
 import com.github.houbb.heaven.support.builder.IBuilder;
 import com.github.houbb.junitperf.core.annotation.JunitPerfConfig;
 import com.github.houbb.junitperf.model.evaluation.component.EvaluationConfig;
+import com.github.houbb.junitperf.model.evaluation.component.LoadStage;
+import com.google.common.primitives.Ints;
+import com.google.common.primitives.Longs;
 import org.apiguardian.api.API;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 
@@ -20,18 +26,70 @@ public class EvaluationConfigBuilder implements IBuilder<EvaluationConfig> {
 
     private final JunitPerfConfig junitPerfConfig;
 
+    /**
+     * 参数扫描指定的线程数，0 表示使用注解中的线程数
+     * @since 2.0.8
+     */
+    private int threads;
+
     public EvaluationConfigBuilder(JunitPerfConfig junitPerfConfig) {
         this.junitPerfConfig = junitPerfConfig;
     }
 
+    /**
+     * 指定线程数，覆盖注解中的线程数
+     * @param threads 线程数
+     * @return this
+     * @since 2.0.8
+     */
+    public EvaluationConfigBuilder threads(final int threads) {
+        this.threads = threads;
+        return this;
+    }
+
     @Override
     public EvaluationConfig build() {
         validateJunitPerfConfig(junitPerfConfig);
 
         EvaluationConfig evaluationConfig = new EvaluationConfig();
-        evaluationConfig.setConfigThreads(junitPerfConfig.threads());
+        evaluationConfig.setConfigThreads(resolveThreads());
         evaluationConfig.setConfigWarmUp(junitPerfConfig.warmUp());
         evaluationConfig.setConfigDuration(junitPerfConfig.duration());
+        evaluationConfig.setConfigTargetRate(junitPerfConfig.targetRate());
+        evaluationConfig.setConfigCoordinatedOmissionCorrection(junitPerfConfig.coordinatedOmissionCorrection());
+        evaluationConfig.setConfigExpectedInterval(junitPerfConfig.expectedInterval());
+        evaluationConfig.setConfigTimelineInterval(junitPerfConfig.timelineInterval());
+        evaluationConfig.setConfigStageList(parseStageList(junitPerfConfig.stages()));
+        if (!evaluationConfig.getConfigStageList().isEmpty()) {
+            // 阶段模式下执行时间由各个阶段决定
+            long stageDuration = 0;
+            for (LoadStage loadStage : evaluationConfig.getConfigStageList()) {
+                stageDuration += loadStage.getDurationMs();
+            }
+            evaluationConfig.setConfigDuration(stageDuration);
+        }
+        evaluationConfig.setConfigCpuTime(junitPerfConfig.cpuTime());
+        evaluationConfig.setConfigAdaptiveWarmUp(junitPerfConfig.adaptiveWarmUp());
+        evaluationConfig.setConfigWarmUpWindow(junitPerfConfig.warmUpWindow());
+        evaluationConfig.setConfigWarmUpTolerance(junitPerfConfig.warmUpTolerance());
+        evaluationConfig.setConfigVirtualThreads(junitPerfConfig.virtualThreads());
+        evaluationConfig.setConfigAsyncWindow(junitPerfConfig.asyncWindow());
+        evaluationConfig.setConfigAsyncMethod(junitPerfConfig.asyncMethod());
+        evaluationConfig.setConfigTargetMethod(junitPerfConfig.targetMethod());
+        evaluationConfig.setConfigBatchSize(junitPerfConfig.batchSize());
+        evaluationConfig.setConfigThroughputOnly(junitPerfConfig.throughputOnly());
+        evaluationConfig.setConfigLatencySampleEvery(junitPerfConfig.latencySampleEvery());
+        evaluationConfig.setConfigLatencySampleProbability(junitPerfConfig.latencySampleProbability());
+        evaluationConfig.setConfigInvocations(junitPerfConfig.invocations());
+        evaluationConfig.setConfigCooldown(junitPerfConfig.cooldown());
+        evaluationConfig.setConfigShutdownTimeout(junitPerfConfig.shutdownTimeout());
+        evaluationConfig.setConfigFork(junitPerfConfig.fork());
+        evaluationConfig.setConfigJvmArgs(junitPerfConfig.jvmArgs());
+        evaluationConfig.setConfigSaturationSearch(junitPerfConfig.saturationSearch());
+        evaluationConfig.setConfigProbeDuration(junitPerfConfig.probeDuration());
+        evaluationConfig.setConfigPrecision(junitPerfConfig.precision());
+        evaluationConfig.setConfigSequentialTest(junitPerfConfig.sequentialTest());
+        evaluationConfig.setConfigMinDuration(junitPerfConfig.minDuration());
         return evaluationConfig;
     }
 
@@ -43,12 +101,118 @@ public class EvaluationConfigBuilder implements IBuilder<EvaluationConfig> {
     private void validateJunitPerfConfig(JunitPerfConfig junitPerfConfig) {
         checkNotNull(junitPerfConfig, "JunitPerfConfig must not be null!");
 
-        int threads = junitPerfConfig.threads();
+        int threads = resolveThreads();
+        checkState(this.threads == 0 || junitPerfConfig.stages().length == 0, "params threads is not supported with stages.");
         long warmUp = junitPerfConfig.warmUp();
         long duration = junitPerfConfig.duration();
         checkState(duration > 0, "duration must be > 0ms.");
         checkState(warmUp >= 0, "warmUp must be >= 0ms.");
-        checkState(warmUp < duration, "warmUp must be < duration.");
         checkState(threads > 0, "threads must be > 0.");
+        checkState(junitPerfConfig.targetRate() >= 0, "targetRate must be >= 0.");
+        checkState(junitPerfConfig.expectedInterval() >= 0, "expectedInterval must be >= 0ms.");
+        checkState(junitPerfConfig.timelineInterval() >= 0, "timelineInterval must be >= 0ms.");
+        checkState(!junitPerfConfig.adaptiveWarmUp() || warmUp > 0, "warmUp must be > 0ms when adaptiveWarmUp is enabled.");
+        checkState(junitPerfConfig.warmUpWindow() > 0, "warmUpWindow must be > 0ms.");
+        checkState(junitPerfConfig.warmUpTolerance() > 0, "warmUpTolerance must be > 0.");
+        checkState(junitPerfConfig.asyncWindow() > 0, "asyncWindow must be > 0.");
+        checkState(junitPerfConfig.targetMethod().isEmpty() || junitPerfConfig.asyncMethod().isEmpty(),
+                "targetMethod is not supported with asyncMethod.");
+        checkState(junitPerfConfig.batchSize() > 0, "batchSize must be > 0.");
+        checkState(junitPerfConfig.batchSize() == 1
+                || (junitPerfConfig.targetRate() == 0 && junitPerfConfig.asyncMethod().isEmpty()),
+                "batchSize is not supported with targetRate or asyncMethod.");
+        checkState(!junitPerfConfig.throughputOnly() || junitPerfConfig.timelineInterval() > 0, "timelineInterval must be > 0ms when throughputOnly is enabled.");
+        checkState(!junitPerfConfig.throughputOnly()
+                || (junitPerfConfig.targetRate() == 0 && junitPerfConfig.asyncMethod().isEmpty()
+                && junitPerfConfig.batchSize() == 1 && junitPerfConfig.stages().length == 0
+                && !junitPerfConfig.coordinatedOmissionCorrection()),
+                "throughputOnly is not supported with targetRate, asyncMethod, batchSize, stages or coordinatedOmissionCorrection.");
+        checkState(junitPerfConfig.latencySampleEvery() > 0, "latencySampleEvery must be > 0.");
+        checkState(junitPerfConfig.latencySampleProbability() > 0 && junitPerfConfig.latencySampleProbability() <= 1, "latencySampleProbability must be in (0, 1].");
+        checkState(junitPerfConfig.latencySampleEvery() == 1 || junitPerfConfig.latencySampleProbability() == 1,
+                "latencySampleEvery and latencySampleProbability can not be used together.");
+        checkState((junitPerfConfig.latencySampleEvery() == 1 && junitPerfConfig.latencySampleProbability() == 1)
+                || (junitPerfConfig.targetRate() == 0 && junitPerfConfig.asyncMethod().isEmpty()
+                && junitPerfConfig.batchSize() == 1 && !junitPerfConfig.throughputOnly()
+                && !junitPerfConfig.coordinatedOmissionCorrection()),
+                "latency sampling is not supported with targetRate, asyncMethod, batchSize, throughputOnly or coordinatedOmissionCorrection.");
+        checkState(junitPerfConfig.invocations() >= 0, "invocations must be >= 0.");
+        checkState(junitPerfConfig.invocations() == 0 || junitPerfConfig.invocations() >= threads, "invocations must be >= threads.");
+        checkState(junitPerfConfig.invocations() == 0
+                || (junitPerfConfig.targetRate() == 0 && junitPerfConfig.asyncMethod().isEmpty()
+                && junitPerfConfig.batchSize() == 1 && !junitPerfConfig.throughputOnly()
+                && junitPerfConfig.stages().length == 0),
+                "invocations is not supported with targetRate, asyncMethod, batchSize, throughputOnly or stages.");
+        checkState(junitPerfConfig.cooldown() >= 0, "cooldown must be >= 0ms.");
+        checkState(junitPerfConfig.cooldown() == 0 || junitPerfConfig.invocations() == 0, "cooldown is not supported with invocations.");
+        checkState(junitPerfConfig.shutdownTimeout() > 0, "shutdownTimeout must be > 0ms.");
+        checkState(junitPerfConfig.fork() >= 0, "fork must be >= 0.");
+        checkState(junitPerfConfig.saturationSearch() >= 0, "saturationSearch must be >= 0.");
+        if (junitPerfConfig.saturationSearch() > 0) {
+            int lowerBound = junitPerfConfig.targetRate() > 0 ? junitPerfConfig.targetRate() : threads;
+            checkState(junitPerfConfig.saturationSearch() > lowerBound, "saturationSearch must be > threads, or > targetRate when targetRate is set.");
+            checkState(junitPerfConfig.probeDuration() > 0, "probeDuration must be > 0ms.");
+            checkState(junitPerfConfig.stages().length == 0
+                    && junitPerfConfig.invocations() == 0
+                    && !junitPerfConfig.throughputOnly()
+                    && junitPerfConfig.fork() == 0, "saturationSearch is not supported with stages, invocations, throughputOnly or fork.");
+        }
+        checkState(junitPerfConfig.precision() >= 0 && junitPerfConfig.precision() < 1, "precision must be in [0, 1).");
+        if (junitPerfConfig.precision() > 0 || junitPerfConfig.sequentialTest()) {
+            checkState(junitPerfConfig.timelineInterval() > 0, "timelineInterval must be > 0ms when precision or sequentialTest is set.");
+            checkState(junitPerfConfig.minDuration() > 0 && junitPerfConfig.minDuration() <= duration, "minDuration must be in (0, duration].");
+        }
+        if (junitPerfConfig.precision() > 0) {
+            checkState(junitPerfConfig.stages().length == 0
+                    && junitPerfConfig.invocations() == 0
+                    && !junitPerfConfig.throughputOnly()
+                    && junitPerfConfig.saturationSearch() == 0, "precision is not supported with stages, invocations, throughputOnly or saturationSearch.");
+        }
+        checkState(!junitPerfConfig.sequentialTest()
+                || (junitPerfConfig.stages().length == 0
+                && junitPerfConfig.invocations() == 0
+                && !junitPerfConfig.throughputOnly()
+                && junitPerfConfig.saturationSearch() == 0
+                && junitPerfConfig.fork() == 0),
+                "sequentialTest is not supported with stages, invocations, throughputOnly, saturationSearch or fork.");
+    }
+
+    /**
+     * 实际使用的线程数
+     * @return 线程数
+     * @since 2.0.8
+     */
+    private int resolveThreads() {
+        return threads > 0 ? threads : junitPerfConfig.threads();
+    }
+
+    /**
+     * 转换负载阶段
+     * @param stages 阶段信息数组，例如 4:30000 或者 1-16:10000
+     * @return 阶段列表
+     * @since 2.0.8
+     */
+    private List<LoadStage> parseStageList(String[] stages) {
+        List<LoadStage> stageList = new ArrayList<>();
+        int maxThreads = 0;
+        for (String stage : stages) {
+            LoadStage loadStage;
+            try {
+                String[] strings = stage.split(":");
+                String[] threads = strings[0].split("-");
+                loadStage = new LoadStage();
+                loadStage.setStartThreads(Ints.tryParse(threads[0].trim()));
+                loadStage.setEndThreads(Ints.tryParse(threads[threads.length - 1].trim()));
+                loadStage.setDurationMs(Longs.tryParse(strings[1].trim()));
+            } catch (Exception e) {
+                throw new IllegalArgumentException("Stages format is error! please like this: 4:30000 or 1-16:10000.");
+            }
+            checkState(loadStage.getStartThreads() >= 0 && loadStage.getEndThreads() >= 0, "stage threads must be >= 0.");
+            checkState(loadStage.getDurationMs() > 0, "stage duration must be > 0ms.");
+            maxThreads = Math.max(maxThreads, Math.max(loadStage.getStartThreads(), loadStage.getEndThreads()));
+            stageList.add(loadStage);
+        }
+        checkState(stageList.isEmpty() || maxThreads > 0, "stage threads must be > 0 in at least one stage.");
+        return stageList;
     }
 }
@@ -42,11 +42,17 @@ public class EvaluationRequireBuilder implements IBuilder<EvaluationRequire> {
             evaluationRequire.setRequireAverage(junitPerfRequire.average());
             evaluationRequire.setRequireTimesPerSecond(junitPerfRequire.timesPerSecond());
             evaluationRequire.setRequirePercentilesMap(parseRequirePercentilesMap(junitPerfRequire.percentiles()));
+            evaluationRequire.setRequireMaxBytesPerOp(junitPerfRequire.maxBytesPerOp());
+            evaluationRequire.setRequireMaxGcPause(junitPerfRequire.maxGcPause());
+            evaluationRequire.setRequireMaxGcPercentage(junitPerfRequire.maxGcPercentage());
         } else {
             evaluationRequire.setRequireMin(-1);
             evaluationRequire.setRequireMax(-1);
             evaluationRequire.setRequireAverage(-1);
             evaluationRequire.setRequireTimesPerSecond(-1);
+            evaluationRequire.setRequireMaxBytesPerOp(-1);
+            evaluationRequire.setRequireMaxGcPause(-1);
+            evaluationRequire.setRequireMaxGcPercentage(-1);
             //避免NPE
             evaluationRequire.setRequirePercentilesMap(Maps.newHashMap());
         }
@@ -5,6 +5,7 @@ import com.github.houbb.junitperf.core.statistics.StatisticsCalculator;
 import com.github.houbb.junitperf.model.evaluation.component.EvaluationConfig;
 import com.github.houbb.junitperf.model.evaluation.component.EvaluationRequire;
 import com.github.houbb.junitperf.model.evaluation.component.EvaluationResult;
+import com.github.houbb.junitperf.model.evaluation.component.EvaluationRuntime;
 import org.apiguardian.api.API;
 
 import java.util.Map;
@@ -38,12 +39,34 @@ public class EvaluationResultBuilder implements IBuilder<EvaluationResult> {
      */
     private final StatisticsCalculator statisticsCalculator;
 
+    /**
+     * 运行信息
+     * @since 2.0.8
+     */
+    private final EvaluationRuntime evaluationRuntime;
+
     public EvaluationResultBuilder(EvaluationConfig evaluationConfig,
                                    EvaluationRequire evaluationRequire,
                                    StatisticsCalculator statisticsCalculator) {
+        this(evaluationConfig, evaluationRequire, statisticsCalculator, new EvaluationRuntime());
+    }
+
+    /**
+     * 构造器
+     * @param evaluationConfig 配置
+     * @param evaluationRequire 限定
+     * @param statisticsCalculator 统计者
+     * @param evaluationRuntime 运行信息
+     * @since 2.0.8
+     */
+    public EvaluationResultBuilder(EvaluationConfig evaluationConfig,
+                                   EvaluationRequire evaluationRequire,
+                                   StatisticsCalculator statisticsCalculator,
+                                   EvaluationRuntime evaluationRuntime) {
         this.evaluationConfig = evaluationConfig;
         this.evaluationRequire = evaluationRequire;
         this.statisticsCalculator = statisticsCalculator;
+        this.evaluationRuntime = evaluationRuntime;
     }
 
     @Override
@@ -53,6 +76,9 @@ public class EvaluationResultBuilder implements IBuilder<EvaluationResult> {
         evaluationResult.setMaxAchieved(isMaxAchieved());
         evaluationResult.setAverageAchieved(isAverageAchieved());
         evaluationResult.setTimesPerSecondAchieved(isTimesPerSecondAchieved());
+        evaluationResult.setBytesPerOpAchieved(isBytesPerOpAchieved());
+        evaluationResult.setGcPauseAchieved(isGcPauseAchieved());
+        evaluationResult.setGcPercentageAchieved(isGcPercentageAchieved());
 
         Map<Integer, Boolean> isPercentilesAchievedMap = buildIsPercentilesAchievedMap();
         evaluationResult.setIsPercentilesAchievedMap(isPercentilesAchievedMap);
@@ -64,22 +90,30 @@ public class EvaluationResultBuilder implements IBuilder<EvaluationResult> {
 
     /**
      * 获取执行次数QPS
+     * 1. 优先使用实际的测量时长
      * @return 执行次数QPS
      */
     @SuppressWarnings("WeakerAccess")
     public long getThroughputQps() {
+        long measuredNs = evaluationRuntime.getMeasuredNs();
+        if (measuredNs > 0) {
+            return (long) ((double) statisticsCalculator.getEvaluationCount() / measuredNs * TimeUnit.SECONDS.toNanos(1));
+        }
         long configDuration = evaluationConfig.getConfigDuration();
-        long configWarmUp = evaluationConfig.getConfigWarmUp();
-        return (long)(((float)statisticsCalculator.getEvaluationCount() / ((float)configDuration - configWarmUp)) * 1000);
+        return (long)(((float)statisticsCalculator.getEvaluationCount() / configDuration) * 1000);
     }
 
     /**
      * 延迟校验
+     * 1. 只统计吞吐量时没有延迟数据，配置了延迟要求视为不符合
      * @param actualNs 实际时间(纳秒)
      * @param requiredMs 需求时间(毫秒)
      * @return {@code true} 是
      */
     private boolean validateLatency(float actualNs, float requiredMs) {
+        if (evaluationConfig.isConfigThroughputOnly()) {
+            return false;
+        }
         long thresholdNs = (long)(requiredMs * MILLISECONDS.toNanos(1));
         return actualNs <= thresholdNs;
     }
@@ -125,6 +159,44 @@ public class EvaluationResultBuilder implements IBuilder<EvaluationResult> {
         return evaluationRequire.getRequireTimesPerSecond() < 0 || getThroughputQps() >= evaluationRequire.getRequireTimesPerSecond();
     }
 
+    /**
+     * 每次执行分配的字节数是否符合
+     * 1. JVM 不支持统计线程分配时视为符合
+     * @return {@code true} 是
+     * @since 2.0.8
+     */
+    public boolean isBytesPerOpAchieved() {
+        if (evaluationRequire.getRequireMaxBytesPerOp() < 0
+                || evaluationRuntime.getAllocatedBytes() < 0) {
+            return true;
+        }
+        return evaluationRuntime.getAllocatedBytesPerOp() <= evaluationRequire.getRequireMaxBytesPerOp();
+    }
+
+    /**
+     * 单次 GC 停顿是否符合
+     * 1. JVM 不支持 GC 通知、无法得到单次停顿时视为符合
+     * @return {@code true} 是
+     * @since 2.0.8
+     */
+    public boolean isGcPauseAchieved() {
+        if (evaluationRequire.getRequireMaxGcPause() < 0
+                || evaluationRuntime.getMaxGcPauseMs() < 0) {
+            return true;
+        }
+        return evaluationRuntime.getMaxGcPauseMs() <= evaluationRequire.getRequireMaxGcPause();
+    }
+
+    /**
+     * GC 停顿时间占比是否符合
+     * @return {@code true} 是
+     * @since 2.0.8
+     */
+    public boolean isGcPercentageAchieved() {
+        return evaluationRequire.getRequireMaxGcPercentage() < 0
+                || evaluationRuntime.getGcTimePercentage() <= evaluationRequire.getRequireMaxGcPercentage();
+    }
+
     /**
      * 构建百分比是否通过 map 结果
      * @return 百分比是否通过 map 结果
@@ -136,8 +208,7 @@ public class EvaluationResultBuilder implements IBuilder<EvaluationResult> {
             Integer percentile = entry.getKey();
             //限制的时间
             float thresholdMs = entry.getValue();
-            long thresholdNs = (long) (thresholdMs * MILLISECONDS.toNanos(1));
-            boolean result = statisticsCalculator.getLatencyPercentile(percentile, NANOSECONDS) <= thresholdNs;
+            boolean result = validateLatency(statisticsCalculator.getLatencyPercentile(percentile, NANOSECONDS), thresholdMs);
             isPercentilesAchievedMap.put(percentile, result);
         }
        return isPercentilesAchievedMap;
@@ -168,6 +239,9 @@ public class EvaluationResultBuilder implements IBuilder<EvaluationResult> {
                 && evaluationResult.isMinAchieved()
                 && evaluationResult.isAverageAchieved()
                 && evaluationResult.isTimesPerSecondAchieved()
+                && evaluationResult.isBytesPerOpAchieved()
+                && evaluationResult.isGcPauseAchieved()
+                && evaluationResult.isGcPercentageAchieved()
                 && evaluationResult.isPercentilesAchieved();
     }
 }
@@ -0,0 +1,242 @@
+package com.github.houbb.junitperf.support.builder;
+
+import com.github.houbb.heaven.support.builder.IBuilder;
+import com.github.houbb.junitperf.constant.VersionConstant;
+import com.github.houbb.junitperf.constant.enums.InvokerTypeEnum;
+import com.github.houbb.junitperf.support.invoker.MethodInvoker;
+import com.github.houbb.junitperf.support.invoker.VoidMethodInvoker;
+import org.apiguardian.api.API;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 测试方法调用者-构建者
+ *
+ * 只绑定一次，按照以下顺序选择第一个可用的调用方式：
+ * 1. LambdaMetafactory：测试类和测试方法都是 public、无参数，且测试类对框架的类加载器可见。
+ * 2. MethodHandle：参数个数与绑定的参数一致的方法，默认不绑定参数。
+ * 3. 反射：兜底方式，与之前的行为一致。
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public class MethodInvokerBuilder implements IBuilder<MethodInvoker> {
+
+    /**
+     * 测试实例
+     */
+    private final Object testInstance;
+
+    /**
+     * 测试方法
+     */
+    private final Method testMethod;
+
+    /**
+     * 绑定的参数，每次调用都使用相同的参数
+     * @since 2.0.8
+     */
+    private Object[] arguments = new Object[0];
+
+    /**
+     * 允许使用的开销最低的调用方式
+     */
+    private InvokerTypeEnum preferredType = InvokerTypeEnum.LAMBDA_METAFACTORY;
+
+    /**
+     * 实际使用的调用方式，构建后才有值
+     */
+    private InvokerTypeEnum invokerType;
+
+    public MethodInvokerBuilder(Object testInstance, Method testMethod) {
+        this.testInstance = checkNotNull(testInstance, "testInstance");
+        this.testMethod = checkNotNull(testMethod, "testMethod");
+    }
+
+    /**
+     * 绑定调用测试方法使用的参数
+     * @param arguments 参数
+     * @return this
+     * @since 2.0.8
+     */
+    public MethodInvokerBuilder arguments(Object... arguments) {
+        this.arguments = checkNotNull(arguments, "arguments");
+        return this;
+    }
+
+    /**
+     * 指定允许使用的开销最低的调用方式
+     * @param preferredType 调用方式
+     * @return this
+     */
+    public MethodInvokerBuilder preferredType(InvokerTypeEnum preferredType) {
+        this.preferredType = checkNotNull(preferredType, "preferredType");
+        return this;
+    }
+
+    @Override
+    public MethodInvoker build() {
+        if (preferredType.compareTo(InvokerTypeEnum.LAMBDA_METAFACTORY) <= 0
+                && isLambdaMetafactoryApplicable()) {
+            try {
+                MethodInvoker invoker = buildLambdaMetafactoryInvoker();
+                invokerType = InvokerTypeEnum.LAMBDA_METAFACTORY;
+                return invoker;
+            } catch (Throwable e) {
+                // 无法生成时降级
+            }
+        }
+
+        if (preferredType.compareTo(InvokerTypeEnum.METHOD_HANDLE) <= 0
+                && testMethod.getParameterCount() == arguments.length) {
+            try {
+                MethodInvoker invoker = buildMethodHandleInvoker();
+                invokerType = InvokerTypeEnum.METHOD_HANDLE;
+                return invoker;
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                // 无法访问时降级
+            }
+        }
+
+        invokerType = InvokerTypeEnum.REFLECTION;
+        return buildReflectionInvoker();
+    }
+
+    /**
+     * 实际使用的调用方式
+     * @return 调用方式，{@link #build()} 之前为 null
+     */
+    public InvokerTypeEnum getInvokerType() {
+        return invokerType;
+    }
+
+    /**
+     * 是否可以使用 LambdaMetafactory
+     * 生成的实现类定义在框架的类加载器中，需要能够直接访问测试类和测试方法。
+     * @return 是否
+     */
+    private boolean isLambdaMetafactoryApplicable() {
+        Class<?> declaringClass = testMethod.getDeclaringClass();
+        if (testMethod.getParameterCount() != 0
+                || arguments.length != 0
+                || Modifier.isStatic(testMethod.getModifiers())
+                || !Modifier.isPublic(testMethod.getModifiers())
+                || !Modifier.isPublic(declaringClass.getModifiers())) {
+            return false;
+        }
+        try {
+            return Class.forName(declaringClass.getName(), false,
+                    MethodInvokerBuilder.class.getClassLoader()) == declaringClass;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * 通过 LambdaMetafactory 生成绑定了测试实例的实现类
+     * @return 调用者
+     * @throws Throwable 生成失败
+     */
+    private MethodInvoker buildLambdaMetafactoryInvoker() throws Throwable {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle implMethod = lookup.unreflect(testMethod);
+        Class<?> declaringClass = testMethod.getDeclaringClass();
+
+        if (testMethod.getReturnType() == void.class) {
+            MethodType samType = MethodType.methodType(void.class);
+            return (MethodInvoker) LambdaMetafactory.metafactory(lookup, "invokeVoid",
+                    MethodType.methodType(VoidMethodInvoker.class, declaringClass),
+                    samType, implMethod, samType)
+                    .getTarget()
+                    .invoke(testInstance);
+        }
+
+        MethodType samType = MethodType.methodType(Object.class);
+        return (MethodInvoker) LambdaMetafactory.metafactory(lookup, "invoke",
+                MethodType.methodType(MethodInvoker.class, declaringClass),
+                samType, implMethod, samType)
+                .getTarget()
+                .invoke(testInstance);
+    }
+
+    /**
+     * 通过 MethodHandle 调用
+     * @return 调用者
+     * @throws IllegalAccessException 无法访问
+     */
+    private MethodInvoker buildMethodHandleInvoker() throws IllegalAccessException {
+        testMethod.setAccessible(true);
+        MethodHandle handle = MethodHandles.lookup()
+                .unreflect(testMethod)
+                .bindTo(testInstance);
+        handle = MethodHandles.insertArguments(handle, 0, arguments)
+                .asType(MethodType.methodType(Object.class));
+        return new MethodHandleInvoker(handle);
+    }
+
+    /**
+     * 通过反射调用
+     * @return 调用者
+     */
+    private MethodInvoker buildReflectionInvoker() {
+        try {
+            testMethod.setAccessible(true);
+        } catch (RuntimeException e) {
+            // 保持原有的访问检查
+        }
+        return new ReflectionInvoker(testInstance, testMethod, arguments);
+    }
+
+    /**
+     * MethodHandle 调用者
+     */
+    private static final class MethodHandleInvoker implements MethodInvoker {
+
+        private final MethodHandle handle;
+
+        private MethodHandleInvoker(MethodHandle handle) {
+            this.handle = handle;
+        }
+
+        @Override
+        public Object invoke() throws Throwable {
+            return (Object) handle.invokeExact();
+        }
+    }
+
+    /**
+     * 反射调用者
+     */
+    private static final class ReflectionInvoker implements MethodInvoker {
+
+        private final Object testInstance;
+
+        private final Method testMethod;
+
+        private final Object[] arguments;
+
+        private ReflectionInvoker(Object testInstance, Method testMethod, Object[] arguments) {
+            this.testInstance = testInstance;
+            this.testMethod = testMethod;
+            this.arguments = arguments;
+        }
+
+        @Override
+        public Object invoke() throws Throwable {
+            try {
+                return testMethod.invoke(testInstance, arguments);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+}
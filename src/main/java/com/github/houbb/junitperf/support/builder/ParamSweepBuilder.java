@@ -0,0 +1,138 @@
+package com.github.houbb.junitperf.support.builder;
+
+import com.github.houbb.heaven.support.builder.IBuilder;
+import com.github.houbb.junitperf.constant.VersionConstant;
+import com.github.houbb.junitperf.core.annotation.JunitPerfParams;
+import com.github.houbb.junitperf.core.statistics.StatisticsCalculator;
+import com.github.houbb.junitperf.model.evaluation.EvaluationContext;
+import com.github.houbb.junitperf.model.vo.ParamSweepVo;
+import org.apiguardian.api.API;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 参数扫描-构建者
+ * 1. 按方法分组，只处理参数扫描且已经完成校验的上下文
+ * 2. 取值超过一个的参数，各生成一个 {@link ParamSweepVo}
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public class ParamSweepBuilder implements IBuilder<List<ParamSweepVo>> {
+
+    private final Collection<EvaluationContext> evaluationContextSet;
+
+    public ParamSweepBuilder(Collection<EvaluationContext> evaluationContextSet) {
+        this.evaluationContextSet = evaluationContextSet;
+    }
+
+    @Override
+    public List<ParamSweepVo> build() {
+        Map<String, List<EvaluationContext>> methodMap = new LinkedHashMap<>();
+        for (EvaluationContext context : evaluationContextSet) {
+            if (context.getParamMap().isEmpty() || context.getEvaluationResult() == null) {
+                continue;
+            }
+            methodMap.computeIfAbsent(context.getMethodName(), key -> new ArrayList<>()).add(context);
+        }
+
+        List<ParamSweepVo> sweepList = new ArrayList<>();
+        for (Map.Entry<String, List<EvaluationContext>> entry : methodMap.entrySet()) {
+            for (String paramName : entry.getValue().get(0).getParamMap().keySet()) {
+                ParamSweepVo sweep = buildSweep(entry.getKey(), paramName, entry.getValue());
+                if (sweep.getParamValueList().size() > 1) {
+                    sweepList.add(sweep);
+                }
+            }
+        }
+        return sweepList;
+    }
+
+    /**
+     * 构建单个参数的扫描结果
+     * @param methodName 方法名称
+     * @param paramName 参数名称
+     * @param contextList 方法的所有上下文
+     * @return 结果
+     */
+    private ParamSweepVo buildSweep(final String methodName,
+                                    final String paramName,
+                                    final List<EvaluationContext> contextList) {
+        List<String> paramValueList = new ArrayList<>();
+        Map<String, Map<String, EvaluationContext>> seriesMap = new LinkedHashMap<>();
+        for (EvaluationContext context : contextList) {
+            String paramValue = context.getParamMap().get(paramName);
+            if (!paramValueList.contains(paramValue)) {
+                paramValueList.add(paramValue);
+            }
+            seriesMap.computeIfAbsent(buildLabel(context.getParamMap(), paramName), key -> new HashMap<>())
+                    .put(paramValue, context);
+        }
+
+        ParamSweepVo sweep = new ParamSweepVo();
+        sweep.setMethodName(methodName);
+        sweep.setParamName(paramName);
+        sweep.setParamValueList(paramValueList);
+        boolean threadSweep = JunitPerfParams.THREADS.equals(paramName);
+        for (Map.Entry<String, Map<String, EvaluationContext>> entry : seriesMap.entrySet()) {
+            ParamSweepVo.Series series = new ParamSweepVo.Series();
+            series.setLabel(entry.getKey());
+            Double baseThroughputPerThread = null;
+            for (String paramValue : paramValueList) {
+                EvaluationContext context = entry.getValue().get(paramValue);
+                if (context == null) {
+                    series.getThroughputList().add(null);
+                    series.getP99List().add(null);
+                    series.getEfficiencyList().add(null);
+                    continue;
+                }
+                double throughput = context.getEvaluationResult().getThroughputQps();
+                series.getThroughputList().add(throughput);
+                series.getP99List().add(getP99(context.getStatisticsCalculator()));
+                if (!threadSweep) {
+                    continue;
+                }
+                // 扩展效率：每个线程的吞吐量相对第一个线程数的比例
+                double throughputPerThread = throughput / context.getEvaluationConfig().getConfigThreads();
+                if (baseThroughputPerThread == null) {
+                    baseThroughputPerThread = throughputPerThread;
+                }
+                series.getEfficiencyList().add(baseThroughputPerThread > 0 ? throughputPerThread / baseThroughputPerThread : null);
+            }
+            sweep.getSeriesList().add(series);
+        }
+        return sweep;
+    }
+
+    /**
+     * 其余参数的取值
+     * @param paramMap 参数组合
+     * @param paramName 当前参数
+     * @return 例如 threads=4,size=1024
+     */
+    private static String buildLabel(final Map<String, String> paramMap,
+                                     final String paramName) {
+        StringJoiner label = new StringJoiner(",");
+        for (Map.Entry<String, String> entry : paramMap.entrySet()) {
+            if (!entry.getKey().equals(paramName)) {
+                label.add(entry.getKey() + "=" + entry.getValue());
+            }
+        }
+        return label.toString();
+    }
+
+    /**
+     * 99% 耗时
+     * @param statisticsCalculator 统计
+     * @return 毫秒，没有延迟样本时返回 {@code null}
+     */
+    private static Double getP99(final StatisticsCalculator statisticsCalculator) {
+        if (statisticsCalculator.getEvaluationCount() == 0) {
+            return null;
+        }
+        float p99 = statisticsCalculator.getLatencyPercentile(99, TimeUnit.MILLISECONDS);
+        return Float.isNaN(p99) ? null : (double) p99;
+    }
+
+}
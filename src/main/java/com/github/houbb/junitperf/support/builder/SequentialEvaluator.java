@@ -0,0 +1,279 @@
+package com.github.houbb.junitperf.support.builder;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import com.github.houbb.junitperf.constant.enums.BatchMetricEnum;
+import com.github.houbb.junitperf.core.statistics.StatisticsCalculator;
+import com.github.houbb.junitperf.model.evaluation.component.EvaluationConfig;
+import com.github.houbb.junitperf.model.evaluation.component.EvaluationRequire;
+import com.github.houbb.junitperf.model.evaluation.component.IntervalStatistics;
+import com.github.houbb.junitperf.support.precision.BatchMeansEstimator;
+import org.apiguardian.api.API;
+
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.houbb.junitperf.support.throughput.ThroughputSampler.CONFIDENCE_LEVEL;
+
+/**
+ * 序贯检验
+ *
+ * 1. 测量过程中每个区间结束时调用一次，按批均值法计算各指标的置信区间，与 {@link EvaluationRequire} 比较。
+ * 2. 置信区间整体超出要求时判定该项不通过，整体满足要求时判定该项通过，否则尚未确定。
+ * 3. 任意一项确定不通过，或者所有要求都确定通过时，结论确定，可以提前结束测量。
+ * 4. 每次检验都有误判的可能，按照最多检验次数平分 95% 置信水平之外的误判概率（Bonferroni 修正）。
+ * 5. 最大耗时只会增大、最小耗时只会减小，直接按照已结束区间的极值判断。
+ * 6. 百分位耗时 p% 不超过阈值，等价于超过阈值的调用比例不超过 (100 - p)%，区间统计记录每个区间超过阈值的次数，按比例检验。
+ * 7. 单次分配字节数、GC 等要求在测量结束后才能计算，配置后无法提前判定通过。
+ * @author bbhou
+ * @since 2.0.8
+ * @see EvaluationResultBuilder
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public class SequentialEvaluator {
+
+    /**
+     * 限定
+     */
+    private final EvaluationRequire evaluationRequire;
+
+    /**
+     * 统计者
+     */
+    private final StatisticsCalculator statisticsCalculator;
+
+    /**
+     * 区间间隔
+     */
+    private final long intervalNs;
+
+    /**
+     * 单次检验的置信水平
+     */
+    private final double confidenceLevel;
+
+    /**
+     * 需要检验的百分位，顺序与区间统计记录的耗时阈值一致
+     */
+    private final int[] percentiles;
+
+    /**
+     * 百分位对应的需求时间(毫秒)
+     */
+    private final float[] percentileRequiredMs;
+
+    /**
+     * 结论是否为通过
+     */
+    private boolean passed;
+
+    /**
+     * 结论的原因
+     */
+    private String reason;
+
+    /**
+     * 构造器
+     * @param evaluationConfig 配置
+     * @param evaluationRequire 限定
+     * @param statisticsCalculator 统计者
+     */
+    public SequentialEvaluator(final EvaluationConfig evaluationConfig,
+                               final EvaluationRequire evaluationRequire,
+                               final StatisticsCalculator statisticsCalculator) {
+        this.evaluationRequire = evaluationRequire;
+        this.statisticsCalculator = statisticsCalculator;
+        this.intervalNs = TimeUnit.MILLISECONDS.toNanos(evaluationConfig.getConfigTimelineInterval());
+        long checks = Math.max(1L, (evaluationConfig.getConfigDuration() - evaluationConfig.getConfigMinDuration())
+                / evaluationConfig.getConfigTimelineInterval() + 1);
+        this.confidenceLevel = 1D - (1D - CONFIDENCE_LEVEL) / checks;
+
+        Map<Integer, Float> percentilesMap = evaluationRequire.getRequirePercentilesMap();
+        this.percentiles = new int[percentilesMap.size()];
+        this.percentileRequiredMs = new float[percentilesMap.size()];
+        long[] thresholdsNs = new long[percentilesMap.size()];
+        int index = 0;
+        for (Map.Entry<Integer, Float> entry : percentilesMap.entrySet()) {
+            percentiles[index] = entry.getKey();
+            percentileRequiredMs[index] = entry.getValue();
+            thresholdsNs[index] = toNs(entry.getValue());
+            index++;
+        }
+        statisticsCalculator.setLatencyThresholdsNs(thresholdsNs);
+    }
+
+    /**
+     * 检验一次
+     * @return 结论是否已经确定
+     */
+    public boolean check() {
+        List<IntervalStatistics> intervalList = statisticsCalculator.getIntervalStatisticsList();
+        BatchMeansEstimator estimator = new BatchMeansEstimator(intervalList, intervalNs);
+        if (estimator.getBatches() < BatchMeansEstimator.MIN_BATCHES) {
+            return false;
+        }
+        boolean settled = true;
+        StringJoiner passedJoiner = new StringJoiner(", ");
+
+        if (evaluationRequire.getRequireMax() >= 0) {
+            long maxNs = 0L;
+            for (IntervalStatistics interval : intervalList) {
+                maxNs = Math.max(maxNs, interval.getMaxLatencyNs());
+            }
+            if (maxNs > toNs(evaluationRequire.getRequireMax())) {
+                return settle(false, "max latency " + toMs(maxNs) + "ms > " + evaluationRequire.getRequireMax() + "ms required");
+            }
+            settled = false;
+        }
+        if (evaluationRequire.getRequireMin() >= 0) {
+            long minNs = Long.MAX_VALUE;
+            for (IntervalStatistics interval : intervalList) {
+                if (interval.getCount() > 0) {
+                    minNs = Math.min(minNs, interval.getMinLatencyNs());
+                }
+            }
+            if (minNs <= toNs(evaluationRequire.getRequireMin())) {
+                passedJoiner.add("min latency " + toMs(minNs) + "ms");
+            } else {
+                settled = false;
+            }
+        }
+        if (evaluationRequire.getRequireAverage() >= 0) {
+            Boolean result = checkLatency(estimator, BatchMetricEnum.MEAN_LATENCY, "avg latency",
+                    evaluationRequire.getRequireAverage(), passedJoiner);
+            if (result == null) {
+                settled = false;
+            } else if (!result) {
+                return true;
+            }
+        }
+        for (int i = 0; i < percentiles.length; i++) {
+            Boolean result = checkPercentile(estimator, i, passedJoiner);
+            if (result == null) {
+                settled = false;
+            } else if (!result) {
+                return true;
+            }
+        }
+        if (evaluationRequire.getRequireTimesPerSecond() > 0) {
+            double mean = estimator.getMean(BatchMetricEnum.THROUGHPUT);
+            double halfWidth = estimator.getHalfWidth(BatchMetricEnum.THROUGHPUT, confidenceLevel);
+            String range = "throughput " + toCi(mean - halfWidth, mean + halfWidth, "/s");
+            if (mean + halfWidth < evaluationRequire.getRequireTimesPerSecond()) {
+                return settle(false, range + " < " + evaluationRequire.getRequireTimesPerSecond() + "/s required");
+            }
+            if (mean - halfWidth >= evaluationRequire.getRequireTimesPerSecond()) {
+                passedJoiner.add(range);
+            } else {
+                settled = false;
+            }
+        }
+        if (evaluationRequire.getRequireMaxBytesPerOp() >= 0
+                || evaluationRequire.getRequireMaxGcPause() >= 0
+                || evaluationRequire.getRequireMaxGcPercentage() >= 0) {
+            settled = false;
+        }
+        if (!settled) {
+            return false;
+        }
+        return settle(true, passedJoiner.length() == 0
+                ? "no latency or throughput requirements"
+                : "all requirements met: " + passedJoiner);
+    }
+
+    /**
+     * 耗时检验
+     * @param estimator 批均值
+     * @param metric 指标
+     * @param name 名称
+     * @param requiredMs 需求时间(毫秒)
+     * @param passedJoiner 已确定通过的项
+     * @return 确定不通过时返回 false，确定通过时返回 true，否则返回 null
+     */
+    private Boolean checkLatency(final BatchMeansEstimator estimator,
+                                 final BatchMetricEnum metric,
+                                 final String name,
+                                 final float requiredMs,
+                                 final StringJoiner passedJoiner) {
+        double mean = estimator.getMean(metric);
+        double halfWidth = estimator.getHalfWidth(metric, confidenceLevel);
+        String range = name + " " + toCi(toMs(mean - halfWidth), toMs(mean + halfWidth), "ms");
+        long thresholdNs = toNs(requiredMs);
+        if (mean - halfWidth > thresholdNs) {
+            settle(false, range + " > " + requiredMs + "ms required");
+            return Boolean.FALSE;
+        }
+        if (mean + halfWidth <= thresholdNs) {
+            passedJoiner.add(range);
+            return Boolean.TRUE;
+        }
+        return null;
+    }
+
+    /**
+     * 百分位耗时检验
+     * 1. 检验超过需求时间的调用比例，与测量结束后按百分位耗时的判定一致
+     * @param estimator 批均值
+     * @param index 百分位的下标
+     * @param passedJoiner 已确定通过的项
+     * @return 确定不通过时返回 false，确定通过时返回 true，否则返回 null
+     */
+    private Boolean checkPercentile(final BatchMeansEstimator estimator,
+                                    final int index,
+                                    final StringJoiner passedJoiner) {
+        double mean = estimator.getExceededMean(index);
+        double halfWidth = estimator.getExceededHalfWidth(index, confidenceLevel);
+        if (halfWidth < 0) {
+            return null;
+        }
+        double allowed = (100D - percentiles[index]) / 100D;
+        String range = percentiles[index] + "% latency: calls > " + percentileRequiredMs[index] + "ms "
+                + toCi(Math.max(mean - halfWidth, 0D) * 100, Math.min(mean + halfWidth, 1D) * 100, "%");
+        if (mean - halfWidth > allowed) {
+            settle(false, range + " > " + (float) (allowed * 100) + "% allowed");
+            return Boolean.FALSE;
+        }
+        if (mean + halfWidth <= allowed) {
+            passedJoiner.add(range);
+            return Boolean.TRUE;
+        }
+        return null;
+    }
+
+    private boolean settle(final boolean passed, final String reason) {
+        this.passed = passed;
+        this.reason = reason;
+        return true;
+    }
+
+    private String toCi(final double lower, final double upper, final String unit) {
+        return (float) lower + unit + " ~ " + (float) upper + unit
+                + " (" + (float) (confidenceLevel * 100) + "% CI)";
+    }
+
+    private static long toNs(final float ms) {
+        return (long) (ms * TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    private static float toMs(final double ns) {
+        return (float) (ns / TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    /**
+     * 结论是否为通过
+     * @return 结论确定之前返回 false
+     */
+    public boolean isPassed() {
+        return passed;
+    }
+
+    /**
+     * 结论的原因
+     * @return 结论确定之前返回 null
+     */
+    public String getReason() {
+        return reason;
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.github.houbb.junitperf.support.fixture;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import com.github.houbb.junitperf.constant.enums.FixtureLevelEnum;
+import com.github.houbb.junitperf.core.annotation.PerfSetup;
+import com.github.houbb.junitperf.core.annotation.PerfTeardown;
+import com.github.houbb.junitperf.support.exception.JunitPerfRuntimeException;
+import org.apiguardian.api.API;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 一个类的准备、清理方法
+ * 1. 准备方法按照父类到子类的顺序执行，清理方法相反
+ * 2. 方法需要是无参数的实例方法
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public class FixtureHooks {
+
+    /**
+     * 准备方法
+     */
+    private final Map<FixtureLevelEnum, List<Method>> setupMap = new EnumMap<>(FixtureLevelEnum.class);
+
+    /**
+     * 清理方法
+     */
+    private final Map<FixtureLevelEnum, List<Method>> teardownMap = new EnumMap<>(FixtureLevelEnum.class);
+
+    /**
+     * 构造器
+     * @param clazz 类
+     */
+    public FixtureHooks(final Class<?> clazz) {
+        for (FixtureLevelEnum level : FixtureLevelEnum.values()) {
+            setupMap.put(level, new ArrayList<>());
+            teardownMap.put(level, new ArrayList<>());
+        }
+        List<Class<?>> classList = new ArrayList<>();
+        for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
+            classList.add(0, current);
+        }
+        for (Class<?> current : classList) {
+            for (Method method : current.getDeclaredMethods()) {
+                PerfSetup perfSetup = method.getAnnotation(PerfSetup.class);
+                if (perfSetup != null) {
+                    setupMap.get(perfSetup.value()).add(checkHook(method));
+                }
+                PerfTeardown perfTeardown = method.getAnnotation(PerfTeardown.class);
+                if (perfTeardown != null) {
+                    teardownMap.get(perfTeardown.value()).add(0, checkHook(method));
+                }
+            }
+        }
+    }
+
+    /**
+     * 是否存在指定时机的方法
+     * @param level 时机
+     * @return 是否
+     */
+    public boolean hasHooks(final FixtureLevelEnum level) {
+        return !setupMap.get(level).isEmpty() || !teardownMap.get(level).isEmpty();
+    }
+
+    /**
+     * 执行准备方法
+     * @param target 实例
+     * @param level 时机
+     * @throws Throwable 准备方法抛出的异常
+     */
+    public void setup(final Object target, final FixtureLevelEnum level) throws Throwable {
+        invokeAll(target, setupMap.get(level));
+    }
+
+    /**
+     * 执行清理方法
+     * @param target 实例
+     * @param level 时机
+     * @throws Throwable 清理方法抛出的异常
+     */
+    public void teardown(final Object target, final FixtureLevelEnum level) throws Throwable {
+        invokeAll(target, teardownMap.get(level));
+    }
+
+    private static void invokeAll(final Object target,
+                                  final List<Method> methodList) throws Throwable {
+        for (Method method : methodList) {
+            try {
+                method.invoke(target);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * 校验准备、清理方法
+     * @param method 方法
+     * @return 可以调用的方法
+     */
+    private static Method checkHook(final Method method) {
+        if (method.getParameterCount() != 0 || Modifier.isStatic(method.getModifiers())) {
+            throw new JunitPerfRuntimeException("@PerfSetup/@PerfTeardown method " + method.getDeclaringClass().getName()
+                    + "." + method.getName() + "() must be a non-static method without parameters.");
+        }
+        method.setAccessible(true);
+        return method;
+    }
+
+}
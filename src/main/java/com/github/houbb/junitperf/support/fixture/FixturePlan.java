@@ -0,0 +1,219 @@
+package com.github.houbb.junitperf.support.fixture;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import com.github.houbb.junitperf.constant.enums.FixtureLevelEnum;
+import com.github.houbb.junitperf.core.annotation.PerfState;
+import com.github.houbb.junitperf.core.blackhole.Blackhole;
+import com.github.houbb.junitperf.support.builder.MethodInvokerBuilder;
+import com.github.houbb.junitperf.support.exception.JunitPerfRuntimeException;
+import com.github.houbb.junitperf.support.invoker.MethodInvoker;
+import org.apiguardian.api.API;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 测试方法的准备、清理计划
+ * 1. 测试方法的每个参数都需要是 {@link PerfState} 类型或者 {@link Blackhole}，每个执行线程各创建一份
+ * 2. 测试类的整个测试级别的方法由主线程执行，其余方法由执行线程通过 {@link ThreadFixture} 执行
+ * 3. 执行线程中的异常只记录第一个，由主线程在执行线程结束后抛出
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public class FixturePlan {
+
+    /**
+     * 测试实例
+     */
+    private final Object testInstance;
+
+    /**
+     * 测试方法
+     */
+    private final Method testMethod;
+
+    /**
+     * 测试类的准备、清理方法
+     */
+    private final FixtureHooks testHooks;
+
+    /**
+     * 测试方法的参数类型
+     */
+    private final Class<?>[] stateTypes;
+
+    /**
+     * 参数类型的准备、清理方法
+     */
+    private final FixtureHooks[] stateHooks;
+
+    /**
+     * 执行线程中第一个异常
+     */
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    /**
+     * 构造器
+     * @param testInstance 测试实例
+     * @param testMethod 测试方法
+     */
+    public FixturePlan(final Object testInstance,
+                       final Method testMethod) {
+        this.testInstance = testInstance;
+        this.testMethod = testMethod;
+        this.testHooks = new FixtureHooks(testInstance.getClass());
+        this.stateTypes = testMethod.getParameterTypes();
+        this.stateHooks = new FixtureHooks[stateTypes.length];
+        for (int i = 0; i < stateTypes.length; i++) {
+            if (!isInjectable(stateTypes[i])) {
+                throw new JunitPerfRuntimeException("Parameter " + stateTypes[i].getName() + " of " + testMethod.getName()
+                        + "() must be a Blackhole or annotated with @PerfState.");
+            }
+            stateHooks[i] = new FixtureHooks(stateTypes[i]);
+        }
+    }
+
+    /**
+     * 是否为可以注入的参数类型：线程状态或者黑洞
+     * @param type 类型
+     * @return 是否
+     */
+    public static boolean isInjectable(final Class<?> type) {
+        return type == Blackhole.class || type.isAnnotationPresent(PerfState.class);
+    }
+
+    /**
+     * 创建线程状态，并执行所有时机的准备方法
+     * 1. 用于测试框架在性能测试之外再调用一次测试方法
+     * @param type 类型
+     * @return 状态
+     */
+    public static Object newPreparedState(final Class<?> type) {
+        try {
+            Object state = newState(type);
+            FixtureHooks hooks = new FixtureHooks(type);
+            for (FixtureLevelEnum level : FixtureLevelEnum.values()) {
+                hooks.setup(state, level);
+            }
+            return state;
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw new JunitPerfRuntimeException(throwable);
+        }
+    }
+
+    /**
+     * 通过无参构造器创建线程状态
+     * @param type 类型
+     * @return 状态
+     * @throws ReflectiveOperationException 创建失败
+     */
+    static Object newState(final Class<?> type) throws ReflectiveOperationException {
+        Constructor<?> constructor = type.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        return constructor.newInstance();
+    }
+
+    /**
+     * 执行测试类的整个测试级别的准备方法
+     * @throws Throwable 准备方法抛出的异常
+     */
+    public void setupTrial() throws Throwable {
+        testHooks.setup(testInstance, FixtureLevelEnum.TRIAL);
+    }
+
+    /**
+     * 执行测试类的整个测试级别的清理方法
+     * @throws Throwable 清理方法抛出的异常
+     */
+    public void teardownTrial() throws Throwable {
+        testHooks.teardown(testInstance, FixtureLevelEnum.TRIAL);
+    }
+
+    /**
+     * 创建当前线程的状态，并执行整个测试级别的准备方法
+     * 1. 需要在执行线程中调用
+     * 2. 测试方法有参数时，绑定当前线程的状态，生成当前线程使用的调用者
+     * @return 当前线程的状态
+     * @throws Throwable 创建失败或者准备方法抛出的异常
+     */
+    public ThreadFixture newThreadFixture() throws Throwable {
+        Object[] states = new Object[stateTypes.length];
+        for (int i = 0; i < stateTypes.length; i++) {
+            states[i] = newState(stateTypes[i]);
+            stateHooks[i].setup(states[i], FixtureLevelEnum.TRIAL);
+        }
+        MethodInvoker methodInvoker = null;
+        if (states.length > 0) {
+            methodInvoker = new MethodInvokerBuilder(testInstance, testMethod).arguments(states).build();
+        }
+        return new ThreadFixture(this, states, methodInvoker);
+    }
+
+    /**
+     * 是否存在指定时机的准备、清理方法
+     * @param level 时机
+     * @return 是否
+     */
+    public boolean hasHooks(final FixtureLevelEnum level) {
+        if (testHooks.hasHooks(level)) {
+            return true;
+        }
+        for (FixtureHooks hooks : stateHooks) {
+            if (hooks.hasHooks(level)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 执行线程是否需要创建 {@link ThreadFixture}
+     * @return 测试方法有参数，或者存在阶段、调用级别的准备、清理方法时返回 true
+     */
+    public boolean isThreadFixtureRequired() {
+        return stateTypes.length > 0
+                || hasHooks(FixtureLevelEnum.ITERATION)
+                || hasHooks(FixtureLevelEnum.INVOCATION);
+    }
+
+    /**
+     * 测试方法的参数个数
+     * @return 个数
+     */
+    public int getParameterCount() {
+        return stateTypes.length;
+    }
+
+    /**
+     * 记录执行线程中的异常，只保留第一个
+     * @param throwable 异常
+     */
+    public void recordFailure(final Throwable throwable) {
+        failure.compareAndSet(null, throwable);
+    }
+
+    /**
+     * 执行线程中第一个异常
+     * @return 异常，没有时返回 null
+     */
+    public Throwable getFailure() {
+        return failure.get();
+    }
+
+    Object getTestInstance() {
+        return testInstance;
+    }
+
+    FixtureHooks getTestHooks() {
+        return testHooks;
+    }
+
+    FixtureHooks[] getStateHooks() {
+        return stateHooks;
+    }
+
+}
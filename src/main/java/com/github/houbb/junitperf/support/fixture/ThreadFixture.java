@@ -0,0 +1,79 @@
+package com.github.houbb.junitperf.support.fixture;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import com.github.houbb.junitperf.constant.enums.FixtureLevelEnum;
+import com.github.houbb.junitperf.support.invoker.MethodInvoker;
+import org.apiguardian.api.API;
+
+/**
+ * 一个执行线程的状态及准备、清理
+ * 1. 只由所属的执行线程使用
+ * 2. 准备时先执行测试类的方法，再按参数顺序执行各个状态的方法；清理顺序相反
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public class ThreadFixture {
+
+    /**
+     * 计划
+     */
+    private final FixturePlan fixturePlan;
+
+    /**
+     * 当前线程的状态，与测试方法的参数一一对应
+     */
+    private final Object[] states;
+
+    /**
+     * 绑定了当前线程状态的调用者，测试方法没有参数时为 null
+     */
+    private final MethodInvoker methodInvoker;
+
+    ThreadFixture(final FixturePlan fixturePlan,
+                  final Object[] states,
+                  final MethodInvoker methodInvoker) {
+        this.fixturePlan = fixturePlan;
+        this.states = states;
+        this.methodInvoker = methodInvoker;
+    }
+
+    /**
+     * 执行准备方法
+     * @param level 时机，整个测试级别只执行状态的方法
+     * @throws Throwable 准备方法抛出的异常
+     */
+    public void setup(final FixtureLevelEnum level) throws Throwable {
+        if (level != FixtureLevelEnum.TRIAL) {
+            fixturePlan.getTestHooks().setup(fixturePlan.getTestInstance(), level);
+        }
+        FixtureHooks[] stateHooks = fixturePlan.getStateHooks();
+        for (int i = 0; i < states.length; i++) {
+            stateHooks[i].setup(states[i], level);
+        }
+    }
+
+    /**
+     * 执行清理方法
+     * @param level 时机，整个测试级别只执行状态的方法
+     * @throws Throwable 清理方法抛出的异常
+     */
+    public void teardown(final FixtureLevelEnum level) throws Throwable {
+        FixtureHooks[] stateHooks = fixturePlan.getStateHooks();
+        for (int i = states.length - 1; i >= 0; i--) {
+            stateHooks[i].teardown(states[i], level);
+        }
+        if (level != FixtureLevelEnum.TRIAL) {
+            fixturePlan.getTestHooks().teardown(fixturePlan.getTestInstance(), level);
+        }
+    }
+
+    /**
+     * 绑定了当前线程状态的调用者
+     * @return 调用者，测试方法没有参数时返回 null
+     */
+    public MethodInvoker getMethodInvoker() {
+        return methodInvoker;
+    }
+
+}
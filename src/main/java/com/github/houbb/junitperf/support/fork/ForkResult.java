@@ -0,0 +1,63 @@
+package com.github.houbb.junitperf.support.fork;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import com.github.houbb.junitperf.core.statistics.StatisticsCalculator;
+import com.github.houbb.junitperf.model.BaseModel;
+import com.github.houbb.junitperf.model.evaluation.component.EvaluationRuntime;
+import com.github.houbb.junitperf.model.evaluation.component.StageStatistics;
+import org.apiguardian.api.API;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * fork 执行结果
+ * 新启动的 JVM 完成测量后，序列化传回当前 JVM。
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public class ForkResult extends BaseModel {
+
+    private static final long serialVersionUID = 6021473958127360152L;
+
+    /**
+     * 统计
+     */
+    private StatisticsCalculator statisticsCalculator;
+
+    /**
+     * 运行信息
+     */
+    private EvaluationRuntime evaluationRuntime;
+
+    /**
+     * 负载阶段的统计，不分阶段时为空
+     */
+    private List<StageStatistics> stageStatisticsList = Collections.emptyList();
+
+    public StatisticsCalculator getStatisticsCalculator() {
+        return statisticsCalculator;
+    }
+
+    public void setStatisticsCalculator(StatisticsCalculator statisticsCalculator) {
+        this.statisticsCalculator = statisticsCalculator;
+    }
+
+    public EvaluationRuntime getEvaluationRuntime() {
+        return evaluationRuntime;
+    }
+
+    public void setEvaluationRuntime(EvaluationRuntime evaluationRuntime) {
+        this.evaluationRuntime = evaluationRuntime;
+    }
+
+    public List<StageStatistics> getStageStatisticsList() {
+        return stageStatisticsList;
+    }
+
+    public void setStageStatisticsList(List<StageStatistics> stageStatisticsList) {
+        this.stageStatisticsList = stageStatisticsList;
+    }
+
+}
@@ -0,0 +1,283 @@
+package com.github.houbb.junitperf.support.fork;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import com.github.houbb.junitperf.support.exception.JunitPerfRuntimeException;
+import org.apiguardian.api.API;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * fork 执行
+ *
+ * 1. 使用当前 JVM 的 java 命令和 classpath 启动新的 JVM，入口为 {@link ForkedEvaluationMain}。
+ * 2. 新 JVM 的标准输出、错误输出直接继承当前 JVM。
+ * 3. 当前 JVM 在本地回环地址监听一个临时端口，新 JVM 完成测量后连接并写入 {@link ForkResult}。
+ * 4. 新 JVM 没有传回结果就退出时，视为执行失败。
+ * 5. 端口对本机的其他进程可见：随机令牌通过环境变量传给新 JVM，令牌不一致的连接直接丢弃；
+ * 反序列化时只允许 {@link ForkResult} 及其组成部分的类型，避免反序列化任意类。
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public final class ForkRunner {
+
+    /**
+     * 等待结果时检查进程状态的间隔（毫秒）
+     */
+    private static final int ACCEPT_TIMEOUT_MS = 500;
+
+    /**
+     * 读取连接数据的超时时间（毫秒），避免无关的连接一直占用端口
+     */
+    private static final int READ_TIMEOUT_MS = 30_000;
+
+    /**
+     * 令牌的字节数
+     */
+    private static final int NONCE_BYTES = 16;
+
+    /**
+     * 允许反序列化的本项目及依赖的包
+     */
+    private static final String[] ALLOWED_PACKAGES = {
+            "com.github.houbb.junitperf.",
+            "org.apache.commons.math3.stat.descriptive.",
+            "org.apache.commons.math3.util."
+    };
+
+    /**
+     * 允许反序列化的 JDK 类型
+     */
+    private static final Set<String> ALLOWED_JDK_CLASSES = new HashSet<>(Arrays.asList(
+            "java.lang.Boolean", "java.lang.Double", "java.lang.Enum", "java.lang.Float",
+            "java.lang.Integer", "java.lang.Long", "java.lang.Number", "java.lang.String",
+            "java.util.ArrayList", "java.util.Collections$EmptyList",
+            "java.util.Collections$UnmodifiableCollection", "java.util.Collections$UnmodifiableList",
+            "java.util.Collections$UnmodifiableRandomAccessList",
+            "java.util.concurrent.CopyOnWriteArrayList",
+            "java.util.concurrent.atomic.AtomicLong", "java.util.concurrent.atomic.AtomicLongArray"
+    ));
+
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    private ForkRunner() {
+    }
+
+    /**
+     * 在新的 JVM 中执行一次测量
+     * @param testClass 测试类
+     * @param testMethod 测试方法
+     * @param statisticsClass 统计实现，反序列化时允许该类型
+     * @param jvmArgs 新 JVM 的启动参数
+     * @param paramMap 参数扫描的组合，不扫描时为空
+     * @return 执行结果
+     * @throws IOException 启动或通信失败
+     * @throws InterruptedException 等待被中断
+     */
+    public static ForkResult run(final Class<?> testClass,
+                                 final Method testMethod,
+                                 final Class<?> statisticsClass,
+                                 final String[] jvmArgs,
+                                 final Map<String, String> paramMap) throws IOException, InterruptedException {
+        try (ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            serverSocket.setSoTimeout(ACCEPT_TIMEOUT_MS);
+            List<String> command = buildCommand(serverSocket.getLocalPort(), testClass, testMethod, jvmArgs, paramMap);
+            String nonce = newNonce();
+            ProcessBuilder processBuilder = new ProcessBuilder(command).inheritIO();
+            processBuilder.environment().put(ForkedEvaluationMain.NONCE_ENV, nonce);
+            Process process = processBuilder.start();
+            try {
+                ForkResult forkResult = receive(serverSocket, process, nonce, statisticsClass);
+                int exitCode = process.waitFor();
+                if (forkResult == null) {
+                    throw new JunitPerfRuntimeException("Forked JVM exited with code " + exitCode
+                            + " before returning the result of " + testClass.getName() + "#" + testMethod.getName());
+                }
+                return forkResult;
+            } finally {
+                if (process.isAlive()) {
+                    process.destroyForcibly();
+                }
+            }
+        }
+    }
+
+    /**
+     * 等待新 JVM 传回结果
+     * 1. 令牌不一致或者数据格式不正确的连接视为无关的连接，丢弃后继续等待
+     * @param serverSocket 结果端口
+     * @param process 新 JVM 进程
+     * @param nonce 令牌
+     * @param statisticsClass 统计实现
+     * @return 执行结果，进程退出前没有传回时返回 {@code null}
+     * @throws IOException 通信失败
+     */
+    private static ForkResult receive(final ServerSocket serverSocket,
+                                      final Process process,
+                                      final String nonce,
+                                      final Class<?> statisticsClass) throws IOException {
+        boolean exited = false;
+        while (true) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (SocketTimeoutException e) {
+                // 进程退出后再等待一次，避免遗漏退出前刚建立的连接
+                if (exited) {
+                    return null;
+                }
+                exited = !process.isAlive();
+                continue;
+            }
+            try (Socket closeable = socket;
+                 ForkResultInputStream inputStream = new ForkResultInputStream(closeable.getInputStream(), statisticsClass)) {
+                closeable.setSoTimeout(READ_TIMEOUT_MS);
+                byte[] received = inputStream.readUTF().getBytes(StandardCharsets.UTF_8);
+                if (!MessageDigest.isEqual(nonce.getBytes(StandardCharsets.UTF_8), received)) {
+                    continue;
+                }
+                return (ForkResult) inputStream.readObject();
+            } catch (InvalidClassException | ClassNotFoundException | ClassCastException e) {
+                throw new JunitPerfRuntimeException(e);
+            } catch (IOException e) {
+                // IGNORE 无关的连接
+            }
+        }
+    }
+
+    /**
+     * 生成令牌
+     * @return 令牌
+     */
+    private static String newNonce() {
+        byte[] bytes = new byte[NONCE_BYTES];
+        SECURE_RANDOM.nextBytes(bytes);
+        StringBuilder builder = new StringBuilder(NONCE_BYTES * 2);
+        for (byte b : bytes) {
+            builder.append(String.format("%02x", b));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 方法签名，例如 test(com.example.State,com.github.houbb.junitperf.core.blackhole.Blackhole)
+     * @param testMethod 测试方法
+     * @return 签名
+     */
+    static String toSignature(final Method testMethod) {
+        StringJoiner joiner = new StringJoiner(",", testMethod.getName() + "(", ")");
+        for (Class<?> parameterType : testMethod.getParameterTypes()) {
+            joiner.add(parameterType.getName());
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * 构建启动命令
+     * @param port 结果端口
+     * @param testClass 测试类
+     * @param testMethod 测试方法
+     * @param jvmArgs 新 JVM 的启动参数
+     * @param paramMap 参数扫描的组合
+     * @return 命令
+     */
+    private static List<String> buildCommand(final int port,
+                                             final Class<?> testClass,
+                                             final Method testMethod,
+                                             final String[] jvmArgs,
+                                             final Map<String, String> paramMap) {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        if (jvmArgs != null) {
+            command.addAll(Arrays.asList(jvmArgs));
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(ForkedEvaluationMain.class.getName());
+        command.add(String.valueOf(port));
+        command.add(testClass.getName());
+        command.add(toSignature(testMethod));
+        for (Map.Entry<String, String> entry : paramMap.entrySet()) {
+            command.add(entry.getKey() + "=" + entry.getValue());
+        }
+        return command;
+    }
+
+    /**
+     * 只允许 {@link ForkResult} 及其组成部分的输入流
+     * 1. 在类型解析时检查，不在允许范围内的类型不会被加载和实例化
+     * 2. 允许本项目、commons-math 统计相关的类型、配置的统计实现及其父类，以及常用的 JDK 集合、数值类型
+     */
+    private static class ForkResultInputStream extends ObjectInputStream {
+
+        /**
+         * 统计实现及其父类
+         */
+        private final Set<String> statisticsClassNames = new HashSet<>();
+
+        private ForkResultInputStream(final InputStream inputStream,
+                                      final Class<?> statisticsClass) throws IOException {
+            super(inputStream);
+            for (Class<?> type = statisticsClass; type != null && type != Object.class; type = type.getSuperclass()) {
+                statisticsClassNames.add(type.getName());
+            }
+        }
+
+        @Override
+        protected Class<?> resolveClass(final ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            if (!isAllowed(desc.getName())) {
+                throw new InvalidClassException(desc.getName(), "Class is not allowed in the result of a forked JVM");
+            }
+            return super.resolveClass(desc);
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass(final String[] interfaces) throws IOException {
+            throw new InvalidClassException("Proxy classes are not allowed in the result of a forked JVM");
+        }
+
+        private boolean isAllowed(final String className) {
+            String name = className;
+            while (name.startsWith("[")) {
+                name = name.substring(1);
+            }
+            if (name.length() == 1) {
+                // 基本类型数组
+                return true;
+            }
+            if (name.startsWith("L") && name.endsWith(";")) {
+                name = name.substring(1, name.length() - 1);
+            }
+            if (ALLOWED_JDK_CLASSES.contains(name) || statisticsClassNames.contains(name)) {
+                return true;
+            }
+            for (String allowedPackage : ALLOWED_PACKAGES) {
+                if (name.startsWith(allowedPackage)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,143 @@
+package com.github.houbb.junitperf.support.fork;
+
+import com.github.houbb.heaven.util.util.DateUtil;
+import com.github.houbb.junitperf.constant.VersionConstant;
+import com.github.houbb.junitperf.core.annotation.JunitPerfConfig;
+import com.github.houbb.junitperf.core.annotation.JunitPerfRequire;
+import com.github.houbb.junitperf.core.statistics.StatisticsCalculator;
+import com.github.houbb.junitperf.model.evaluation.EvaluationContext;
+import com.github.houbb.junitperf.support.exception.JunitPerfRuntimeException;
+import com.github.houbb.junitperf.support.params.ParamGrid;
+import com.github.houbb.junitperf.support.statements.PerformanceEvaluationStatement;
+import org.apiguardian.api.API;
+
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * fork 执行的入口
+ *
+ * 由 {@link ForkRunner} 在新启动的 JVM 中调用，参数依次为：结果端口、测试类、测试方法签名，之后为参数扫描的组合（参数=值）。
+ * 1. 通过无参数构造器创建测试实例，按照方法上的注解完成测量，不进行校验和报告。
+ * 2. 测试方法按名称和参数类型查找，包括父类中声明的方法，支持注入线程状态、黑洞等参数的方法。
+ * 3. 测量结果通过本地 socket 序列化传回，结果之前先写入环境变量 {@link #NONCE_ENV} 中的令牌。
+ * 4. 执行线程可能没有结束，完成后直接退出 JVM。
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public final class ForkedEvaluationMain {
+
+    /**
+     * 令牌的环境变量名称
+     */
+    static final String NONCE_ENV = "JUNITPERF_FORK_NONCE";
+
+    private ForkedEvaluationMain() {
+    }
+
+    public static void main(String[] args) {
+        int exitCode = 0;
+        try {
+            Map<String, String> paramMap = new LinkedHashMap<>();
+            for (int i = 3; i < args.length; i++) {
+                int index = args[i].indexOf('=');
+                paramMap.put(args[i].substring(0, index), args[i].substring(index + 1));
+            }
+            evaluate(Integer.parseInt(args[0]), Class.forName(args[1]), args[2], paramMap);
+        } catch (Throwable throwable) {
+            throwable.printStackTrace();
+            exitCode = 1;
+        }
+        System.exit(exitCode);
+    }
+
+    /**
+     * 执行测量并传回结果
+     * @param port 结果端口
+     * @param testClass 测试类
+     * @param methodSignature 测试方法签名
+     * @param paramMap 参数扫描的组合，不扫描时为空
+     * @throws Throwable 异常
+     */
+    private static void evaluate(final int port,
+                                 final Class<?> testClass,
+                                 final String methodSignature,
+                                 final Map<String, String> paramMap) throws Throwable {
+        String nonce = System.getenv(NONCE_ENV);
+        if (nonce == null) {
+            throw new JunitPerfRuntimeException("Missing environment variable " + NONCE_ENV);
+        }
+        Method testMethod = findMethod(testClass, methodSignature);
+        Constructor<?> constructor = testClass.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        Object testInstance = constructor.newInstance();
+
+        JunitPerfConfig perfConfig = testMethod.getAnnotation(JunitPerfConfig.class);
+        EvaluationContext evaluationContext = new EvaluationContext(testInstance, testMethod, DateUtil.getCurrentDateTimeStr());
+        if (paramMap.isEmpty()) {
+            evaluationContext.loadConfig(perfConfig);
+        } else {
+            evaluationContext.loadConfig(perfConfig, ParamGrid.getThreads(paramMap, perfConfig.threads()));
+            evaluationContext.setParamMap(paramMap);
+            ParamGrid.inject(testInstance, paramMap);
+        }
+        evaluationContext.loadRequire(testMethod.getAnnotation(JunitPerfRequire.class));
+        StatisticsCalculator statisticsCalculator = perfConfig.statistics().newInstance();
+        new PerformanceEvaluationStatement(evaluationContext,
+                statisticsCalculator,
+                Collections.emptySet(),
+                Collections.singletonList(evaluationContext),
+                testClass).measure();
+
+        ForkResult forkResult = new ForkResult();
+        forkResult.setStatisticsCalculator(evaluationContext.getStatisticsCalculator());
+        forkResult.setEvaluationRuntime(evaluationContext.getEvaluationRuntime());
+        forkResult.setStageStatisticsList(evaluationContext.getStageStatisticsList());
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             ObjectOutputStream outputStream = new ObjectOutputStream(socket.getOutputStream())) {
+            outputStream.writeUTF(nonce);
+            outputStream.writeObject(forkResult);
+        }
+    }
+
+    /**
+     * 按签名查找测试方法
+     * 1. 从测试类开始依次查找父类中声明的方法
+     * @param testClass 测试类
+     * @param methodSignature 签名，格式见 {@link ForkRunner#toSignature(Method)}
+     * @return 方法
+     * @throws ClassNotFoundException 参数类型不存在
+     * @throws NoSuchMethodException 方法不存在
+     */
+    private static Method findMethod(final Class<?> testClass,
+                                     final String methodSignature) throws ClassNotFoundException, NoSuchMethodException {
+        int index = methodSignature.indexOf('(');
+        String methodName = methodSignature.substring(0, index);
+        String parameters = methodSignature.substring(index + 1, methodSignature.length() - 1);
+        List<Class<?>> parameterTypeList = new ArrayList<>();
+        if (!parameters.isEmpty()) {
+            for (String parameterType : parameters.split(",")) {
+                parameterTypeList.add(Class.forName(parameterType, false, testClass.getClassLoader()));
+            }
+        }
+        Class<?>[] parameterTypes = parameterTypeList.toArray(new Class<?>[0]);
+        for (Class<?> type = testClass; type != null; type = type.getSuperclass()) {
+            try {
+                return type.getDeclaredMethod(methodName, parameterTypes);
+            } catch (NoSuchMethodException e) {
+                // 继续查找父类
+            }
+        }
+        throw new NoSuchMethodException(testClass.getName() + "." + methodSignature);
+    }
+
+}
@@ -0,0 +1,394 @@
+package com.github.houbb.junitperf.support.histogram;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import org.apiguardian.api.API;
+
+import java.io.Serializable;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * 延迟直方图（log-linear，参考 HdrHistogram 的桶布局）
+ *
+ * 1. 桶数组在构造时一次性分配，之后的记录不再分配内存，内存占用与运行时长无关。
+ * 2. 每个指数桶内再做线性划分，保证在 [1, highestTrackableValue] 范围内，
+ * 任意记录值与其所在桶的代表值之间的相对误差不超过 10^-significantDigits。
+ * 3. 超过 highestTrackableValue 的值会记录到最后一个桶中，但 min/max/mean 依然是精确值。
+ *
+ * 本类只负责桶布局和统计计算，计数的存储方式由子类决定：
+ * {@link LatencyHistogram} 使用原子操作，可以被多个线程同时写入；
+ * {@link SingleWriterLatencyHistogram} 使用普通字段，只能由一个线程写入。
+ * 布局相同的直方图之间可以互相合并。
+ *
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public abstract class AbstractLatencyHistogram implements Serializable {
+
+    private static final long serialVersionUID = 6080371342170927153L;
+
+    /**
+     * 有效数字位数
+     */
+    private final int significantDigits;
+
+    /**
+     * 最大可追踪的值
+     */
+    private final long highestTrackableValue;
+
+    /**
+     * 子桶数量的一半（以 2 为底的指数）
+     */
+    private final int subBucketHalfCountMagnitude;
+
+    /**
+     * 子桶数量的一半
+     */
+    private final int subBucketHalfCount;
+
+    /**
+     * 子桶掩码
+     */
+    private final long subBucketMask;
+
+    /**
+     * 计算桶下标时使用的前导零基数
+     */
+    private final int leadingZeroCountBase;
+
+    /**
+     * 桶数组长度
+     */
+    private final int countsLength;
+
+    /**
+     * 构造器
+     * @param highestTrackableValue 最大可追踪的值，需要 &gt;= 2
+     * @param significantDigits 有效数字位数，取值范围 [1, 5]
+     */
+    protected AbstractLatencyHistogram(final long highestTrackableValue, final int significantDigits) {
+        checkArgument(significantDigits >= 1 && significantDigits <= 5, "significantDigits must be in [1, 5].");
+        checkArgument(highestTrackableValue >= 2, "highestTrackableValue must be >= 2.");
+        this.significantDigits = significantDigits;
+        this.highestTrackableValue = highestTrackableValue;
+
+        long largestValueWithSingleUnitResolution = 2 * (long) Math.pow(10, significantDigits);
+        int subBucketCountMagnitude = (int) Math.ceil(Math.log(largestValueWithSingleUnitResolution) / Math.log(2));
+        this.subBucketHalfCountMagnitude = subBucketCountMagnitude - 1;
+        int subBucketCount = 1 << subBucketCountMagnitude;
+        this.subBucketHalfCount = subBucketCount / 2;
+        this.subBucketMask = subBucketCount - 1;
+        this.leadingZeroCountBase = 64 - subBucketHalfCountMagnitude - 1;
+
+        int bucketCount = bucketsNeededToCoverValue(highestTrackableValue, subBucketCount);
+        this.countsLength = (bucketCount + 1) * subBucketHalfCount;
+    }
+
+    /**
+     * 桶计数增加
+     * @param index 下标
+     * @param count 增加的次数
+     */
+    protected abstract void addToCountAtIndex(int index, long count);
+
+    /**
+     * 总记录数和记录值总和增加
+     * @param count 增加的次数
+     * @param sum 增加的总和
+     */
+    protected abstract void addToTotals(long count, long sum);
+
+    /**
+     * 更新最小值和最大值
+     * @param min 候选最小值
+     * @param max 候选最大值
+     */
+    protected abstract void updateMinAndMax(long min, long max);
+
+    /**
+     * 记录值总和
+     * @return 总和
+     */
+    protected abstract long getTotalSum();
+
+    /**
+     * 记录的最小值，不判断是否为空
+     * @return 没有记录时返回 {@link Long#MAX_VALUE}
+     */
+    protected abstract long getRawMinValue();
+
+    /**
+     * 获取桶计数
+     * @param index 下标
+     * @return 计数
+     */
+    public abstract long getCountAtIndex(int index);
+
+    /**
+     * 总记录数
+     * @return 总数
+     */
+    public abstract long getTotalCount();
+
+    /**
+     * 最大值
+     * @return 最大值
+     */
+    public abstract long getMaxValue();
+
+    /**
+     * 清空所有记录
+     * 备注：清空期间不能有并发的写入
+     */
+    public abstract void reset();
+
+    /**
+     * 记录一个值
+     * @param value 值，负数视为 0
+     */
+    public void recordValue(final long value) {
+        recordValueWithCount(value, 1);
+    }
+
+    /**
+     * 记录一个值若干次
+     * @param value 值，负数视为 0
+     * @param count 次数
+     */
+    public void recordValueWithCount(final long value, final long count) {
+        if (count <= 0) {
+            return;
+        }
+        long actual = Math.max(value, 0L);
+        addToCountAtIndex(countsIndexFor(Math.min(actual, highestTrackableValue)), count);
+        addToTotals(count, actual * count);
+        updateMinAndMax(actual, actual);
+    }
+
+    /**
+     * 合并另一个直方图
+     * @param other 其他直方图，布局需要一致
+     */
+    public void add(final AbstractLatencyHistogram other) {
+        checkArgument(isCompatible(other), "Histogram layout must be the same to merge.");
+        if (other.getTotalCount() == 0) {
+            return;
+        }
+        for (int i = 0; i < countsLength; i++) {
+            long count = other.getCountAtIndex(i);
+            if (count != 0) {
+                addToCountAtIndex(i, count);
+            }
+        }
+        addToTotals(other.getTotalCount(), other.getTotalSum());
+        updateMinAndMax(other.getRawMinValue(), other.getMaxValue());
+    }
+
+    /**
+     * 复制一个经过协调遗漏（coordinated omission）修正的直方图
+     *
+     * 对于每一个大于期望间隔的记录值 v，补充 v - interval, v - 2 * interval ... 直到小于期望间隔，
+     * 即：停顿期间本应发出、却因为闭环等待而没有发出的请求。
+     * 补充值按桶批量记录，耗时与桶数量相关，与停顿长度无关。
+     * @param expectedInterval 期望的调用间隔，&lt;= 0 时直接复制
+     * @return 修正后的直方图
+     */
+    public LatencyHistogram copyCorrectedForCoordinatedOmission(final long expectedInterval) {
+        LatencyHistogram copy = new LatencyHistogram(highestTrackableValue, significantDigits);
+        copy.add(this);
+        if (expectedInterval <= 0) {
+            return copy;
+        }
+        for (int i = 0; i < countsLength; i++) {
+            long count = getCountAtIndex(i);
+            if (count == 0) {
+                continue;
+            }
+            long value = Math.min(highestEquivalentValue(valueFromIndex(i)), getMaxValue());
+            recordMissingValues(copy, value - expectedInterval, expectedInterval, count);
+        }
+        return copy;
+    }
+
+    /**
+     * 记录等差数列 first, first - step, ... (&gt;= step) 中的每个值各 count 次
+     * @param target 目标直方图
+     * @param first 第一个值
+     * @param step 步长
+     * @param count 次数
+     */
+    private void recordMissingValues(final AbstractLatencyHistogram target,
+                                     final long first, final long step, final long count) {
+        long current = first;
+        while (current >= step) {
+            long bucketFloor = Math.max(lowestEquivalentValue(Math.min(current, highestTrackableValue)), step);
+            long terms = (current - bucketFloor) / step + 1;
+            long smallest = current - (terms - 1) * step;
+            target.addToCountAtIndex(countsIndexFor(Math.min(current, highestTrackableValue)), terms * count);
+            target.addToTotals(terms * count, (long) (((double) current + smallest) / 2 * terms * count));
+            target.updateMinAndMax(smallest, current);
+            current = smallest - step;
+        }
+    }
+
+    /**
+     * 获取百分位对应的值
+     * @param percentile 百分位 [0, 100]
+     * @return 值，直方图为空时返回 0
+     */
+    public long getValueAtPercentile(final double percentile) {
+        long total = getTotalCount();
+        if (total == 0) {
+            return 0L;
+        }
+        double requested = Math.min(Math.max(percentile, 0D), 100D);
+        long countAtPercentile = Math.max(1L, (long) Math.ceil(requested / 100D * total));
+        long runningCount = 0;
+        for (int i = 0; i < countsLength; i++) {
+            runningCount += getCountAtIndex(i);
+            if (runningCount >= countAtPercentile) {
+                long value = requested == 0D ? lowestEquivalentValue(valueFromIndex(i)) : highestEquivalentValue(valueFromIndex(i));
+                return Math.min(Math.max(value, getMinValue()), getMaxValue());
+            }
+        }
+        return getMaxValue();
+    }
+
+    /**
+     * 大于指定值的记录数
+     * 1. 与 {@link #getValueAtPercentile(double)} 一致，按桶的上界比较，跨越指定值的桶整体计入
+     * @param value 值
+     * @return 记录数
+     * @since 2.0.8
+     */
+    public long getCountAbove(final long value) {
+        long count = 0;
+        for (int i = countsLength - 1; i >= 0; i--) {
+            if (highestEquivalentValue(valueFromIndex(i)) <= value) {
+                break;
+            }
+            count += getCountAtIndex(i);
+        }
+        return count;
+    }
+
+    /**
+     * 最小值
+     * @return 最小值，直方图为空时返回 0
+     */
+    public long getMinValue() {
+        return getTotalCount() == 0 ? 0L : getRawMinValue();
+    }
+
+    /**
+     * 平均值
+     * @return 平均值，直方图为空时返回 0
+     */
+    public double getMean() {
+        long total = getTotalCount();
+        if (total == 0) {
+            return 0D;
+        }
+        return (double) getTotalSum() / total;
+    }
+
+    /**
+     * 桶数组长度
+     * @return 长度
+     */
+    public int getCountsLength() {
+        return countsLength;
+    }
+
+    /**
+     * 获取桶的代表值（桶的中间值）
+     * @param index 下标
+     * @return 值
+     */
+    public long getMedianEquivalentValueAtIndex(final int index) {
+        long value = valueFromIndex(index);
+        return lowestEquivalentValue(value) + (sizeOfEquivalentValueRange(value) >> 1);
+    }
+
+    /**
+     * 相对误差上限
+     * @return 误差上限，例如 3 位有效数字时为 0.001
+     */
+    public double getRelativeErrorBound() {
+        return Math.pow(10, -significantDigits);
+    }
+
+    public int getSignificantDigits() {
+        return significantDigits;
+    }
+
+    public long getHighestTrackableValue() {
+        return highestTrackableValue;
+    }
+
+    /**
+     * 布局是否一致
+     * @param other 其他直方图
+     * @return {@code true} 是
+     */
+    private boolean isCompatible(final AbstractLatencyHistogram other) {
+        return other != null
+                && other.significantDigits == significantDigits
+                && other.highestTrackableValue == highestTrackableValue;
+    }
+
+    private int countsIndexFor(final long value) {
+        int bucketIndex = getBucketIndex(value);
+        int subBucketIndex = (int) (value >>> bucketIndex);
+        return ((bucketIndex + 1) << subBucketHalfCountMagnitude) + (subBucketIndex - subBucketHalfCount);
+    }
+
+    private int getBucketIndex(final long value) {
+        return leadingZeroCountBase - Long.numberOfLeadingZeros(value | subBucketMask);
+    }
+
+    private long valueFromIndex(final int index) {
+        int bucketIndex = (index >> subBucketHalfCountMagnitude) - 1;
+        int subBucketIndex = (index & (subBucketHalfCount - 1)) + subBucketHalfCount;
+        if (bucketIndex < 0) {
+            subBucketIndex -= subBucketHalfCount;
+            bucketIndex = 0;
+        }
+        return ((long) subBucketIndex) << bucketIndex;
+    }
+
+    private long sizeOfEquivalentValueRange(final long value) {
+        return 1L << getBucketIndex(value);
+    }
+
+    private long lowestEquivalentValue(final long value) {
+        int bucketIndex = getBucketIndex(value);
+        return (value >>> bucketIndex) << bucketIndex;
+    }
+
+    private long highestEquivalentValue(final long value) {
+        return lowestEquivalentValue(value) + sizeOfEquivalentValueRange(value) - 1;
+    }
+
+    /**
+     * 覆盖指定值需要的指数桶数量
+     * @param value 值
+     * @param subBucketCount 子桶数量
+     * @return 桶数量
+     */
+    private static int bucketsNeededToCoverValue(final long value, final int subBucketCount) {
+        long smallestUntrackableValue = subBucketCount;
+        int bucketsNeeded = 1;
+        while (smallestUntrackableValue <= value) {
+            if (smallestUntrackableValue > (Long.MAX_VALUE >> 1)) {
+                return bucketsNeeded + 1;
+            }
+            smallestUntrackableValue <<= 1;
+            bucketsNeeded++;
+        }
+        return bucketsNeeded;
+    }
+
+}
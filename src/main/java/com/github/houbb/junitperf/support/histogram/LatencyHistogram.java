@@ -0,0 +1,126 @@
+package com.github.houbb.junitperf.support.histogram;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import org.apiguardian.api.API;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 延迟直方图（并发写入）
+ *
+ * 记录过程只使用原子操作，可以被多个线程同时写入。
+ * 只有一个线程写入时，推荐使用开销更低的 {@link SingleWriterLatencyHistogram}。
+ *
+ * @author bbhou
+ * @since 2.0.8
+ * @see AbstractLatencyHistogram
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public class LatencyHistogram extends AbstractLatencyHistogram {
+
+    private static final long serialVersionUID = -3629851562236095542L;
+
+    /**
+     * 桶计数
+     */
+    private final AtomicLongArray counts;
+
+    /**
+     * 总记录数
+     */
+    private final AtomicLong totalCount = new AtomicLong();
+
+    /**
+     * 记录值总和，用于计算精确的平均值
+     */
+    private final AtomicLong totalSum = new AtomicLong();
+
+    /**
+     * 最小值（精确）
+     */
+    private final AtomicLong minValue = new AtomicLong(Long.MAX_VALUE);
+
+    /**
+     * 最大值（精确）
+     */
+    private final AtomicLong maxValue = new AtomicLong(0L);
+
+    /**
+     * 构造器
+     * @param highestTrackableValue 最大可追踪的值，需要 &gt;= 2
+     * @param significantDigits 有效数字位数，取值范围 [1, 5]
+     */
+    public LatencyHistogram(final long highestTrackableValue, final int significantDigits) {
+        super(highestTrackableValue, significantDigits);
+        this.counts = new AtomicLongArray(getCountsLength());
+    }
+
+    @Override
+    protected void addToCountAtIndex(final int index, final long count) {
+        counts.addAndGet(index, count);
+    }
+
+    @Override
+    protected void addToTotals(final long count, final long sum) {
+        totalCount.addAndGet(count);
+        totalSum.addAndGet(sum);
+    }
+
+    @Override
+    protected void updateMinAndMax(final long min, final long max) {
+        long current = minValue.get();
+        while (min < current && !minValue.compareAndSet(current, min)) {
+            current = minValue.get();
+        }
+        current = maxValue.get();
+        while (max > current && !maxValue.compareAndSet(current, max)) {
+            current = maxValue.get();
+        }
+    }
+
+    @Override
+    protected long getTotalSum() {
+        return totalSum.get();
+    }
+
+    @Override
+    protected long getRawMinValue() {
+        return minValue.get();
+    }
+
+    @Override
+    public long getCountAtIndex(final int index) {
+        return counts.get(index);
+    }
+
+    @Override
+    public long getTotalCount() {
+        return totalCount.get();
+    }
+
+    @Override
+    public long getMaxValue() {
+        return maxValue.get();
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0L);
+        }
+        totalCount.set(0L);
+        totalSum.set(0L);
+        minValue.set(Long.MAX_VALUE);
+        maxValue.set(0L);
+    }
+
+    /**
+     * 创建布局相同的空直方图
+     * @return 直方图
+     */
+    public LatencyHistogram newEmptyCopy() {
+        return new LatencyHistogram(getHighestTrackableValue(), getSignificantDigits());
+    }
+
+}
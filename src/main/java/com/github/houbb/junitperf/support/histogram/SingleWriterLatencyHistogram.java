@@ -0,0 +1,114 @@
+package com.github.houbb.junitperf.support.histogram;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import org.apiguardian.api.API;
+
+import java.util.Arrays;
+
+/**
+ * 延迟直方图（单线程写入）
+ *
+ * 1. 计数使用普通的 long 数组和字段，记录时没有原子操作和 CAS，适合每个执行线程独享的统计。
+ * 2. 同一时刻只能有一个线程写入。
+ * 3. 其他线程需要在写入线程结束（join）之后，或者通过其他同步手段建立 happens-before 关系之后读取。
+ *
+ * @author bbhou
+ * @since 2.0.8
+ * @see AbstractLatencyHistogram
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public class SingleWriterLatencyHistogram extends AbstractLatencyHistogram {
+
+    private static final long serialVersionUID = 2615806338715384722L;
+
+    /**
+     * 桶计数
+     */
+    private final long[] counts;
+
+    /**
+     * 总记录数
+     */
+    private long totalCount;
+
+    /**
+     * 记录值总和，用于计算精确的平均值
+     */
+    private long totalSum;
+
+    /**
+     * 最小值（精确）
+     */
+    private long minValue = Long.MAX_VALUE;
+
+    /**
+     * 最大值（精确）
+     */
+    private long maxValue;
+
+    /**
+     * 构造器
+     * @param highestTrackableValue 最大可追踪的值，需要 &gt;= 2
+     * @param significantDigits 有效数字位数，取值范围 [1, 5]
+     */
+    public SingleWriterLatencyHistogram(final long highestTrackableValue, final int significantDigits) {
+        super(highestTrackableValue, significantDigits);
+        this.counts = new long[getCountsLength()];
+    }
+
+    @Override
+    protected void addToCountAtIndex(final int index, final long count) {
+        counts[index] += count;
+    }
+
+    @Override
+    protected void addToTotals(final long count, final long sum) {
+        totalCount += count;
+        totalSum += sum;
+    }
+
+    @Override
+    protected void updateMinAndMax(final long min, final long max) {
+        if (min < minValue) {
+            minValue = min;
+        }
+        if (max > maxValue) {
+            maxValue = max;
+        }
+    }
+
+    @Override
+    protected long getTotalSum() {
+        return totalSum;
+    }
+
+    @Override
+    protected long getRawMinValue() {
+        return minValue;
+    }
+
+    @Override
+    public long getCountAtIndex(final int index) {
+        return counts[index];
+    }
+
+    @Override
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    @Override
+    public long getMaxValue() {
+        return maxValue;
+    }
+
+    @Override
+    public void reset() {
+        Arrays.fill(counts, 0L);
+        totalCount = 0L;
+        totalSum = 0L;
+        minValue = Long.MAX_VALUE;
+        maxValue = 0L;
+    }
+
+}
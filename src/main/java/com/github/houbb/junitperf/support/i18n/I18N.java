@@ -58,6 +58,87 @@ public class I18N {
         public static final String success = "success";
         public static final String actual = "actual";
 
+        public static final String expected_interval = "expected_interval";
+        public static final String percentile = "percentile";
+        public static final String uncorrected = "uncorrected";
+        public static final String corrected = "corrected";
+
+        public static final String target_rate = "target_rate";
+        public static final String arrivals = "arrivals";
+        public static final String delayed_arrivals = "delayed_arrivals";
+        public static final String dropped_arrivals = "dropped_arrivals";
+        public static final String max_start_delay = "max_start_delay";
+
+        public static final String invoker = "invoker";
+        public static final String invocation_overhead = "invocation_overhead";
+
+        public static final String timeline = "timeline";
+        public static final String elapsed_time = "elapsed_time";
+        public static final String errors = "errors";
+        public static final String latency = "latency";
+
+        public static final String bytes_per_op = "bytes_per_op";
+        public static final String allocation_rate = "allocation_rate";
+
+        public static final String gc = "gc";
+        public static final String gc_pause = "gc_pause";
+        public static final String max_gc_pause = "max_gc_pause";
+        public static final String gc_percentage = "gc_percentage";
+        public static final String heap_used = "heap_used";
+
+        public static final String cpu_time = "cpu_time";
+        public static final String cpu_wall_ratio = "cpu_wall_ratio";
+        public static final String cpu_utilization = "cpu_utilization";
+
+        public static final String adaptive = "adaptive";
+        public static final String steady = "steady";
+        public static final String not_steady = "not_steady";
+        public static final String jit_compilation = "jit_compilation";
+
+        public static final String stage = "stage";
+        public static final String stages = "stages";
+
+        public static final String thread_type = "thread_type";
+        public static final String virtual_threads_unsupported = "virtual_threads_unsupported";
+
+        public static final String async_call = "async_call";
+        public static final String in_flight_window = "in_flight_window";
+
+        public static final String batch_size = "batch_size";
+        public static final String batch_latency_note = "batch_latency_note";
+
+        public static final String throughput_samples = "throughput_samples";
+        public static final String confidence_interval = "confidence_interval";
+        public static final String latency_not_measured = "latency_not_measured";
+
+        public static final String latency_samples = "latency_samples";
+        public static final String sample_every = "sample_every";
+        public static final String sample_probability = "sample_probability";
+        public static final String tail_samples = "tail_samples";
+
+        public static final String fixed_invocations = "fixed_invocations";
+        public static final String time_limit = "time_limit";
+
+        public static final String cooldown = "cooldown";
+        public static final String unfinished_threads = "unfinished_threads";
+
+        public static final String forks = "forks";
+
+        public static final String param_sweep = "param_sweep";
+        public static final String scaling_efficiency = "scaling_efficiency";
+
+        public static final String saturation_search = "saturation_search";
+        public static final String saturation_point = "saturation_point";
+
+        public static final String precision = "precision";
+        public static final String batches = "batches";
+        public static final String stopped_early = "stopped_early";
+        public static final String max_duration_reached = "max_duration_reached";
+
+        public static final String sequential_test = "sequential_test";
+        public static final String not_settled = "not_settled";
+        public static final String settled_early = "settled_early";
+
         /**
          * 报告信息为空
          */
@@ -91,6 +172,66 @@ public class I18N {
         vo.setMin_latency(get(Key.min_latency));
         vo.setAvg_latency(get(Key.avg_latency));
         vo.setMemory(get(Key.memory));
+        vo.setExpected_interval(get(Key.expected_interval));
+        vo.setPercentile(get(Key.percentile));
+        vo.setUncorrected(get(Key.uncorrected));
+        vo.setCorrected(get(Key.corrected));
+        vo.setTarget_rate(get(Key.target_rate));
+        vo.setArrivals(get(Key.arrivals));
+        vo.setDelayed_arrivals(get(Key.delayed_arrivals));
+        vo.setDropped_arrivals(get(Key.dropped_arrivals));
+        vo.setMax_start_delay(get(Key.max_start_delay));
+        vo.setInvoker(get(Key.invoker));
+        vo.setInvocation_overhead(get(Key.invocation_overhead));
+        vo.setTimeline(get(Key.timeline));
+        vo.setElapsed_time(get(Key.elapsed_time));
+        vo.setErrors(get(Key.errors));
+        vo.setLatency(get(Key.latency));
+        vo.setBytes_per_op(get(Key.bytes_per_op));
+        vo.setAllocation_rate(get(Key.allocation_rate));
+        vo.setGc(get(Key.gc));
+        vo.setGc_pause(get(Key.gc_pause));
+        vo.setMax_gc_pause(get(Key.max_gc_pause));
+        vo.setGc_percentage(get(Key.gc_percentage));
+        vo.setHeap_used(get(Key.heap_used));
+        vo.setCpu_time(get(Key.cpu_time));
+        vo.setCpu_wall_ratio(get(Key.cpu_wall_ratio));
+        vo.setCpu_utilization(get(Key.cpu_utilization));
+        vo.setAdaptive(get(Key.adaptive));
+        vo.setSteady(get(Key.steady));
+        vo.setNot_steady(get(Key.not_steady));
+        vo.setJit_compilation(get(Key.jit_compilation));
+        vo.setStage(get(Key.stage));
+        vo.setStages(get(Key.stages));
+        vo.setThread_type(get(Key.thread_type));
+        vo.setVirtual_threads_unsupported(get(Key.virtual_threads_unsupported));
+        vo.setAsync_call(get(Key.async_call));
+        vo.setIn_flight_window(get(Key.in_flight_window));
+        vo.setBatch_size(get(Key.batch_size));
+        vo.setBatch_latency_note(get(Key.batch_latency_note));
+        vo.setThroughput_samples(get(Key.throughput_samples));
+        vo.setConfidence_interval(get(Key.confidence_interval));
+        vo.setLatency_not_measured(get(Key.latency_not_measured));
+        vo.setLatency_samples(get(Key.latency_samples));
+        vo.setSample_every(get(Key.sample_every));
+        vo.setSample_probability(get(Key.sample_probability));
+        vo.setTail_samples(get(Key.tail_samples));
+        vo.setFixed_invocations(get(Key.fixed_invocations));
+        vo.setTime_limit(get(Key.time_limit));
+        vo.setCooldown(get(Key.cooldown));
+        vo.setUnfinished_threads(get(Key.unfinished_threads));
+        vo.setForks(get(Key.forks));
+        vo.setParam_sweep(get(Key.param_sweep));
+        vo.setScaling_efficiency(get(Key.scaling_efficiency));
+        vo.setSaturation_search(get(Key.saturation_search));
+        vo.setSaturation_point(get(Key.saturation_point));
+        vo.setPrecision(get(Key.precision));
+        vo.setBatches(get(Key.batches));
+        vo.setStopped_early(get(Key.stopped_early));
+        vo.setMax_duration_reached(get(Key.max_duration_reached));
+        vo.setSequential_test(get(Key.sequential_test));
+        vo.setNot_settled(get(Key.not_settled));
+        vo.setSettled_early(get(Key.settled_early));
         return vo;
     }
 
@@ -0,0 +1,117 @@
+package com.github.houbb.junitperf.support.invoker;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import com.github.houbb.junitperf.constant.enums.InvokerTypeEnum;
+import com.github.houbb.junitperf.core.blackhole.Blackhole;
+import com.github.houbb.junitperf.support.builder.MethodInvokerBuilder;
+import com.github.houbb.junitperf.support.exception.JunitPerfRuntimeException;
+import org.apiguardian.api.API;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 调用开销校准
+ *
+ * 1. 用与执行循环相同的方式（两次 nanoTime 之间调用一次，返回值传入黑洞）测量空方法，得到每次调用的固定开销。
+ * 2. 取多轮平均值中的最小值，减少调度和 JIT 的干扰。
+ * 3. 每种调用方式在同一个 JVM 中只校准一次。
+ *
+ * 结果是估算值，可以从延迟中减去，用于评估亚微秒级的方法。
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public final class InvocationOverheadCalibrator {
+
+    /**
+     * 预热轮数
+     */
+    private static final int WARM_UP_ROUNDS = 3;
+
+    /**
+     * 测量轮数
+     */
+    private static final int MEASURE_ROUNDS = 5;
+
+    /**
+     * 每轮的调用次数
+     */
+    private static final int ROUND_INVOCATIONS = 20_000;
+
+    /**
+     * 校准结果缓存，单位：纳秒
+     */
+    private static final Map<InvokerTypeEnum, Long> OVERHEAD_CACHE = new ConcurrentHashMap<>();
+
+    private InvocationOverheadCalibrator() {
+    }
+
+    /**
+     * 获取每次调用的开销
+     * @param invokerType 调用方式
+     * @return 开销，单位：纳秒
+     */
+    public static long getOverheadNs(final InvokerTypeEnum invokerType) {
+        return OVERHEAD_CACHE.computeIfAbsent(invokerType, InvocationOverheadCalibrator::calibrate);
+    }
+
+    /**
+     * 校准
+     * @param invokerType 调用方式
+     * @return 开销，单位：纳秒
+     */
+    private static long calibrate(final InvokerTypeEnum invokerType) {
+        MethodInvoker invoker = new MethodInvokerBuilder(new EmptyTarget(), getEmptyMethod())
+                .preferredType(invokerType)
+                .build();
+
+        long bestNs = Long.MAX_VALUE;
+        for (int round = 0; round < WARM_UP_ROUNDS + MEASURE_ROUNDS; round++) {
+            long totalNs = measureRound(invoker);
+            if (round >= WARM_UP_ROUNDS) {
+                bestNs = Math.min(bestNs, totalNs / ROUND_INVOCATIONS);
+            }
+        }
+        return bestNs;
+    }
+
+    /**
+     * 测量一轮
+     * @param invoker 调用者
+     * @return 总耗时，单位：纳秒
+     */
+    private static long measureRound(final MethodInvoker invoker) {
+        long totalNs = 0;
+        Blackhole blackhole = new Blackhole();
+        for (int i = 0; i < ROUND_INVOCATIONS; i++) {
+            long startTimeNs = System.nanoTime();
+            try {
+                blackhole.consume(invoker.invoke());
+            } catch (Throwable throwable) {
+                // IGNORE
+            }
+            totalNs += System.nanoTime() - startTimeNs;
+        }
+        return totalNs;
+    }
+
+    private static Method getEmptyMethod() {
+        try {
+            return EmptyTarget.class.getMethod("empty");
+        } catch (NoSuchMethodException e) {
+            throw new JunitPerfRuntimeException(e);
+        }
+    }
+
+    /**
+     * 校准使用的空方法
+     */
+    public static final class EmptyTarget {
+
+        public void empty() {
+        }
+    }
+
+}
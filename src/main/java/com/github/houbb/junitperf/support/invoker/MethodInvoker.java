@@ -0,0 +1,25 @@
+package com.github.houbb.junitperf.support.invoker;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import org.apiguardian.api.API;
+
+/**
+ * 测试方法调用者
+ *
+ * 1. 构建时已经绑定了测试实例和测试方法，执行循环中只需要调用 {@link #invoke()}。
+ * 2. 测试方法抛出的异常原样抛出，不会被包装为 {@link java.lang.reflect.InvocationTargetException}。
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+@FunctionalInterface
+public interface MethodInvoker {
+
+    /**
+     * 调用测试方法
+     * @return 方法的返回值，void 方法返回 null
+     * @throws Throwable 测试方法抛出的异常
+     */
+    Object invoke() throws Throwable;
+
+}
@@ -0,0 +1,30 @@
+package com.github.houbb.junitperf.support.invoker;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import org.apiguardian.api.API;
+
+/**
+ * 无返回值的测试方法调用者
+ *
+ * LambdaMetafactory 不允许将 void 方法适配为返回 Object 的接口方法，
+ * 所以 void 方法生成本接口的实现，再由默认方法适配为 {@link MethodInvoker}。
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+@FunctionalInterface
+public interface VoidMethodInvoker extends MethodInvoker {
+
+    /**
+     * 调用测试方法
+     * @throws Throwable 测试方法抛出的异常
+     */
+    void invokeVoid() throws Throwable;
+
+    @Override
+    default Object invoke() throws Throwable {
+        invokeVoid();
+        return null;
+    }
+
+}
@@ -0,0 +1,270 @@
+package com.github.houbb.junitperf.support.jvm;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import com.github.houbb.junitperf.model.evaluation.component.GcEvent;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.GcInfo;
+import org.apiguardian.api.API;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GC 监控
+ *
+ * 1. {@link #snapshot()} 读取所有 {@link GarbageCollectorMXBean} 的累计次数、累计时间，以及当前的堆使用量。
+ * 2. {@link #start()} 之后通过 GC 通知逐个记录停顿，可以得到单次最大停顿以及停顿发生的时间。
+ * 3. 按通知的动作区分停顿与并发周期：ZGC、Shenandoah 的 Cycles 收集器报告整个并发周期（动作为 end of GC cycle），不计为停顿；
+ * 其余通知都是停顿，包括 CMS（ConcurrentMarkSweep）的初始标记、重新标记及并发模式失败时的 Full GC，
+ * 以及 G1 Concurrent GC 报告的 Remark、Cleanup 停顿。
+ * 4. 事件数量有上限，超过后只累加次数和时间。
+ *
+ * 备注：非 GC 引起的安全点停顿无法通过标准的 MXBean 获取，不在统计范围内。
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public class GcMonitor implements NotificationListener {
+
+    /**
+     * 最多保留的事件数量
+     */
+    private static final int MAX_EVENTS = 10_000;
+
+    /**
+     * 并发周期的动作
+     */
+    private static final String CYCLE_ACTION = "end of GC cycle";
+
+    /**
+     * 只报告并发周期的收集器名称后缀，例如 ZGC Cycles、ZGC Major Cycles、Shenandoah Cycles
+     */
+    private static final String CYCLES_NAME_SUFFIX = " Cycles";
+
+    /**
+     * 已经注册监听的收集器
+     */
+    private final List<NotificationEmitter> emitterList = new ArrayList<>();
+
+    /**
+     * 测量期间的停顿事件
+     */
+    private final List<GcEvent> eventList = new ArrayList<>();
+
+    /**
+     * 开始监控时的 JVM 运行时长，单位：毫秒
+     */
+    private long uptimeMsAtStart;
+
+    /**
+     * 开始监控时的 nanoTime
+     */
+    private long nanoTimeAtStart;
+
+    /**
+     * 测量开始时间，之前的停顿不记录
+     */
+    private volatile long measureStartNs = Long.MAX_VALUE;
+
+    /**
+     * 测量结束时间，之后的停顿不记录
+     */
+    private volatile long measureStopNs = Long.MAX_VALUE;
+
+    /**
+     * 测量期间的停顿次数
+     */
+    private long pauseCount;
+
+    /**
+     * 测量期间的停顿总时间，单位：毫秒
+     */
+    private long pauseTimeMs;
+
+    /**
+     * 测量期间的单次最大停顿，单位：毫秒
+     */
+    private long maxPauseMs;
+
+    /**
+     * 是否成功注册了 GC 通知
+     */
+    private boolean notificationSupported;
+
+    /**
+     * 获取当前的 GC 快照
+     * @return 快照
+     */
+    public static GcSnapshot snapshot() {
+        long count = 0;
+        long timeMs = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0L, bean.getCollectionCount());
+            timeMs += Math.max(0L, bean.getCollectionTime());
+        }
+        long heapUsed = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        return new GcSnapshot(count, timeMs, heapUsed);
+    }
+
+    /**
+     * 开始监听 GC 通知
+     */
+    public void start() {
+        uptimeMsAtStart = ManagementFactory.getRuntimeMXBean().getUptime();
+        nanoTimeAtStart = System.nanoTime();
+        try {
+            for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+                if (bean instanceof NotificationEmitter) {
+                    NotificationEmitter emitter = (NotificationEmitter) bean;
+                    emitter.addNotificationListener(this, null, null);
+                    emitterList.add(emitter);
+                }
+            }
+            notificationSupported = !emitterList.isEmpty();
+        } catch (LinkageError | RuntimeException e) {
+            notificationSupported = false;
+        }
+    }
+
+    /**
+     * 标记测量开始，之前开始的停顿不记录
+     * @param startNs 开始时间
+     */
+    public void markMeasurementStart(final long startNs) {
+        this.measureStartNs = startNs;
+    }
+
+    /**
+     * 标记测量结束，之后开始的停顿不记录
+     * @param stopNs 结束时间
+     */
+    public void markMeasurementStop(final long stopNs) {
+        this.measureStopNs = stopNs;
+    }
+
+    /**
+     * 停止监听
+     */
+    public void stop() {
+        for (NotificationEmitter emitter : emitterList) {
+            try {
+                emitter.removeNotificationListener(this);
+            } catch (ListenerNotFoundException e) {
+                // IGNORE
+            }
+        }
+        emitterList.clear();
+    }
+
+    @Override
+    public void handleNotification(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        if (isConcurrentCycle(info)) {
+            return;
+        }
+
+        GcInfo gcInfo = info.getGcInfo();
+        long startNs = nanoTimeAtStart + TimeUnit.MILLISECONDS.toNanos(gcInfo.getStartTime() - uptimeMsAtStart);
+        if (startNs < measureStartNs || startNs > measureStopNs) {
+            return;
+        }
+
+        long durationMs = gcInfo.getDuration();
+        synchronized (this) {
+            pauseCount++;
+            pauseTimeMs += durationMs;
+            maxPauseMs = Math.max(maxPauseMs, durationMs);
+            if (eventList.size() < MAX_EVENTS) {
+                GcEvent event = new GcEvent();
+                event.setOffsetNs(startNs - measureStartNs);
+                event.setDurationMs(durationMs);
+                event.setName(info.getGcName());
+                event.setAction(info.getGcAction());
+                event.setCause(info.getGcCause());
+                eventList.add(event);
+            }
+        }
+    }
+
+    /**
+     * 是否为并发收集周期
+     * 1. 不能按名称中是否包含 concurrent 判断，CMS 的停顿同样来自 ConcurrentMarkSweep
+     * @param info 通知信息
+     * @return 是否
+     */
+    private static boolean isConcurrentCycle(final GarbageCollectionNotificationInfo info) {
+        return CYCLE_ACTION.equalsIgnoreCase(info.getGcAction())
+                || info.getGcName().endsWith(CYCLES_NAME_SUFFIX);
+    }
+
+    public boolean isNotificationSupported() {
+        return notificationSupported;
+    }
+
+    public synchronized long getPauseCount() {
+        return pauseCount;
+    }
+
+    public synchronized long getPauseTimeMs() {
+        return pauseTimeMs;
+    }
+
+    public synchronized long getMaxPauseMs() {
+        return maxPauseMs;
+    }
+
+    public synchronized List<GcEvent> getEventList() {
+        return new ArrayList<>(eventList);
+    }
+
+    /**
+     * GC 快照
+     */
+    public static final class GcSnapshot {
+
+        /**
+         * 累计次数
+         */
+        private final long collectionCount;
+
+        /**
+         * 累计时间，单位：毫秒
+         */
+        private final long collectionTimeMs;
+
+        /**
+         * 堆使用量，单位：字节
+         */
+        private final long heapUsedBytes;
+
+        private GcSnapshot(long collectionCount, long collectionTimeMs, long heapUsedBytes) {
+            this.collectionCount = collectionCount;
+            this.collectionTimeMs = collectionTimeMs;
+            this.heapUsedBytes = heapUsedBytes;
+        }
+
+        public long getCollectionCount() {
+            return collectionCount;
+        }
+
+        public long getCollectionTimeMs() {
+            return collectionTimeMs;
+        }
+
+        public long getHeapUsedBytes() {
+            return heapUsedBytes;
+        }
+    }
+
+}
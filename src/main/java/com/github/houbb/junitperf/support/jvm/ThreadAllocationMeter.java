@@ -0,0 +1,65 @@
+package com.github.houbb.junitperf.support.jvm;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import org.apiguardian.api.API;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * 线程内存分配计量
+ *
+ * 1. 基于 {@code com.sun.management.ThreadMXBean#getThreadAllocatedBytes}，统计的是线程在堆上分配的总字节数（TLAB 粒度）。
+ * 2. JVM 不支持时返回 -1。
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public final class ThreadAllocationMeter {
+
+    /**
+     * 线程 MXBean，不支持时为 null
+     */
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = resolveThreadMXBean();
+
+    private ThreadAllocationMeter() {
+    }
+
+    /**
+     * 是否支持
+     * @return 是否
+     */
+    public static boolean isSupported() {
+        return THREAD_MX_BEAN != null;
+    }
+
+    /**
+     * 当前线程已经分配的字节数
+     * @return 字节数，不支持时返回 -1
+     */
+    public static long getCurrentThreadAllocatedBytes() {
+        if (THREAD_MX_BEAN == null) {
+            return -1L;
+        }
+        return THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.ThreadMXBean resolveThreadMXBean() {
+        try {
+            java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+            if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)) {
+                return null;
+            }
+            com.sun.management.ThreadMXBean sunThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+            if (!sunThreadMXBean.isThreadAllocatedMemorySupported()) {
+                return null;
+            }
+            if (!sunThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+                sunThreadMXBean.setThreadAllocatedMemoryEnabled(true);
+            }
+            return sunThreadMXBean;
+        } catch (LinkageError | RuntimeException e) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.github.houbb.junitperf.support.jvm;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import org.apiguardian.api.API;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * 线程 CPU 时间计量
+ *
+ * 1. 基于 {@link ThreadMXBean#getCurrentThreadCpuTime()}，统计的是线程在 CPU 上执行的时间（用户态 + 内核态），不包含等待调度的时间。
+ * 2. 单次调用的开销在微秒级，只适合在测量开始、结束时各调用一次。
+ * 3. JVM 不支持时返回 -1。
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public final class ThreadCpuMeter {
+
+    /**
+     * 线程 MXBean，不支持时为 null
+     */
+    private static final ThreadMXBean THREAD_MX_BEAN = resolveThreadMXBean();
+
+    private ThreadCpuMeter() {
+    }
+
+    /**
+     * 是否支持
+     * @return 是否
+     */
+    public static boolean isSupported() {
+        return THREAD_MX_BEAN != null;
+    }
+
+    /**
+     * 当前线程的 CPU 时间
+     * @return 纳秒，不支持时返回 -1
+     */
+    public static long getCurrentThreadCpuTime() {
+        if (THREAD_MX_BEAN == null) {
+            return -1L;
+        }
+        return THREAD_MX_BEAN.getCurrentThreadCpuTime();
+    }
+
+    private static ThreadMXBean resolveThreadMXBean() {
+        try {
+            ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+            if (!threadMXBean.isCurrentThreadCpuTimeSupported()) {
+                return null;
+            }
+            if (!threadMXBean.isThreadCpuTimeEnabled()) {
+                threadMXBean.setThreadCpuTimeEnabled(true);
+            }
+            return threadMXBean;
+        } catch (LinkageError | RuntimeException e) {
+            return null;
+        }
+    }
+
+}
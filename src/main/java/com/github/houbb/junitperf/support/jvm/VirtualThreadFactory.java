@@ -0,0 +1,65 @@
+package com.github.houbb.junitperf.support.jvm;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import org.apiguardian.api.API;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 虚拟线程工厂
+ *
+ * 1. 编译级别为 1.8，通过反射调用 Thread.ofVirtual().name(prefix, 0).factory()，不引入多版本 jar。
+ * 2. JVM 不支持（Java 21 以下，或者预览特性未开启）时返回 null，由调用方回退到平台线程。
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public final class VirtualThreadFactory {
+
+    /**
+     * Thread.ofVirtual()，不支持时为 null
+     */
+    private static final Method OF_VIRTUAL = resolveMethod(Thread.class, "ofVirtual");
+
+    private VirtualThreadFactory() {
+    }
+
+    /**
+     * 是否支持
+     * @return 是否
+     */
+    public static boolean isSupported() {
+        return newFactory("junitperf-virtual-check-") != null;
+    }
+
+    /**
+     * 创建虚拟线程工厂
+     * @param namePrefix 线程名称前缀，后面追加从 0 开始的编号
+     * @return 线程工厂，不支持时返回 null
+     */
+    public static ThreadFactory newFactory(final String namePrefix) {
+        if (OF_VIRTUAL == null) {
+            return null;
+        }
+        try {
+            // 实现类不是 public，需要通过接口 Thread.Builder 上的方法调用
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = OF_VIRTUAL.invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            // Java 19、20 未开启预览特性时 ofVirtual() 抛出 UnsupportedOperationException
+            return null;
+        }
+    }
+
+    private static Method resolveMethod(final Class<?> clazz, final String name) {
+        try {
+            return clazz.getMethod(name);
+        } catch (NoSuchMethodException | LinkageError | SecurityException e) {
+            return null;
+        }
+    }
+
+}
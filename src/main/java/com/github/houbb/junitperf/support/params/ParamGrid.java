@@ -0,0 +1,157 @@
+package com.github.houbb.junitperf.support.params;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import com.github.houbb.junitperf.core.annotation.JunitPerfParams;
+import com.github.houbb.junitperf.support.exception.JunitPerfRuntimeException;
+import org.apiguardian.api.API;
+
+import java.lang.reflect.Field;
+import java.util.*;
+
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * 参数扫描的组合
+ *
+ * 1. 线程数、各个参数按声明顺序展开为笛卡尔积，先声明的变化最慢。
+ * 2. 每个组合为 参数名 到 参数值 的有序映射，线程数使用 {@link JunitPerfParams#THREADS}。
+ * 3. 参数值按名称注入到测试实例的同名字段中。
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public final class ParamGrid {
+
+    private ParamGrid() {
+    }
+
+    /**
+     * 展开所有的组合
+     * @param junitPerfParams 参数扫描注解
+     * @return 组合列表
+     */
+    public static List<Map<String, String>> build(final JunitPerfParams junitPerfParams) {
+        Map<String, List<String>> valueMap = new LinkedHashMap<>();
+        if (junitPerfParams.threads().length > 0) {
+            List<String> threadList = new ArrayList<>();
+            for (int threads : junitPerfParams.threads()) {
+                checkState(threads > 0, "params threads must be > 0.");
+                threadList.add(String.valueOf(threads));
+            }
+            valueMap.put(JunitPerfParams.THREADS, threadList);
+        }
+        for (String param : junitPerfParams.params()) {
+            int index = param.indexOf('=');
+            if (index <= 0 || index == param.length() - 1) {
+                throw new IllegalArgumentException("Params format is error! please like this: size=16,1024.");
+            }
+            String name = param.substring(0, index).trim();
+            checkState(!valueMap.containsKey(name), "params name " + name + " is duplicated.");
+            List<String> valueList = new ArrayList<>();
+            for (String value : param.substring(index + 1).split(",")) {
+                valueList.add(value.trim());
+            }
+            valueMap.put(name, valueList);
+        }
+
+        List<Map<String, String>> grid = new ArrayList<>();
+        grid.add(new LinkedHashMap<>());
+        for (Map.Entry<String, List<String>> entry : valueMap.entrySet()) {
+            List<Map<String, String>> expanded = new ArrayList<>(grid.size() * entry.getValue().size());
+            for (Map<String, String> point : grid) {
+                for (String value : entry.getValue()) {
+                    Map<String, String> next = new LinkedHashMap<>(point);
+                    next.put(entry.getKey(), value);
+                    expanded.add(next);
+                }
+            }
+            grid = expanded;
+        }
+        return grid;
+    }
+
+    /**
+     * 获取组合中的线程数
+     * @param paramMap 组合
+     * @param defaultThreads 未指定时的线程数
+     * @return 线程数
+     */
+    public static int getThreads(final Map<String, String> paramMap,
+                                 final int defaultThreads) {
+        String threads = paramMap.get(JunitPerfParams.THREADS);
+        return threads == null ? defaultThreads : Integer.parseInt(threads);
+    }
+
+    /**
+     * 将参数值注入到测试实例的同名字段中
+     * 1. 在测试类及其父类中查找字段，线程数不注入
+     * @param testInstance 测试实例
+     * @param paramMap 组合
+     */
+    public static void inject(final Object testInstance,
+                              final Map<String, String> paramMap) {
+        for (Map.Entry<String, String> entry : paramMap.entrySet()) {
+            if (JunitPerfParams.THREADS.equals(entry.getKey())) {
+                continue;
+            }
+            Field field = findField(testInstance.getClass(), entry.getKey());
+            try {
+                field.setAccessible(true);
+                field.set(testInstance, convert(field.getType(), entry.getValue()));
+            } catch (IllegalAccessException | IllegalArgumentException e) {
+                throw new JunitPerfRuntimeException("params " + entry.getKey() + "=" + entry.getValue()
+                        + " can not be set to field " + field, e);
+            }
+        }
+    }
+
+    private static Field findField(final Class<?> testClass,
+                                   final String name) {
+        for (Class<?> clazz = testClass; clazz != null; clazz = clazz.getSuperclass()) {
+            try {
+                return clazz.getDeclaredField(name);
+            } catch (NoSuchFieldException e) {
+                // 继续查找父类
+            }
+        }
+        throw new JunitPerfRuntimeException("params field " + name + " is not found in " + testClass.getName());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object convert(final Class<?> type,
+                                  final String value) {
+        if (type == String.class) {
+            return value;
+        }
+        if (type == int.class || type == Integer.class) {
+            return Integer.valueOf(value);
+        }
+        if (type == long.class || type == Long.class) {
+            return Long.valueOf(value);
+        }
+        if (type == double.class || type == Double.class) {
+            return Double.valueOf(value);
+        }
+        if (type == float.class || type == Float.class) {
+            return Float.valueOf(value);
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return Boolean.valueOf(value);
+        }
+        if (type == short.class || type == Short.class) {
+            return Short.valueOf(value);
+        }
+        if (type == byte.class || type == Byte.class) {
+            return Byte.valueOf(value);
+        }
+        if (type == char.class || type == Character.class) {
+            checkState(value.length() == 1, "params value " + value + " is not a char.");
+            return value.charAt(0);
+        }
+        if (type.isEnum()) {
+            return Enum.valueOf((Class<? extends Enum>) type, value);
+        }
+        throw new IllegalArgumentException("params type " + type.getName() + " is not supported.");
+    }
+
+}
@@ -0,0 +1,195 @@
+package com.github.houbb.junitperf.support.precision;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import com.github.houbb.junitperf.constant.enums.BatchMetricEnum;
+import com.github.houbb.junitperf.model.evaluation.component.IntervalStatistics;
+import org.apache.commons.math3.distribution.TDistribution;
+import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+import org.apiguardian.api.API;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.houbb.junitperf.support.throughput.ThroughputSampler.CONFIDENCE_LEVEL;
+
+/**
+ * 批均值法估计测量精度
+ *
+ * 1. 区间统计的每个区间作为一批，批内的吞吐量、平均耗时、99% 耗时各作为一个样本；批足够长时，各批的样本近似独立。
+ * 2. 按 t 分布计算样本均值的置信区间半宽，除以均值得到相对精度。
+ * 3. 没有调用或者不足半个间隔的区间不作为一批，避免过短的区间放大波动。
+ * 4. 区间记录了超过耗时阈值的次数时，批内超过阈值的比例也各作为一个样本。
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public class BatchMeansEstimator {
+
+    /**
+     * 计算精度需要的最少批数
+     */
+    public static final int MIN_BATCHES = 5;
+
+    /**
+     * 各指标的批样本
+     */
+    private final Map<BatchMetricEnum, SummaryStatistics> summaryMap = new EnumMap<>(BatchMetricEnum.class);
+
+    /**
+     * 超过各个耗时阈值的比例的批样本
+     */
+    private final List<SummaryStatistics> exceededSummaryList = new ArrayList<>();
+
+    /**
+     * 所有批的执行次数
+     */
+    private long totalCount;
+
+    /**
+     * 构造器
+     * @param intervalStatisticsList 区间统计
+     * @param intervalNs 区间间隔
+     */
+    public BatchMeansEstimator(final List<IntervalStatistics> intervalStatisticsList,
+                               final long intervalNs) {
+        for (BatchMetricEnum metric : BatchMetricEnum.values()) {
+            summaryMap.put(metric, new SummaryStatistics());
+        }
+        for (IntervalStatistics intervalStatistics : intervalStatisticsList) {
+            if (intervalStatistics.getCount() == 0
+                    || intervalStatistics.getDurationNs() * 2 < intervalNs) {
+                continue;
+            }
+            summaryMap.get(BatchMetricEnum.THROUGHPUT).addValue(intervalStatistics.getThroughputQps());
+            summaryMap.get(BatchMetricEnum.MEAN_LATENCY).addValue(intervalStatistics.getMeanLatencyNs());
+            summaryMap.get(BatchMetricEnum.P99_LATENCY).addValue(intervalStatistics.getP99LatencyNs());
+            long[] exceededCounts = intervalStatistics.getExceededCounts();
+            for (int i = 0; i < exceededCounts.length; i++) {
+                if (exceededSummaryList.size() <= i) {
+                    exceededSummaryList.add(new SummaryStatistics());
+                }
+                exceededSummaryList.get(i).addValue((double) exceededCounts[i] / intervalStatistics.getCount());
+            }
+            totalCount += intervalStatistics.getCount();
+        }
+    }
+
+    /**
+     * 批数
+     * @return 批数
+     */
+    public int getBatches() {
+        return (int) summaryMap.get(BatchMetricEnum.MEAN_LATENCY).getN();
+    }
+
+    /**
+     * 指标的批均值
+     * @param metric 指标
+     * @return 均值，没有批时返回 NaN
+     */
+    public double getMean(final BatchMetricEnum metric) {
+        return summaryMap.get(metric).getMean();
+    }
+
+    /**
+     * 指标的批均值的置信区间半宽
+     * @param metric 指标
+     * @param confidenceLevel 置信水平
+     * @return 半宽，批数不足时返回 -1
+     */
+    public double getHalfWidth(final BatchMetricEnum metric,
+                               final double confidenceLevel) {
+        return getHalfWidth(summaryMap.get(metric), confidenceLevel);
+    }
+
+    /**
+     * 超过耗时阈值的比例的批均值
+     * @param index 阈值的下标，与 {@link IntervalStatistics#getExceededCounts()} 一致
+     * @return 比例 [0, 1]，没有批时返回 NaN
+     * @since 2.0.8
+     */
+    public double getExceededMean(final int index) {
+        if (index >= exceededSummaryList.size()) {
+            return Double.NaN;
+        }
+        return exceededSummaryList.get(index).getMean();
+    }
+
+    /**
+     * 超过耗时阈值的比例的批均值的置信区间半宽
+     * 1. 所有批都没有超过阈值时样本方差为 0，半宽至少取零次事件的置信上界 -ln(1 - 置信水平) / 总次数
+     * @param index 阈值的下标，与 {@link IntervalStatistics#getExceededCounts()} 一致
+     * @param confidenceLevel 置信水平
+     * @return 半宽，批数不足时返回 -1
+     * @since 2.0.8
+     */
+    public double getExceededHalfWidth(final int index,
+                                       final double confidenceLevel) {
+        if (index >= exceededSummaryList.size()) {
+            return -1D;
+        }
+        double halfWidth = getHalfWidth(exceededSummaryList.get(index), confidenceLevel);
+        if (halfWidth < 0) {
+            return halfWidth;
+        }
+        return Math.max(halfWidth, -Math.log(1D - confidenceLevel) / totalCount);
+    }
+
+    /**
+     * 吞吐量的相对精度
+     * @return 置信区间半宽 / 均值，批数不足时返回 -1
+     */
+    public double getThroughputPrecision() {
+        return getPrecision(BatchMetricEnum.THROUGHPUT);
+    }
+
+    /**
+     * 平均耗时的相对精度
+     * @return 置信区间半宽 / 均值，批数不足时返回 -1
+     */
+    public double getMeanPrecision() {
+        return getPrecision(BatchMetricEnum.MEAN_LATENCY);
+    }
+
+    /**
+     * 99% 耗时的相对精度
+     * @return 置信区间半宽 / 均值，批数不足时返回 -1
+     */
+    public double getP99Precision() {
+        return getPrecision(BatchMetricEnum.P99_LATENCY);
+    }
+
+    /**
+     * 平均耗时和 99% 耗时是否都达到目标精度
+     * @param precision 目标精度
+     * @return 是否
+     */
+    public boolean isReached(final double precision) {
+        double meanPrecision = getMeanPrecision();
+        double p99Precision = getP99Precision();
+        return meanPrecision >= 0 && meanPrecision <= precision
+                && p99Precision >= 0 && p99Precision <= precision;
+    }
+
+    private static double getHalfWidth(final SummaryStatistics summary,
+                                       final double confidenceLevel) {
+        if (summary.getN() < MIN_BATCHES) {
+            return -1D;
+        }
+        TDistribution distribution = new TDistribution(summary.getN() - 1);
+        double t = distribution.inverseCumulativeProbability(1D - (1D - confidenceLevel) / 2);
+        return t * summary.getStandardDeviation() / Math.sqrt(summary.getN());
+    }
+
+    private double getPrecision(final BatchMetricEnum metric) {
+        double halfWidth = getHalfWidth(metric, CONFIDENCE_LEVEL);
+        double mean = getMean(metric);
+        if (halfWidth < 0 || mean <= 0) {
+            return -1D;
+        }
+        return halfWidth / mean;
+    }
+
+}
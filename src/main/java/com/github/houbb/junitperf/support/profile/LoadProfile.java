@@ -0,0 +1,213 @@
+package com.github.houbb.junitperf.support.profile;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import com.github.houbb.junitperf.core.statistics.StatisticsCalculator;
+import com.github.houbb.junitperf.model.evaluation.component.LoadStage;
+import com.github.houbb.junitperf.model.evaluation.component.StageStatistics;
+import org.apiguardian.api.API;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * 负载阶段的执行计划
+ *
+ * 1. 测量开始后依次执行每个阶段，阶段开始时切换当前的阶段统计。
+ * 2. 线性变化的阶段中，从开始线程数到结束线程数的每个线程数保持相同的时间，例如 1-4 执行 4 秒：1、2、3、4 个线程各 1 秒。
+ * 3. 计划只由主线程推进，执行线程通过 {@link #getCurrentCalculator()} 读取当前的阶段统计。
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public class LoadProfile {
+
+    /**
+     * 阶段统计
+     */
+    private final List<StageStatistics> stageStatisticsList;
+
+    /**
+     * 调整活跃线程数
+     */
+    private final IntConsumer activeThreadsSetter;
+
+    /**
+     * 动作的时间，相对于测量开始
+     */
+    private final List<Long> actionOffsetNsList = new ArrayList<>();
+
+    /**
+     * 动作对应的阶段下标
+     */
+    private final List<Integer> actionStageList = new ArrayList<>();
+
+    /**
+     * 动作对应的线程数
+     */
+    private final List<Integer> actionThreadsList = new ArrayList<>();
+
+    /**
+     * 测量开始时间
+     */
+    private long measureStartNs;
+
+    /**
+     * 下一个动作的下标
+     */
+    private int nextAction;
+
+    /**
+     * 当前阶段的下标
+     */
+    private int currentStage = -1;
+
+    /**
+     * 当前阶段的开始时间
+     */
+    private long currentStageStartNs;
+
+    /**
+     * 当前阶段的统计，不在任何阶段时为 null
+     */
+    private volatile StatisticsCalculator currentCalculator;
+
+    /**
+     * 构造器
+     * @param stageList 负载阶段
+     * @param calculatorClass 阶段统计的实现
+     * @param activeThreadsSetter 调整活跃线程数
+     * @throws ReflectiveOperationException 统计实现无法实例化
+     */
+    public LoadProfile(final List<LoadStage> stageList,
+                       final Class<? extends StatisticsCalculator> calculatorClass,
+                       final IntConsumer activeThreadsSetter) throws ReflectiveOperationException {
+        checkArgument(!stageList.isEmpty(), "stageList must not be empty.");
+        this.activeThreadsSetter = activeThreadsSetter;
+        List<StageStatistics> statisticsList = new ArrayList<>(stageList.size());
+        long offsetNs = 0;
+        for (int i = 0; i < stageList.size(); i++) {
+            LoadStage loadStage = stageList.get(i);
+            StageStatistics stageStatistics = new StageStatistics();
+            stageStatistics.setLoadStage(loadStage);
+            stageStatistics.setStatisticsCalculator(calculatorClass.newInstance());
+            statisticsList.add(stageStatistics);
+
+            long durationNs = TimeUnit.MILLISECONDS.toNanos(loadStage.getDurationMs());
+            int levels = Math.abs(loadStage.getEndThreads() - loadStage.getStartThreads()) + 1;
+            int step = loadStage.getEndThreads() >= loadStage.getStartThreads() ? 1 : -1;
+            for (int level = 0; level < levels; level++) {
+                actionOffsetNsList.add(offsetNs + durationNs * level / levels);
+                actionStageList.add(i);
+                actionThreadsList.add(loadStage.getStartThreads() + step * level);
+            }
+            offsetNs += durationNs;
+        }
+        this.stageStatisticsList = Collections.unmodifiableList(statisticsList);
+    }
+
+    /**
+     * 准备阶段使用的线程数
+     * @param stageList 负载阶段
+     * @return 第一个阶段开始时的线程数，至少为 1
+     */
+    public static int getWarmUpThreads(final List<LoadStage> stageList) {
+        return Math.max(1, stageList.get(0).getStartThreads());
+    }
+
+    /**
+     * 所有阶段的总时长
+     * @param stageList 负载阶段
+     * @return 纳秒
+     */
+    public static long getTotalDurationNs(final List<LoadStage> stageList) {
+        long totalMs = 0;
+        for (LoadStage loadStage : stageList) {
+            totalMs += loadStage.getDurationMs();
+        }
+        return TimeUnit.MILLISECONDS.toNanos(totalMs);
+    }
+
+    /**
+     * 开始执行计划，执行第一个阶段开始时的动作
+     * @param measureStartNs 测量开始时间
+     */
+    public void start(final long measureStartNs) {
+        this.measureStartNs = measureStartNs;
+        advance(measureStartNs);
+    }
+
+    /**
+     * 下一个动作的时间
+     * @return 纳秒，没有时返回 {@link Long#MAX_VALUE}
+     */
+    public long getNextActionNs() {
+        if (nextAction >= actionOffsetNsList.size()) {
+            return Long.MAX_VALUE;
+        }
+        return measureStartNs + actionOffsetNsList.get(nextAction);
+    }
+
+    /**
+     * 执行所有到期的动作
+     * @param nowNs 当前时间
+     */
+    public void advance(final long nowNs) {
+        int threads = -1;
+        while (nextAction < actionOffsetNsList.size()
+                && measureStartNs + actionOffsetNsList.get(nextAction) <= nowNs) {
+            int stage = actionStageList.get(nextAction);
+            if (stage != currentStage) {
+                switchStage(stage, nowNs);
+            }
+            threads = actionThreadsList.get(nextAction);
+            nextAction++;
+        }
+        if (threads >= 0) {
+            activeThreadsSetter.accept(threads);
+        }
+    }
+
+    /**
+     * 结束执行计划
+     * @param stopNs 测量结束时间
+     */
+    public void stop(final long stopNs) {
+        switchStage(-1, stopNs);
+    }
+
+    /**
+     * 切换阶段，记录上一个阶段的时长
+     * @param stage 阶段下标，-1 表示结束
+     * @param nowNs 当前时间
+     */
+    private void switchStage(final int stage, final long nowNs) {
+        if (currentStage >= 0) {
+            stageStatisticsList.get(currentStage).setElapsedNs(Math.max(0L, nowNs - currentStageStartNs));
+        }
+        currentStage = stage;
+        currentStageStartNs = nowNs;
+        currentCalculator = stage >= 0 ? stageStatisticsList.get(stage).getStatisticsCalculator() : null;
+    }
+
+    /**
+     * 当前阶段的统计
+     * @return 统计，不在任何阶段时为 null
+     */
+    public StatisticsCalculator getCurrentCalculator() {
+        return currentCalculator;
+    }
+
+    /**
+     * 阶段统计
+     * @return 列表
+     */
+    public List<StageStatistics> getStageStatisticsList() {
+        return stageStatisticsList;
+    }
+
+}
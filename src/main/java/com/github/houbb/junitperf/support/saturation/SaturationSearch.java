@@ -0,0 +1,147 @@
+package com.github.houbb.junitperf.support.saturation;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import com.github.houbb.junitperf.model.evaluation.component.SaturationProbe;
+import org.apiguardian.api.API;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * 饱和点搜索
+ *
+ * 1. 从下限开始探测，满足要求时线程数（或到达速率）翻倍，直到不满足要求或到达上限。
+ * 2. 在最后一次满足要求与第一次不满足要求之间二分查找，间隔不超过 max(1, 满足要求的值 / {@link #RESOLUTION_DIVISOR}) 时停止。
+ * 3. 饱和点为满足要求的最大值；下限也不满足要求时没有饱和点。
+ * 备注：假设超过拐点之后不会再次满足要求。
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public class SaturationSearch {
+
+    /**
+     * 二分查找的精度，相对满足要求的值
+     */
+    private static final int RESOLUTION_DIVISOR = 20;
+
+    /**
+     * 单次探测
+     */
+    @FunctionalInterface
+    public interface Prober {
+
+        /**
+         * 按指定的线程数或到达速率探测
+         * @param level 线程数或到达速率
+         * @return 探测结果
+         * @throws Throwable 异常
+         */
+        SaturationProbe probe(int level) throws Throwable;
+    }
+
+    /**
+     * 下限
+     */
+    private final int lowerBound;
+
+    /**
+     * 上限
+     */
+    private final int upperBound;
+
+    /**
+     * 探测结果，按探测顺序
+     */
+    private final List<SaturationProbe> probeList = new ArrayList<>();
+
+    /**
+     * 饱和点
+     */
+    private SaturationProbe saturationPoint;
+
+    /**
+     * 构造器
+     * @param lowerBound 下限，需要 &gt; 0
+     * @param upperBound 上限，需要 &gt; lowerBound
+     */
+    public SaturationSearch(final int lowerBound,
+                            final int upperBound) {
+        checkArgument(lowerBound > 0, "lowerBound must be > 0.");
+        checkArgument(upperBound > lowerBound, "upperBound must be > lowerBound.");
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+    }
+
+    /**
+     * 执行搜索
+     * @param prober 单次探测
+     * @return 饱和点，没有满足要求的探测时返回 {@code null}
+     * @throws Throwable 探测异常
+     */
+    public SaturationProbe search(final Prober prober) throws Throwable {
+        int failedLevel = -1;
+        int level = lowerBound;
+        while (true) {
+            if (!probe(prober, level)) {
+                failedLevel = level;
+                break;
+            }
+            if (level == upperBound) {
+                break;
+            }
+            level = (int) Math.min((long) level * 2, upperBound);
+        }
+        if (saturationPoint == null || failedLevel < 0) {
+            return saturationPoint;
+        }
+
+        int passedLevel = saturationPoint.getLevel();
+        while (failedLevel - passedLevel > Math.max(1, passedLevel / RESOLUTION_DIVISOR)) {
+            int middle = passedLevel + (failedLevel - passedLevel) / 2;
+            if (probe(prober, middle)) {
+                passedLevel = middle;
+            } else {
+                failedLevel = middle;
+            }
+        }
+        return saturationPoint;
+    }
+
+    /**
+     * 探测并记录结果
+     * @param prober 单次探测
+     * @param level 线程数或到达速率
+     * @return 是否满足要求
+     * @throws Throwable 探测异常
+     */
+    private boolean probe(final Prober prober,
+                          final int level) throws Throwable {
+        SaturationProbe probe = prober.probe(level);
+        probeList.add(probe);
+        if (probe.isPassed() && (saturationPoint == null || level > saturationPoint.getLevel())) {
+            saturationPoint = probe;
+        }
+        return probe.isPassed();
+    }
+
+    /**
+     * 获取探测结果
+     * @return 按探测顺序的结果
+     */
+    public List<SaturationProbe> getProbeList() {
+        return Collections.unmodifiableList(probeList);
+    }
+
+    /**
+     * 获取饱和点
+     * @return 饱和点，没有满足要求的探测时返回 {@code null}
+     */
+    public SaturationProbe getSaturationPoint() {
+        return saturationPoint;
+    }
+
+}
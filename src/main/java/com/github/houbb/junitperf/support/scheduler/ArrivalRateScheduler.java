@@ -0,0 +1,157 @@
+package com.github.houbb.junitperf.support.scheduler;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import org.apiguardian.api.API;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * 固定到达速率调度（开放模型）
+ *
+ * 1. 第 n 次到达的预期开始时间为 startNs + n * intervalNs，与请求何时完成无关。
+ * 2. 执行线程依次领取下一次到达，等待到预期开始时间后执行。
+ * 3. 所有执行线程都在忙时，到达只能排队等待：开始时间晚于预期超过一个间隔，视为延迟；
+ * 到测量结束都没有开始的到达，视为丢弃。
+ *
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public class ArrivalRateScheduler {
+
+    /**
+     * 剩余等待时间低于该值时自旋等待，避免 park 的唤醒误差
+     */
+    private static final long SPIN_THRESHOLD_NS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    /**
+     * 单次 park 的最长时间，保证停止信号能被及时响应
+     */
+    private static final long MAX_PARK_NS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /**
+     * 开始时间
+     */
+    private final long startNs;
+
+    /**
+     * 到达间隔
+     */
+    private final long intervalNs;
+
+    /**
+     * 下一次到达的序号
+     */
+    private final AtomicLong nextArrival = new AtomicLong();
+
+    /**
+     * 测量期间开始执行的到达数
+     */
+    private final LongAdder startedCount = new LongAdder();
+
+    /**
+     * 测量期间延迟开始的到达数
+     */
+    private final LongAdder delayedCount = new LongAdder();
+
+    /**
+     * 最大的开始延迟
+     */
+    private final AtomicLong maxStartDelayNs = new AtomicLong();
+
+    /**
+     * 构造器
+     * @param startNs 开始时间
+     * @param targetRate 每秒到达次数
+     */
+    public ArrivalRateScheduler(final long startNs, final int targetRate) {
+        checkArgument(targetRate > 0, "targetRate must be > 0.");
+        this.startNs = startNs;
+        this.intervalNs = Math.max(1L, TimeUnit.SECONDS.toNanos(1) / targetRate);
+    }
+
+    /**
+     * 领取下一次到达
+     * @return 预期开始时间
+     */
+    public long nextIntendedStartNs() {
+        return startNs + nextArrival.getAndIncrement() * intervalNs;
+    }
+
+    /**
+     * 等待到预期开始时间
+     * @param intendedStartNs 预期开始时间
+     * @param continueSignal 是否继续
+     * @return {@code false} 等待期间收到了停止信号
+     */
+    public boolean awaitArrival(final long intendedStartNs, final BooleanSupplier continueSignal) {
+        long remainingNs;
+        while ((remainingNs = intendedStartNs - System.nanoTime()) > 0) {
+            if (!continueSignal.getAsBoolean()) {
+                return false;
+            }
+            if (remainingNs > SPIN_THRESHOLD_NS) {
+                LockSupport.parkNanos(Math.min(remainingNs - SPIN_THRESHOLD_NS, MAX_PARK_NS));
+            }
+        }
+        return continueSignal.getAsBoolean();
+    }
+
+    /**
+     * 标记测量期间的一次到达开始执行
+     * @param startDelayNs 实际开始时间与预期开始时间的差值
+     */
+    public void markStarted(final long startDelayNs) {
+        startedCount.increment();
+        if (startDelayNs > intervalNs) {
+            delayedCount.increment();
+        }
+        long current = maxStartDelayNs.get();
+        while (startDelayNs > current && !maxStartDelayNs.compareAndSet(current, startDelayNs)) {
+            current = maxStartDelayNs.get();
+        }
+    }
+
+    /**
+     * 时间范围内计划的到达数
+     * @param fromNs 开始时间（包含）
+     * @param toNs 结束时间（不包含）
+     * @return 计划的到达数
+     */
+    public long getScheduledCount(final long fromNs, final long toNs) {
+        long first = Math.max(0L, ceilDiv(fromNs - startNs, intervalNs));
+        long end = Math.max(0L, ceilDiv(toNs - startNs, intervalNs));
+        return Math.max(0L, end - first);
+    }
+
+    public long getStartedCount() {
+        return startedCount.sum();
+    }
+
+    public long getDelayedCount() {
+        return delayedCount.sum();
+    }
+
+    public long getMaxStartDelayNs() {
+        return maxStartDelayNs.get();
+    }
+
+    public long getStartNs() {
+        return startNs;
+    }
+
+    public long getIntervalNs() {
+        return intervalNs;
+    }
+
+    private static long ceilDiv(final long dividend, final long divisor) {
+        return -Math.floorDiv(-dividend, divisor);
+    }
+
+}
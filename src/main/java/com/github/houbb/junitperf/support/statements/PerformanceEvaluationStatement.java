@@ -2,16 +2,40 @@ package com.github.houbb.junitperf.support.statements;
 
 import com.github.houbb.heaven.util.lang.ThreadUtil;
 import com.github.houbb.junitperf.constant.VersionConstant;
+import com.github.houbb.junitperf.constant.enums.FixtureLevelEnum;
+import com.github.houbb.junitperf.constant.enums.InvokerTypeEnum;
 import com.github.houbb.junitperf.core.report.Reporter;
 import com.github.houbb.junitperf.core.statistics.StatisticsCalculator;
 import com.github.houbb.junitperf.model.evaluation.EvaluationContext;
 import com.github.houbb.junitperf.model.evaluation.component.EvaluationConfig;
+import com.github.houbb.junitperf.model.evaluation.component.EvaluationRequire;
+import com.github.houbb.junitperf.model.evaluation.component.EvaluationRuntime;
+import com.github.houbb.junitperf.model.evaluation.component.LoadStage;
+import com.github.houbb.junitperf.model.evaluation.component.SaturationProbe;
+import com.github.houbb.junitperf.support.builder.MethodInvokerBuilder;
+import com.github.houbb.junitperf.support.builder.SequentialEvaluator;
 import com.github.houbb.junitperf.support.exception.JunitPerfRuntimeException;
+import com.github.houbb.junitperf.support.fixture.FixturePlan;
+import com.github.houbb.junitperf.support.fork.ForkResult;
+import com.github.houbb.junitperf.support.fork.ForkRunner;
 import com.github.houbb.junitperf.support.i18n.I18N;
+import com.github.houbb.junitperf.support.invoker.InvocationOverheadCalibrator;
+import com.github.houbb.junitperf.support.invoker.MethodInvoker;
+import com.github.houbb.junitperf.support.jvm.GcMonitor;
+import com.github.houbb.junitperf.support.jvm.VirtualThreadFactory;
+import com.github.houbb.junitperf.support.precision.BatchMeansEstimator;
+import com.github.houbb.junitperf.support.scheduler.ArrivalRateScheduler;
+import com.github.houbb.junitperf.support.profile.LoadProfile;
+import com.github.houbb.junitperf.support.saturation.SaturationSearch;
+import com.github.houbb.junitperf.support.task.AsyncCompletionWindow;
 import com.github.houbb.junitperf.support.task.PerformanceEvaluationTask;
+import com.github.houbb.junitperf.support.task.StatisticsRecorderStripes;
+import com.github.houbb.junitperf.support.throughput.ThroughputSampler;
+import com.github.houbb.junitperf.support.warmup.WarmUpDetector;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apiguardian.api.API;
 
+import java.lang.reflect.Method;
 import java.util.*;
 import java.util.concurrent.*;
 
@@ -26,7 +50,14 @@ import java.util.concurrent.*;
 public class PerformanceEvaluationStatement {
 
     private static final String        THREAD_NAME_PATTERN = "performance-evaluation-thread-%d";
+    private static final String        VIRTUAL_THREAD_NAME_PREFIX = "performance-evaluation-virtual-";
     private static final ThreadFactory FACTORY             = new ThreadFactoryBuilder().setNameFormat(THREAD_NAME_PATTERN).build();
+    private static final double        BYTES_PER_MB        = 1024D * 1024D;
+    /**
+     * 测量阶段检查执行线程准备、清理是否失败的最长间隔
+     * @since 2.0.8
+     */
+    private static final long          FIXTURE_CHECK_INTERVAL_NS = TimeUnit.MILLISECONDS.toNanos(100);
 
     private final EvaluationContext      evaluationContext;
     private final StatisticsCalculator   statisticsCalculator;
@@ -57,10 +88,33 @@ public class PerformanceEvaluationStatement {
 
     /**
      * 校验信息
+     * 1. 配置了饱和点搜索时，先搜索饱和点，之后在饱和点处测量
+     * 2. 配置了 fork 时，在新启动的 JVM 中执行，合并各个 JVM 的结果
+     * 3. 否则在当前 JVM 中执行
      *
      * @throws Throwable 异常
      */
     public void evaluate() throws Throwable {
+        EvaluationConfig evaluationConfig = evaluationContext.getEvaluationConfig();
+        if (evaluationConfig.getConfigSaturationSearch() > 0) {
+            searchSaturation(evaluationConfig);
+        }
+        if (evaluationConfig.getConfigFork() > 0) {
+            measureForked(evaluationConfig);
+        } else {
+            measure();
+        }
+        evaluationContext.runValidation();
+        generateReporter();
+    }
+
+    /**
+     * 在当前 JVM 中执行测量，结果写入上下文，不进行校验和报告
+     *
+     * @throws Throwable 异常
+     * @since 2.0.8
+     */
+    public void measure() throws Throwable {
         /**
          *任务列表
          *      PerformanceEvaluationTask：
@@ -73,42 +127,915 @@ public class PerformanceEvaluationStatement {
          *
          **/
         List<PerformanceEvaluationTask> taskList = new LinkedList<>();
+        List<Thread> threadList = new LinkedList<>();
+        EvaluationConfig evaluationConfig = evaluationContext.getEvaluationConfig();
+        long warmUpNs = TimeUnit.MILLISECONDS.toNanos(evaluationConfig.getConfigWarmUp());
+        // 测试方法只绑定一次，所有线程共享；有参数时执行线程绑定各自的状态，这里只用于确定调用方式
+        Method targetMethod = resolveTargetMethod(evaluationConfig);
+        FixturePlan fixturePlan = buildFixturePlan(evaluationConfig, targetMethod);
+        MethodInvokerBuilder methodInvokerBuilder = new MethodInvokerBuilder(evaluationContext.getTestInstance(),
+                targetMethod).arguments(new Object[fixturePlan.getParameterCount()]);
+        MethodInvoker methodInvoker = methodInvokerBuilder.build();
+        fillInvokerRuntime(methodInvokerBuilder.getInvokerType());
+        // 整个测试级别的准备在开始计时之前执行
+        fixturePlan.setupTrial();
+        // 之后无论是否成功，都停止执行线程，再执行整个测试级别的清理
+        boolean tasksStopped = false;
+        Throwable measureFailure = null;
+        // GC 监控：准备开始、测量开始、测量结束时各记录一次快照；无论是否成功，最后都移除监听
+        GcMonitor gcMonitor = new GcMonitor();
+        try {
+            gcMonitor.start();
+            GcMonitor.GcSnapshot warmUpSnapshot = GcMonitor.snapshot();
+            GcMonitor.GcSnapshot measureSnapshot = warmUpSnapshot;
+            GcMonitor.GcSnapshot stopSnapshot;
+            long startNs = System.nanoTime();
+            long measureStartNs = startNs;
+            long deadlineNs = Long.MAX_VALUE;
+            long compilationTimeMsAtMeasureStart = -1L;
+            long measureCompilationTimeMs;
+            long stopNs;
+            // 开放模型：所有线程共享同一个到达调度
+            ArrivalRateScheduler arrivalRateScheduler = null;
+            if (evaluationConfig.getConfigTargetRate() > 0) {
+                arrivalRateScheduler = new ArrivalRateScheduler(startNs, evaluationConfig.getConfigTargetRate());
+            }
+            // 所有线程共享同一个准备阶段的结束判断
+            WarmUpDetector warmUpDetector = new WarmUpDetector(startNs, warmUpNs,
+                    evaluationConfig.isConfigAdaptiveWarmUp(),
+                    TimeUnit.MILLISECONDS.toNanos(evaluationConfig.getConfigWarmUpWindow()),
+                    evaluationConfig.getConfigWarmUpTolerance());
+            // 负载阶段：按计划增减活跃线程，停止的线程不再复用
+            List<LoadStage> stageList = evaluationConfig.getConfigStageList();
+            LoadProfile loadProfile = null;
+            int threads = evaluationConfig.getConfigThreads();
+            long measureNs = TimeUnit.MILLISECONDS.toNanos(evaluationConfig.getConfigDuration());
+            List<PerformanceEvaluationTask> activeTaskList = new ArrayList<>();
+            TaskStarter taskStarter = new TaskStarter(warmUpDetector, methodInvoker, arrivalRateScheduler,
+                    evaluationConfig.isConfigCpuTime(), taskList, threadList, activeTaskList);
+            if (evaluationConfig.isConfigVirtualThreads()) {
+                useVirtualThreads(taskStarter);
+            }
+            if (fixturePlan.isThreadFixtureRequired()) {
+                taskStarter.fixturePlan = fixturePlan;
+            }
+            taskStarter.batchSize = evaluationConfig.getConfigBatchSize();
+            taskStarter.throughputOnly = evaluationConfig.isConfigThroughputOnly();
+            taskStarter.latencySampleEvery = evaluationConfig.getConfigLatencySampleEvery();
+            taskStarter.latencySampleProbability = evaluationConfig.getConfigLatencySampleProbability();
+            // 固定调用次数：所有线程通过启动栅栏同时开始，全部完成时结束
+            CountDownLatch finishLatch = null;
+            if (evaluationConfig.getConfigInvocations() > 0) {
+                finishLatch = new CountDownLatch(threads);
+                taskStarter.invocations = evaluationConfig.getConfigInvocations();
+                taskStarter.invocationThreads = threads;
+                taskStarter.startGate = new CountDownLatch(1);
+                taskStarter.finishLatch = finishLatch;
+            }
+            // 只统计吞吐量：按区间读取所有线程的操作计数
+            ThroughputSampler throughputSampler = null;
+            if (evaluationConfig.isConfigThroughputOnly()) {
+                throughputSampler = new ThroughputSampler(() -> {
+                    long operationCount = 0;
+                    for (PerformanceEvaluationTask task : taskList) {
+                        operationCount += task.getOperationCount();
+                    }
+                    return operationCount;
+                }, TimeUnit.MILLISECONDS.toNanos(evaluationConfig.getConfigTimelineInterval()));
+            }
+            // 异步调用：耗时算到返回值完成为止
+            Class<?> returnType = targetMethod.getReturnType();
+            if (AsyncCompletionWindow.isAsyncType(returnType)) {
+                taskStarter.asyncWindowSize = evaluationConfig.getConfigAsyncWindow();
+                evaluationContext.getEvaluationRuntime().setAsyncType(returnType.getSimpleName());
+            }
+            if (!stageList.isEmpty()) {
+                loadProfile = new LoadProfile(stageList, statisticsCalculator.getClass(), taskStarter::setActiveThreads);
+                taskStarter.loadProfile = loadProfile;
+                threads = LoadProfile.getWarmUpThreads(stageList);
+                measureNs = LoadProfile.getTotalDurationNs(stageList);
+            }
+
+            try {
+                taskStarter.setActiveThreads(threads);
+                if (taskStarter.startGate != null) {
+                    taskStarter.startGate.countDown();
+                }
+                /**
+                 *  Duration:运行时间
+                 * 主线程持续Duration一段时间，期间按照间隔生成区间统计
+                 * 测量时长固定为 duration（分阶段时为所有阶段的总时长），不包含准备时间，自适应准备提前结束时整体运行时间相应缩短
+                 * 测量结束时间在测量开始时就确定，执行线程据此丢弃之后完成的调用，不依赖主线程被唤醒的时机
+                 * 配置了目标精度或者序贯检验时，duration 为最长测量时间，达到精度或者结论确定后提前结束
+                 **/
+                measureStartNs = warmUpDetector.awaitMeasurementStart(startNs + warmUpNs + measureNs);
+                deadlineNs = measureStartNs + measureNs;
+                warmUpDetector.setMeasureStopNs(deadlineNs);
+                compilationTimeMsAtMeasureStart = warmUpDetector.getTotalCompilationTimeMs();
+                gcMonitor.markMeasurementStart(measureStartNs);
+                measureSnapshot = GcMonitor.snapshot();
+                if (loadProfile != null) {
+                    loadProfile.start(measureStartNs);
+                }
+                awaitMeasurement(evaluationConfig, loadProfile, throughputSampler, finishLatch, fixturePlan,
+                        measureStartNs, deadlineNs);
+            } catch (Throwable throwable) {
+                for (PerformanceEvaluationTask task : taskList) {
+                    task.setContinue(false);
+                }
+                throw throwable;
+            } finally {
+                // 正常结束时测量窗口为计划的时长；只统计吞吐量时执行线程在收到结束信号后才停止计数，以实际时间为准
+                stopNs = System.nanoTime();
+                if (throughputSampler != null) {
+                    throughputSampler.sample(stopNs);
+                    for (PerformanceEvaluationTask task : taskList) {
+                        task.stopMeasurement();
+                    }
+                } else {
+                    stopNs = Math.min(stopNs, deadlineNs);
+                }
+                warmUpDetector.setMeasureStopNs(stopNs);
+                gcMonitor.markMeasurementStop(stopNs);
+                stopSnapshot = GcMonitor.snapshot();
+                measureCompilationTimeMs = warmUpDetector.getCompilationTimeMsSince(compilationTimeMsAtMeasureStart);
+                if (loadProfile != null) {
+                    loadProfile.stop(stopNs);
+                }
+            }
 
+            // 冷却阶段：执行线程保持原有负载，测量窗口末尾的调用不会因为其它线程停止而变快
+            sleepUntil(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(evaluationConfig.getConfigCooldown()));
+            stopTasks(taskList, threadList, evaluationConfig.getConfigShutdownTimeout());
+            tasksStopped = true;
+            if (fixturePlan.getFailure() != null) {
+                throw new JunitPerfRuntimeException("@PerfSetup/@PerfTeardown failed in the evaluation thread.",
+                        fixturePlan.getFailure());
+            }
+
+            gcMonitor.stop();
+            fillGcRuntime(gcMonitor, warmUpSnapshot, measureSnapshot, stopSnapshot, stopNs - measureStartNs);
+            fillWarmUpRuntime(warmUpDetector, measureCompilationTimeMs);
+            if (finishLatch != null) {
+                fillInvocationRuntime(taskList);
+            } else {
+                evaluationContext.getEvaluationRuntime().setMeasuredNs(stopNs - measureStartNs);
+            }
+            if (loadProfile != null) {
+                evaluationContext.setStageStatisticsList(loadProfile.getStageStatisticsList());
+            }
+            fillAllocationRuntime(taskList, stopNs - measureStartNs);
+            if (evaluationConfig.isConfigCpuTime()) {
+                fillCpuRuntime(taskList);
+            }
+            if (evaluationConfig.getConfigLatencySampleEvery() > 1
+                    || evaluationConfig.getConfigLatencySampleProbability() < 1F) {
+                fillLatencySampleRuntime(taskList);
+            }
+            if (throughputSampler != null) {
+                fillThroughputRuntime(throughputSampler);
+            } else if (evaluationConfig.getConfigTimelineInterval() > 0) {
+                // 最后一个不完整的区间
+                statisticsCalculator.markInterval(stopNs);
+            }
+            if (arrivalRateScheduler != null) {
+                fillArrivalRuntime(arrivalRateScheduler, measureStartNs, stopNs);
+            }
+            if (evaluationConfig.getConfigPrecision() > 0) {
+                fillPrecisionRuntime(evaluationConfig);
+            }
+            evaluationContext.setStatisticsCalculator(statisticsCalculator);
+            if (evaluationConfig.isConfigCoordinatedOmissionCorrection()) {
+                correctCoordinatedOmission(evaluationConfig);
+            }
+        } catch (Throwable throwable) {
+            measureFailure = throwable;
+            throw throwable;
+        } finally {
+            gcMonitor.stop();
+            try {
+                if (!tasksStopped) {
+                    stopTasks(taskList, threadList, evaluationConfig.getConfigShutdownTimeout());
+                }
+            } finally {
+                teardownTrial(fixturePlan, measureFailure);
+            }
+        }
+    }
+
+    /**
+     * 执行整个测试级别的清理
+     * 1. 测量已经失败时，清理的异常作为附加异常，不覆盖原有的异常
+     * @param fixturePlan 准备、清理计划
+     * @param measureFailure 测量的异常，成功时为 null
+     * @throws Throwable 清理方法抛出的异常
+     * @since 2.0.8
+     */
+    private static void teardownTrial(final FixturePlan fixturePlan,
+                                      final Throwable measureFailure) throws Throwable {
         try {
-            EvaluationConfig evaluationConfig = evaluationContext.getEvaluationConfig();
-            for (int i = 0; i < evaluationConfig.getConfigThreads(); i++) {
-                PerformanceEvaluationTask task = new PerformanceEvaluationTask(evaluationConfig.getConfigWarmUp(),
-                        statisticsCalculator,
-                        evaluationContext.getTestInstance(),
-                        evaluationContext.getTestMethod());
-           /**
-            *FACTORY -> Thread newThread(Runnable r);
-            * task->PerformanceEvaluationTask implements Runnable
-            **/
-                Thread t = FACTORY.newThread(task);
-                taskList.add(task);
-                t.start();
+            fixturePlan.teardownTrial();
+        } catch (Throwable throwable) {
+            if (measureFailure == null) {
+                throw throwable;
             }
-            /**
-             *  Duration:运行时间
-             * 主线程持续Duration一段时间
-             **/
-            Thread.sleep(evaluationConfig.getConfigDuration());
+            measureFailure.addSuppressed(throwable);
+        }
+    }
+
+    /**
+     * 饱和点搜索
+     * 1. 每次探测使用新的上下文和统计，执行与正式测量相同的流程，测量时间为 probeDuration
+     * 2. 结束后配置恢复为正式测量的时间，线程数（或到达速率）设置为饱和点；没有饱和点时为下限
+     * @param evaluationConfig 配置
+     * @throws Throwable 异常
+     * @since 2.0.8
+     */
+    private void searchSaturation(final EvaluationConfig evaluationConfig) throws Throwable {
+        EvaluationRequire evaluationRequire = evaluationContext.getEvaluationRequire();
+        if (evaluationRequire.getRequirePercentilesMap().isEmpty()) {
+            throw new JunitPerfRuntimeException("saturationSearch requires the percentiles of @JunitPerfRequire.");
+        }
+        final boolean rateSearch = evaluationConfig.getConfigTargetRate() > 0;
+        final int percentile = Collections.max(evaluationRequire.getRequirePercentilesMap().keySet());
+        int lowerBound = rateSearch ? evaluationConfig.getConfigTargetRate() : evaluationConfig.getConfigThreads();
+        long duration = evaluationConfig.getConfigDuration();
+        SaturationSearch saturationSearch = new SaturationSearch(lowerBound, evaluationConfig.getConfigSaturationSearch());
+        SaturationProbe saturationPoint;
+        evaluationConfig.setConfigDuration(evaluationConfig.getConfigProbeDuration());
+        try {
+            saturationPoint = saturationSearch.search(level -> {
+                if (rateSearch) {
+                    evaluationConfig.setConfigTargetRate(level);
+                } else {
+                    evaluationConfig.setConfigThreads(level);
+                }
+                EvaluationContext probeContext = new EvaluationContext(evaluationContext.getTestInstance(),
+                        evaluationContext.getTestMethod(), evaluationContext.getStartTime());
+                probeContext.setEvaluationConfig(evaluationConfig);
+                probeContext.setEvaluationRequire(evaluationRequire);
+                new PerformanceEvaluationStatement(probeContext,
+                        statisticsCalculator.getClass().newInstance(),
+                        Collections.emptySet(),
+                        Collections.singletonList(probeContext),
+                        testClass).measure();
+                probeContext.runValidation();
+
+                SaturationProbe probe = new SaturationProbe();
+                probe.setLevel(level);
+                probe.setThroughputQps(probeContext.getEvaluationResult().getThroughputQps());
+                probe.setPercentile(percentile);
+                probe.setLatencyMs(probeContext.getStatisticsCalculator().getLatencyPercentile(percentile, TimeUnit.MILLISECONDS));
+                probe.setPassed(probeContext.getEvaluationResult().isPercentilesAchieved());
+                return probe;
+            });
         } finally {
+            evaluationConfig.setConfigDuration(duration);
+        }
+        int level = saturationPoint == null ? lowerBound : saturationPoint.getLevel();
+        if (rateSearch) {
+            evaluationConfig.setConfigTargetRate(level);
+        } else {
+            evaluationConfig.setConfigThreads(level);
+        }
+        EvaluationRuntime evaluationRuntime = evaluationContext.getEvaluationRuntime();
+        evaluationRuntime.setSaturationProbeList(saturationSearch.getProbeList());
+        evaluationRuntime.setSaturationPoint(saturationPoint);
+    }
+
+    /**
+     * 依次在新启动的 JVM 中执行测量，合并各个 JVM 的结果
+     * 1. 延迟、调用次数、错误次数、内存、区间统计合并为一份统计
+     * 2. 测量时长、未结束的线程数累加，吞吐量为所有 fork 的整体吞吐量
+     * 3. GC、内存分配、CPU、JIT、负载阶段等其余运行信息取自最后一个 fork
+     * @param evaluationConfig 配置
+     * @throws Throwable 异常
+     * @since 2.0.8
+     */
+    private void measureForked(final EvaluationConfig evaluationConfig) throws Throwable {
+        EvaluationRuntime evaluationRuntime = null;
+        List<Double> forkThroughputList = new ArrayList<>();
+        long measuredNs = 0;
+        int unfinishedThreads = 0;
+        for (int i = 0; i < evaluationConfig.getConfigFork(); i++) {
+            ForkResult forkResult = ForkRunner.run(testClass, evaluationContext.getTestMethod(), statisticsCalculator.getClass(),
+                    evaluationConfig.getConfigJvmArgs(), evaluationContext.getParamMap());
+            StatisticsCalculator forkCalculator = forkResult.getStatisticsCalculator();
+            if (!statisticsCalculator.merge(forkCalculator)) {
+                throw new JunitPerfRuntimeException(statisticsCalculator.getClass().getName()
+                        + " does not support merging the results of forked JVMs.");
+            }
+            evaluationRuntime = forkResult.getEvaluationRuntime();
+            long forkMeasuredNs = evaluationRuntime.getMeasuredNs();
+            forkThroughputList.add(forkMeasuredNs > 0
+                    ? forkCalculator.getEvaluationCount() * (double) TimeUnit.SECONDS.toNanos(1) / forkMeasuredNs
+                    : 0D);
+            measuredNs += forkMeasuredNs;
+            unfinishedThreads += evaluationRuntime.getUnfinishedThreads();
+            evaluationContext.setStageStatisticsList(forkResult.getStageStatisticsList());
+        }
+        evaluationRuntime.setMeasuredNs(measuredNs);
+        evaluationRuntime.setUnfinishedThreads(unfinishedThreads);
+        evaluationRuntime.setForks(forkThroughputList.size());
+        evaluationRuntime.setForkThroughputList(forkThroughputList);
+        evaluationContext.setEvaluationRuntime(evaluationRuntime);
+        if (evaluationConfig.getConfigPrecision() > 0) {
+            fillPrecisionRuntime(evaluationConfig);
+        }
+        evaluationContext.setStatisticsCalculator(statisticsCalculator);
+        if (evaluationConfig.isConfigCoordinatedOmissionCorrection()) {
+            correctCoordinatedOmission(evaluationConfig);
+        }
+    }
+
+    /**
+     * 停止执行线程并等待结束，保证统计读取时不再有写入
+     * 1. 当执行打断时，被打断的任务可能已经开始执行(尚未执行完)，需要等待当前调用完成
+     * 2. 所有线程共享同一个等待上限，超时后中断仍未结束的线程，并记录线程数
+     * @param taskList 任务列表
+     * @param threadList 线程列表
+     * @param shutdownTimeoutMs 等待上限
+     * @throws InterruptedException 等待被中断
+     * @since 2.0.8
+     */
+    private void stopTasks(final List<PerformanceEvaluationTask> taskList,
+                           final List<Thread> threadList,
+                           final long shutdownTimeoutMs) throws InterruptedException {
+        for (PerformanceEvaluationTask task : taskList) {
             /**
-             *具体详情，当执行打断时，被打断的任务可能已经开始执行(尚未执行完)，会出现主线程往下走，被打断的线程也在继续走的情况
+             *终止执行的任务
              **/
-            for (PerformanceEvaluationTask task : taskList) {
+            task.setContinue(false);
+        }
+
+        long shutdownDeadlineNs = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(shutdownTimeoutMs);
+        int unfinishedThreads = 0;
+        for (Thread thread : threadList) {
+            long remainingNs = shutdownDeadlineNs - System.nanoTime();
+            if (remainingNs > 0) {
+                TimeUnit.NANOSECONDS.timedJoin(thread, remainingNs);
+            }
+            if (thread.isAlive()) {
+                thread.interrupt();
+                unfinishedThreads++;
+            }
+        }
+        evaluationContext.getEvaluationRuntime().setUnfinishedThreads(unfinishedThreads);
+    }
+
+    /**
+     * 测量阶段的等待
+     * 1. 测量开始时标记第一个区间的开始，之后每隔一个间隔生成一次区间统计
+     * 2. 分阶段时，到达动作时间后推进负载阶段
+     * 3. 只统计吞吐量时，每个间隔读取一次操作计数，代替区间统计
+     * 4. 未配置区间间隔、不分阶段时直接等待
+     * 5. 固定调用次数时，所有执行线程完成后提前结束
+     * 6. 配置了序贯检验或者目标精度时，超过最短测量时间后，每个区间结束时检验一次，结论确定或者达到精度后提前结束
+     * 7. 执行线程需要准备、清理时，至少每隔 {@link #FIXTURE_CHECK_INTERVAL_NS} 检查一次，执行线程失败后提前结束
+     * @param evaluationConfig 配置
+     * @param loadProfile 负载阶段的执行计划，可以为 null
+     * @param throughputSampler 吞吐量采样，可以为 null
+     * @param finishLatch 执行线程的完成信号，可以为 null
+     * @param fixturePlan 准备、清理计划
+     * @param measureStartNs 测量开始时间
+     * @param deadlineNs 结束时间
+     * @throws InterruptedException 等待被中断
+     * @since 2.0.8
+     */
+    private void awaitMeasurement(final EvaluationConfig evaluationConfig,
+                                  final LoadProfile loadProfile,
+                                  final ThroughputSampler throughputSampler,
+                                  final CountDownLatch finishLatch,
+                                  final FixturePlan fixturePlan,
+                                  final long measureStartNs,
+                                  final long deadlineNs) throws InterruptedException {
+        long intervalNs = TimeUnit.MILLISECONDS.toNanos(evaluationConfig.getConfigTimelineInterval());
+        long minDurationNs = TimeUnit.MILLISECONDS.toNanos(evaluationConfig.getConfigMinDuration());
+        SequentialEvaluator sequentialEvaluator = null;
+        if (evaluationConfig.isConfigSequentialTest()) {
+            sequentialEvaluator = new SequentialEvaluator(evaluationConfig, evaluationContext.getEvaluationRequire(),
+                    statisticsCalculator);
+        }
+        boolean fixtureCheck = fixturePlan.isThreadFixtureRequired();
+        long nextIntervalNs = Long.MAX_VALUE;
+        if (intervalNs > 0) {
+            markInterval(throughputSampler, measureStartNs);
+            nextIntervalNs = measureStartNs + intervalNs;
+        }
+        while (true) {
+            if (fixtureCheck && fixturePlan.getFailure() != null) {
+                return;
+            }
+            long nextActionNs = loadProfile != null ? loadProfile.getNextActionNs() : Long.MAX_VALUE;
+            long nextNs = Math.min(deadlineNs, Math.min(nextIntervalNs, nextActionNs));
+            if (fixtureCheck) {
+                nextNs = Math.min(nextNs, System.nanoTime() + FIXTURE_CHECK_INTERVAL_NS);
+            }
+            if (finishLatch != null) {
+                if (finishLatch.await(nextNs - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    return;
+                }
+            } else {
+                sleepUntil(nextNs);
+            }
+            if (nextNs >= deadlineNs) {
+                return;
+            }
+            long nowNs = System.nanoTime();
+            if (loadProfile != null) {
+                loadProfile.advance(nowNs);
+            }
+            if (nowNs >= nextIntervalNs) {
+                markInterval(throughputSampler, nowNs);
+                nextIntervalNs += intervalNs;
+                if (nowNs - measureStartNs < minDurationNs) {
+                    continue;
+                }
+                if (sequentialEvaluator != null && sequentialEvaluator.check()) {
+                    EvaluationRuntime evaluationRuntime = evaluationContext.getEvaluationRuntime();
+                    evaluationRuntime.setSequentialStopped(true);
+                    evaluationRuntime.setSequentialPassed(sequentialEvaluator.isPassed());
+                    evaluationRuntime.setSequentialReason(sequentialEvaluator.getReason());
+                    return;
+                }
+                if (isPrecisionReached(evaluationConfig)) {
+                    evaluationContext.getEvaluationRuntime().setAdaptiveStopped(true);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 是否达到目标精度
+     * @param evaluationConfig 配置
+     * @return 未配置目标精度时返回 false
+     * @since 2.0.8
+     */
+    private boolean isPrecisionReached(final EvaluationConfig evaluationConfig) {
+        if (evaluationConfig.getConfigPrecision() <= 0) {
+            return false;
+        }
+        BatchMeansEstimator estimator = new BatchMeansEstimator(statisticsCalculator.getIntervalStatisticsList(),
+                TimeUnit.MILLISECONDS.toNanos(evaluationConfig.getConfigTimelineInterval()));
+        return estimator.isReached(evaluationConfig.getConfigPrecision());
+    }
+
+    /**
+     * 区间切换
+     * @param throughputSampler 吞吐量采样，为 null 时生成区间统计
+     * @param nowNs 当前时间
+     * @since 2.0.8
+     */
+    private void markInterval(final ThroughputSampler throughputSampler,
+                              final long nowNs) {
+        if (throughputSampler != null) {
+            throughputSampler.sample(nowNs);
+        } else {
+            statisticsCalculator.markInterval(nowNs);
+        }
+    }
+
+    /**
+     * 执行线程的启动、停止
+     * 1. 增加线程时创建新的任务，减少线程时停止最后启动的任务
+     * 2. 只由主线程调用
+     * @since 2.0.8
+     */
+    private final class TaskStarter {
+
+        private final WarmUpDetector warmUpDetector;
+
+        private final MethodInvoker methodInvoker;
+
+        private final ArrivalRateScheduler arrivalRateScheduler;
+
+        private final boolean cpuTimeEnabled;
+
+        private final List<PerformanceEvaluationTask> taskList;
+
+        private final List<Thread> threadList;
+
+        private final List<PerformanceEvaluationTask> activeTaskList;
+
+        private LoadProfile loadProfile;
+
+        private FixturePlan fixturePlan;
+
+        private ThreadFactory threadFactory = FACTORY;
+
+        private StatisticsRecorderStripes recorderStripes;
+
+        private int asyncWindowSize;
+
+        private int batchSize = 1;
+
+        private boolean throughputOnly;
+
+        private int latencySampleEvery = 1;
+
+        private float latencySampleProbability = 1F;
+
+        private long invocations;
+
+        private int invocationThreads;
+
+        private CountDownLatch startGate;
+
+        private CountDownLatch finishLatch;
+
+        private TaskStarter(WarmUpDetector warmUpDetector,
+                            MethodInvoker methodInvoker,
+                            ArrivalRateScheduler arrivalRateScheduler,
+                            boolean cpuTimeEnabled,
+                            List<PerformanceEvaluationTask> taskList,
+                            List<Thread> threadList,
+                            List<PerformanceEvaluationTask> activeTaskList) {
+            this.warmUpDetector = warmUpDetector;
+            this.methodInvoker = methodInvoker;
+            this.arrivalRateScheduler = arrivalRateScheduler;
+            this.cpuTimeEnabled = cpuTimeEnabled;
+            this.taskList = taskList;
+            this.threadList = threadList;
+            this.activeTaskList = activeTaskList;
+        }
+
+        /**
+         * 调整活跃线程数
+         * @param threads 线程数
+         */
+        private void setActiveThreads(final int threads) {
+            while (activeTaskList.size() > threads) {
+                activeTaskList.remove(activeTaskList.size() - 1).setContinue(false);
+            }
+            while (activeTaskList.size() < threads) {
+                PerformanceEvaluationTask task = new PerformanceEvaluationTask(warmUpDetector,
+                        loadProfile,
+                        statisticsCalculator,
+                        methodInvoker,
+                        arrivalRateScheduler,
+                        cpuTimeEnabled);
+                if (recorderStripes != null) {
+                    task.setRecorderStripes(recorderStripes, taskList.size());
+                }
+                if (fixturePlan != null) {
+                    task.setFixturePlan(fixturePlan);
+                }
+                task.setAsyncWindowSize(asyncWindowSize);
+                task.setBatchSize(batchSize);
+                task.setThroughputOnly(throughputOnly);
+                task.setLatencySampling(latencySampleEvery, latencySampleProbability);
+                if (invocations > 0) {
+                    // 余数分配给编号靠前的线程
+                    int index = taskList.size();
+                    task.setInvocationQuota(invocations / invocationThreads + (index < invocations % invocationThreads ? 1 : 0));
+                    task.setStartGate(startGate, finishLatch);
+                }
                 /**
-                 *终止执行的任务
+                 *FACTORY -> Thread newThread(Runnable r);
+                 * task->PerformanceEvaluationTask implements Runnable
                  **/
-                task.setContinue(false);
+                Thread t = threadFactory.newThread(task);
+                taskList.add(task);
+                threadList.add(t);
+                activeTaskList.add(task);
+                t.start();
             }
         }
+    }
 
-        evaluationContext.setStatisticsCalculator(statisticsCalculator);
-        evaluationContext.runValidation();
-        generateReporter();
+    /**
+     * 获取性能测试期间调用的方法
+     * 1. 指定了异步测试方法或者被测方法时，在测试类及其父类中查找无参数的同名方法
+     * 2. 被测方法返回异步类型时需要使用 asyncMethod，否则耗时只包含发起调用的时间
+     * 3. 都没有指定时为当前测试方法
+     * @param evaluationConfig 配置
+     * @return 方法
+     * @since 2.0.8
+     */
+    private Method resolveTargetMethod(final EvaluationConfig evaluationConfig) {
+        String asyncMethod = evaluationConfig.getConfigAsyncMethod();
+        if (asyncMethod != null && !asyncMethod.isEmpty()) {
+            return findNoArgMethod("asyncMethod", asyncMethod);
+        }
+        String targetMethod = evaluationConfig.getConfigTargetMethod();
+        if (targetMethod != null && !targetMethod.isEmpty()) {
+            Method method = findNoArgMethod("targetMethod", targetMethod);
+            if (AsyncCompletionWindow.isAsyncType(method.getReturnType())) {
+                throw new JunitPerfRuntimeException("targetMethod " + targetMethod + "() returns "
+                        + method.getReturnType().getSimpleName() + ", use asyncMethod instead.");
+            }
+            return method;
+        }
+        return evaluationContext.getTestMethod();
+    }
+
+    /**
+     * 在测试类及其父类中查找无参数的方法
+     * @param attribute 配置属性的名称，用于异常信息
+     * @param methodName 方法名称
+     * @return 方法
+     * @since 2.0.8
+     */
+    private Method findNoArgMethod(final String attribute, final String methodName) {
+        for (Class<?> clazz = testClass; clazz != null; clazz = clazz.getSuperclass()) {
+            try {
+                return clazz.getDeclaredMethod(methodName);
+            } catch (NoSuchMethodException e) {
+                // 继续查找父类
+            }
+        }
+        throw new JunitPerfRuntimeException(attribute + " " + methodName + "() is not found in " + testClass.getName());
+    }
+
+    /**
+     * 构建准备、清理计划
+     * 1. 调用级别的准备、清理需要在每次调用的计时之外执行，不支持批量调用、只统计吞吐量和异步调用
+     * @param evaluationConfig 配置
+     * @param targetMethod 性能测试期间调用的方法
+     * @return 计划
+     * @since 2.0.8
+     */
+    private FixturePlan buildFixturePlan(final EvaluationConfig evaluationConfig,
+                                         final Method targetMethod) {
+        FixturePlan fixturePlan = new FixturePlan(evaluationContext.getTestInstance(), targetMethod);
+        if (fixturePlan.hasHooks(FixtureLevelEnum.INVOCATION)
+                && (evaluationConfig.getConfigBatchSize() > 1
+                || evaluationConfig.isConfigThroughputOnly()
+                || AsyncCompletionWindow.isAsyncType(targetMethod.getReturnType()))) {
+            throw new JunitPerfRuntimeException("@PerfSetup/@PerfTeardown(INVOCATION) is not supported with batchSize, "
+                    + "throughputOnly or async methods.");
+        }
+        return fixturePlan;
+    }
+
+    /**
+     * 使用虚拟线程执行
+     * 1. 执行线程按编号分段共享统计记录者
+     * 2. JVM 不支持时保持平台线程，记录回退信息
+     * @param taskStarter 执行线程的启动
+     * @since 2.0.8
+     */
+    private void useVirtualThreads(final TaskStarter taskStarter) {
+        EvaluationRuntime evaluationRuntime = evaluationContext.getEvaluationRuntime();
+        ThreadFactory virtualThreadFactory = VirtualThreadFactory.newFactory(VIRTUAL_THREAD_NAME_PREFIX);
+        if (virtualThreadFactory == null) {
+            evaluationRuntime.setVirtualThreadsFallback(true);
+            return;
+        }
+        taskStarter.threadFactory = virtualThreadFactory;
+        taskStarter.recorderStripes = new StatisticsRecorderStripes(StatisticsRecorderStripes.defaultStripeCount());
+        evaluationRuntime.setThreadType("Virtual");
+    }
+
+    /**
+     * 休眠到指定时间
+     * @param deadlineNs 时间
+     * @throws InterruptedException 等待被中断
+     * @since 2.0.8
+     */
+    private static void sleepUntil(final long deadlineNs) throws InterruptedException {
+        long remainingNs = deadlineNs - System.nanoTime();
+        while (remainingNs > 0) {
+            TimeUnit.NANOSECONDS.sleep(remainingNs);
+            remainingNs = deadlineNs - System.nanoTime();
+        }
+    }
+
+    /**
+     * 记录调用方式及每次调用的固定开销
+     * 1. 开销在执行线程启动之前校准，不影响测量
+     * @param invokerType 调用方式
+     * @since 2.0.8
+     */
+    private void fillInvokerRuntime(final InvokerTypeEnum invokerType) {
+        EvaluationRuntime evaluationRuntime = evaluationContext.getEvaluationRuntime();
+        evaluationRuntime.setInvokerType(invokerType.getDescription());
+        evaluationRuntime.setInvocationOverheadNs(InvocationOverheadCalibrator.getOverheadNs(invokerType));
+    }
+
+    /**
+     * 记录准备阶段的信息
+     * @param warmUpDetector 准备阶段的结束判断
+     * @param measureCompilationTimeMs 测量期间的 JIT 编译时间
+     * @since 2.0.8
+     */
+    private void fillWarmUpRuntime(final WarmUpDetector warmUpDetector,
+                                   final long measureCompilationTimeMs) {
+        EvaluationRuntime evaluationRuntime = evaluationContext.getEvaluationRuntime();
+        evaluationRuntime.setWarmUpMs(TimeUnit.NANOSECONDS.toMillis(warmUpDetector.getWarmUpNs()));
+        evaluationRuntime.setWarmUpSteady(warmUpDetector.isSteady());
+        evaluationRuntime.setWarmUpWindows(warmUpDetector.getWindowStatisticsList().size());
+        evaluationRuntime.setWarmUpCompilationTimeMs(warmUpDetector.getWarmUpCompilationTimeMs());
+        evaluationRuntime.setCompilationTimeMs(measureCompilationTimeMs);
+    }
+
+    /**
+     * 记录 GC 信息
+     * 1. 次数、时间优先使用 GC 通知记录的停顿，不支持时使用 MXBean 的累计值之差
+     * 2. 停顿占比 = 停顿总时间 / 测量时长
+     * @param gcMonitor GC 监控
+     * @param warmUpSnapshot 准备开始时的快照
+     * @param measureSnapshot 测量开始时的快照
+     * @param stopSnapshot 测量结束时的快照
+     * @param measuredNs 测量时长
+     * @since 2.0.8
+     */
+    private void fillGcRuntime(final GcMonitor gcMonitor,
+                               final GcMonitor.GcSnapshot warmUpSnapshot,
+                               final GcMonitor.GcSnapshot measureSnapshot,
+                               final GcMonitor.GcSnapshot stopSnapshot,
+                               final long measuredNs) {
+        EvaluationRuntime evaluationRuntime = evaluationContext.getEvaluationRuntime();
+        evaluationRuntime.setWarmUpGcCount(measureSnapshot.getCollectionCount() - warmUpSnapshot.getCollectionCount());
+        evaluationRuntime.setWarmUpGcTimeMs(measureSnapshot.getCollectionTimeMs() - warmUpSnapshot.getCollectionTimeMs());
+        evaluationRuntime.setHeapUsedBeforeWarmUp(warmUpSnapshot.getHeapUsedBytes());
+        evaluationRuntime.setHeapUsedBeforeMeasurement(measureSnapshot.getHeapUsedBytes());
+        evaluationRuntime.setHeapUsedAfterMeasurement(stopSnapshot.getHeapUsedBytes());
+
+        if (gcMonitor.isNotificationSupported()) {
+            evaluationRuntime.setGcCount(gcMonitor.getPauseCount());
+            evaluationRuntime.setGcTimeMs(gcMonitor.getPauseTimeMs());
+            evaluationRuntime.setMaxGcPauseMs(gcMonitor.getMaxPauseMs());
+            evaluationRuntime.setGcEventList(gcMonitor.getEventList());
+        } else {
+            evaluationRuntime.setGcCount(stopSnapshot.getCollectionCount() - measureSnapshot.getCollectionCount());
+            evaluationRuntime.setGcTimeMs(stopSnapshot.getCollectionTimeMs() - measureSnapshot.getCollectionTimeMs());
+        }
+        evaluationRuntime.setGcTimePercentage(measuredNs > 0
+                ? (double) TimeUnit.MILLISECONDS.toNanos(evaluationRuntime.getGcTimeMs()) / measuredNs * 100 : 0D);
+    }
+
+    /**
+     * 记录测量期间的内存分配
+     * 1. 累加各执行线程分配的字节数，任意线程不支持时不记录
+     * 2. 统计的内存消耗同时更新为分配的总字节数
+     * @param taskList 任务列表
+     * @param measuredNs 测量时长
+     * @since 2.0.8
+     */
+    private void fillAllocationRuntime(final List<PerformanceEvaluationTask> taskList,
+                                       final long measuredNs) {
+        long allocatedBytes = 0;
+        for (PerformanceEvaluationTask task : taskList) {
+            if (task.getAllocatedBytes() < 0) {
+                return;
+            }
+            allocatedBytes += task.getAllocatedBytes();
+        }
+
+        EvaluationRuntime evaluationRuntime = evaluationContext.getEvaluationRuntime();
+        long evaluationCount = statisticsCalculator.getEvaluationCount();
+        evaluationRuntime.setAllocatedBytes(allocatedBytes);
+        evaluationRuntime.setAllocatedBytesPerOp(evaluationCount > 0 ? (double) allocatedBytes / evaluationCount : 0D);
+        evaluationRuntime.setAllocationRateMb(measuredNs > 0
+                ? (double) allocatedBytes / BYTES_PER_MB / measuredNs * TimeUnit.SECONDS.toNanos(1) : 0D);
+        statisticsCalculator.setMemory(allocatedBytes);
+    }
+
+    /**
+     * 记录测量期间的 CPU 时间
+     * 1. 任意线程不支持时不记录
+     * 2. 线程利用率 = 线程 CPU 时间 / 线程测量时长，没有进入测量的线程不参与统计
+     * 3. CPU 时间 / 耗时 = 每次执行的 CPU 时间 / 平均耗时，明显小于 1 说明耗时中包含等待调度、IO、锁等待等时间
+     * @param taskList 任务列表
+     * @since 2.0.8
+     */
+    private void fillCpuRuntime(final List<PerformanceEvaluationTask> taskList) {
+        long cpuTimeNs = 0;
+        double totalUtilization = 0D;
+        double minUtilization = Double.MAX_VALUE;
+        double maxUtilization = 0D;
+        int measuredThreads = 0;
+        for (PerformanceEvaluationTask task : taskList) {
+            if (task.getCpuTimeNs() < 0) {
+                if (task.getMeasuredNs() > 0) {
+                    return;
+                }
+                continue;
+            }
+            cpuTimeNs += task.getCpuTimeNs();
+            if (task.getMeasuredNs() > 0) {
+                double utilization = (double) task.getCpuTimeNs() / task.getMeasuredNs() * 100;
+                totalUtilization += utilization;
+                minUtilization = Math.min(minUtilization, utilization);
+                maxUtilization = Math.max(maxUtilization, utilization);
+                measuredThreads++;
+            }
+        }
+        if (measuredThreads == 0) {
+            return;
+        }
+
+        EvaluationRuntime evaluationRuntime = evaluationContext.getEvaluationRuntime();
+        long evaluationCount = statisticsCalculator.getEvaluationCount();
+        double cpuTimeNsPerOp = evaluationCount > 0 ? (double) cpuTimeNs / evaluationCount : 0D;
+        double meanLatencyNs = statisticsCalculator.getMeanLatency(TimeUnit.NANOSECONDS);
+        evaluationRuntime.setCpuTimeNs(cpuTimeNs);
+        evaluationRuntime.setCpuTimeNsPerOp(cpuTimeNsPerOp);
+        evaluationRuntime.setCpuUtilization(totalUtilization / measuredThreads);
+        evaluationRuntime.setMinCpuUtilization(minUtilization);
+        evaluationRuntime.setMaxCpuUtilization(maxUtilization);
+        evaluationRuntime.setCpuWallRatio(meanLatencyNs > 0 ? cpuTimeNsPerOp / meanLatencyNs : 0D);
+    }
+
+    /**
+     * 固定调用次数时的测量时长
+     * 1. 从最早开始测量的线程算起，到最后完成的线程为止，不包含主线程等待、唤醒的时间
+     * @param taskList 任务列表
+     * @since 2.0.8
+     */
+    private void fillInvocationRuntime(final List<PerformanceEvaluationTask> taskList) {
+        long firstStartNs = Long.MAX_VALUE;
+        long lastStopNs = Long.MIN_VALUE;
+        for (PerformanceEvaluationTask task : taskList) {
+            if (task.getMeasurementStopNs() == 0) {
+                continue;
+            }
+            firstStartNs = Math.min(firstStartNs, task.getMeasurementStartNs());
+            lastStopNs = Math.max(lastStopNs, task.getMeasurementStopNs());
+        }
+        if (lastStopNs > firstStartNs) {
+            evaluationContext.getEvaluationRuntime().setMeasuredNs(lastStopNs - firstStartNs);
+        }
+    }
+
+    /**
+     * 记录延迟抽样的样本数
+     * @param taskList 任务列表
+     * @since 2.0.8
+     */
+    private void fillLatencySampleRuntime(final List<PerformanceEvaluationTask> taskList) {
+        long latencySampleCount = 0;
+        for (PerformanceEvaluationTask task : taskList) {
+            latencySampleCount += task.getLatencySampleCount();
+        }
+        evaluationContext.getEvaluationRuntime().setLatencySampleCount(latencySampleCount);
+    }
+
+    /**
+     * 记录测量精度
+     * 1. 使用所有区间重新计算，fork 时为合并之后的区间
+     * @param evaluationConfig 配置
+     * @since 2.0.8
+     */
+    private void fillPrecisionRuntime(final EvaluationConfig evaluationConfig) {
+        BatchMeansEstimator estimator = new BatchMeansEstimator(statisticsCalculator.getIntervalStatisticsList(),
+                TimeUnit.MILLISECONDS.toNanos(evaluationConfig.getConfigTimelineInterval()));
+        EvaluationRuntime evaluationRuntime = evaluationContext.getEvaluationRuntime();
+        evaluationRuntime.setPrecisionBatches(estimator.getBatches());
+        evaluationRuntime.setThroughputPrecision(estimator.getThroughputPrecision());
+        evaluationRuntime.setMeanPrecision(estimator.getMeanPrecision());
+        evaluationRuntime.setP99Precision(estimator.getP99Precision());
+    }
+
+    /**
+     * 记录吞吐量采样的结果
+     * @param throughputSampler 吞吐量采样
+     * @since 2.0.8
+     */
+    private void fillThroughputRuntime(final ThroughputSampler throughputSampler) {
+        EvaluationRuntime evaluationRuntime = evaluationContext.getEvaluationRuntime();
+        evaluationRuntime.setThroughputSampleList(throughputSampler.getSampleList());
+        evaluationRuntime.setThroughputSampleMean(throughputSampler.getMean());
+        evaluationRuntime.setThroughputSampleStdDev(throughputSampler.getStandardDeviation());
+        evaluationRuntime.setThroughputConfidenceHalfWidth(throughputSampler.getConfidenceHalfWidth());
+    }
+
+    /**
+     * 记录到达速率模式的运行信息
+     * @param arrivalRateScheduler 到达调度
+     * @param measureStartNs 测量开始时间
+     * @param stopNs 测量结束时间
+     * @since 2.0.8
+     */
+    private void fillArrivalRuntime(final ArrivalRateScheduler arrivalRateScheduler,
+                                    final long measureStartNs,
+                                    final long stopNs) {
+        EvaluationRuntime evaluationRuntime = evaluationContext.getEvaluationRuntime();
+        long scheduledCount = arrivalRateScheduler.getScheduledCount(measureStartNs, stopNs);
+        evaluationRuntime.setScheduledArrivals(scheduledCount);
+        evaluationRuntime.setDelayedArrivals(arrivalRateScheduler.getDelayedCount());
+        evaluationRuntime.setDroppedArrivals(Math.max(0L, scheduledCount - arrivalRateScheduler.getStartedCount()));
+        evaluationRuntime.setMaxStartDelayNs(arrivalRateScheduler.getMaxStartDelayNs());
+    }
+
+    /**
+     * 协调遗漏修正
+     * 1. 优先使用配置的期望间隔
+     * 2. 未配置时，根据实际吞吐量推算单个线程的平均调用间隔
+     * @param evaluationConfig 配置
+     * @since 2.0.8
+     */
+    private void correctCoordinatedOmission(final EvaluationConfig evaluationConfig) {
+        long expectedIntervalNs = (long) (evaluationConfig.getConfigExpectedInterval() * TimeUnit.MILLISECONDS.toNanos(1));
+        long evaluationCount = statisticsCalculator.getEvaluationCount();
+        if (expectedIntervalNs <= 0 && evaluationCount > 0) {
+            long measuredNs = evaluationContext.getEvaluationRuntime().getMeasuredNs();
+            expectedIntervalNs = measuredNs * evaluationConfig.getConfigThreads() / evaluationCount;
+        }
+        evaluationContext.setExpectedIntervalNs(expectedIntervalNs);
+        evaluationContext.setCorrectedStatisticsCalculator(statisticsCalculator.copyCorrectedForCoordinatedOmission(expectedIntervalNs));
     }
 
     /**
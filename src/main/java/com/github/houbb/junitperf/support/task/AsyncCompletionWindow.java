@@ -0,0 +1,237 @@
+package com.github.houbb.junitperf.support.task;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import org.apiguardian.api.API;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * 异步调用的在途窗口
+ *
+ * 1. 测试方法返回 {@link CompletionStage}（包括 CompletableFuture）时，通过完成回调记录完成时间，耗时从调用开始算到完成为止。
+ * 2. 只返回 {@link Future} 时没有完成回调，由执行线程等待最早的调用完成，完成时间包含观察的延迟。
+ * 3. 在途的调用达到窗口大小时，执行线程等待任意一个调用完成后再发起下一次调用。
+ * 4. 完成的结果统一交给执行线程处理，统计记录者仍然只由执行线程写入。
+ *
+ * 备注：每个执行线程持有一个窗口，非线程安全。
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public class AsyncCompletionWindow {
+
+    /**
+     * 窗口大小
+     */
+    private final int windowSize;
+
+    /**
+     * 已经完成、等待执行线程处理的调用
+     */
+    private final BlockingQueue<Completion> completedQueue = new LinkedBlockingQueue<>();
+
+    /**
+     * 没有完成回调、需要执行线程检查的调用，按发起顺序排列
+     */
+    private final Deque<Completion> pendingFutureQueue = new ArrayDeque<>();
+
+    /**
+     * 在途的调用数量
+     */
+    private int inFlight;
+
+    /**
+     * 构造器
+     * @param windowSize 窗口大小，需要 &gt; 0
+     */
+    public AsyncCompletionWindow(final int windowSize) {
+        checkArgument(windowSize > 0, "windowSize must be > 0.");
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * 是否为异步的返回类型
+     * @param returnType 测试方法的返回类型
+     * @return 是否
+     */
+    public static boolean isAsyncType(final Class<?> returnType) {
+        return CompletionStage.class.isAssignableFrom(returnType)
+                || Future.class.isAssignableFrom(returnType);
+    }
+
+    /**
+     * 登记一次异步调用
+     * 1. 返回值为 null 时视为立即完成
+     * @param result 测试方法的返回值
+     * @param startNs 调用开始时间
+     * @param measured 是否处于测量阶段
+     */
+    public void add(final Object result,
+                    final long startNs,
+                    final boolean measured) {
+        inFlight++;
+        final Completion completion = new Completion(startNs, measured);
+        if (result instanceof CompletionStage) {
+            ((CompletionStage<?>) result).whenComplete((value, throwable) -> {
+                completion.complete(System.nanoTime(), throwable != null);
+                completedQueue.offer(completion);
+            });
+        } else if (result instanceof Future) {
+            completion.future = (Future<?>) result;
+            pendingFutureQueue.add(completion);
+        } else {
+            completion.complete(System.nanoTime(), false);
+            completedQueue.offer(completion);
+        }
+    }
+
+    /**
+     * 等待窗口有空位，同时处理已经完成的调用
+     * @param listener 完成处理
+     * @throws InterruptedException 等待被中断
+     */
+    public void awaitCapacity(final CompletionListener listener) throws InterruptedException {
+        while (inFlight >= windowSize) {
+            awaitOne(listener);
+        }
+        pollCompleted(listener);
+    }
+
+    /**
+     * 等待所有在途的调用完成
+     * @param listener 完成处理
+     * @throws InterruptedException 等待被中断
+     */
+    public void awaitAll(final CompletionListener listener) throws InterruptedException {
+        while (inFlight > 0) {
+            awaitOne(listener);
+        }
+    }
+
+    /**
+     * 在途的调用数量
+     * @return 数量
+     */
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * 至少处理一个完成的调用
+     * @param listener 完成处理
+     * @throws InterruptedException 等待被中断
+     */
+    private void awaitOne(final CompletionListener listener) throws InterruptedException {
+        if (pollCompleted(listener) > 0) {
+            return;
+        }
+        if (pendingFutureQueue.isEmpty()) {
+            deliver(completedQueue.take(), listener);
+            return;
+        }
+
+        // 没有完成回调：等待最早发起的调用
+        Completion oldest = pendingFutureQueue.peekFirst();
+        boolean failed = false;
+        try {
+            oldest.future.get();
+        } catch (ExecutionException | RuntimeException e) {
+            failed = true;
+        }
+        pendingFutureQueue.pollFirst();
+        oldest.complete(System.nanoTime(), failed);
+        deliver(oldest, listener);
+    }
+
+    /**
+     * 处理所有已经完成的调用，不等待
+     * @param listener 完成处理
+     * @return 处理的数量
+     */
+    private int pollCompleted(final CompletionListener listener) {
+        int count = 0;
+        Completion completion;
+        while ((completion = completedQueue.poll()) != null) {
+            deliver(completion, listener);
+            count++;
+        }
+
+        Iterator<Completion> iterator = pendingFutureQueue.iterator();
+        while (iterator.hasNext()) {
+            Completion pending = iterator.next();
+            if (!pending.future.isDone()) {
+                continue;
+            }
+            iterator.remove();
+            boolean failed = false;
+            try {
+                pending.future.get();
+            } catch (ExecutionException | InterruptedException | RuntimeException e) {
+                failed = true;
+            }
+            pending.complete(System.nanoTime(), failed);
+            deliver(pending, listener);
+            count++;
+        }
+        return count;
+    }
+
+    private void deliver(final Completion completion,
+                         final CompletionListener listener) {
+        inFlight--;
+        listener.onComplete(completion.startNs, completion.endNs, completion.failed, completion.measured);
+    }
+
+    /**
+     * 完成处理
+     */
+    @FunctionalInterface
+    public interface CompletionListener {
+
+        /**
+         * 调用完成
+         * @param startNs 调用开始时间
+         * @param endNs 完成时间
+         * @param failed 是否失败
+         * @param measured 是否在测量阶段发起
+         */
+        void onComplete(long startNs, long endNs, boolean failed, boolean measured);
+
+    }
+
+    /**
+     * 一次异步调用
+     */
+    private static final class Completion {
+
+        private final long startNs;
+
+        private final boolean measured;
+
+        private Future<?> future;
+
+        private long endNs;
+
+        private boolean failed;
+
+        private Completion(long startNs, boolean measured) {
+            this.startNs = startNs;
+            this.measured = measured;
+        }
+
+        private void complete(long endNs, boolean failed) {
+            this.endNs = endNs;
+            this.failed = failed;
+        }
+    }
+
+}
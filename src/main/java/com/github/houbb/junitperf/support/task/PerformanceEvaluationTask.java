@@ -1,10 +1,26 @@
 package com.github.houbb.junitperf.support.task;
 
+import com.github.houbb.junitperf.constant.enums.FixtureLevelEnum;
+import com.github.houbb.junitperf.core.blackhole.Blackhole;
 import com.github.houbb.junitperf.core.statistics.StatisticsCalculator;
-import org.apache.lucene.util.RamUsageEstimator;
+import com.github.houbb.junitperf.core.statistics.StatisticsRecorder;
+import com.github.houbb.junitperf.support.builder.MethodInvokerBuilder;
+import com.github.houbb.junitperf.support.fixture.FixturePlan;
+import com.github.houbb.junitperf.support.fixture.ThreadFixture;
+import com.github.houbb.junitperf.support.invoker.MethodInvoker;
+import com.github.houbb.junitperf.support.jvm.ThreadAllocationMeter;
+import com.github.houbb.junitperf.support.jvm.ThreadCpuMeter;
+import com.github.houbb.junitperf.support.profile.LoadProfile;
+import com.github.houbb.junitperf.support.scheduler.ArrivalRateScheduler;
+import com.github.houbb.junitperf.support.timeline.IntervalTimeline;
+import com.github.houbb.junitperf.support.warmup.WarmUpDetector;
 import org.apiguardian.api.API;
 
 import java.lang.reflect.Method;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
 
 import static java.lang.System.nanoTime;
 
@@ -23,25 +39,273 @@ public class PerformanceEvaluationTask implements Runnable {
      */
     private final long warmUpNs;
 
+    /**
+     * 准备阶段的结束判断，为 null 时从线程开始执行算起固定的准备时间
+     * @since 2.0.8
+     */
+    private final WarmUpDetector warmUpDetector;
+
+    /**
+     * 准备阶段的记录者，只有自适应准备时存在
+     * @since 2.0.8
+     */
+    private IntervalTimeline.IntervalRecorder warmUpRecorder;
+
+    /**
+     * 当前线程使用的阶段判断，决定调用属于准备、测量还是冷却阶段
+     * @since 2.0.8
+     */
+    private WarmUpDetector phaseDetector;
+
+    /**
+     * 负载阶段的执行计划，为 null 时不分阶段
+     * @since 2.0.8
+     */
+    private final LoadProfile loadProfile;
+
+    /**
+     * 当前阶段的统计
+     * @since 2.0.8
+     */
+    private StatisticsCalculator stageCalculator;
+
+    /**
+     * 当前阶段的记录者
+     * @since 2.0.8
+     */
+    private StatisticsRecorder stageRecorder;
+
     /**
      * 统计计算者
      */
     private final StatisticsCalculator statisticsCalculator;
 
+    /**
+     * 当前线程独享的记录者
+     * @since 2.0.8
+     */
+    private StatisticsRecorder statisticsRecorder;
+
     /**
      * 是否继续标志位
      */
     private volatile boolean isContinue;
 
     /**
-     * 测试实例
+     * 测试方法调用者，只绑定一次；测试方法有参数时在执行线程中绑定当前线程的状态
+     * @since 2.0.8
+     */
+    private MethodInvoker methodInvoker;
+
+    /**
+     * 接收测试方法的返回值，避免计算被 JIT 消除；在执行线程中创建，避免不同线程的实例相邻导致伪共享
+     * @since 2.0.8
+     */
+    private Blackhole blackhole;
+
+    /**
+     * 到达速率调度，为 null 时连续执行（闭环模型）
+     * @since 2.0.8
+     */
+    private final ArrivalRateScheduler arrivalRateScheduler;
+
+    /**
+     * 是否已经开始测量（准备阶段已经结束）
+     * @since 2.0.8
+     */
+    private boolean measurementStarted;
+
+    /**
+     * 是否已经结束测量（测量窗口已经结束，或者完成了固定的调用次数）
+     * @since 2.0.8
+     */
+    private boolean measurementStopped;
+
+    /**
+     * 是否继续测量，只统计吞吐量时由主线程在测量结束时关闭
+     * @since 2.0.8
+     */
+    private volatile boolean measuring = true;
+
+    /**
+     * 开始测量时当前线程已经分配的字节数
+     * @since 2.0.8
+     */
+    private long allocatedBytesAtStart = -1L;
+
+    /**
+     * 测量期间当前线程分配的字节数，不支持时为 -1
+     * @since 2.0.8
+     */
+    private volatile long allocatedBytes = -1L;
+
+    /**
+     * 是否统计 CPU 时间
+     * @since 2.0.8
+     */
+    private final boolean cpuTimeEnabled;
+
+    /**
+     * 开始测量时当前线程的 CPU 时间
+     * @since 2.0.8
+     */
+    private long cpuTimeNsAtStart = -1L;
+
+    /**
+     * 开始测量的时间
+     * @since 2.0.8
+     */
+    private long measurementStartNs;
+
+    /**
+     * 测量期间当前线程的 CPU 时间，未开启或不支持时为 -1
+     * @since 2.0.8
+     */
+    private volatile long cpuTimeNs = -1L;
+
+    /**
+     * 当前线程测量的时长
+     * @since 2.0.8
+     */
+    private volatile long measuredNs;
+
+    /**
+     * 分段共享的记录者，为 null 时每个线程独享记录者
+     * @since 2.0.8
+     */
+    private StatisticsRecorderStripes recorderStripes;
+
+    /**
+     * 执行线程的编号，用于选择分段
+     * @since 2.0.8
+     */
+    private int taskIndex;
+
+    /**
+     * 异步调用的在途窗口大小，0 表示同步调用
+     * @since 2.0.8
+     */
+    private int asyncWindowSize;
+
+    /**
+     * 异步调用的在途窗口，只有异步调用时存在
+     * @since 2.0.8
+     */
+    private AsyncCompletionWindow completionWindow;
+
+    /**
+     * 异步调用完成时的处理
+     * @since 2.0.8
+     */
+    private final AsyncCompletionWindow.CompletionListener completionListener = this::onAsyncComplete;
+
+    /**
+     * 每次计时调用测试方法的次数
+     * @since 2.0.8
+     */
+    private int batchSize = 1;
+
+    /**
+     * 是否只统计吞吐量
+     * @since 2.0.8
+     */
+    private boolean throughputOnly;
+
+    /**
+     * 测量阶段的操作计数，只统计吞吐量时由当前线程写入、主线程读取
+     * @since 2.0.8
+     */
+    private final AtomicLong operationCounter = new AtomicLong();
+
+    /**
+     * 延迟抽样：每 N 次调用计时一次
+     * @since 2.0.8
+     */
+    private int latencySampleEvery = 1;
+
+    /**
+     * 延迟抽样：每次调用被计时的概率
+     * @since 2.0.8
+     */
+    private float latencySampleProbability = 1F;
+
+    /**
+     * 距离下一次计时的调用次数
+     * @since 2.0.8
+     */
+    private long callsUntilSample;
+
+    /**
+     * 上一次计时之后未计时的调用次数
+     * @since 2.0.8
+     */
+    private long unsampledCount;
+
+    /**
+     * 计时的调用次数（延迟样本数），需要在执行线程结束后读取
+     * @since 2.0.8
+     */
+    private volatile long latencySampleCount;
+
+    /**
+     * 当前线程的测量调用次数，0 表示不限制
+     * @since 2.0.8
+     */
+    private long invocationQuota;
+
+    /**
+     * 测量阶段已经完成的调用次数
+     * @since 2.0.8
+     */
+    private long measuredInvocations;
+
+    /**
+     * 启动栅栏，为 null 时立即开始
+     * @since 2.0.8
+     */
+    private CountDownLatch startGate;
+
+    /**
+     * 完成信号，线程结束时计数减一
+     * @since 2.0.8
      */
-    private final Object testInstance;
+    private CountDownLatch finishLatch;
 
     /**
-     * 测试方法
+     * 完成测量的时间，没有进入测量时为 0
+     * @since 2.0.8
      */
-    private final Method testMethod;
+    private volatile long measurementStopNs;
+
+    /**
+     * 准备、清理计划，为 null 时没有线程状态和准备、清理方法
+     * @since 2.0.8
+     */
+    private FixturePlan fixturePlan;
+
+    /**
+     * 当前线程的状态
+     * @since 2.0.8
+     */
+    private ThreadFixture threadFixture;
+
+    /**
+     * 是否有阶段级别的准备、清理方法
+     * @since 2.0.8
+     */
+    private boolean iterationHooks;
+
+    /**
+     * 是否有调用级别的准备、清理方法
+     * @since 2.0.8
+     */
+    private boolean invocationHooks;
+
+    /**
+     * 等待到达时使用的继续信号
+     * @since 2.0.8
+     */
+    private final BooleanSupplier continueSignal = this::isContinue;
 
     /**
      * 构造器
@@ -53,76 +317,750 @@ public class PerformanceEvaluationTask implements Runnable {
      */
     public PerformanceEvaluationTask(long warmUpNs, StatisticsCalculator statisticsCalculator,
                                      Object testInstance, Method testMethod) {
+        this(warmUpNs, statisticsCalculator,
+                new MethodInvokerBuilder(testInstance, testMethod).build(), (ArrivalRateScheduler) null);
+    }
+
+    /**
+     * 构造器
+     * @param warmUpNs 准备时间
+     * @param statisticsCalculator 统计
+     * @param methodInvoker 测试方法调用者
+     * @param arrivalRateScheduler 到达速率调度，为 null 时连续执行
+     * @since 2.0.8
+     */
+    public PerformanceEvaluationTask(long warmUpNs, StatisticsCalculator statisticsCalculator,
+                                     MethodInvoker methodInvoker,
+                                     ArrivalRateScheduler arrivalRateScheduler) {
+        this(warmUpNs, null, null, statisticsCalculator, methodInvoker, arrivalRateScheduler, false);
+    }
+
+    /**
+     * 构造器
+     * @param warmUpDetector 准备阶段的结束判断，所有线程共享
+     * @param loadProfile 负载阶段的执行计划，为 null 时不分阶段
+     * @param statisticsCalculator 统计
+     * @param methodInvoker 测试方法调用者
+     * @param arrivalRateScheduler 到达速率调度，为 null 时连续执行
+     * @param cpuTimeEnabled 是否统计 CPU 时间
+     * @since 2.0.8
+     */
+    public PerformanceEvaluationTask(WarmUpDetector warmUpDetector,
+                                     LoadProfile loadProfile,
+                                     StatisticsCalculator statisticsCalculator,
+                                     MethodInvoker methodInvoker,
+                                     ArrivalRateScheduler arrivalRateScheduler,
+                                     boolean cpuTimeEnabled) {
+        this(0L, warmUpDetector, loadProfile, statisticsCalculator, methodInvoker, arrivalRateScheduler, cpuTimeEnabled);
+    }
+
+    private PerformanceEvaluationTask(long warmUpNs, WarmUpDetector warmUpDetector,
+                                      LoadProfile loadProfile,
+                                      StatisticsCalculator statisticsCalculator,
+                                      MethodInvoker methodInvoker,
+                                      ArrivalRateScheduler arrivalRateScheduler,
+                                      boolean cpuTimeEnabled) {
         this.warmUpNs = warmUpNs;
+        this.warmUpDetector = warmUpDetector;
+        this.loadProfile = loadProfile;
+        this.cpuTimeEnabled = cpuTimeEnabled;
         this.statisticsCalculator = statisticsCalculator;
-        this.testInstance = testInstance;
-        this.testMethod = testMethod;
+        this.methodInvoker = methodInvoker;
+        this.arrivalRateScheduler = arrivalRateScheduler;
         //默认创建时继续执行
         this.isContinue = true;
     }
 
     @Override
     public void run() {
-        long startTimeNs = System.nanoTime();
-        long startMeasurements = startTimeNs + warmUpNs;
+        try {
+            if (!setupFixture()) {
+                return;
+            }
+            if (startGate != null) {
+                startGate.await();
+            }
+            evaluate();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (threadFixture != null) {
+                runFixture(FixtureLevelEnum.TRIAL, false);
+            }
+            if (finishLatch != null) {
+                finishLatch.countDown();
+            }
+        }
+    }
+
+    /**
+     * 执行直到停止
+     * @since 2.0.8
+     */
+    private void evaluate() {
+        // 在执行线程中创建，只由当前线程写入
+        statisticsRecorder = newRecorder(statisticsCalculator);
+        blackhole = new Blackhole();
+        WarmUpDetector detector = warmUpDetector;
+        if (detector == null) {
+            long startNs = arrivalRateScheduler != null ? arrivalRateScheduler.getStartNs() : nanoTime();
+            detector = new WarmUpDetector(startNs, warmUpNs, false, 0L, 0D);
+        }
+        phaseDetector = detector;
+        if (recorderStripes == null || recorderStripes.isStripeLeader(taskIndex)) {
+            warmUpRecorder = detector.newRecorder();
+        }
+        if (asyncWindowSize > 0) {
+            completionWindow = new AsyncCompletionWindow(asyncWindowSize);
+        }
+        // 准备阶段
+        if (iterationHooks) {
+            runFixture(FixtureLevelEnum.ITERATION, true);
+        }
+
+        if (arrivalRateScheduler != null) {
+            while (isContinue) {
+                evaluateArrival(detector);
+            }
+        } else {
+            while (isContinue) {
+                evaluateStatement(detector);
+            }
+        }
+        awaitAsyncCompletion();
+        flushUnsampled();
+
+        // 测量窗口结束之前停止（被中断），按停止时间结束测量
+        if (measurementStarted && !measurementStopped) {
+            markMeasurementStop(Math.min(nanoTime(), detector.getMeasureStopNs()));
+        }
+        if (iterationHooks) {
+            runFixture(FixtureLevelEnum.ITERATION, false);
+        }
+    }
+
+    /**
+     * 创建当前线程的状态
+     * @return 是否成功，失败时异常记录到计划中
+     * @since 2.0.8
+     */
+    private boolean setupFixture() {
+        if (fixturePlan == null) {
+            return true;
+        }
+        try {
+            threadFixture = fixturePlan.newThreadFixture();
+        } catch (Throwable throwable) {
+            fixturePlan.recordFailure(throwable);
+            return false;
+        }
+        if (threadFixture.getMethodInvoker() != null) {
+            methodInvoker = threadFixture.getMethodInvoker();
+        }
+        return true;
+    }
+
+    /**
+     * 执行准备、清理方法
+     * 1. 失败时异常记录到计划中，并停止当前线程
+     * @param level 时机
+     * @param setup 是否为准备方法
+     * @return 是否成功
+     * @since 2.0.8
+     */
+    private boolean runFixture(final FixtureLevelEnum level,
+                               final boolean setup) {
+        try {
+            if (setup) {
+                threadFixture.setup(level);
+            } else {
+                threadFixture.teardown(level);
+            }
+            return true;
+        } catch (Throwable throwable) {
+            fixturePlan.recordFailure(throwable);
+            isContinue = false;
+            return false;
+        }
+    }
+
+    /**
+     * 调用之前，在计时之外执行调用级别的准备方法
+     * @return 是否可以调用
+     * @since 2.0.8
+     */
+    private boolean beforeInvocation() {
+        return !invocationHooks || runFixture(FixtureLevelEnum.INVOCATION, true);
+    }
+
+    /**
+     * 调用之后，在计时之外执行调用级别的清理方法
+     * @since 2.0.8
+     */
+    private void afterInvocation() {
+        if (invocationHooks) {
+            runFixture(FixtureLevelEnum.INVOCATION, false);
+        }
+    }
+
+    /**
+     * 累加测量的调用次数，达到限制时停止当前线程
+     * @since 2.0.8
+     */
+    private void countInvocation() {
+        if (invocationQuota > 0 && ++measuredInvocations >= invocationQuota) {
+            markMeasurementStop(nanoTime());
+            isContinue = false;
+        }
+    }
+
+    /**
+     * 调用是否在测量窗口内完成
+     * 1. 第一次在测量结束时间之后完成时，结束当前线程的测量
+     * 2. 之后的调用属于冷却阶段，不计入统计
+     * @param endNs 调用完成的时间
+     * @return 是否
+     * @since 2.0.8
+     */
+    private boolean isWithinMeasurement(final long endNs) {
+        long stopNs = phaseDetector.getMeasureStopNs();
+        if (endNs <= stopNs) {
+            return true;
+        }
+        if (measurementStarted && !measurementStopped) {
+            markMeasurementStop(stopNs);
+        }
+        return false;
+    }
+
+    /**
+     * 结束测量，记录测量期间的内存分配、CPU 时间
+     * 1. 测量窗口结束后线程可能继续执行（冷却阶段），这部分不计入
+     * @param stopNs 测量结束时间
+     * @since 2.0.8
+     */
+    private void markMeasurementStop(final long stopNs) {
+        measurementStopped = true;
+        if (allocatedBytesAtStart >= 0) {
+            allocatedBytes = ThreadAllocationMeter.getCurrentThreadAllocatedBytes() - allocatedBytesAtStart;
+        }
+        if (cpuTimeNsAtStart >= 0) {
+            cpuTimeNs = ThreadCpuMeter.getCurrentThreadCpuTime() - cpuTimeNsAtStart;
+        }
+        measurementStopNs = stopNs;
+        measuredNs = stopNs - measurementStartNs;
+    }
+
+    /**
+     * 第一次测量前调用，记录测量开始时的状态
+     * @since 2.0.8
+     */
+    private void markMeasurementStart() {
+        // 准备阶段结束，测量阶段开始
+        if (iterationHooks) {
+            runFixture(FixtureLevelEnum.ITERATION, false);
+            runFixture(FixtureLevelEnum.ITERATION, true);
+        }
+        measurementStarted = true;
+        allocatedBytesAtStart = ThreadAllocationMeter.getCurrentThreadAllocatedBytes();
+        if (cpuTimeEnabled) {
+            cpuTimeNsAtStart = ThreadCpuMeter.getCurrentThreadCpuTime();
+        }
+        measurementStartNs = nanoTime();
+    }
+
+    /**
+     * 按照到达速率执行
+     * 1. 延迟从预期开始时间算起，包含等待空闲线程的排队时间
+     * @param detector 准备阶段的结束判断
+     * @since 2.0.8
+     */
+    private void evaluateArrival(WarmUpDetector detector) {
+        long intendedStartNs = arrivalRateScheduler.nextIntendedStartNs();
+        // 调用级别的准备在等待到达之前执行
+        if (!beforeInvocation()) {
+            return;
+        }
+        if (!arrivalRateScheduler.awaitArrival(intendedStartNs, continueSignal)) {
+            afterInvocation();
+            return;
+        }
+        if (completionWindow != null) {
+            if (awaitAsyncCapacity()) {
+                evaluateAsync(detector, intendedStartNs);
+            }
+            return;
+        }
 
-        // 堆大小
-        long memoryKb = RamUsageEstimator.shallowSizeOf(testInstance);
-        statisticsCalculator.setMemory(memoryKb);
+        //1. 准备阶段
+        if (intendedStartNs < detector.getMeasureStartNs()) {
+            try {
+                blackhole.consume(methodInvoker.invoke());
+            } catch (Throwable throwable) {
+                // IGNORE
+            }
+            recordWarmUp(intendedStartNs);
+            afterInvocation();
+            return;
+        }
 
-        while (isContinue) {
-            evaluateStatement(startMeasurements);
+        if (!measurementStarted) {
+            markMeasurementStart();
         }
+        if (intendedStartNs < detector.getMeasureStopNs()) {
+            arrivalRateScheduler.markStarted(nanoTime() - intendedStartNs);
+        }
+        boolean failed = false;
+        try {
+            blackhole.consume(methodInvoker.invoke());
+        } catch (Throwable throwable) {
+            failed = true;
+        }
+        long endNs = nanoTime();
+        if (isWithinMeasurement(endNs)) {
+            if (failed) {
+                incrementErrorCount();
+            }
+            recordLatency(endNs - intendedStartNs);
+        }
+        afterInvocation();
     }
 
     /**
      * 执行校验
-     * @param startMeasurements 开始时间
+     * @param detector 准备阶段的结束判断
      */
-    private void evaluateStatement(long startMeasurements) {
+    private void evaluateStatement(WarmUpDetector detector) {
         //0. 如果继续执行为 false，退出执行。
         if (!isContinue) {
             return;
         }
+        if (completionWindow != null) {
+            if (awaitAsyncCapacity()) {
+                evaluateAsync(detector, nanoTime());
+            }
+            return;
+        }
+        if (throughputOnly) {
+            evaluateThroughput(detector);
+            return;
+        }
+        if (batchSize > 1) {
+            evaluateBatch(detector);
+            return;
+        }
+        if (isLatencySampled()) {
+            evaluateSampled(detector);
+            return;
+        }
+        if (!beforeInvocation()) {
+            return;
+        }
         /**
          * nanoTime()方法用于返回当前系统时间的值(以纳秒为单位)。
          **/
         //1. 准备阶段
-        if (nanoTime() < startMeasurements) {
+        long warmUpStartNs = nanoTime();
+        if (warmUpStartNs < detector.getMeasureStartNs()) {
             try {
-                testMethod.invoke(testInstance);
-            } catch (Exception throwable) {
+                blackhole.consume(methodInvoker.invoke());
+            } catch (Throwable throwable) {
                 // IGNORE
             }
+            recordWarmUp(warmUpStartNs);
         } else {
             /**
              *每触发一次方法的执行，则进行一次评估的数量的更新
              *每触发一次方法的执行，则进行一次评估时间的累加
              **/
+            if (!measurementStarted) {
+                markMeasurementStart();
+            }
             long startTimeNs = nanoTime();
+            boolean failed = false;
             try {
-                testMethod.invoke(testInstance);
-
-                commonStatisticsUpdate(startTimeNs);
-            } catch (Exception throwable) {
+                blackhole.consume(methodInvoker.invoke());
+            } catch (Throwable throwable) {
                 /**
                  *每次方法执行失败，统计失败的次数，同时进行一次评估时间的累加
+                 *调用者不再包装异常，断言失败等 Error 也需要计入
                  **/
+                failed = true;
+            }
+            //2. 测量窗口结束之后完成的调用不计入统计
+            long endNs = nanoTime();
+            if (isWithinMeasurement(endNs)) {
                 // 错误信息更新
-                statisticsCalculator.incrementErrorCount();
-                commonStatisticsUpdate(startTimeNs);
+                if (failed) {
+                    incrementErrorCount();
+                }
+                recordLatency(endNs - startTimeNs);
+                countInvocation();
+            }
+        }
+        afterInvocation();
+    }
+
+    /**
+     * 只统计吞吐量
+     * 1. 准备阶段与普通模式一致
+     * 2. 进入测量后不再计时，每次调用只累加操作计数，直到停止
+     * 3. 计数使用 lazySet 发布，不需要内存屏障，主线程读取到的值最多落后几次调用
+     * 4. 主线程结束测量后，继续执行但不再计数（冷却阶段）
+     * @param detector 准备阶段的结束判断
+     * @since 2.0.8
+     */
+    private void evaluateThroughput(WarmUpDetector detector) {
+        if (measurementStopped) {
+            try {
+                blackhole.consume(methodInvoker.invoke());
+            } catch (Throwable throwable) {
+                // IGNORE
+            }
+            return;
+        }
+        long warmUpStartNs = nanoTime();
+        if (warmUpStartNs < detector.getMeasureStartNs()) {
+            try {
+                blackhole.consume(methodInvoker.invoke());
+            } catch (Throwable throwable) {
+                // IGNORE
+            }
+            recordWarmUp(warmUpStartNs);
+            return;
+        }
+
+        markMeasurementStart();
+        long operationCount = 0;
+        while (measuring && isContinue) {
+            try {
+                blackhole.consume(methodInvoker.invoke());
+            } catch (Throwable throwable) {
+                incrementErrorCount();
+            }
+            operationCounter.lazySet(++operationCount);
+        }
+        statisticsRecorder.addEvaluationCount(operationCount);
+        markMeasurementStop(nanoTime());
+    }
+
+    /**
+     * 延迟抽样执行
+     * 1. 准备阶段与普通模式一致
+     * 2. 进入测量后只有倒数到 0 的调用计时，其余调用只累加本地计数，不读取时钟
+     * 3. 计时的调用代表上一次计时之后的所有调用，执行总数按代表的调用次数累加
+     * @param detector 准备阶段的结束判断
+     * @since 2.0.8
+     */
+    private void evaluateSampled(WarmUpDetector detector) {
+        if (!beforeInvocation()) {
+            return;
+        }
+        if (!measurementStarted) {
+            long warmUpStartNs = nanoTime();
+            if (warmUpStartNs < detector.getMeasureStartNs()) {
+                try {
+                    blackhole.consume(methodInvoker.invoke());
+                } catch (Throwable throwable) {
+                    // IGNORE
+                }
+                recordWarmUp(warmUpStartNs);
+                afterInvocation();
+                return;
+            }
+            markMeasurementStart();
+            callsUntilSample = nextSampleGap();
+        }
+
+        //1. 不计时的调用
+        if (--callsUntilSample > 0) {
+            try {
+                blackhole.consume(methodInvoker.invoke());
+            } catch (Throwable throwable) {
+                if (!measurementStopped) {
+                    incrementErrorCount();
+                }
+            }
+            unsampledCount++;
+            countInvocation();
+            afterInvocation();
+            return;
+        }
+
+        //2. 计时的调用
+        long startTimeNs = nanoTime();
+        boolean failed = false;
+        try {
+            blackhole.consume(methodInvoker.invoke());
+        } catch (Throwable throwable) {
+            failed = true;
+        }
+        long endNs = nanoTime();
+        if (!isWithinMeasurement(endNs)) {
+            // 测量窗口之后，连同代表的调用一起丢弃
+            unsampledCount = 0;
+            callsUntilSample = nextSampleGap();
+            afterInvocation();
+            return;
+        }
+        long costTimeNs = endNs - startTimeNs;
+        if (failed) {
+            incrementErrorCount();
+        }
+        long operations = unsampledCount + 1;
+        statisticsRecorder.addSampledMeasurement(costTimeNs, operations);
+        StatisticsRecorder recorder = getStageRecorder();
+        if (recorder != null) {
+            recorder.addSampledMeasurement(costTimeNs, operations);
+        }
+        unsampledCount = 0;
+        latencySampleCount++;
+        callsUntilSample = nextSampleGap();
+        countInvocation();
+        afterInvocation();
+    }
+
+    /**
+     * 是否开启延迟抽样
+     * @return 是否
+     * @since 2.0.8
+     */
+    private boolean isLatencySampled() {
+        return latencySampleEvery > 1 || latencySampleProbability < 1F;
+    }
+
+    /**
+     * 到下一次计时的调用次数
+     * 1. 按概率抽样时，跳过的次数服从几何分布，与每次调用独立判断的结果相同
+     * @return 次数，至少为 1
+     * @since 2.0.8
+     */
+    private long nextSampleGap() {
+        if (latencySampleProbability >= 1F) {
+            return latencySampleEvery;
+        }
+        double random = ThreadLocalRandom.current().nextDouble();
+        return (long) Math.floor(Math.log(1D - random) / Math.log(1D - latencySampleProbability)) + 1;
+    }
+
+    /**
+     * 停止后累加最后一次计时之后的调用次数
+     * 1. 测量窗口结束之后才停止时，无法确定这些调用是否在窗口内完成，不计入
+     * @since 2.0.8
+     */
+    private void flushUnsampled() {
+        if (unsampledCount <= 0) {
+            return;
+        }
+        if (nanoTime() > phaseDetector.getMeasureStopNs()) {
+            unsampledCount = 0;
+            return;
+        }
+        statisticsRecorder.addEvaluationCount(unsampledCount);
+        StatisticsRecorder recorder = getStageRecorder();
+        if (recorder != null) {
+            recorder.addEvaluationCount(unsampledCount);
+        }
+        unsampledCount = 0;
+    }
+
+    /**
+     * 批量执行
+     * 1. 两次计时之间连续调用 batchSize 次，记录一个平均耗时样本
+     * 2. 每次调用失败都计入错误
+     * @param detector 准备阶段的结束判断
+     * @since 2.0.8
+     */
+    private void evaluateBatch(WarmUpDetector detector) {
+        long startTimeNs = nanoTime();
+        boolean measured = startTimeNs >= detector.getMeasureStartNs();
+        if (measured && !measurementStarted) {
+            markMeasurementStart();
+            startTimeNs = nanoTime();
+        }
+
+        int errorCount = 0;
+        for (int i = 0; i < batchSize; i++) {
+            try {
+                blackhole.consume(methodInvoker.invoke());
+            } catch (Throwable throwable) {
+                errorCount++;
+            }
+        }
+        long endNs = nanoTime();
+        long costTimeNsPerOp = (endNs - startTimeNs) / batchSize;
+
+        if (!measured) {
+            if (warmUpRecorder != null) {
+                warmUpRecorder.recordLatency(costTimeNsPerOp, batchSize);
             }
+            return;
+        }
+        if (!isWithinMeasurement(endNs)) {
+            return;
+        }
+        for (int i = 0; i < errorCount; i++) {
+            incrementErrorCount();
+        }
+        statisticsRecorder.addBatchMeasurement(costTimeNsPerOp, batchSize);
+        StatisticsRecorder recorder = getStageRecorder();
+        if (recorder != null) {
+            recorder.addBatchMeasurement(costTimeNsPerOp, batchSize);
         }
     }
 
     /**
-     * 通用的统计更新
+     * 异步执行
+     * 1. 调用返回后登记到在途窗口，完成时由 {@link #onAsyncComplete(long, long, boolean, boolean)} 记录
+     * 2. 调用本身抛出异常时视为立即失败
+     * @param detector 准备阶段的结束判断
+     * @param startTimeNs 开始时间，到达速率模式下为预期开始时间
+     * @since 2.0.8
+     */
+    private void evaluateAsync(WarmUpDetector detector, long startTimeNs) {
+        boolean measured = startTimeNs >= detector.getMeasureStartNs();
+        if (measured) {
+            if (!measurementStarted) {
+                markMeasurementStart();
+            }
+            if (arrivalRateScheduler != null && startTimeNs < detector.getMeasureStopNs()) {
+                arrivalRateScheduler.markStarted(nanoTime() - startTimeNs);
+            }
+        }
+
+        Object result;
+        try {
+            result = methodInvoker.invoke();
+        } catch (Throwable throwable) {
+            onAsyncComplete(startTimeNs, nanoTime(), true, measured);
+            return;
+        }
+        completionWindow.add(result, startTimeNs, measured);
+    }
+
+    /**
+     * 异步调用完成
+     * @param startNs 调用开始时间
+     * @param endNs 完成时间
+     * @param failed 是否失败
+     * @param measured 是否在测量阶段发起
+     * @since 2.0.8
+     */
+    private void onAsyncComplete(long startNs, long endNs, boolean failed, boolean measured) {
+        long costTimeNs = endNs - startNs;
+        if (!measured) {
+            if (warmUpRecorder != null) {
+                warmUpRecorder.recordLatency(costTimeNs);
+            }
+            return;
+        }
+        if (!isWithinMeasurement(endNs)) {
+            return;
+        }
+        if (failed) {
+            incrementErrorCount();
+        }
+        recordLatency(costTimeNs);
+    }
+
+    /**
+     * 等待在途窗口有空位
+     * @return 是否可以继续发起调用，被中断时返回 false
+     * @since 2.0.8
+     */
+    private boolean awaitAsyncCapacity() {
+        try {
+            completionWindow.awaitCapacity(completionListener);
+            return isContinue;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            isContinue = false;
+            return false;
+        }
+    }
+
+    /**
+     * 停止后等待所有在途的异步调用完成
+     * @since 2.0.8
+     */
+    private void awaitAsyncCompletion() {
+        if (completionWindow == null) {
+            return;
+        }
+        try {
+            completionWindow.awaitAll(completionListener);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 记录准备阶段的耗时，只有自适应准备时记录
      * @param startTimeNs 开始时间
-     * @since 2.0.5
+     * @since 2.0.8
+     */
+    private void recordWarmUp(final long startTimeNs) {
+        if (warmUpRecorder != null) {
+            warmUpRecorder.recordLatency(getCostTimeNs(startTimeNs));
+        }
+    }
+
+    /**
+     * 记录一次测量
+     * @param costTimeNs 耗时
+     * @since 2.0.8
+     */
+    private void recordLatency(final long costTimeNs) {
+        statisticsRecorder.incrementEvaluationCount();//增加校验/评估的总数
+        statisticsRecorder.addLatencyMeasurement(costTimeNs);//累加延迟的时间
+        StatisticsRecorder recorder = getStageRecorder();
+        if (recorder != null) {
+            recorder.incrementEvaluationCount();
+            recorder.addLatencyMeasurement(costTimeNs);
+        }
+    }
+
+    /**
+     * 错误计数
+     * @since 2.0.8
+     */
+    private void incrementErrorCount() {
+        statisticsRecorder.incrementErrorCount();
+        StatisticsRecorder recorder = getStageRecorder();
+        if (recorder != null) {
+            recorder.incrementErrorCount();
+        }
+    }
+
+    /**
+     * 当前阶段的记录者
+     * 1. 阶段切换后第一次记录时，在新阶段的统计中创建记录者
+     * @return 记录者，不分阶段或者不在任何阶段时返回 null
+     * @since 2.0.8
      */
-    private void commonStatisticsUpdate(final long startTimeNs) {
-        statisticsCalculator.incrementEvaluationCount();//增加校验/评估的总数
-        statisticsCalculator.addLatencyMeasurement(getCostTimeNs(startTimeNs));//累加延迟的时间
+    private StatisticsRecorder getStageRecorder() {
+        if (loadProfile == null) {
+            return null;
+        }
+        StatisticsCalculator current = loadProfile.getCurrentCalculator();
+        if (current != stageCalculator) {
+            stageCalculator = current;
+            stageRecorder = current != null ? newRecorder(current) : null;
+        }
+        return stageRecorder;
+    }
+
+    /**
+     * 创建当前线程使用的记录者
+     * @param calculator 统计
+     * @return 记录者，分段共享时返回所在分段的记录者
+     * @since 2.0.8
+     */
+    private StatisticsRecorder newRecorder(final StatisticsCalculator calculator) {
+        if (recorderStripes != null) {
+            return recorderStripes.getRecorder(calculator, taskIndex);
+        }
+        return calculator.newRecorder();
     }
 
     /**
@@ -137,6 +1075,167 @@ public class PerformanceEvaluationTask implements Runnable {
         return currentTimeNs - startTimeNs;
     }
 
+    /**
+     * 测量期间当前线程分配的字节数
+     * 需要在执行线程结束后读取
+     * @return 字节数，不支持时返回 -1
+     * @since 2.0.8
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * 测量期间当前线程的 CPU 时间
+     * 需要在执行线程结束后读取
+     * @return 纳秒，未开启或不支持时返回 -1
+     * @since 2.0.8
+     */
+    public long getCpuTimeNs() {
+        return cpuTimeNs;
+    }
+
+    /**
+     * 当前线程测量的时长
+     * 需要在执行线程结束后读取
+     * @return 纳秒，没有进入测量时返回 0
+     * @since 2.0.8
+     */
+    public long getMeasuredNs() {
+        return measuredNs;
+    }
+
+    /**
+     * 使用分段共享的记录者，需要在线程启动前设置
+     * @param recorderStripes 分段共享的记录者
+     * @param taskIndex 执行线程的编号
+     * @since 2.0.8
+     */
+    public void setRecorderStripes(final StatisticsRecorderStripes recorderStripes,
+                                   final int taskIndex) {
+        this.recorderStripes = recorderStripes;
+        this.taskIndex = taskIndex;
+    }
+
+    /**
+     * 测试方法为异步调用，需要在线程启动前设置
+     * @param asyncWindowSize 每个线程在途调用的上限
+     * @since 2.0.8
+     */
+    public void setAsyncWindowSize(final int asyncWindowSize) {
+        this.asyncWindowSize = asyncWindowSize;
+    }
+
+    /**
+     * 批量调用，需要在线程启动前设置
+     * @param batchSize 每次计时调用测试方法的次数
+     * @since 2.0.8
+     */
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 只统计吞吐量，需要在线程启动前设置
+     * @param throughputOnly 是否只统计吞吐量
+     * @since 2.0.8
+     */
+    public void setThroughputOnly(final boolean throughputOnly) {
+        this.throughputOnly = throughputOnly;
+    }
+
+    /**
+     * 测量阶段的操作计数，只统计吞吐量时有效
+     * @return 计数
+     * @since 2.0.8
+     */
+    public long getOperationCount() {
+        return operationCounter.get();
+    }
+
+    /**
+     * 延迟抽样，需要在线程启动前设置
+     * @param latencySampleEvery 每 N 次调用计时一次
+     * @param latencySampleProbability 每次调用被计时的概率
+     * @since 2.0.8
+     */
+    public void setLatencySampling(final int latencySampleEvery,
+                                   final float latencySampleProbability) {
+        this.latencySampleEvery = latencySampleEvery;
+        this.latencySampleProbability = latencySampleProbability;
+    }
+
+    /**
+     * 测量阶段计时的调用次数，只有延迟抽样时有效
+     * 需要在执行线程结束后读取
+     * @return 次数
+     * @since 2.0.8
+     */
+    public long getLatencySampleCount() {
+        return latencySampleCount;
+    }
+
+    /**
+     * 固定测量调用次数，需要在线程启动前设置
+     * @param invocationQuota 当前线程的测量调用次数
+     * @since 2.0.8
+     */
+    public void setInvocationQuota(final long invocationQuota) {
+        this.invocationQuota = invocationQuota;
+    }
+
+    /**
+     * 启动栅栏及完成信号，需要在线程启动前设置
+     * @param startGate 启动栅栏，打开后所有线程同时开始
+     * @param finishLatch 完成信号
+     * @since 2.0.8
+     */
+    public void setStartGate(final CountDownLatch startGate,
+                             final CountDownLatch finishLatch) {
+        this.startGate = startGate;
+        this.finishLatch = finishLatch;
+    }
+
+    /**
+     * 开始测量的时间
+     * 需要在执行线程结束后读取
+     * @return 纳秒，没有进入测量时返回 0
+     * @since 2.0.8
+     */
+    public long getMeasurementStartNs() {
+        return measurementStarted ? measurementStartNs : 0L;
+    }
+
+    /**
+     * 完成测量的时间
+     * 需要在执行线程结束后读取
+     * @return 纳秒，没有进入测量时返回 0
+     * @since 2.0.8
+     */
+    public long getMeasurementStopNs() {
+        return measurementStopNs;
+    }
+
+    /**
+     * 结束测量，只统计吞吐量时由主线程在测量结束时调用
+     * 1. 执行线程退出计数循环，之后的调用不再计数
+     * @since 2.0.8
+     */
+    public void stopMeasurement() {
+        measuring = false;
+    }
+
+    /**
+     * 线程状态及准备、清理，需要在线程启动前设置
+     * @param fixturePlan 准备、清理计划
+     * @since 2.0.8
+     */
+    public void setFixturePlan(final FixturePlan fixturePlan) {
+        this.fixturePlan = fixturePlan;
+        this.iterationHooks = fixturePlan.hasHooks(FixtureLevelEnum.ITERATION);
+        this.invocationHooks = fixturePlan.hasHooks(FixtureLevelEnum.INVOCATION);
+    }
+
     public boolean isContinue() {
         return isContinue;
     }
@@ -0,0 +1,164 @@
+package com.github.houbb.junitperf.support.task;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import com.github.houbb.junitperf.core.statistics.StatisticsCalculator;
+import com.github.houbb.junitperf.core.statistics.StatisticsRecorder;
+import org.apiguardian.api.API;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * 分段共享的统计记录者
+ *
+ * 1. 虚拟线程模式下执行线程可能达到数十万个，每个线程独享记录者（包含直方图）的内存无法接受。
+ * 2. 执行线程按编号分配到固定数量的分段上，同一分段的记录者由多个线程共享，写入通过锁串行。
+ * 3. 使用 {@link ReentrantLock} 而不是 synchronized，避免虚拟线程在竞争时占住载体线程。
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public class StatisticsRecorderStripes {
+
+    /**
+     * 分段数量
+     */
+    private final int stripeCount;
+
+    /**
+     * 每个统计对应的分段记录者，首次使用时创建
+     */
+    private final Map<StatisticsCalculator, StatisticsRecorder[]> stripeMap = new ConcurrentHashMap<>();
+
+    /**
+     * 构造器
+     * @param stripeCount 分段数量，需要 &gt; 0
+     */
+    public StatisticsRecorderStripes(final int stripeCount) {
+        checkArgument(stripeCount > 0, "stripeCount must be > 0.");
+        this.stripeCount = stripeCount;
+    }
+
+    /**
+     * 默认的分段数量
+     * @return CPU 核数的 2 倍
+     */
+    public static int defaultStripeCount() {
+        return Runtime.getRuntime().availableProcessors() * 2;
+    }
+
+    /**
+     * 获取执行线程使用的记录者
+     * @param statisticsCalculator 统计
+     * @param taskIndex 执行线程的编号
+     * @return 分段记录者
+     */
+    public StatisticsRecorder getRecorder(final StatisticsCalculator statisticsCalculator,
+                                          final int taskIndex) {
+        StatisticsRecorder[] stripes = stripeMap.computeIfAbsent(statisticsCalculator, calculator -> {
+            StatisticsRecorder[] recorders = new StatisticsRecorder[stripeCount];
+            for (int i = 0; i < stripeCount; i++) {
+                recorders[i] = new LockedStatisticsRecorder(calculator.newRecorder());
+            }
+            return recorders;
+        });
+        return stripes[taskIndex % stripeCount];
+    }
+
+    /**
+     * 是否为分段中的第一个执行线程
+     * 1. 准备阶段的窗口统计只由每个分段的第一个线程记录，作为样本判断是否稳定
+     * @param taskIndex 执行线程的编号
+     * @return 是否
+     */
+    public boolean isStripeLeader(final int taskIndex) {
+        return taskIndex < stripeCount;
+    }
+
+    /**
+     * 分段数量
+     * @return 数量
+     */
+    public int getStripeCount() {
+        return stripeCount;
+    }
+
+    /**
+     * 加锁的记录者
+     */
+    private static class LockedStatisticsRecorder implements StatisticsRecorder {
+
+        private final StatisticsRecorder delegate;
+
+        private final Lock lock = new ReentrantLock();
+
+        private LockedStatisticsRecorder(StatisticsRecorder delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void addLatencyMeasurement(long executionTimeNs) {
+            lock.lock();
+            try {
+                delegate.addLatencyMeasurement(executionTimeNs);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void incrementErrorCount() {
+            lock.lock();
+            try {
+                delegate.incrementErrorCount();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void incrementEvaluationCount() {
+            lock.lock();
+            try {
+                delegate.incrementEvaluationCount();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void addEvaluationCount(long count) {
+            lock.lock();
+            try {
+                delegate.addEvaluationCount(count);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void addBatchMeasurement(long executionTimeNsPerOp, int operations) {
+            lock.lock();
+            try {
+                delegate.addBatchMeasurement(executionTimeNsPerOp, operations);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void addSampledMeasurement(long executionTimeNs, long operations) {
+            lock.lock();
+            try {
+                delegate.addSampledMeasurement(executionTimeNs, operations);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,141 @@
+package com.github.houbb.junitperf.support.throughput;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import org.apache.commons.math3.distribution.TDistribution;
+import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+import org.apiguardian.api.API;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * 吞吐量采样
+ *
+ * 1. 执行线程只累加自己的操作计数，主线程每隔固定间隔读取所有计数之和，得到一个区间的吞吐量样本。
+ * 2. 区间吞吐量的平均值、标准差及 t 分布的置信区间，用于判断吞吐量的波动范围。
+ * 3. 最后一个区间不足半个间隔时丢弃，避免过短的区间放大波动。
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public class ThroughputSampler {
+
+    /**
+     * 置信水平
+     */
+    public static final double CONFIDENCE_LEVEL = 0.95D;
+
+    /**
+     * 读取所有执行线程的操作计数之和
+     */
+    private final LongSupplier operationCountSupplier;
+
+    /**
+     * 采样间隔
+     */
+    private final long intervalNs;
+
+    /**
+     * 区间吞吐量样本（次/秒）
+     */
+    private final List<Double> sampleList = new ArrayList<>();
+
+    /**
+     * 上一次采样的时间，开始之前为 -1
+     */
+    private long lastSampleNs = -1L;
+
+    /**
+     * 上一次采样时的操作计数
+     */
+    private long lastOperationCount;
+
+    /**
+     * 构造器
+     * @param operationCountSupplier 读取所有执行线程的操作计数之和
+     * @param intervalNs 采样间隔，需要 &gt; 0
+     */
+    public ThroughputSampler(final LongSupplier operationCountSupplier,
+                             final long intervalNs) {
+        checkArgument(intervalNs > 0, "intervalNs must be > 0.");
+        this.operationCountSupplier = operationCountSupplier;
+        this.intervalNs = intervalNs;
+    }
+
+    /**
+     * 采样
+     * 1. 第一次调用只记录开始时的计数
+     * @param nowNs 当前时间
+     */
+    public void sample(final long nowNs) {
+        long operationCount = operationCountSupplier.getAsLong();
+        if (lastSampleNs >= 0) {
+            long durationNs = nowNs - lastSampleNs;
+            if (durationNs <= 0 || durationNs * 2 < intervalNs) {
+                return;
+            }
+            double qps = (double) (operationCount - lastOperationCount) / durationNs * TimeUnit.SECONDS.toNanos(1);
+            sampleList.add(qps);
+        }
+        lastSampleNs = nowNs;
+        lastOperationCount = operationCount;
+    }
+
+    /**
+     * 区间吞吐量样本
+     * @return 次/秒
+     */
+    public List<Double> getSampleList() {
+        return Collections.unmodifiableList(sampleList);
+    }
+
+    /**
+     * 区间吞吐量的平均值
+     * @return 次/秒，没有样本时返回 -1
+     */
+    public double getMean() {
+        if (sampleList.isEmpty()) {
+            return -1D;
+        }
+        return toSummary().getMean();
+    }
+
+    /**
+     * 区间吞吐量的标准差
+     * @return 次/秒，样本少于 2 个时返回 -1
+     */
+    public double getStandardDeviation() {
+        if (sampleList.size() < 2) {
+            return -1D;
+        }
+        return toSummary().getStandardDeviation();
+    }
+
+    /**
+     * 置信区间的半宽
+     * @return 次/秒，样本少于 2 个时返回 -1
+     */
+    public double getConfidenceHalfWidth() {
+        if (sampleList.size() < 2) {
+            return -1D;
+        }
+        SummaryStatistics summary = toSummary();
+        TDistribution distribution = new TDistribution(summary.getN() - 1);
+        double t = distribution.inverseCumulativeProbability(1D - (1D - CONFIDENCE_LEVEL) / 2);
+        return t * summary.getStandardDeviation() / Math.sqrt(summary.getN());
+    }
+
+    private SummaryStatistics toSummary() {
+        SummaryStatistics summary = new SummaryStatistics();
+        for (double sample : sampleList) {
+            summary.addValue(sample);
+        }
+        return summary;
+    }
+
+}
@@ -0,0 +1,398 @@
+package com.github.houbb.junitperf.support.timeline;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import com.github.houbb.junitperf.model.evaluation.component.IntervalStatistics;
+import com.github.houbb.junitperf.support.histogram.SingleWriterLatencyHistogram;
+import org.apiguardian.api.API;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * 区间统计时间线
+ *
+ * 1. 每个执行线程持有一个 {@link IntervalRecorder}，记录到当前区间的直方图中；
+ * 记录者只由一个线程写入，使用单写者直方图，多个线程共用时使用 {@link #newSharedRecorder()}。
+ * 2. {@link #markInterval(long)} 切换所有记录者的直方图，合并旧直方图生成一个 {@link IntervalStatistics}。
+ * 3. 每个记录者只持有两个固定大小的直方图；区间数量超过上限时，相邻的区间两两合并，
+ * 内存占用不随运行时长增长。合并后的百分位取两个区间中较大的值（偏保守）。
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public class IntervalTimeline implements Serializable {
+
+    private static final long serialVersionUID = -8719964107226003428L;
+
+    /**
+     * 默认最多保留的区间数量
+     */
+    public static final int DEFAULT_MAX_INTERVALS = 1000;
+
+    /**
+     * 区间直方图的有效数字位数，相对误差 1%
+     */
+    private static final int INTERVAL_SIGNIFICANT_DIGITS = 2;
+
+    /**
+     * 区间直方图最大可追踪的延迟（纳秒）
+     */
+    private static final long INTERVAL_HIGHEST_TRACKABLE_NS = TimeUnit.HOURS.toNanos(1);
+
+    /**
+     * 最多保留的区间数量
+     */
+    private final int maxIntervals;
+
+    /**
+     * 所有的记录者
+     */
+    private final List<IntervalRecorder> recorderList = new CopyOnWriteArrayList<>();
+
+    /**
+     * 已经生成的区间统计
+     */
+    private final List<IntervalStatistics> intervalList = new ArrayList<>();
+
+    /**
+     * 合并区间直方图时使用
+     */
+    private final SingleWriterLatencyHistogram mergedHistogram = newIntervalHistogram();
+
+    /**
+     * 需要统计超过次数的耗时阈值（纳秒）
+     */
+    private long[] latencyThresholdsNs = new long[0];
+
+    /**
+     * 第一个区间的开始时间
+     */
+    private long timelineStartNs = -1;
+
+    /**
+     * 当前区间的开始时间
+     */
+    private long intervalStartNs = -1;
+
+    public IntervalTimeline() {
+        this(DEFAULT_MAX_INTERVALS);
+    }
+
+    /**
+     * 构造器
+     * @param maxIntervals 最多保留的区间数量，需要 &gt;= 2
+     */
+    public IntervalTimeline(final int maxIntervals) {
+        checkArgument(maxIntervals >= 2, "maxIntervals must be >= 2.");
+        this.maxIntervals = maxIntervals;
+    }
+
+    /**
+     * 创建并登记记录者
+     * @return 记录者
+     */
+    public IntervalRecorder newRecorder() {
+        IntervalRecorder recorder = new IntervalRecorder();
+        recorderList.add(recorder);
+        return recorder;
+    }
+
+    /**
+     * 创建并登记可以被多个线程同时写入的记录者
+     * @return 记录者
+     * @since 2.0.8
+     */
+    public IntervalRecorder newSharedRecorder() {
+        IntervalRecorder recorder = new SharedIntervalRecorder();
+        recorderList.add(recorder);
+        return recorder;
+    }
+
+    /**
+     * 设置需要统计超过次数的耗时阈值
+     * 1. 之后生成的每个区间都会按相同顺序记录超过各个阈值的执行次数
+     * @param latencyThresholdsNs 耗时阈值（纳秒）
+     * @since 2.0.8
+     */
+    public synchronized void setLatencyThresholdsNs(final long... latencyThresholdsNs) {
+        this.latencyThresholdsNs = latencyThresholdsNs.clone();
+    }
+
+    /**
+     * 结束当前区间并开始下一个区间
+     * 1. 第一次调用只标记开始，之前的记录会被丢弃
+     * @param timestampNs 当前时间(纳秒)
+     */
+    public synchronized void markInterval(final long timestampNs) {
+        mergedHistogram.reset();
+        long errorCount = 0;
+        for (IntervalRecorder recorder : recorderList) {
+            IntervalRecorder.Interval interval = recorder.swap();
+            mergedHistogram.add(interval.histogram);
+            errorCount += interval.errorCount;
+        }
+
+        if (intervalStartNs < 0) {
+            timelineStartNs = timestampNs;
+            intervalStartNs = timestampNs;
+            return;
+        }
+
+        IntervalStatistics statistics = new IntervalStatistics();
+        statistics.setStartOffsetNs(intervalStartNs - timelineStartNs);
+        statistics.setDurationNs(Math.max(0L, timestampNs - intervalStartNs));
+        statistics.setCount(mergedHistogram.getTotalCount());
+        statistics.setErrorCount(errorCount);
+        statistics.setMinLatencyNs(mergedHistogram.getMinValue());
+        statistics.setMaxLatencyNs(mergedHistogram.getMaxValue());
+        statistics.setMeanLatencyNs(mergedHistogram.getMean());
+        statistics.setP50LatencyNs(mergedHistogram.getValueAtPercentile(50D));
+        statistics.setP99LatencyNs(mergedHistogram.getValueAtPercentile(99D));
+        statistics.setP999LatencyNs(mergedHistogram.getValueAtPercentile(99.9D));
+        long[] exceededCounts = new long[latencyThresholdsNs.length];
+        for (int i = 0; i < latencyThresholdsNs.length; i++) {
+            exceededCounts[i] = mergedHistogram.getCountAbove(latencyThresholdsNs[i]);
+        }
+        statistics.setExceededCounts(exceededCounts);
+        intervalList.add(statistics);
+        intervalStartNs = timestampNs;
+
+        if (intervalList.size() > maxIntervals) {
+            coalesce();
+        }
+    }
+
+    /**
+     * 在末尾追加另一个时间线的区间
+     * 1. 追加的区间紧接在当前最后一个区间之后，用于合并依次执行的多次测量
+     * 2. 超过最多保留的区间数量时，相邻的区间两两合并
+     * @param other 另一个时间线，需要保证已经不再写入
+     * @since 2.0.8
+     */
+    public synchronized void append(final IntervalTimeline other) {
+        long offsetNs = 0;
+        if (!intervalList.isEmpty()) {
+            IntervalStatistics last = intervalList.get(intervalList.size() - 1);
+            offsetNs = last.getStartOffsetNs() + last.getDurationNs();
+        }
+        for (IntervalStatistics statistics : other.getIntervalStatisticsList()) {
+            IntervalStatistics shifted = copyOf(statistics);
+            shifted.setStartOffsetNs(offsetNs + statistics.getStartOffsetNs());
+            intervalList.add(shifted);
+        }
+        while (intervalList.size() > maxIntervals) {
+            coalesce();
+        }
+    }
+
+    /**
+     * 获取区间统计
+     * @return 按时间排序的区间统计
+     */
+    public synchronized List<IntervalStatistics> getIntervalStatisticsList() {
+        return Collections.unmodifiableList(new ArrayList<>(intervalList));
+    }
+
+    /**
+     * 相邻的区间两两合并
+     */
+    private void coalesce() {
+        List<IntervalStatistics> coalesced = new ArrayList<>(intervalList.size() / 2 + 1);
+        for (int i = 0; i < intervalList.size(); i += 2) {
+            if (i + 1 < intervalList.size()) {
+                coalesced.add(merge(intervalList.get(i), intervalList.get(i + 1)));
+            } else {
+                coalesced.add(intervalList.get(i));
+            }
+        }
+        intervalList.clear();
+        intervalList.addAll(coalesced);
+    }
+
+    /**
+     * 合并两个相邻的区间
+     * @param first 前一个区间
+     * @param second 后一个区间
+     * @return 合并结果
+     */
+    private static IntervalStatistics merge(final IntervalStatistics first, final IntervalStatistics second) {
+        if (first.getCount() == 0 || second.getCount() == 0) {
+            IntervalStatistics nonEmpty = first.getCount() == 0 ? second : first;
+            IntervalStatistics merged = copyOf(nonEmpty);
+            merged.setStartOffsetNs(first.getStartOffsetNs());
+            merged.setDurationNs(first.getDurationNs() + second.getDurationNs());
+            merged.setErrorCount(first.getErrorCount() + second.getErrorCount());
+            return merged;
+        }
+
+        long count = first.getCount() + second.getCount();
+        IntervalStatistics merged = new IntervalStatistics();
+        merged.setStartOffsetNs(first.getStartOffsetNs());
+        merged.setDurationNs(first.getDurationNs() + second.getDurationNs());
+        merged.setCount(count);
+        merged.setErrorCount(first.getErrorCount() + second.getErrorCount());
+        merged.setMinLatencyNs(Math.min(first.getMinLatencyNs(), second.getMinLatencyNs()));
+        merged.setMaxLatencyNs(Math.max(first.getMaxLatencyNs(), second.getMaxLatencyNs()));
+        merged.setMeanLatencyNs((first.getMeanLatencyNs() * first.getCount()
+                + second.getMeanLatencyNs() * second.getCount()) / count);
+        merged.setP50LatencyNs(Math.max(first.getP50LatencyNs(), second.getP50LatencyNs()));
+        merged.setP99LatencyNs(Math.max(first.getP99LatencyNs(), second.getP99LatencyNs()));
+        merged.setP999LatencyNs(Math.max(first.getP999LatencyNs(), second.getP999LatencyNs()));
+        long[] exceededCounts = first.getExceededCounts().clone();
+        for (int i = 0; i < exceededCounts.length && i < second.getExceededCounts().length; i++) {
+            exceededCounts[i] += second.getExceededCounts()[i];
+        }
+        merged.setExceededCounts(exceededCounts);
+        return merged;
+    }
+
+    private static IntervalStatistics copyOf(final IntervalStatistics source) {
+        IntervalStatistics copy = new IntervalStatistics();
+        copy.setStartOffsetNs(source.getStartOffsetNs());
+        copy.setDurationNs(source.getDurationNs());
+        copy.setCount(source.getCount());
+        copy.setErrorCount(source.getErrorCount());
+        copy.setMinLatencyNs(source.getMinLatencyNs());
+        copy.setMaxLatencyNs(source.getMaxLatencyNs());
+        copy.setMeanLatencyNs(source.getMeanLatencyNs());
+        copy.setP50LatencyNs(source.getP50LatencyNs());
+        copy.setP99LatencyNs(source.getP99LatencyNs());
+        copy.setP999LatencyNs(source.getP999LatencyNs());
+        copy.setExceededCounts(source.getExceededCounts().clone());
+        return copy;
+    }
+
+    private static SingleWriterLatencyHistogram newIntervalHistogram() {
+        return new SingleWriterLatencyHistogram(INTERVAL_HIGHEST_TRACKABLE_NS, INTERVAL_SIGNIFICANT_DIGITS);
+    }
+
+    /**
+     * 区间记录者
+     * 写入当前区间，由 {@link IntervalTimeline#markInterval(long)} 切换。
+     * 1. 只能由一个线程写入，区间数据使用普通字段，写入时只有相位器的两次计数。
+     * 2. 相位器保证切换之后，读者可以看到写者在旧区间的所有写入。
+     */
+    public static class IntervalRecorder implements Serializable {
+
+        private static final long serialVersionUID = 6044795213570389241L;
+
+        /**
+         * 相位器
+         */
+        private final WriterReaderPhaser phaser = new WriterReaderPhaser();
+
+        /**
+         * 当前写入的区间
+         */
+        private volatile Interval active = new Interval();
+
+        /**
+         * 上一个区间，只由读者访问
+         */
+        private Interval inactive = new Interval();
+
+        private IntervalRecorder() {
+        }
+
+        /**
+         * 记录延迟
+         * @param executionTimeNs 执行时间(纳秒)
+         */
+        public void recordLatency(final long executionTimeNs) {
+            long criticalValue = phaser.writerCriticalSectionEnter();
+            try {
+                active.histogram.recordValue(executionTimeNs);
+            } finally {
+                phaser.writerCriticalSectionExit(criticalValue);
+            }
+        }
+
+        /**
+         * 记录多次相同的延迟
+         * @param executionTimeNs 执行时间(纳秒)
+         * @param count 次数
+         * @since 2.0.8
+         */
+        public void recordLatency(final long executionTimeNs, final long count) {
+            long criticalValue = phaser.writerCriticalSectionEnter();
+            try {
+                active.histogram.recordValueWithCount(executionTimeNs, count);
+            } finally {
+                phaser.writerCriticalSectionExit(criticalValue);
+            }
+        }
+
+        /**
+         * 增加错误次数
+         */
+        public void incrementErrorCount() {
+            long criticalValue = phaser.writerCriticalSectionEnter();
+            try {
+                active.errorCount++;
+            } finally {
+                phaser.writerCriticalSectionExit(criticalValue);
+            }
+        }
+
+        /**
+         * 切换区间
+         * @return 切换前写入的区间，在下一次切换前可以安全读取
+         */
+        private Interval swap() {
+            inactive.reset();
+            Interval previous = active;
+            active = inactive;
+            phaser.flipPhase();
+            inactive = previous;
+            return previous;
+        }
+
+        /**
+         * 区间数据
+         */
+        private static class Interval implements Serializable {
+
+            private static final long serialVersionUID = -1730446427985512044L;
+
+            private final SingleWriterLatencyHistogram histogram = newIntervalHistogram();
+
+            private long errorCount;
+
+            private void reset() {
+                histogram.reset();
+                errorCount = 0L;
+            }
+        }
+    }
+
+    /**
+     * 共享的区间记录者
+     * 直接调用统计对象时使用，写入串行执行，读取依然由相位器保证。
+     */
+    private static class SharedIntervalRecorder extends IntervalRecorder {
+
+        private static final long serialVersionUID = -5361862920407718564L;
+
+        @Override
+        public synchronized void recordLatency(final long executionTimeNs) {
+            super.recordLatency(executionTimeNs);
+        }
+
+        @Override
+        public synchronized void recordLatency(final long executionTimeNs, final long count) {
+            super.recordLatency(executionTimeNs, count);
+        }
+
+        @Override
+        public synchronized void incrementErrorCount() {
+            super.incrementErrorCount();
+        }
+    }
+
+}
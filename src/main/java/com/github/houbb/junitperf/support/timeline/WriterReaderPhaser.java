@@ -0,0 +1,84 @@
+package com.github.houbb.junitperf.support.timeline;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import org.apiguardian.api.API;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 写者-读者相位器（参考 HdrHistogram 的 WriterReaderPhaser）
+ *
+ * 1. 写者进入/退出临界区只有一次原子自增，不会阻塞。
+ * 2. 读者切换写入目标后调用 {@link #flipPhase()}，等待切换前进入临界区的写者全部退出，
+ * 之后就可以安全地读取旧的写入目标。
+ * 3. 同一时刻只允许一个读者，由调用方保证。
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public class WriterReaderPhaser implements Serializable {
+
+    private static final long serialVersionUID = -4093271855640532561L;
+
+    /**
+     * 读者等待时的休眠时间
+     */
+    private static final long WAIT_NS = 10_000L;
+
+    /**
+     * 进入计数，符号表示当前相位
+     */
+    private final AtomicLong startEpoch = new AtomicLong(0L);
+
+    /**
+     * 偶数相位的退出计数
+     */
+    private final AtomicLong evenEndEpoch = new AtomicLong(0L);
+
+    /**
+     * 奇数相位的退出计数
+     */
+    private final AtomicLong oddEndEpoch = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * 写者进入临界区
+     * @return 进入时的值，退出时需要传入
+     */
+    public long writerCriticalSectionEnter() {
+        return startEpoch.getAndIncrement();
+    }
+
+    /**
+     * 写者退出临界区
+     * @param criticalValueAtEnter {@link #writerCriticalSectionEnter()} 的返回值
+     */
+    public void writerCriticalSectionExit(final long criticalValueAtEnter) {
+        if (criticalValueAtEnter < 0) {
+            oddEndEpoch.getAndIncrement();
+        } else {
+            evenEndEpoch.getAndIncrement();
+        }
+    }
+
+    /**
+     * 切换相位，并等待切换前进入临界区的写者全部退出
+     */
+    public void flipPhase() {
+        boolean nextPhaseIsEven = startEpoch.get() < 0;
+        long initialStartValue = nextPhaseIsEven ? 0L : Long.MIN_VALUE;
+        if (nextPhaseIsEven) {
+            evenEndEpoch.set(initialStartValue);
+        } else {
+            oddEndEpoch.set(initialStartValue);
+        }
+
+        long startValueAtFlip = startEpoch.getAndSet(initialStartValue);
+        AtomicLong previousEndEpoch = nextPhaseIsEven ? oddEndEpoch : evenEndEpoch;
+        while (previousEndEpoch.get() != startValueAtFlip) {
+            LockSupport.parkNanos(WAIT_NS);
+        }
+    }
+
+}
@@ -0,0 +1,357 @@
+package com.github.houbb.junitperf.support.warmup;
+
+import com.github.houbb.junitperf.constant.VersionConstant;
+import com.github.houbb.junitperf.model.evaluation.component.IntervalStatistics;
+import com.github.houbb.junitperf.support.timeline.IntervalTimeline;
+import org.apiguardian.api.API;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * 准备阶段的结束判断
+ *
+ * 1. 固定模式：准备时间到达后开始测量。
+ * 2. 自适应模式：准备阶段按窗口记录吞吐量、平均耗时及 99% 耗时，同时观察 JIT 编译时间。
+ * 最近 {@link #STEADY_WINDOWS} 个窗口中，三项指标的极差 / 平均值都不超过容差，
+ * 且 JIT 编译时间的增长不超过这段时间的容差比例，视为进入稳定状态，立即开始测量。
+ * 3. 自适应模式下准备时间是上限，到达上限仍未稳定时也开始测量。
+ *
+ * 执行线程通过 {@link #getMeasureStartNs()} 判断当前是否处于准备阶段，
+ * 通过 {@link #getMeasureStopNs()} 判断调用是否在测量窗口结束之前完成。
+ * @author bbhou
+ * @since 2.0.8
+ */
+@API(status = API.Status.INTERNAL, since = VersionConstant.V2_0_0)
+public class WarmUpDetector {
+
+    /**
+     * 判断稳定状态时使用的窗口数量
+     */
+    public static final int STEADY_WINDOWS = 5;
+
+    /**
+     * 开始时间
+     */
+    private final long startNs;
+
+    /**
+     * 准备时间，自适应模式下为上限
+     */
+    private final long warmUpNs;
+
+    /**
+     * 是否自适应
+     */
+    private final boolean adaptive;
+
+    /**
+     * 窗口大小
+     */
+    private final long windowNs;
+
+    /**
+     * 容差
+     */
+    private final double tolerance;
+
+    /**
+     * 准备阶段的窗口统计，自适应模式下才会记录
+     */
+    private final IntervalTimeline warmUpTimeline;
+
+    /**
+     * JIT 编译 MXBean，不支持编译时间监控时为 null
+     */
+    private final CompilationMXBean compilationMXBean;
+
+    /**
+     * 测量开始时间，确定之前为 {@link Long#MAX_VALUE}
+     */
+    private volatile long measureStartNs;
+
+    /**
+     * 测量结束时间，确定之前为 {@link Long#MAX_VALUE}
+     */
+    private volatile long measureStopNs = Long.MAX_VALUE;
+
+    /**
+     * 是否在上限之前进入稳定状态
+     */
+    private boolean steady;
+
+    /**
+     * 准备开始时的 JIT 编译时间（毫秒）
+     */
+    private final long compilationTimeMsAtStart;
+
+    /**
+     * 准备阶段的 JIT 编译时间（毫秒）
+     */
+    private long warmUpCompilationTimeMs = -1L;
+
+    /**
+     * 构造器
+     * @param startNs 开始时间
+     * @param warmUpNs 准备时间，自适应模式下为上限
+     * @param adaptive 是否自适应
+     * @param windowNs 窗口大小，自适应模式下需要 &gt; 0
+     * @param tolerance 容差，自适应模式下需要 &gt; 0
+     */
+    public WarmUpDetector(final long startNs,
+                          final long warmUpNs,
+                          final boolean adaptive,
+                          final long windowNs,
+                          final double tolerance) {
+        checkArgument(!adaptive || windowNs > 0, "windowNs must be > 0.");
+        checkArgument(!adaptive || tolerance > 0, "tolerance must be > 0.");
+        this.startNs = startNs;
+        this.warmUpNs = warmUpNs;
+        this.adaptive = adaptive;
+        this.windowNs = windowNs;
+        this.tolerance = tolerance;
+        this.measureStartNs = adaptive ? Long.MAX_VALUE : startNs + warmUpNs;
+        // 窗口数量不超过上限，保证窗口统计不会被合并
+        this.warmUpTimeline = adaptive
+                ? new IntervalTimeline((int) Math.min(Integer.MAX_VALUE - 1, Math.max(2L, warmUpNs / windowNs + 1)))
+                : null;
+        this.compilationMXBean = resolveCompilationMXBean();
+        this.compilationTimeMsAtStart = getTotalCompilationTimeMs();
+    }
+
+    /**
+     * 为执行线程创建准备阶段的记录者
+     * @return 记录者，非自适应模式返回 null
+     */
+    public IntervalTimeline.IntervalRecorder newRecorder() {
+        if (!adaptive) {
+            return null;
+        }
+        return warmUpTimeline.newRecorder();
+    }
+
+    /**
+     * 等待准备阶段结束
+     * 1. 返回前测量开始时间已经对执行线程可见
+     * @param deadlineNs 最晚的结束时间
+     * @return 测量开始时间
+     * @throws InterruptedException 等待被中断
+     */
+    public long awaitMeasurementStart(final long deadlineNs) throws InterruptedException {
+        long capNs = Math.min(startNs + warmUpNs, deadlineNs);
+        if (!adaptive) {
+            sleepUntil(capNs);
+            measureStartNs = capNs;
+            warmUpCompilationTimeMs = getCompilationTimeMsSince(compilationTimeMsAtStart);
+            return capNs;
+        }
+
+        warmUpTimeline.markInterval(startNs);
+        long[] compilationTimeMs = new long[STEADY_WINDOWS + 1];
+        compilationTimeMs[0] = compilationTimeMsAtStart;
+        int windowCount = 0;
+        for (long nextNs = startNs + windowNs; nextNs < capNs; nextNs += windowNs) {
+            sleepUntil(nextNs);
+            warmUpTimeline.markInterval(System.nanoTime());
+            windowCount++;
+            compilationTimeMs[windowCount % compilationTimeMs.length] = getTotalCompilationTimeMs();
+            if (windowCount >= STEADY_WINDOWS
+                    && isSteady(compilationTimeMs[(windowCount - STEADY_WINDOWS) % compilationTimeMs.length],
+                    compilationTimeMs[windowCount % compilationTimeMs.length])) {
+                steady = true;
+                break;
+            }
+        }
+        if (!steady) {
+            sleepUntil(capNs);
+        }
+
+        long now = System.nanoTime();
+        measureStartNs = now;
+        warmUpCompilationTimeMs = getCompilationTimeMsSince(compilationTimeMsAtStart);
+        return now;
+    }
+
+    /**
+     * 最近的窗口是否稳定
+     * @param compilationTimeMsBefore 最近窗口开始前的 JIT 编译时间
+     * @param compilationTimeMsNow 当前的 JIT 编译时间
+     * @return 是否
+     */
+    private boolean isSteady(final long compilationTimeMsBefore,
+                             final long compilationTimeMsNow) {
+        List<IntervalStatistics> windowList = warmUpTimeline.getIntervalStatisticsList();
+        List<IntervalStatistics> recentList = windowList.subList(windowList.size() - STEADY_WINDOWS, windowList.size());
+        for (IntervalStatistics window : recentList) {
+            if (window.getCount() == 0) {
+                return false;
+            }
+        }
+
+        if (compilationTimeMsBefore >= 0) {
+            long recentNs = 0;
+            for (IntervalStatistics window : recentList) {
+                recentNs += window.getDurationNs();
+            }
+            long compilationNs = TimeUnit.MILLISECONDS.toNanos(compilationTimeMsNow - compilationTimeMsBefore);
+            if (compilationNs > recentNs * tolerance) {
+                return false;
+            }
+        }
+
+        double[] throughput = new double[STEADY_WINDOWS];
+        double[] meanLatency = new double[STEADY_WINDOWS];
+        double[] p99Latency = new double[STEADY_WINDOWS];
+        for (int i = 0; i < STEADY_WINDOWS; i++) {
+            IntervalStatistics window = recentList.get(i);
+            throughput[i] = window.getThroughputQps();
+            meanLatency[i] = window.getMeanLatencyNs();
+            p99Latency[i] = window.getP99LatencyNs();
+        }
+        return isWithinTolerance(throughput)
+                && isWithinTolerance(meanLatency)
+                && isWithinTolerance(p99Latency);
+    }
+
+    /**
+     * 极差 / 平均值是否不超过容差
+     * @param values 值
+     * @return 是否
+     */
+    private boolean isWithinTolerance(final double[] values) {
+        double min = Double.MAX_VALUE;
+        double max = 0D;
+        double sum = 0D;
+        for (double value : values) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+            sum += value;
+        }
+        double mean = sum / values.length;
+        return mean > 0 && (max - min) / mean <= tolerance;
+    }
+
+    /**
+     * 测量开始时间
+     * @return 纳秒，确定之前为 {@link Long#MAX_VALUE}
+     */
+    public long getMeasureStartNs() {
+        return measureStartNs;
+    }
+
+    /**
+     * 测量结束时间
+     * 1. 在此之后完成的调用不计入统计
+     * @return 纳秒，确定之前为 {@link Long#MAX_VALUE}
+     */
+    public long getMeasureStopNs() {
+        return measureStopNs;
+    }
+
+    /**
+     * 设置测量结束时间
+     * 1. 测量开始时即设置为计划的结束时间，执行线程不依赖主线程被唤醒的时机
+     * 2. 提前结束时更新为实际的结束时间
+     * @param measureStopNs 测量结束时间
+     */
+    public void setMeasureStopNs(final long measureStopNs) {
+        this.measureStopNs = measureStopNs;
+    }
+
+    /**
+     * 实际的准备时间
+     * @return 纳秒
+     */
+    public long getWarmUpNs() {
+        return measureStartNs == Long.MAX_VALUE ? 0L : measureStartNs - startNs;
+    }
+
+    /**
+     * 是否在上限之前进入稳定状态
+     * @return 是否
+     */
+    public boolean isSteady() {
+        return steady;
+    }
+
+    /**
+     * 是否自适应
+     * @return 是否
+     */
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    /**
+     * 准备阶段的窗口统计
+     * @return 窗口统计，非自适应模式返回空列表
+     */
+    public List<IntervalStatistics> getWindowStatisticsList() {
+        if (!adaptive) {
+            return Collections.emptyList();
+        }
+        return warmUpTimeline.getIntervalStatisticsList();
+    }
+
+    /**
+     * 准备阶段的 JIT 编译时间
+     * @return 毫秒，不支持时返回 -1
+     */
+    public long getWarmUpCompilationTimeMs() {
+        return warmUpCompilationTimeMs;
+    }
+
+    /**
+     * 指定时间之后的 JIT 编译时间
+     * @param compilationTimeMs 之前的 JIT 编译时间
+     * @return 毫秒，不支持时返回 -1
+     */
+    public long getCompilationTimeMsSince(final long compilationTimeMs) {
+        if (compilationTimeMs < 0) {
+            return -1L;
+        }
+        return getTotalCompilationTimeMs() - compilationTimeMs;
+    }
+
+    /**
+     * JIT 编译的累计时间
+     * @return 毫秒，不支持时返回 -1
+     */
+    public long getTotalCompilationTimeMs() {
+        if (compilationMXBean == null) {
+            return -1L;
+        }
+        return compilationMXBean.getTotalCompilationTime();
+    }
+
+    /**
+     * 休眠到指定时间
+     * @param deadlineNs 时间
+     * @throws InterruptedException 等待被中断
+     */
+    private static void sleepUntil(final long deadlineNs) throws InterruptedException {
+        long remainingNs = deadlineNs - System.nanoTime();
+        while (remainingNs > 0) {
+            TimeUnit.NANOSECONDS.sleep(remainingNs);
+            remainingNs = deadlineNs - System.nanoTime();
+        }
+    }
+
+    private static CompilationMXBean resolveCompilationMXBean() {
+        try {
+            CompilationMXBean compilationMXBean = ManagementFactory.getCompilationMXBean();
+            if (compilationMXBean == null || !compilationMXBean.isCompilationTimeMonitoringSupported()) {
+                return null;
+            }
+            return compilationMXBean;
+        } catch (LinkageError | RuntimeException e) {
+            return null;
+        }
+    }
+
+}
@@ -154,6 +154,22 @@
             float: right;
         }
 
+        section .data-wrapper.sub-data {
+            clear: both;
+            padding: 10px 0 10px 40px;
+        }
+
+        section .test-method-timeline {
+            clear: both;
+            padding: 20px 0 10px 0;
+        }
+
+        section .test-method-timeline .timeline-chart {
+            width: 640px;
+            height: 260px;
+            margin: 0 auto;
+        }
+
         section .data-wrapper .table td, .table th {
             padding-right: 0.5rem;
         }
@@ -189,15 +205,20 @@
                 <#list contextData as context>
                     <#assign active = (context_index==0) ? string("active", "")>
                     <#if context.evaluationResult.isSuccessful()>
-                        <li title="${context.methodName}" class="borderRightSuccess ${active}">
-                            <a href='#${context.methodName}'>${context.methodName}</a>
+                        <li title="${context.displayName}" class="borderRightSuccess ${active}">
+                            <a href='#${context.displayName}'>${context.displayName}</a>
                         </li>
                     <#else>
-                        <li title="${context.methodName}" class="borderRightFail ${active}">
-                            <a href='#${context.methodName}'>${context.methodName}</a>
+                        <li title="${context.displayName}" class="borderRightFail ${active}">
+                            <a href='#${context.displayName}'>${context.displayName}</a>
                         </li>
                     </#if>
                 </#list>
+                <#list sweepList as sweep>
+                    <li title="${sweep.methodName} - ${sweep.paramName}">
+                        <a href='#${sweep.methodName}-sweep-${sweep.paramName}'>${sweep.methodName} - ${sweep.paramName}</a>
+                    </li>
+                </#list>
             </ul>
         </div>
     </aside>
@@ -206,32 +227,59 @@
 
     <#list contextData as context>
 
-        <div id="${context.methodName}" class="test-method">
-            <span title="${context.methodName}" class="test-method-name">${context.methodName}</span>
+        <div id="${context.displayName}" class="test-method">
+            <span title="${context.displayName}" class="test-method-name">${context.displayName}</span>
 
-            <div id="${context.methodName}-img" class="test-method-img">
+            <div id="${context.displayName}-img" class="test-method-img">
                 <!-- ADD scatter Chart here!! -->
                 <script type="text/javascript">
                     google.charts.load('current', {'packages': ['corechart']});
                     google.charts.setOnLoadCallback(drawChart);
 
                     function drawChart() {
+                        <#if context.evaluationConfig.configThroughputOnly>
+                        var sampleData = google.visualization.arrayToDataTable([
+                            ['${i18n.throughput_samples}', '${i18n.throughput}'],
+                            <#list context.evaluationRuntime.throughputSampleList as sample>
+                                [ ${sample?counter}, ${sample?c} ],
+                            </#list>
+                        ]);
+                        new google.visualization.LineChart(document.getElementById('${context.displayName}-img')).draw(sampleData, {
+                            title: '${i18n.throughput_samples}',
+                            hAxis: {title: '${i18n.throughput_samples}', minValue: 1},
+                            vAxis: {title: '${i18n.throughput} / s', minValue: 0},
+                            legend: 'none',
+                            pointSize: 5,
+                            lineWidth: 1
+                        });
+                        return;
+                        </#if>
+                        <#if context.correctedStatisticsCalculator??>
+                        var data = google.visualization.arrayToDataTable([
+                            ['Percentile', '${i18n.uncorrected}', {role: "tooltip"}, '${i18n.corrected}', {role: "tooltip"}],
+                            <#list 1..100 as i>
+                                [ ${i}, ${context.statisticsCalculator.getLatencyPercentile(i, milliseconds)} , "${i}% of executions ≤ ${context.statisticsCalculator.getLatencyPercentile(i, milliseconds)}ms",
+                                  ${context.correctedStatisticsCalculator.getLatencyPercentile(i, milliseconds)} , "${i}% of corrected executions ≤ ${context.correctedStatisticsCalculator.getLatencyPercentile(i, milliseconds)}ms"],
+                            </#list>
+                        ]);
+                        <#else>
                         var data = google.visualization.arrayToDataTable([
                             ['Percentile', 'Latency', {role: "tooltip"}],
                             <#list 1..100 as i>
                                 [ ${i}, ${context.statisticsCalculator.getLatencyPercentile(i, milliseconds)} , "${i}% of executions ≤ ${context.statisticsCalculator.getLatencyPercentile(i, milliseconds)}ms"],
                             </#list>
                         ]);
+                        </#if>
                         var options = {
                             title: 'Latency percentile Distribution',
                             hAxis: {title: 'Percentile', minValue: 0, maxValue: 100},
                             vAxis: {title: 'Latency', minValue: 0, maxValue: 15},
-                            legend: 'none',
+                            legend: ${context.correctedStatisticsCalculator???string("'bottom'", "'none'")},
                             lineWidth: 1,
                             pointSize: 7,
                             dataOpacity: 0.5
                         };
-                        var chart = new google.visualization.ScatterChart(document.getElementById('${context.methodName}-img'));
+                        var chart = new google.visualization.ScatterChart(document.getElementById('${context.displayName}-img'));
                         chart.draw(data, options);
                     }
                 </script>
@@ -246,15 +294,118 @@
                         <li>
                             <label>${i18n.success}: </label><span>${context.statisticsCalculator.evaluationCount - context.statisticsCalculator.errorCount}</span>
                         </li>
+                        <#if context.stageStatisticsList?has_content>
+                        <li><label>${i18n.stages}
+                            : </label><span><#list context.stageStatisticsList as stage>${stage.loadStage.name}<#sep> &rarr; </#sep></#list></span></li>
+                        <#else>
                         <li><label>${i18n.thread_count}
                             : </label><span>${context.evaluationConfig.configThreads}</span></li>
-
+                        </#if>
+                        <#if context.evaluationConfig.configVirtualThreads>
+                        <li><label>${i18n.thread_type}
+                            : </label><span>${context.evaluationRuntime.threadType}<#if context.evaluationRuntime.virtualThreadsFallback> (${i18n.virtual_threads_unsupported})</#if></span></li>
+                        </#if>
+                        <#if context.evaluationRuntime.asyncType??>
+                        <li><label>${i18n.async_call}
+                            : </label><span>${context.evaluationRuntime.asyncType} (${i18n.in_flight_window}: ${context.evaluationConfig.configAsyncWindow})</span></li>
+                        </#if>
+
+                        <#if context.evaluationConfig.configAdaptiveWarmUp>
+                        <li><label>${i18n.warm_up}
+                            : </label><span>${context.evaluationRuntime.warmUpMs} ms
+                            (${i18n.adaptive}: ${context.evaluationRuntime.warmUpSteady?string(i18n.steady, i18n.not_steady)}, &le; ${context.evaluationConfig.configWarmUp} ms)</span></li>
+                        <#else>
                         <li><label>${i18n.warm_up}
                             : </label><span>${context.evaluationConfig.configWarmUp} ms</span></li>
+                        </#if>
+                        <#if context.evaluationRuntime.compilationTimeMs gte 0>
+                        <li><label>${i18n.jit_compilation}
+                            : </label><span>${context.evaluationRuntime.compilationTimeMs} ms
+                            (${i18n.warm_up}: ${context.evaluationRuntime.warmUpCompilationTimeMs} ms)</span></li>
+                        </#if>
+                        <#if context.evaluationConfig.configInvocations gt 0>
+                        <li><label>${i18n.execution_time}
+                            : </label><span>${(context.evaluationRuntime.measuredNs / 1000000)?string("0.##")} ms
+                            (${i18n.fixed_invocations}: ${context.evaluationConfig.configInvocations}, ${i18n.time_limit}: ${context.evaluationConfig.configDuration} ms)</span>
+                        </li>
+                        <#else>
                         <li><label>${i18n.execution_time}
-                            : </label><span>${context.evaluationConfig.configDuration} ms</span>
+                            : </label><span>${(context.evaluationRuntime.measuredNs / 1000000)?string("0.##")} ms<#if context.evaluationConfig.configCooldown gt 0>
+                            (${i18n.cooldown}: ${context.evaluationConfig.configCooldown} ms)</#if></span>
+                        </li>
+                        </#if>
+                        <#if context.evaluationRuntime.unfinishedThreads gt 0>
+                        <li><label>${i18n.unfinished_threads}
+                            : </label><span>${context.evaluationRuntime.unfinishedThreads}</span></li>
+                        </#if>
+                        <#if context.evaluationRuntime.forks gt 0>
+                        <li><label>${i18n.forks}
+                            : </label><span>${context.evaluationRuntime.forks}
+                            (<#list context.evaluationRuntime.forkThroughputList as throughput>${throughput?string("0.##")}<#sep>, </#sep></#list> / s)</span></li>
+                        </#if>
+                        <#if context.evaluationRuntime.throughputConfidenceHalfWidth gte 0>
+                        <li><label>${i18n.throughput_samples}
+                            : </label><span>${context.evaluationRuntime.throughputSampleList?size}
+                            (${i18n.confidence_interval}: ${(context.evaluationRuntime.throughputSampleMean - context.evaluationRuntime.throughputConfidenceHalfWidth)?string("0.##")} / s
+                            ~ ${(context.evaluationRuntime.throughputSampleMean + context.evaluationRuntime.throughputConfidenceHalfWidth)?string("0.##")} / s)</span></li>
+                        </#if>
+                        <#if context.evaluationConfig.configPrecision gt 0>
+                        <li><label>${i18n.precision}
+                            : </label><span>±${(context.evaluationConfig.configPrecision * 100)?string("0.##")}%,
+                            ${context.evaluationRuntime.precisionBatches} ${i18n.batches},
+                            99%: ${context.statisticsCalculator.getLatencyPercentile(99, milliseconds)} ms<#if context.evaluationRuntime.p99Precision gte 0> (±${(context.evaluationRuntime.p99Precision * 100)?string("0.##")}%)</#if>
+                            - <#if context.evaluationRuntime.adaptiveStopped>${i18n.stopped_early}<#else>${i18n.max_duration_reached}</#if></span></li>
+                        </#if>
+                        <#if context.evaluationConfig.configSequentialTest>
+                        <li><label>${i18n.sequential_test}
+                            : </label><span><#if context.evaluationRuntime.sequentialStopped><#assign sequential_c = context.evaluationRuntime.sequentialPassed ? string("#00000", "#ec971f")>
+                            ${i18n.settled_early} (${(context.evaluationRuntime.measuredNs / 1000000)?string("0.##")} ms):
+                            <span style="color: ${sequential_c}">${context.evaluationRuntime.sequentialPassed?string("PASSED", "FAILED")}</span>
+                            - ${context.evaluationRuntime.sequentialReason}<#else>${i18n.not_settled}, ${i18n.max_duration_reached}</#if></span></li>
+                        </#if>
+                        <#if context.evaluationConfig.configTargetRate gt 0>
+                        <li><label>${i18n.target_rate}
+                            : </label><span>${context.evaluationConfig.configTargetRate} / s</span></li>
+                        <li><label>${i18n.arrivals}
+                            : </label><span>${context.evaluationRuntime.scheduledArrivals}
+                            (${i18n.delayed_arrivals}: ${context.evaluationRuntime.delayedArrivals}, ${i18n.dropped_arrivals}: ${context.evaluationRuntime.droppedArrivals})</span></li>
+                        <li><label>${i18n.max_start_delay}
+                            : </label><span>${context.evaluationRuntime.maxStartDelayNs / 1000000} ms</span></li>
+                        </#if>
+                        <#if context.evaluationRuntime.invokerType??>
+                        <li><label>${i18n.invoker}
+                            : </label><span>${context.evaluationRuntime.invokerType}
+                            (${i18n.invocation_overhead}: ${context.evaluationRuntime.invocationOverheadNs} ns)</span></li>
+                        </#if>
+                        <#if context.evaluationConfig.configBatchSize gt 1>
+                        <li><label>${i18n.batch_size}
+                            : </label><span>${context.evaluationConfig.configBatchSize} (${i18n.batch_latency_note})</span></li>
+                        </#if>
+                        <#if context.evaluationRuntime.latencySampleCount gte 0>
+                        <li><label>${i18n.latency_samples}
+                            : </label><span>${context.evaluationRuntime.latencySampleCount} / ${context.statisticsCalculator.evaluationCount}
+                            (<#if context.evaluationConfig.configLatencySampleEvery gt 1>${i18n.sample_every} ${context.evaluationConfig.configLatencySampleEvery}<#else>${i18n.sample_probability}: ${context.evaluationConfig.configLatencySampleProbability}</#if>,
+                            ${i18n.tail_samples}: ${(context.evaluationRuntime.latencySampleCount / 100)?floor})</span></li>
+                        </#if>
+                        <#if context.evaluationRuntime.allocatedBytes gte 0>
+                        <li><label>${i18n.memory}: </label><span>${context.evaluationRuntime.allocatedBytes} byte
+                            (${i18n.allocation_rate}: ${context.evaluationRuntime.allocationRateMb?string("0.##")} MB/s)</span>
+                        </li>
+                        </#if>
+                        <#if context.evaluationRuntime.cpuTimeNs gte 0>
+                        <li><label>${i18n.cpu_time}: </label><span>${context.evaluationRuntime.cpuTimeNsPerOp?string("0.##")} ns/op
+                            (${i18n.cpu_wall_ratio}: ${context.evaluationRuntime.cpuWallRatio?string("0.###")})</span>
                         </li>
-                        <li><label>${i18n.memory}: </label><span>${context.statisticsCalculator.memory} byte</span>
+                        <li><label>${i18n.cpu_utilization}: </label><span>${context.evaluationRuntime.cpuUtilization?string("0.##")} %
+                            (${context.evaluationRuntime.minCpuUtilization?string("0.##")} % ~ ${context.evaluationRuntime.maxCpuUtilization?string("0.##")} %)</span>
+                        </li>
+                        </#if>
+                        <li><label>${i18n.gc}: </label><span>${context.evaluationRuntime.gcCount} (${context.evaluationRuntime.gcTimeMs} ms),
+                            ${i18n.warm_up}: ${context.evaluationRuntime.warmUpGcCount} (${context.evaluationRuntime.warmUpGcTimeMs} ms)</span>
+                        </li>
+                        <li><label>${i18n.heap_used}: </label><span>${(context.evaluationRuntime.heapUsedBeforeWarmUp / 1048576)?string("0.##")} MB
+                            &rarr; ${(context.evaluationRuntime.heapUsedBeforeMeasurement / 1048576)?string("0.##")} MB
+                            &rarr; ${(context.evaluationRuntime.heapUsedAfterMeasurement / 1048576)?string("0.##")} MB</span>
                         </li>
                         <li><label>${i18n.started_at}: </label><span>${context.startTime}</span>
                         </li>
@@ -275,12 +426,21 @@
                         <#assign min_c = context.evaluationResult.isMinAchieved() ? string("#00000", "#ec971f")>
                         <#assign avg_c = context.evaluationResult.isAverageAchieved() ? string("#00000", "#ec971f")>
                         <#assign max_c = context.evaluationResult.isMaxAchieved() ? string("#00000", "#ec971f")>
+                        <#assign bytes_c = context.evaluationResult.isBytesPerOpAchieved() ? string("#00000", "#ec971f")>
+                        <#assign gc_pause_c = context.evaluationResult.isGcPauseAchieved() ? string("#00000", "#ec971f")>
+                        <#assign gc_percentage_c = context.evaluationResult.isGcPercentageAchieved() ? string("#00000", "#ec971f")>
 
                         <tr>
                             <td>${i18n.throughput}</td>
-                            <td style="color: ${tt_c}">${context.evaluationResult.getThroughputQps()} / s</td>
+                            <td style="color: ${tt_c}">${context.evaluationResult.getThroughputQps()} / s<#if context.evaluationRuntime.throughputPrecision gte 0> (±${(context.evaluationRuntime.throughputPrecision * 100)?string("0.##")}%)</#if></td>
                             <td>${context.evaluationRequire.requireTimesPerSecond} / s</td>
                         </tr>
+                        <#if context.evaluationConfig.configThroughputOnly>
+                        <tr>
+                            <td>${i18n.latency}</td>
+                            <td colspan="2">${i18n.latency_not_measured}</td>
+                        </tr>
+                        <#else>
                         <tr>
                             <td>${i18n.min_latency}</td>
                             <td style="color: ${min_c}">${context.statisticsCalculator.getMinLatency(milliseconds)} ms</td>
@@ -288,7 +448,7 @@
                         </tr>
                         <tr>
                             <td>${i18n.avg_latency}</td>
-                            <td style="color: ${avg_c}">${context.statisticsCalculator.getMeanLatency(milliseconds)} ms</td>
+                            <td style="color: ${avg_c}">${context.statisticsCalculator.getMeanLatency(milliseconds)} ms<#if context.evaluationRuntime.meanPrecision gte 0> (±${(context.evaluationRuntime.meanPrecision * 100)?string("0.##")}%)</#if></td>
                             <td>${context.evaluationRequire.requireAverage} ms</td>
                         </tr>
                         <tr>
@@ -296,15 +456,294 @@
                             <td style="color: ${max_c}">${context.statisticsCalculator.getMaxLatency(milliseconds)} ms</td>
                             <td>${context.evaluationRequire.requireMax} ms</td>
                         </tr>
+                        </#if>
+                        <#if context.evaluationRuntime.allocatedBytes gte 0>
+                        <tr>
+                            <td>${i18n.bytes_per_op}</td>
+                            <td style="color: ${bytes_c}">${context.evaluationRuntime.allocatedBytesPerOp?string("0.##")} byte</td>
+                            <td>${context.evaluationRequire.requireMaxBytesPerOp} byte</td>
+                        </tr>
+                        </#if>
+                        <#if context.evaluationRuntime.maxGcPauseMs gte 0>
+                        <tr>
+                            <td>${i18n.max_gc_pause}</td>
+                            <td style="color: ${gc_pause_c}">${context.evaluationRuntime.maxGcPauseMs} ms</td>
+                            <td>${context.evaluationRequire.requireMaxGcPause} ms</td>
+                        </tr>
+                        </#if>
+                        <tr>
+                            <td>${i18n.gc_percentage}</td>
+                            <td style="color: ${gc_percentage_c}">${context.evaluationRuntime.gcTimePercentage?string("0.##")} %</td>
+                            <td>${context.evaluationRequire.requireMaxGcPercentage} %</td>
+                        </tr>
                         </tbody>
                     </table>
                 </div>
             </div>
 
+            <#if context.correctedStatisticsCalculator??>
+            <div class="data-wrapper sub-data">
+                <table class="table">
+                    <thead>
+                    <tr>
+                        <td>${i18n.percentile}</td>
+                        <td>${i18n.uncorrected}</td>
+                        <td>${i18n.corrected}</td>
+                    </tr>
+                    </thead>
+                    <tbody>
+                    <#list [50, 90, 99] as p>
+                    <tr>
+                        <td>${p}%</td>
+                        <td>${context.statisticsCalculator.getLatencyPercentile(p, milliseconds)} ms</td>
+                        <td>${context.correctedStatisticsCalculator.getLatencyPercentile(p, milliseconds)} ms</td>
+                    </tr>
+                    </#list>
+                    <tr>
+                        <td>${i18n.max_latency}</td>
+                        <td>${context.statisticsCalculator.getMaxLatency(milliseconds)} ms</td>
+                        <td>${context.correctedStatisticsCalculator.getMaxLatency(milliseconds)} ms</td>
+                    </tr>
+                    <tr>
+                        <td>${i18n.expected_interval}</td>
+                        <td colspan="2">${context.expectedIntervalNs / 1000000} ms</td>
+                    </tr>
+                    </tbody>
+                </table>
+            </div>
+            </#if>
+
+            <#if context.stageStatisticsList?has_content>
+            <div class="data-wrapper sub-data">
+                <table class="table">
+                    <thead>
+                    <tr>
+                        <td>${i18n.stage}</td>
+                        <td>${i18n.thread_count}</td>
+                        <td>${i18n.execution_time}</td>
+                        <td>${i18n.invocations}</td>
+                        <td>${i18n.errors}</td>
+                        <td>${i18n.throughput}</td>
+                        <td>${i18n.avg_latency}</td>
+                        <td>50%</td>
+                        <td>99%</td>
+                        <td>${i18n.max_latency}</td>
+                    </tr>
+                    </thead>
+                    <tbody>
+                    <#list context.stageStatisticsList as stage>
+                    <tr>
+                        <td>${stage?counter}</td>
+                        <td>${stage.loadStage.name}</td>
+                        <td>${(stage.elapsedNs / 1000000)?string("0")} ms</td>
+                        <td>${stage.statisticsCalculator.evaluationCount}</td>
+                        <td>${stage.statisticsCalculator.errorCount}</td>
+                        <td>${stage.throughputQps?string("0.##")} / s</td>
+                        <td>${stage.statisticsCalculator.getMeanLatency(milliseconds)} ms</td>
+                        <td>${stage.statisticsCalculator.getLatencyPercentile(50, milliseconds)} ms</td>
+                        <td>${stage.statisticsCalculator.getLatencyPercentile(99, milliseconds)} ms</td>
+                        <td>${stage.statisticsCalculator.getMaxLatency(milliseconds)} ms</td>
+                    </tr>
+                    </#list>
+                    </tbody>
+                </table>
+                <div id="${context.displayName}-stages" class="timeline-chart"></div>
+                <script type="text/javascript">
+                    google.charts.load('current', {'packages': ['corechart']});
+                    google.charts.setOnLoadCallback(function () {
+                        var stageData = google.visualization.arrayToDataTable([
+                            ['${i18n.stage}', '${i18n.throughput}', '99%'],
+                            <#list context.stageStatisticsList as stage>
+                                [ '${stage?counter}: ${stage.loadStage.name}', ${stage.throughputQps?c},
+                                  ${(stage.statisticsCalculator.evaluationCount gt 0)?then(stage.statisticsCalculator.getLatencyPercentile(99, milliseconds)?c, 'null')} ],
+                            </#list>
+                        ]);
+                        new google.visualization.LineChart(document.getElementById('${context.displayName}-stages')).draw(stageData, {
+                            title: '${i18n.stages}',
+                            vAxes: {0: {title: '${i18n.throughput} / s', minValue: 0}, 1: {title: '99% (ms)', minValue: 0}},
+                            series: {0: {targetAxisIndex: 0}, 1: {targetAxisIndex: 1}},
+                            legend: 'bottom',
+                            pointSize: 5,
+                            lineWidth: 1
+                        });
+                    });
+                </script>
+            </div>
+            </#if>
+
+            <#if context.evaluationRuntime.saturationProbeList?has_content>
+            <#assign dimension = (context.evaluationConfig.configTargetRate gt 0)?then("targetRate", "threads")>
+            <div class="data-wrapper sub-data">
+                <table class="table">
+                    <thead>
+                    <tr>
+                        <td>${i18n.saturation_search}</td>
+                        <td>${dimension}</td>
+                        <td>${i18n.throughput}</td>
+                        <td>${context.evaluationRuntime.saturationProbeList[0].percentile}%</td>
+                    </tr>
+                    </thead>
+                    <tbody>
+                    <#list context.evaluationRuntime.saturationProbeList as probe>
+                    <#assign probe_c = probe.passed ? string("#00000", "#ec971f")>
+                    <tr>
+                        <td>${probe?counter}</td>
+                        <td>${probe.level}</td>
+                        <td>${probe.throughputQps} / s</td>
+                        <td style="color: ${probe_c}">${probe.latencyMs} ms</td>
+                    </tr>
+                    </#list>
+                    <tr>
+                        <td>${i18n.saturation_point}</td>
+                        <#if context.evaluationRuntime.saturationPoint??>
+                        <td>${context.evaluationRuntime.saturationPoint.level}</td>
+                        <td>${context.evaluationRuntime.saturationPoint.throughputQps} / s</td>
+                        <td>${context.evaluationRuntime.saturationPoint.latencyMs} ms</td>
+                        <#else>
+                        <td colspan="3">-</td>
+                        </#if>
+                    </tr>
+                    </tbody>
+                </table>
+                <div id="${context.displayName}-saturation" class="timeline-chart"></div>
+                <script type="text/javascript">
+                    google.charts.load('current', {'packages': ['corechart']});
+                    google.charts.setOnLoadCallback(function () {
+                        var saturationData = google.visualization.arrayToDataTable([
+                            ['${dimension}', '${i18n.throughput}', '${context.evaluationRuntime.saturationProbeList[0].percentile}%'],
+                            <#list context.evaluationRuntime.saturationProbeList?sort_by("level") as probe>
+                                [ ${probe.level?c}, ${probe.throughputQps?c}, ${probe.latencyMs?c} ],
+                            </#list>
+                        ]);
+                        new google.visualization.LineChart(document.getElementById('${context.displayName}-saturation')).draw(saturationData, {
+                            title: '${i18n.saturation_search}',
+                            hAxis: {title: '${dimension}', minValue: 0},
+                            vAxes: {0: {title: '${i18n.throughput} / s', minValue: 0}, 1: {title: '${context.evaluationRuntime.saturationProbeList[0].percentile}% (ms)', minValue: 0}},
+                            series: {0: {targetAxisIndex: 0}, 1: {targetAxisIndex: 1}},
+                            legend: 'bottom',
+                            pointSize: 5,
+                            lineWidth: 1
+                        });
+                    });
+                </script>
+            </div>
+            </#if>
+
+            <#if context.statisticsCalculator.intervalStatisticsList?has_content>
+            <div class="test-method-timeline">
+                <div id="${context.displayName}-throughput" class="timeline-chart"></div>
+                <div id="${context.displayName}-latency" class="timeline-chart"></div>
+                <script type="text/javascript">
+                    google.charts.load('current', {'packages': ['corechart']});
+                    google.charts.setOnLoadCallback(function () {
+                        var throughputData = google.visualization.arrayToDataTable([
+                            ['${i18n.elapsed_time}', '${i18n.throughput}', '${i18n.errors}'],
+                            <#list context.statisticsCalculator.intervalStatisticsList as interval>
+                                [ ${(interval.startOffsetNs / 1000000000)?c}, ${interval.throughputQps?c}, ${interval.errorCount?c} ],
+                            </#list>
+                        ]);
+                        new google.visualization.LineChart(document.getElementById('${context.displayName}-throughput')).draw(throughputData, {
+                            title: '${i18n.timeline} - ${i18n.throughput}',
+                            hAxis: {title: '${i18n.elapsed_time}', minValue: 0},
+                            vAxes: {0: {title: '${i18n.throughput} / s', minValue: 0}, 1: {title: '${i18n.errors}', minValue: 0}},
+                            series: {0: {targetAxisIndex: 0}, 1: {targetAxisIndex: 1}},
+                            legend: 'bottom',
+                            lineWidth: 1
+                        });
+
+                        var latencyData = google.visualization.arrayToDataTable([
+                            ['${i18n.elapsed_time}', '50%', '99%', '99.9%', '${i18n.max_latency}', '${i18n.avg_latency}',
+                                {label: '${i18n.gc_pause}', type: 'number'}],
+                            <#list context.statisticsCalculator.intervalStatisticsList as interval>
+                                [ ${(interval.startOffsetNs / 1000000000)?c}, ${(interval.p50LatencyNs / 1000000)?c}, ${(interval.p99LatencyNs / 1000000)?c},
+                                  ${(interval.p999LatencyNs / 1000000)?c}, ${(interval.maxLatencyNs / 1000000)?c}, ${(interval.meanLatencyNs / 1000000)?c}, null ],
+                            </#list>
+                            <#list context.evaluationRuntime.gcEventList as gcEvent>
+                                [ ${(gcEvent.offsetNs / 1000000000)?c}, null, null, null, null, null, ${gcEvent.durationMs?c} ],
+                            </#list>
+                        ]);
+                        new google.visualization.LineChart(document.getElementById('${context.displayName}-latency')).draw(latencyData, {
+                            title: '${i18n.timeline} - ${i18n.latency}',
+                            hAxis: {title: '${i18n.elapsed_time}', minValue: 0},
+                            vAxis: {title: '${i18n.latency}', minValue: 0},
+                            series: {5: {lineWidth: 0, pointSize: 6, pointShape: 'triangle'}},
+                            interpolateNulls: true,
+                            legend: 'bottom',
+                            lineWidth: 1
+                        });
+                    });
+                </script>
+            </div>
+            </#if>
+
         </div>
 
     </#list>
 
+    <#list sweepList as sweep>
+        <#assign sweepId = sweep.methodName + "-sweep-" + sweep.paramName>
+        <#assign threadSweep = sweep.paramName == "threads">
+        <div id="${sweepId}" class="test-method">
+            <span title="${sweep.methodName}" class="test-method-name">${sweep.methodName} - ${i18n.param_sweep}: ${sweep.paramName}</span>
+
+            <div class="test-method-timeline">
+                <div id="${sweepId}-chart" class="timeline-chart"></div>
+                <script type="text/javascript">
+                    google.charts.load('current', {'packages': ['corechart']});
+                    google.charts.setOnLoadCallback(function () {
+                        var sweepData = google.visualization.arrayToDataTable([
+                            ['${sweep.paramName}'<#list sweep.seriesList as series>, '${i18n.throughput}<#if series.label?has_content> (${series.label})</#if>', '99%<#if series.label?has_content> (${series.label})</#if>'</#list>],
+                            <#list sweep.paramValueList as paramValue>
+                                [ '${paramValue}'<#list sweep.seriesList as series>, ${(series.throughputList[paramValue?index]?c)!'null'}, ${(series.p99List[paramValue?index]?c)!'null'}</#list> ],
+                            </#list>
+                        ]);
+                        new google.visualization.LineChart(document.getElementById('${sweepId}-chart')).draw(sweepData, {
+                            title: '${i18n.param_sweep} - ${sweep.paramName}',
+                            hAxis: {title: '${sweep.paramName}'},
+                            vAxes: {0: {title: '${i18n.throughput} / s', minValue: 0}, 1: {title: '99% (ms)', minValue: 0}},
+                            series: {<#list sweep.seriesList as series>${series?index * 2}: {targetAxisIndex: 0}, ${series?index * 2 + 1}: {targetAxisIndex: 1, lineDashStyle: [4, 4]}<#sep>, </#sep></#list>},
+                            interpolateNulls: true,
+                            legend: 'bottom',
+                            pointSize: 5,
+                            lineWidth: 1
+                        });
+                    });
+                </script>
+            </div>
+
+            <div class="data-wrapper sub-data">
+                <table class="table">
+                    <thead>
+                    <tr>
+                        <td>${sweep.paramName}</td>
+                        <td>${i18n.param_sweep}</td>
+                        <td>${i18n.throughput}</td>
+                        <td>99%</td>
+                        <#if threadSweep>
+                        <td>${i18n.scaling_efficiency}</td>
+                        </#if>
+                    </tr>
+                    </thead>
+                    <tbody>
+                    <#list sweep.seriesList as series>
+                    <#list sweep.paramValueList as paramValue>
+                    <tr>
+                        <td>${paramValue}</td>
+                        <td>${series.label}</td>
+                        <td>${(series.throughputList[paramValue?index]?string("0.##"))!'-'} / s</td>
+                        <td>${(series.p99List[paramValue?index]?string("0.###"))!'-'} ms</td>
+                        <#if threadSweep>
+                        <td>${(series.efficiencyList[paramValue?index]?string.percent)!'-'}</td>
+                        </#if>
+                    </tr>
+                    </#list>
+                    </#list>
+                    </tbody>
+                </table>
+            </div>
+        </div>
+    </#list>
+
     </div>
 
 
@@ -0,0 +1,27 @@
+package com.github.houbb.junitperf.examples;
+
+import com.github.houbb.junitperf.core.annotation.JunitPerfConfig;
+import com.github.houbb.junitperf.core.blackhole.Blackhole;
+import com.github.houbb.junitperf.core.report.impl.ConsoleReporter;
+
+/**
+ * <p> 自适应测量时长 </p>
+ *
+ * 每 200ms 一批，至少测量 2 秒，平均耗时和 99% 耗时的置信区间半宽都不超过 5% 时提前结束，最多测量 30 秒。
+ *
+ * @author bbhou
+ * @since 2.0.8
+ */
+public class AdaptiveDurationTest {
+
+    @JunitPerfConfig(threads = 2, warmUp = 1000, duration = 30000, timelineInterval = 200,
+            precision = 0.05F, minDuration = 2000, reporter = {ConsoleReporter.class})
+    public void adaptiveTest(Blackhole blackhole) {
+        double sum = 0;
+        for (int i = 0; i < 1000; i++) {
+            sum += Math.sqrt(i);
+        }
+        blackhole.consume(sum);
+    }
+
+}
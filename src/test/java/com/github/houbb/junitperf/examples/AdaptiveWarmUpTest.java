@@ -0,0 +1,34 @@
+package com.github.houbb.junitperf.examples;
+
+import com.github.houbb.junitperf.core.annotation.JunitPerfConfig;
+import com.github.houbb.junitperf.core.report.impl.ConsoleReporter;
+import com.github.houbb.junitperf.core.report.impl.HtmlReporter;
+import com.github.houbb.junitperf.core.statistics.impl.HistogramStatisticsCalculator;
+
+/**
+ * <p> 自适应准备 </p>
+ *
+ * warmUp 为上限，吞吐量、耗时及 JIT 编译稳定后提前开始测量，报告中展示实际的准备时间。
+ *
+ * @author bbhou
+ * @since 2.0.8
+ */
+public class AdaptiveWarmUpTest {
+
+    private static volatile double sink;
+
+    /**
+     * 最多准备 5 秒，之后测量 2 秒
+     */
+    @JunitPerfConfig(duration = 7000, warmUp = 5000, adaptiveWarmUp = true, warmUpWindow = 100,
+            statistics = HistogramStatisticsCalculator.class,
+            reporter = {ConsoleReporter.class, HtmlReporter.class})
+    public void adaptiveWarmUpTest() {
+        double value = 0;
+        for (int i = 1; i < 1000; i++) {
+            value += Math.sqrt(i);
+        }
+        sink = value;
+    }
+
+}
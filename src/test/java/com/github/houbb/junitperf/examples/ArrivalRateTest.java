@@ -0,0 +1,35 @@
+package com.github.houbb.junitperf.examples;
+
+import com.github.houbb.junitperf.core.annotation.JunitPerfConfig;
+import com.github.houbb.junitperf.core.report.impl.ConsoleReporter;
+import com.github.houbb.junitperf.core.report.impl.HtmlReporter;
+
+/**
+ * <p> 固定到达速率（开放模型） </p>
+ *
+ * @author bbhou
+ * @since 2.0.8
+ */
+public class ArrivalRateTest {
+
+    /**
+     * 每秒 200 次到达，4 个线程足以处理
+     * @throws InterruptedException if any
+     */
+    @JunitPerfConfig(threads = 4, duration = 2000, targetRate = 200,
+            reporter = {ConsoleReporter.class, HtmlReporter.class})
+    public void sustainableRateTest() throws InterruptedException {
+        Thread.sleep(5);
+    }
+
+    /**
+     * 每秒 200 次到达，2 个线程每秒最多处理 100 次，到达会排队并被丢弃
+     * @throws InterruptedException if any
+     */
+    @JunitPerfConfig(threads = 2, duration = 2000, targetRate = 200,
+            reporter = {ConsoleReporter.class, HtmlReporter.class})
+    public void saturatedRateTest() throws InterruptedException {
+        Thread.sleep(20);
+    }
+
+}
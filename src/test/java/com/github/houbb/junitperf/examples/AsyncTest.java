@@ -0,0 +1,71 @@
+package com.github.houbb.junitperf.examples;
+
+import com.github.houbb.junitperf.core.annotation.JunitPerfConfig;
+import com.github.houbb.junitperf.core.report.impl.ConsoleReporter;
+import com.github.houbb.junitperf.core.report.impl.HtmlReporter;
+import com.github.houbb.junitperf.core.statistics.impl.HistogramStatisticsCalculator;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p> 异步调用 </p>
+ *
+ * 异步测试方法返回 CompletableFuture 或 Future，耗时算到完成为止，异常完成计入错误。
+ * JUnit5 要求测试方法返回 void，异步测试方法通过 asyncMethod 指定。
+ *
+ * @author bbhou
+ * @since 2.0.8
+ */
+public class AsyncTest {
+
+    private static final ScheduledExecutorService SCHEDULER = Executors.newScheduledThreadPool(2);
+
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(8);
+
+    /**
+     * 每次调用 20ms 后完成，约 10% 异常完成
+     * 2 个线程、每个线程最多 8 个在途调用，吞吐量约 800/s
+     */
+    @JunitPerfConfig(threads = 2, warmUp = 500, duration = 2500,
+            asyncMethod = "sendAsync", asyncWindow = 8,
+            statistics = HistogramStatisticsCalculator.class,
+            reporter = {ConsoleReporter.class, HtmlReporter.class})
+    public void completableFutureTest() {
+    }
+
+    /**
+     * 只返回 Future，由执行线程等待完成
+     */
+    @JunitPerfConfig(threads = 2, warmUp = 500, duration = 2500,
+            asyncMethod = "submit", asyncWindow = 4,
+            reporter = {ConsoleReporter.class})
+    public void futureTest() {
+    }
+
+    public CompletableFuture<String> sendAsync() {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        boolean failed = ThreadLocalRandom.current().nextInt(10) == 0;
+        SCHEDULER.schedule(() -> {
+            if (failed) {
+                future.completeExceptionally(new IllegalStateException("failed"));
+            } else {
+                future.complete("ok");
+            }
+        }, 20, TimeUnit.MILLISECONDS);
+        return future;
+    }
+
+    public Future<?> submit() {
+        return EXECUTOR.submit(() -> {
+            TimeUnit.MILLISECONDS.sleep(10);
+            return null;
+        });
+    }
+
+}
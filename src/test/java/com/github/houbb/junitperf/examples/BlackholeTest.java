@@ -0,0 +1,61 @@
+package com.github.houbb.junitperf.examples;
+
+import com.github.houbb.junitperf.core.annotation.JunitPerfConfig;
+import com.github.houbb.junitperf.core.blackhole.Blackhole;
+import com.github.houbb.junitperf.core.report.impl.ConsoleReporter;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * <p> 黑洞自检 </p>
+ *
+ * 三个测试方法执行相同的计算：
+ * 1. discardedTest 丢弃结果，计算可以被 JIT 消除，耗时接近空方法
+ * 2. consumedTest 通过注入的黑洞接收每次的中间结果，耗时为真实的计算时间
+ * 3. returnedTest 通过 targetMethod 调用 {@link #sum()}，返回值由框架传入黑洞，耗时与 consumedTest 相近；
+ * 返回值装箱为 Double，每次调用多出一个对象的内存分配
+ *
+ * 如果 discardedTest 的耗时与其它两个方法接近，说明当前 JVM 没有消除这部分计算。
+ *
+ * @author bbhou
+ * @since 2.0.8
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class BlackholeTest {
+
+    private static final int LOOP = 1000;
+
+    private double x = Math.PI;
+
+    @JunitPerfConfig(warmUp = 1000, duration = 1000, reporter = {ConsoleReporter.class})
+    @Order(1)
+    public void discardedTest() {
+        double sum = 0;
+        for (int i = 0; i < LOOP; i++) {
+            sum += Math.sqrt(x + i);
+        }
+    }
+
+    @JunitPerfConfig(warmUp = 1000, duration = 1000, reporter = {ConsoleReporter.class})
+    @Order(2)
+    public void consumedTest(Blackhole blackhole) {
+        for (int i = 0; i < LOOP; i++) {
+            blackhole.consume(Math.sqrt(x + i));
+        }
+    }
+
+    @JunitPerfConfig(warmUp = 1000, duration = 1000, targetMethod = "sum", reporter = {ConsoleReporter.class})
+    @Order(3)
+    public void returnedTest() {
+    }
+
+    public double sum() {
+        double sum = 0;
+        for (int i = 0; i < LOOP; i++) {
+            sum += Math.sqrt(x + i);
+        }
+        return sum;
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.github.houbb.junitperf.examples;
+
+import com.github.houbb.junitperf.core.annotation.JunitPerfConfig;
+import com.github.houbb.junitperf.core.report.impl.ConsoleReporter;
+import com.github.houbb.junitperf.core.report.impl.HtmlReporter;
+
+/**
+ * <p> 准备、测量、冷却阶段 </p>
+ *
+ * 1. 准备 500ms，测量 2000ms，冷却 500ms，整体运行约 3000ms。
+ * 2. 执行时间为测量窗口的时长，冷却阶段的调用不计入统计，吞吐量约为 2 * 100 = 200/s。
+ *
+ * @author bbhou
+ * @since 2.0.8
+ */
+public class CooldownTest {
+
+    @JunitPerfConfig(threads = 2, warmUp = 500, duration = 2000, cooldown = 500,
+            reporter = {ConsoleReporter.class, HtmlReporter.class})
+    public void cooldownTest() throws InterruptedException {
+        Thread.sleep(10);
+    }
+
+}
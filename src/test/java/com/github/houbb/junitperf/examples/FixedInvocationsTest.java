@@ -0,0 +1,24 @@
+package com.github.houbb.junitperf.examples;
+
+import com.github.houbb.junitperf.core.annotation.JunitPerfConfig;
+import com.github.houbb.junitperf.core.report.impl.ConsoleReporter;
+import com.github.houbb.junitperf.core.report.impl.HtmlReporter;
+
+/**
+ * <p> 固定调用次数 </p>
+ *
+ * 1. 4 个线程各执行 100 次，所有线程同时开始。
+ * 2. 每次调用 10ms，测量时长约为 1000ms，吞吐量约为 400/s。
+ *
+ * @author bbhou
+ * @since 2.0.8
+ */
+public class FixedInvocationsTest {
+
+    @JunitPerfConfig(threads = 4, invocations = 400, warmUp = 0, duration = 10000,
+            reporter = {ConsoleReporter.class, HtmlReporter.class})
+    public void fixedInvocationsTest() throws InterruptedException {
+        Thread.sleep(10);
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.github.houbb.junitperf.examples;
+
+import com.github.houbb.junitperf.core.annotation.JunitPerfConfig;
+import com.github.houbb.junitperf.core.report.impl.ConsoleReporter;
+import com.github.houbb.junitperf.core.report.impl.HtmlReporter;
+
+/**
+ * <p> 在新启动的 JVM 中执行 </p>
+ *
+ * 1. 依次启动 2 个 JVM，每个 JVM 独立完成准备 500ms、测量 1000ms。
+ * 2. 报告中的统计为 2 个 JVM 合并后的结果，并展示每个 fork 的吞吐量，吞吐量约为 2 * 100 = 200/s。
+ *
+ * @author bbhou
+ * @since 2.0.8
+ */
+public class ForkTest {
+
+    @JunitPerfConfig(threads = 2, warmUp = 500, duration = 1000, fork = 2, jvmArgs = {"-Xmx256m"},
+            reporter = {ConsoleReporter.class, HtmlReporter.class})
+    public void forkTest() throws InterruptedException {
+        Thread.sleep(10);
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.github.houbb.junitperf.examples;
+
+import com.github.houbb.junitperf.core.annotation.JunitPerfConfig;
+import com.github.houbb.junitperf.core.report.impl.ConsoleReporter;
+import com.github.houbb.junitperf.core.report.impl.HtmlReporter;
+import com.github.houbb.junitperf.core.statistics.impl.HistogramStatisticsCalculator;
+
+/**
+ * <p> 负载阶段 </p>
+ *
+ * 线程数按阶段变化，报告中展示每个阶段的吞吐量及耗时分布，便于观察负载增加时的拐点。
+ *
+ * @author bbhou
+ * @since 2.0.8
+ */
+public class LoadStageTest {
+
+    /**
+     * 准备 1 秒后：1 秒内从 1 个线程增加到 4 个，保持 4 个线程 1 秒，突增到 8 个线程 0.5 秒，再回落到 2 个线程 1 秒
+     * @throws InterruptedException if any
+     */
+    @JunitPerfConfig(warmUp = 1000, stages = {"1-4:1000", "4:1000", "8:500", "2:1000"},
+            statistics = HistogramStatisticsCalculator.class,
+            reporter = {ConsoleReporter.class, HtmlReporter.class})
+    public void loadStageTest() throws InterruptedException {
+        Thread.sleep(10);
+    }
+
+}
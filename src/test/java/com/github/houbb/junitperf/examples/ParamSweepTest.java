@@ -0,0 +1,34 @@
+package com.github.houbb.junitperf.examples;
+
+import com.github.houbb.junitperf.core.annotation.JunitPerfConfig;
+import com.github.houbb.junitperf.core.annotation.JunitPerfParams;
+import com.github.houbb.junitperf.core.report.impl.ConsoleReporter;
+import com.github.houbb.junitperf.core.report.impl.HtmlReporter;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <p> 参数扫描 </p>
+ *
+ * 1. 线程数 1、2、4 与数组长度 1000、100000 的 6 种组合，各执行一次。
+ * 2. 网页报告中分别展示吞吐量、99% 耗时随线程数、数组长度的变化，以及线程数的扩展效率。
+ *
+ * @author bbhou
+ * @since 2.0.8
+ */
+public class ParamSweepTest {
+
+    /**
+     * 数组长度，由参数扫描注入
+     */
+    private int size;
+
+    @JunitPerfConfig(warmUp = 500, duration = 1000, reporter = {ConsoleReporter.class, HtmlReporter.class})
+    @JunitPerfParams(threads = {1, 2, 4}, params = "size=1000,100000")
+    public void sortTest() {
+        int[] array = ThreadLocalRandom.current().ints(size).toArray();
+        Arrays.sort(array);
+    }
+
+}
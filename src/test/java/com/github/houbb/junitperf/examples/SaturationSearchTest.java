@@ -0,0 +1,30 @@
+package com.github.houbb.junitperf.examples;
+
+import com.github.houbb.junitperf.core.annotation.JunitPerfConfig;
+import com.github.houbb.junitperf.core.annotation.JunitPerfRequire;
+import com.github.houbb.junitperf.core.report.impl.ConsoleReporter;
+import com.github.houbb.junitperf.core.report.impl.HtmlReporter;
+
+/**
+ * <p> 饱和点搜索 </p>
+ *
+ * 1. 共享锁使耗时随线程数增加，从 1 个线程开始探测，最多 16 个线程。
+ * 2. 找到 99% 耗时不超过 20ms 的最大线程数后，按该线程数执行完整测试。
+ *
+ * @author bbhou
+ * @since 2.0.8
+ */
+public class SaturationSearchTest {
+
+    private final Object lock = new Object();
+
+    @JunitPerfConfig(threads = 1, warmUp = 200, duration = 2000, saturationSearch = 16, probeDuration = 1000,
+            reporter = {ConsoleReporter.class, HtmlReporter.class})
+    @JunitPerfRequire(percentiles = {"99:20"})
+    public void lockTest() throws InterruptedException {
+        synchronized (lock) {
+            Thread.sleep(2);
+        }
+    }
+
+}
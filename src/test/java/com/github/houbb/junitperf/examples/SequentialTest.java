@@ -0,0 +1,25 @@
+package com.github.houbb.junitperf.examples;
+
+import com.github.houbb.junitperf.core.annotation.JunitPerfConfig;
+import com.github.houbb.junitperf.core.annotation.JunitPerfRequire;
+import com.github.houbb.junitperf.core.report.impl.ConsoleReporter;
+
+/**
+ * <p> 序贯检验 </p>
+ *
+ * 要求平均耗时不超过 5ms、99% 耗时不超过 20ms，实际约 1ms，明显满足要求。
+ * 最多测量 60 秒，至少测量 1 秒之后每 200ms 检验一次，结论确定后提前结束；明显不满足要求时同样会提前结束并判定不通过。
+ *
+ * @author bbhou
+ * @since 2.0.8
+ */
+public class SequentialTest {
+
+    @JunitPerfConfig(threads = 2, warmUp = 500, duration = 60000, timelineInterval = 200,
+            sequentialTest = true, minDuration = 1000, reporter = {ConsoleReporter.class})
+    @JunitPerfRequire(average = 5, percentiles = {"99:20"})
+    public void sequentialTest() throws InterruptedException {
+        Thread.sleep(1);
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.github.houbb.junitperf.examples;
+
+import com.github.houbb.junitperf.constant.enums.FixtureLevelEnum;
+import com.github.houbb.junitperf.core.annotation.JunitPerfConfig;
+import com.github.houbb.junitperf.core.annotation.PerfSetup;
+import com.github.houbb.junitperf.core.annotation.PerfState;
+import com.github.houbb.junitperf.core.annotation.PerfTeardown;
+import com.github.houbb.junitperf.core.report.impl.ConsoleReporter;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <p> 线程状态及准备、清理 </p>
+ *
+ * 1. 整个测试开始之前准备共享的字典，结束之后清理。
+ * 2. 每个执行线程使用独立的 {@link Request}，每次调用之前在计时之外生成待排序的数组。
+ *
+ * @author bbhou
+ * @since 2.0.8
+ */
+public class ThreadStateTest {
+
+    /**
+     * 所有线程共享，只读
+     */
+    private Map<String, Integer> dictionary;
+
+    @PerfSetup
+    public void loadDictionary() {
+        dictionary = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            dictionary.put("key-" + i, i);
+        }
+    }
+
+    @PerfTeardown
+    public void clearDictionary() {
+        dictionary.clear();
+    }
+
+    @JunitPerfConfig(threads = 2, warmUp = 500, duration = 1000, reporter = {ConsoleReporter.class})
+    public void sortTest(Request request) {
+        Arrays.sort(request.array);
+        request.sum += dictionary.get("key-" + request.array[0] % 1000);
+    }
+
+    /**
+     * 每个执行线程独享
+     */
+    @PerfState
+    public static class Request {
+
+        private int[] array;
+
+        private long sum;
+
+        @PerfSetup(FixtureLevelEnum.INVOCATION)
+        public void newArray() {
+            array = ThreadLocalRandom.current().ints(1000, 0, Integer.MAX_VALUE).toArray();
+        }
+
+    }
+
+}
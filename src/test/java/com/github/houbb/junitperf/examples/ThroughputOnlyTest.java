@@ -0,0 +1,33 @@
+package com.github.houbb.junitperf.examples;
+
+import com.github.houbb.junitperf.core.annotation.JunitPerfConfig;
+import com.github.houbb.junitperf.core.annotation.JunitPerfRequire;
+import com.github.houbb.junitperf.core.report.impl.ConsoleReporter;
+import com.github.houbb.junitperf.core.report.impl.HtmlReporter;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <p> 只统计吞吐量 </p>
+ *
+ * 1. 执行线程不记录单次耗时，每 200ms 读取一次总调用次数。
+ * 2. 报告中展示区间吞吐量的平均值、标准差及 95% 置信区间。
+ *
+ * @author bbhou
+ * @since 2.0.8
+ */
+public class ThroughputOnlyTest {
+
+    private final ConcurrentHashMap<Integer, Integer> map = new ConcurrentHashMap<>();
+
+    @JunitPerfConfig(threads = 4, duration = 2000, warmUp = 500,
+            throughputOnly = true, timelineInterval = 200,
+            reporter = {ConsoleReporter.class, HtmlReporter.class})
+    @JunitPerfRequire(timesPerSecond = 100000)
+    public void mapPutTest() {
+        int key = ThreadLocalRandom.current().nextInt(1024);
+        map.put(key, key);
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.github.houbb.junitperf.examples;
+
+import com.github.houbb.junitperf.core.annotation.JunitPerfConfig;
+import com.github.houbb.junitperf.core.report.impl.ConsoleReporter;
+import com.github.houbb.junitperf.core.report.impl.HtmlReporter;
+import com.github.houbb.junitperf.core.statistics.impl.HistogramStatisticsCalculator;
+
+/**
+ * <p> 虚拟线程 </p>
+ *
+ * 测试方法阻塞在 IO 上时，虚拟线程可以支撑远超平台线程数量的并发调用。
+ * Java 21 以下回退到平台线程，报告中展示实际的线程类型。
+ *
+ * @author bbhou
+ * @since 2.0.8
+ */
+public class VirtualThreadTest {
+
+    /**
+     * 1000 个线程，每次调用阻塞 50ms，理论吞吐量约 20000/s
+     * @throws InterruptedException if any
+     */
+    @JunitPerfConfig(threads = 1000, warmUp = 500, duration = 2500, virtualThreads = true,
+            statistics = HistogramStatisticsCalculator.class,
+            reporter = {ConsoleReporter.class, HtmlReporter.class})
+    public void virtualThreadTest() throws InterruptedException {
+        Thread.sleep(50);
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.github.houbb.junitperf.examples.latency;
+
+import com.github.houbb.junitperf.core.annotation.JunitPerfConfig;
+import com.github.houbb.junitperf.core.report.impl.ConsoleReporter;
+import com.github.houbb.junitperf.core.report.impl.HtmlReporter;
+import com.github.houbb.junitperf.core.statistics.impl.HistogramStatisticsCalculator;
+
+/**
+ * <p> 批量调用 </p>
+ *
+ * 1. 两次计时之间调用 batchSize 次，计时与统计的开销被分摊到每次调用上。
+ * 2. 与 {@link InvokerOverheadTest} 对比，单次调用的耗时更接近方法本身。
+ *
+ * @author bbhou
+ * @since 2.0.8
+ */
+public class BatchSizeTest {
+
+    private long counter;
+
+    /**
+     * 每个样本包含 1000 次调用
+     */
+    @JunitPerfConfig(duration = 1000, warmUp = 200, batchSize = 1000,
+            statistics = HistogramStatisticsCalculator.class,
+            reporter = {ConsoleReporter.class, HtmlReporter.class})
+    public void batchIncrementTest() {
+        counter++;
+    }
+
+}
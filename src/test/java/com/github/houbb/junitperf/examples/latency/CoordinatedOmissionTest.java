@@ -0,0 +1,51 @@
+package com.github.houbb.junitperf.examples.latency;
+
+import com.github.houbb.junitperf.core.annotation.JunitPerfConfig;
+import com.github.houbb.junitperf.core.report.impl.ConsoleReporter;
+import com.github.houbb.junitperf.core.report.impl.HtmlReporter;
+import com.github.houbb.junitperf.core.statistics.impl.HistogramStatisticsCalculator;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p> 协调遗漏修正 </p>
+ *
+ * 每 100 次调用会停顿 500ms，闭环执行时停顿只产生一个样本，修正后的百分位会明显变高。
+ *
+ * @author bbhou
+ * @since 2.0.8
+ */
+public class CoordinatedOmissionTest {
+
+    private final AtomicInteger counter = new AtomicInteger();
+
+    /**
+     * 根据实际吞吐量推算期望间隔
+     * @throws InterruptedException if any
+     */
+    @JunitPerfConfig(duration = 2000, coordinatedOmissionCorrection = true,
+            reporter = {ConsoleReporter.class, HtmlReporter.class})
+    public void measuredRateTest() throws InterruptedException {
+        stall();
+    }
+
+    /**
+     * 指定期望间隔为 1ms
+     * @throws InterruptedException if any
+     */
+    @JunitPerfConfig(duration = 2000, coordinatedOmissionCorrection = true, expectedInterval = 1,
+            statistics = HistogramStatisticsCalculator.class,
+            reporter = {ConsoleReporter.class, HtmlReporter.class})
+    public void expectedIntervalTest() throws InterruptedException {
+        stall();
+    }
+
+    private void stall() throws InterruptedException {
+        if (counter.incrementAndGet() % 100 == 0) {
+            Thread.sleep(500);
+        } else {
+            Thread.sleep(1);
+        }
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.github.houbb.junitperf.examples.latency;
+
+import com.github.houbb.junitperf.core.annotation.JunitPerfConfig;
+import com.github.houbb.junitperf.core.report.impl.ConsoleReporter;
+import com.github.houbb.junitperf.core.statistics.impl.HistogramStatisticsCalculator;
+
+/**
+ * <p> 亚微秒级方法的调用开销 </p>
+ *
+ * 1. public 类中的 public 方法通过 LambdaMetafactory 直接调用。
+ * 2. 报告中的 Overhead 为计时与调用本身的固定开销，可以从延迟中减去。
+ *
+ * @author bbhou
+ * @since 2.0.8
+ */
+public class InvokerOverheadTest {
+
+    private long counter;
+
+    /**
+     * 极短的方法，延迟主要由调用开销组成
+     */
+    @JunitPerfConfig(duration = 1000, warmUp = 200,
+            statistics = HistogramStatisticsCalculator.class,
+            reporter = {ConsoleReporter.class})
+    public void incrementTest() {
+        counter++;
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.github.houbb.junitperf.examples.latency;
+
+import com.github.houbb.junitperf.core.annotation.JunitPerfConfig;
+import com.github.houbb.junitperf.core.report.impl.ConsoleReporter;
+import com.github.houbb.junitperf.core.report.impl.HtmlReporter;
+import com.github.houbb.junitperf.core.statistics.impl.HistogramStatisticsCalculator;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p> 延迟抽样 </p>
+ *
+ * 1. 只有被抽中的调用计时，其余调用只累加执行次数。
+ * 2. 报告中展示延迟样本数，百分位越靠近尾部，可用的样本越少。
+ *
+ * @author bbhou
+ * @since 2.0.8
+ */
+public class LatencySamplingTest {
+
+    private final LongAdder adder = new LongAdder();
+
+    /**
+     * 每 100 次调用计时一次
+     */
+    @JunitPerfConfig(threads = 2, duration = 1000, warmUp = 200, latencySampleEvery = 100,
+            statistics = HistogramStatisticsCalculator.class,
+            reporter = {ConsoleReporter.class, HtmlReporter.class})
+    public void sampleEveryTest() {
+        adder.increment();
+    }
+
+    /**
+     * 每次调用以 1% 的概率计时
+     */
+    @JunitPerfConfig(threads = 2, duration = 1000, warmUp = 200, latencySampleProbability = 0.01F,
+            statistics = HistogramStatisticsCalculator.class,
+            reporter = {ConsoleReporter.class, HtmlReporter.class})
+    public void sampleProbabilityTest() {
+        adder.increment();
+    }
+
+}
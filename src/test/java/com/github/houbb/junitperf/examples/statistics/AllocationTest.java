@@ -0,0 +1,45 @@
+package com.github.houbb.junitperf.examples.statistics;
+
+import com.github.houbb.junitperf.core.annotation.JunitPerfConfig;
+import com.github.houbb.junitperf.core.annotation.JunitPerfRequire;
+import com.github.houbb.junitperf.core.report.impl.ConsoleReporter;
+import com.github.houbb.junitperf.core.report.impl.HtmlReporter;
+import com.github.houbb.junitperf.core.statistics.impl.HistogramStatisticsCalculator;
+
+/**
+ * <p> 每次执行的内存分配 </p>
+ *
+ * 使用 {@link HistogramStatisticsCalculator}，记录过程不分配内存，结果只包含测试方法本身的分配。
+ *
+ * @author bbhou
+ * @since 2.0.8
+ */
+public class AllocationTest {
+
+    private byte[] last;
+
+    private long counter;
+
+    /**
+     * 不分配内存
+     */
+    @JunitPerfConfig(duration = 1000, warmUp = 200,
+            statistics = HistogramStatisticsCalculator.class,
+            reporter = {ConsoleReporter.class, HtmlReporter.class})
+    @JunitPerfRequire(maxBytesPerOp = 16)
+    public void noAllocationTest() {
+        counter++;
+    }
+
+    /**
+     * 每次分配 1KB，超过限定
+     */
+    @JunitPerfConfig(duration = 1000, warmUp = 200,
+            statistics = HistogramStatisticsCalculator.class,
+            reporter = {ConsoleReporter.class, HtmlReporter.class})
+    @JunitPerfRequire(maxBytesPerOp = 256)
+    public void allocationTest() {
+        last = new byte[1024];
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.github.houbb.junitperf.examples.statistics;
+
+import com.github.houbb.junitperf.core.annotation.JunitPerfConfig;
+import com.github.houbb.junitperf.core.report.impl.ConsoleReporter;
+import com.github.houbb.junitperf.core.report.impl.HtmlReporter;
+import com.github.houbb.junitperf.core.statistics.impl.HistogramStatisticsCalculator;
+
+/**
+ * <p> CPU 时间 </p>
+ *
+ * 1. 线程数远大于 CPU 核数时，耗时包含等待调度的时间，CPU 时间 / 耗时明显小于 1。
+ * 2. 休眠不占用 CPU，CPU 时间 / 耗时接近 0。
+ *
+ * @author bbhou
+ * @since 2.0.8
+ */
+public class CpuTimeTest {
+
+    private static volatile long sink;
+
+    /**
+     * 计算密集，线程数超过 CPU 核数
+     */
+    @JunitPerfConfig(threads = 32, duration = 2000, warmUp = 500, cpuTime = true,
+            statistics = HistogramStatisticsCalculator.class,
+            reporter = {ConsoleReporter.class, HtmlReporter.class})
+    public void busyTest() {
+        long value = 0;
+        for (int i = 0; i < 100_000; i++) {
+            value += i * 31L;
+        }
+        sink = value;
+    }
+
+    /**
+     * 休眠，不占用 CPU
+     * @throws InterruptedException 中断
+     */
+    @JunitPerfConfig(threads = 2, duration = 2000, warmUp = 500, cpuTime = true,
+            statistics = HistogramStatisticsCalculator.class,
+            reporter = {ConsoleReporter.class, HtmlReporter.class})
+    public void sleepTest() throws InterruptedException {
+        Thread.sleep(1);
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.github.houbb.junitperf.examples.statistics;
+
+import com.github.houbb.junitperf.core.annotation.JunitPerfConfig;
+import com.github.houbb.junitperf.core.annotation.JunitPerfRequire;
+import com.github.houbb.junitperf.core.report.impl.ConsoleReporter;
+import com.github.houbb.junitperf.core.report.impl.HtmlReporter;
+import com.github.houbb.junitperf.core.statistics.impl.HistogramStatisticsCalculator;
+
+/**
+ * <p> 测量期间的 GC 停顿 </p>
+ *
+ * 每次执行分配较大的数组并保留一部分，频繁触发 GC。HTML 报告的延迟时序图中会标出每一次停顿。
+ *
+ * @author bbhou
+ * @since 2.0.8
+ */
+public class GcTest {
+
+    private final byte[][] retained = new byte[64][];
+
+    private int index;
+
+    /**
+     * 频繁分配，GC 停顿占比不超过 5%
+     */
+    @JunitPerfConfig(threads = 2, duration = 3000, warmUp = 500,
+            statistics = HistogramStatisticsCalculator.class,
+            reporter = {ConsoleReporter.class, HtmlReporter.class})
+    @JunitPerfRequire(maxGcPause = 50, maxGcPercentage = 5)
+    public void gcTest() {
+        byte[] bytes = new byte[64 * 1024];
+        synchronized (retained) {
+            retained[index++ & 63] = bytes;
+        }
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.github.houbb.junitperf.examples.statistics;
+
+import com.github.houbb.junitperf.core.annotation.JunitPerfConfig;
+import com.github.houbb.junitperf.core.statistics.impl.HistogramStatisticsCalculator;
+import com.github.houbb.junitperf.examples.statistics.support.TwoDigitsStatisticsCalculator;
+
+/**
+ * <p> 直方图统计 </p>
+ *
+ * @author bbhou
+ * @since 2.0.8
+ */
+public class HistogramStatisticsTest {
+
+    @JunitPerfConfig(duration = 1000, statistics = HistogramStatisticsCalculator.class)
+    public void histogramTest() throws InterruptedException {
+        Thread.sleep(100);
+        System.out.println("Hello Junit5");
+    }
+
+    @JunitPerfConfig(duration = 1000, statistics = TwoDigitsStatisticsCalculator.class)
+    public void twoDigitsHistogramTest() throws InterruptedException {
+        Thread.sleep(100);
+        System.out.println("Hello Junit5");
+    }
+
+}
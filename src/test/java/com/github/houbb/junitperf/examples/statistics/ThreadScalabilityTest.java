@@ -0,0 +1,161 @@
+package com.github.houbb.junitperf.examples.statistics;
+
+import com.github.houbb.junitperf.core.annotation.JunitPerfConfig;
+import com.github.houbb.junitperf.core.statistics.StatisticsCalculator;
+import com.github.houbb.junitperf.core.statistics.StatisticsRecorder;
+import com.github.houbb.junitperf.core.statistics.impl.DefaultStatisticsCalculator;
+import com.github.houbb.junitperf.core.statistics.impl.HistogramStatisticsCalculator;
+import com.github.houbb.junitperf.model.evaluation.component.IntervalStatistics;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * <p> 空方法的吞吐量随线程数的变化 </p>
+ *
+ * 每个线程记录到自己的统计中，理想情况下吞吐量随线程数（不超过 CPU 核数）近似线性增长。
+ *
+ * {@link #perThreadRecordersMatchSingleRecorder()} 校验按线程记录的正确性：
+ * 同样的负载分别由 1 个和 {@link #THREADS} 个线程记录，合并后的次数等于各线程次数之和，
+ * 百分位、最小值、最大值、平均值与单个记录者记录全部数据的结果一致。
+ *
+ * @author bbhou
+ * @since 2.0.8
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ThreadScalabilityTest {
+
+    /**
+     * 多线程记录时的线程数
+     */
+    private static final int THREADS = 8;
+
+    /**
+     * 总记录次数
+     */
+    private static final int TOTAL_RECORDS = 400_000;
+
+    private static final int[] PERCENTILES = {50, 90, 99, 100};
+
+    @Order(1)
+    @JunitPerfConfig(threads = 1, duration = 2000, statistics = HistogramStatisticsCalculator.class)
+    public void noop1Thread() {
+    }
+
+    @Order(2)
+    @JunitPerfConfig(threads = 2, duration = 2000, statistics = HistogramStatisticsCalculator.class)
+    public void noop2Threads() {
+    }
+
+    @Order(3)
+    @JunitPerfConfig(threads = 4, duration = 2000, statistics = HistogramStatisticsCalculator.class)
+    public void noop4Threads() {
+    }
+
+    @Order(4)
+    @JunitPerfConfig(threads = 8, duration = 2000, statistics = HistogramStatisticsCalculator.class)
+    public void noop8Threads() {
+    }
+
+    @Order(5)
+    @Test
+    public void perThreadRecordersMatchSingleRecorder() throws Exception {
+        assertMatchesSingleRecorder(HistogramStatisticsCalculator::new);
+        assertMatchesSingleRecorder(DefaultStatisticsCalculator::new);
+    }
+
+    private static void assertMatchesSingleRecorder(final Supplier<StatisticsCalculator> factory) throws Exception {
+        StatisticsCalculator single = factory.get();
+        StatisticsRecorder singleRecorder = single.newRecorder();
+        for (int i = 0; i < TOTAL_RECORDS; i++) {
+            record(singleRecorder, i);
+        }
+
+        for (int threads : new int[]{1, THREADS}) {
+            StatisticsCalculator perThread = factory.get();
+            perThread.markInterval(System.nanoTime());
+            long[] threadCounts = recordConcurrently(perThread, threads);
+            perThread.markInterval(System.nanoTime());
+
+            String name = perThread.getClass().getSimpleName() + " with " + threads + " threads";
+            long sum = 0;
+            for (long count : threadCounts) {
+                sum += count;
+            }
+            assertEquals(sum, perThread.getEvaluationCount(), name + ": evaluation count");
+            assertEquals(single.getEvaluationCount(), perThread.getEvaluationCount(), name + ": evaluation count");
+            assertEquals(single.getErrorCount(), perThread.getErrorCount(), name + ": error count");
+            long intervalCount = 0;
+            for (IntervalStatistics interval : perThread.getIntervalStatisticsList()) {
+                intervalCount += interval.getCount();
+            }
+            assertEquals(sum, intervalCount, name + ": interval count");
+
+            for (int percentile : PERCENTILES) {
+                assertEquals(single.getLatencyPercentile(percentile, TimeUnit.NANOSECONDS),
+                        perThread.getLatencyPercentile(percentile, TimeUnit.NANOSECONDS),
+                        name + ": " + percentile + "% latency");
+            }
+            assertEquals(single.getMinLatency(TimeUnit.NANOSECONDS), perThread.getMinLatency(TimeUnit.NANOSECONDS),
+                    name + ": min latency");
+            assertEquals(single.getMaxLatency(TimeUnit.NANOSECONDS), perThread.getMaxLatency(TimeUnit.NANOSECONDS),
+                    name + ": max latency");
+            float mean = single.getMeanLatency(TimeUnit.NANOSECONDS);
+            assertEquals(mean, perThread.getMeanLatency(TimeUnit.NANOSECONDS), mean * 1e-6F,
+                    name + ": mean latency");
+        }
+    }
+
+    /**
+     * 多个线程同时记录，每个线程使用自己的记录者
+     * @param calculator 统计
+     * @param threads 线程数
+     * @return 每个线程记录的次数
+     */
+    private static long[] recordConcurrently(final StatisticsCalculator calculator,
+                                             final int threads) throws Exception {
+        long[] threadCounts = new long[threads];
+        CyclicBarrier barrier = new CyclicBarrier(threads);
+        List<Thread> threadList = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            final int index = t;
+            Thread thread = new Thread(() -> {
+                StatisticsRecorder recorder = calculator.newRecorder();
+                try {
+                    barrier.await();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                // 按下标交错分配，保证所有线程合起来恰好是同一份负载
+                for (int i = index; i < TOTAL_RECORDS; i += threads) {
+                    record(recorder, i);
+                    threadCounts[index]++;
+                }
+            });
+            threadList.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threadList) {
+            thread.join();
+        }
+        return threadCounts;
+    }
+
+    private static void record(final StatisticsRecorder recorder, final int i) {
+        recorder.incrementEvaluationCount();
+        recorder.addLatencyMeasurement(1_000L + (i * 7_919L) % 5_000_000L);
+        if (i % 1_000 == 0) {
+            recorder.incrementErrorCount();
+        }
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.github.houbb.junitperf.examples.statistics;
+
+import com.github.houbb.junitperf.core.annotation.JunitPerfConfig;
+import com.github.houbb.junitperf.core.report.impl.ConsoleReporter;
+import com.github.houbb.junitperf.core.report.impl.HtmlReporter;
+import com.github.houbb.junitperf.core.statistics.impl.HistogramStatisticsCalculator;
+
+/**
+ * <p> 区间统计时间线 </p>
+ *
+ * 运行中途变慢，汇总统计看不出来，时间线中可以看到吞吐量下降、延迟上升。
+ *
+ * @author bbhou
+ * @since 2.0.8
+ */
+public class TimelineTest {
+
+    private final long startMillis = System.currentTimeMillis();
+
+    /**
+     * 前 2 秒每次 1ms，之后每次 5ms
+     * @throws InterruptedException if any
+     */
+    @JunitPerfConfig(threads = 2, duration = 4000, timelineInterval = 250,
+            statistics = HistogramStatisticsCalculator.class,
+            reporter = {ConsoleReporter.class, HtmlReporter.class})
+    public void slowDownTest() throws InterruptedException {
+        long elapsed = System.currentTimeMillis() - startMillis;
+        Thread.sleep(elapsed < 2000 ? 1 : 5);
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.github.houbb.junitperf.examples.statistics.support;
+
+import com.github.houbb.junitperf.core.statistics.impl.HistogramStatisticsCalculator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p> 2 位有效数字，最大追踪 10s 的直方图统计 </p>
+ *
+ * @author bbhou
+ * @since 2.0.8
+ */
+public class TwoDigitsStatisticsCalculator extends HistogramStatisticsCalculator {
+
+    private static final long serialVersionUID = 6093151263850279612L;
+
+    public TwoDigitsStatisticsCalculator() {
+        super(2, TimeUnit.SECONDS.toNanos(10));
+    }
+
+}